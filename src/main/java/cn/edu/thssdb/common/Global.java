@@ -2,6 +2,27 @@ package cn.edu.thssdb.common;
 
 public class Global {
   public static int fanout = 129;
+  public static double fillFactor = 0.5;
+  // 单表主键等值查询不加锁，关掉后总是加数据库锁和表锁查询
+  public static boolean lockFreePointReads = true;
+  // 全表扫描时按 RowBatch.SIZE 行一批用向量化的谓词过滤，关掉后逐行对 where 条件求值
+  public static boolean vectorizedExecution = true;
+  // 逐行求值的 where、on 条件先编译成 RowCondition，关掉后解释执行 MultipleConditionItem
+  public static boolean compiledConditions = true;
+  // 编译好的条件和其上的投影在运行时生成为一个类(PipelineGenerator)，关掉后用 FilterOperator、ProjectOperator 逐结点求值
+  public static boolean generatedPipelines = true;
+  // 同一形状的流水线前这么多次逐结点求值，再用到时才生成类，只跑一两次的查询不用付生成和加载类的开销
+  public static int pipelineGenerateThreshold = 3;
+  // 哈希连接在内存中的哈希表最多保存的行数，超过时两侧按键分区写到临时文件后逐个分区连接
+  public static long hashJoinMemoryRows = 1_000_000;
+  // 不超过这么多张表的连接按估计的代价重新排列连接顺序(JoinPlanner)，更多时按 from 中写的顺序连接
+  public static int joinReorderLimit = 8;
+  // ANALYZE 建直方图时抽样的行数
+  public static int statisticsSampleRows = 30_000;
+  // 收集统计信息后插入、删除、更新的行数超过当时行数的这个比例时，写语句结束时交给后台线程重新收集
+  public static double statisticsRefreshFraction = 0.2;
+  // 哈希聚合在内存中最多保存的组数，超过时按分组列排序后写到临时文件，最后归并
+  public static long aggregateMemoryGroups = 1_000_000;
 
   public static int SUCCESS_CODE = 0;
   public static int FAILURE_CODE = -1;
@@ -22,8 +43,11 @@ public class Global {
   public static final String DATABASE_EMPTY = "EMPTY_DATABASE";
   public static final String ENTRY_NULL = "null";
 
+  // 默认的数据目录，Manager 和 Database 也可以在构造时指定别的目录
   public static final String DBMS_DIR = "thssdb";
   public static final String META_SUFFIX = "_meta";
+  public static final String INDEX_SUFFIX = "_index";
+  public static final String STATISTICS_SUFFIX = "_stats";
 
   public static final String LOG_BEGIN_TRANSACTION = "begin transaction";
   public static final String LOG_COMMIT = "commit";
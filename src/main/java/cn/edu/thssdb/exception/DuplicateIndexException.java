@@ -0,0 +1,15 @@
+package cn.edu.thssdb.exception;
+
+public class DuplicateIndexException extends RuntimeException {
+    private String indexName;
+
+    public DuplicateIndexException(String name) {
+        super();
+        indexName = name;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: index \"" + indexName + "\" already exists!";
+    }
+}
@@ -0,0 +1,15 @@
+package cn.edu.thssdb.exception;
+
+public class IndexNotExistException extends RuntimeException {
+    private String indexName;
+
+    public IndexNotExistException(String name) {
+        super();
+        indexName = name;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: index \"" + indexName + "\" doesn't exist!";
+    }
+}
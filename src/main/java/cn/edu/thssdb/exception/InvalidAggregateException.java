@@ -0,0 +1,15 @@
+package cn.edu.thssdb.exception;
+
+public class InvalidAggregateException extends RuntimeException {
+    private String reason;
+
+    public InvalidAggregateException(String reason) {
+        super();
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: " + reason;
+    }
+}
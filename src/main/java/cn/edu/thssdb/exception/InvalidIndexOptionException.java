@@ -0,0 +1,17 @@
+package cn.edu.thssdb.exception;
+
+public class InvalidIndexOptionException extends RuntimeException {
+    private String option;
+    private String value;
+
+    public InvalidIndexOptionException(String option, String value) {
+        super();
+        this.option = option;
+        this.value = value;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: index option " + option + " = " + value + " is invalid!";
+    }
+}
@@ -0,0 +1,15 @@
+package cn.edu.thssdb.exception;
+
+public class LockUpgradeException extends RuntimeException {
+    private String tableName;
+
+    public LockUpgradeException(String name) {
+        super();
+        tableName = name;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Exception: this transaction has written to concurrent table \"" + tableName + "\", commit before locking it exclusively!";
+    }
+}
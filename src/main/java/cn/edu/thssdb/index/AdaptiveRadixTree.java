@@ -0,0 +1,681 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An adaptive radix tree (Leis et al., ICDE 2013) over the bytes of {@link BinaryKeyEncoder}
+ * encoded keys. Inner nodes branch on one byte and come in four sizes that grow and shrink with
+ * their fanout: sorted arrays of 4 or 16 bytes, a 256-entry byte index into 48 children, or 256
+ * direct children. Chains of single-child nodes are collapsed into a prefix stored in the node below,
+ * leaves hang as high as their key is unique, and a key that is a prefix of other keys sits in the
+ * terminal slot of the node where it ends. Lookups cost one byte step per level instead of a
+ * {@code compareTo} per binary search step, and iteration is in key order. Like {@link BPlusTree},
+ * it relies on the table lock for thread safety.
+ */
+public final class AdaptiveRadixTree<K extends Comparable<K>, V> implements Index<K, V> {
+  private static final Object ABSENT = new Object();
+  private static final int OBJECT = 16;
+  private static final int NODE_OBJECT = 32;
+
+  private final BinaryKeyEncoder<K> encoder;
+  private Object root;
+  private int size;
+  // results of the recursive insert and remove, which rebuild the path they walk down
+  private Object previous;
+  private boolean removed;
+
+  public AdaptiveRadixTree(BinaryKeyEncoder<K> encoder) {
+    this.encoder = encoder;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) / 8 * 8;
+  }
+
+  private static long byteArray(int length) {
+    return align(IndexFootprint.ARRAY_HEADER + length);
+  }
+
+  private static long referenceArray(int length) {
+    return align(IndexFootprint.ARRAY_HEADER + (long) IndexFootprint.REFERENCE * length);
+  }
+
+  /** Holds the key itself; its bytes are encoded again only when an insert has to split below it. */
+  private static final class Leaf<K, V> {
+    final K key;
+    V value;
+
+    Leaf(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  private abstract static class Node {
+    // bytes every key below shares after the byte that led here
+    byte[] prefix;
+    Leaf<?, ?> terminal;
+    int count;
+
+    Node(byte[] prefix) {
+      this.prefix = prefix;
+    }
+
+    abstract Object child(int b);
+
+    /** Replaces the child of a present byte. */
+    abstract void replace(int b, Object child);
+
+    /** @return this node, or a larger one holding the same entries */
+    abstract Node add(int b, Object child);
+
+    /** @return this node, or a smaller one holding the same entries */
+    abstract Node remove(int b);
+
+    /** Smallest byte from {@code from} on that has a child, or -1. */
+    abstract int next(int from);
+
+    /**
+     * Children in byte order are numbered by positions, which need not be consecutive: the first
+     * position from {@code from} on that holds a child, or -1.
+     */
+    abstract int nextPosition(int from);
+
+    abstract Object childAt(int position);
+
+    /** First position whose byte is greater than {@code b}. */
+    abstract int positionAfter(int b);
+
+    abstract int kind();
+
+    abstract long bytes();
+
+    <N extends Node> N copyHeader(N node) {
+      node.terminal = terminal;
+      return node;
+    }
+  }
+
+  /** Node4 and Node16: child bytes kept sorted. */
+  private static final class SortedNode extends Node {
+    final byte[] keys;
+    final Object[] children;
+
+    SortedNode(byte[] prefix, int capacity) {
+      super(prefix);
+      keys = new byte[capacity];
+      children = new Object[capacity];
+    }
+
+    private int find(int b) {
+      for (int i = 0; i < count; i++)
+        if ((keys[i] & 0xFF) == b) return i;
+      return -1;
+    }
+
+    @Override
+    Object child(int b) {
+      int i = find(b);
+      return i < 0 ? null : children[i];
+    }
+
+    @Override
+    void replace(int b, Object child) {
+      children[find(b)] = child;
+    }
+
+    @Override
+    Node add(int b, Object child) {
+      if (count == keys.length) {
+        Node grown = keys.length == 4 ? new SortedNode(prefix, 16) : new IndexedNode(prefix);
+        for (int i = 0; i < count; i++) grown.add(keys[i] & 0xFF, children[i]);
+        return copyHeader(grown).add(b, child);
+      }
+      int i = count;
+      while (i > 0 && (keys[i - 1] & 0xFF) > b) {
+        keys[i] = keys[i - 1];
+        children[i] = children[i - 1];
+        i--;
+      }
+      keys[i] = (byte) b;
+      children[i] = child;
+      count++;
+      return this;
+    }
+
+    @Override
+    Node remove(int b) {
+      int i = find(b);
+      System.arraycopy(keys, i + 1, keys, i, count - i - 1);
+      System.arraycopy(children, i + 1, children, i, count - i - 1);
+      children[--count] = null;
+      if (keys.length == 16 && count <= 3) {
+        SortedNode shrunk = new SortedNode(prefix, 4);
+        for (int j = 0; j < count; j++) shrunk.add(keys[j] & 0xFF, children[j]);
+        return copyHeader(shrunk);
+      }
+      return this;
+    }
+
+    @Override
+    int next(int from) {
+      for (int i = 0; i < count; i++)
+        if ((keys[i] & 0xFF) >= from) return keys[i] & 0xFF;
+      return -1;
+    }
+
+    @Override
+    int nextPosition(int from) {
+      return from < count ? from : -1;
+    }
+
+    @Override
+    Object childAt(int position) {
+      return children[position];
+    }
+
+    @Override
+    int positionAfter(int b) {
+      int i = 0;
+      while (i < count && (keys[i] & 0xFF) <= b) i++;
+      return i;
+    }
+
+    @Override
+    int kind() {
+      return keys.length == 4 ? 0 : 1;
+    }
+
+    @Override
+    long bytes() {
+      return NODE_OBJECT + byteArray(prefix.length) + byteArray(keys.length) + referenceArray(children.length);
+    }
+  }
+
+  /** Node48: a byte-indexed table of slot numbers (plus one, zero when absent) into 48 children. */
+  private static final class IndexedNode extends Node {
+    final byte[] slots = new byte[256];
+    final Object[] children = new Object[48];
+
+    IndexedNode(byte[] prefix) {
+      super(prefix);
+    }
+
+    @Override
+    Object child(int b) {
+      int slot = slots[b];
+      return slot == 0 ? null : children[slot - 1];
+    }
+
+    @Override
+    void replace(int b, Object child) {
+      children[slots[b] - 1] = child;
+    }
+
+    @Override
+    Node add(int b, Object child) {
+      if (count == children.length) {
+        DirectNode grown = new DirectNode(prefix);
+        for (int i = 0; i < 256; i++)
+          if (slots[i] != 0) grown.add(i, children[slots[i] - 1]);
+        return copyHeader(grown).add(b, child);
+      }
+      int slot = 0;
+      while (children[slot] != null) slot++;
+      children[slot] = child;
+      slots[b] = (byte) (slot + 1);
+      count++;
+      return this;
+    }
+
+    @Override
+    Node remove(int b) {
+      children[slots[b] - 1] = null;
+      slots[b] = 0;
+      count--;
+      if (count <= 12) {
+        SortedNode shrunk = new SortedNode(prefix, 16);
+        for (int i = 0; i < 256; i++)
+          if (slots[i] != 0) shrunk.add(i, children[slots[i] - 1]);
+        return copyHeader(shrunk);
+      }
+      return this;
+    }
+
+    @Override
+    int next(int from) {
+      for (int i = from; i < 256; i++)
+        if (slots[i] != 0) return i;
+      return -1;
+    }
+
+    @Override
+    int nextPosition(int from) {
+      return from > 255 ? -1 : next(from);
+    }
+
+    @Override
+    Object childAt(int position) {
+      return children[slots[position] - 1];
+    }
+
+    @Override
+    int positionAfter(int b) {
+      return b + 1;
+    }
+
+    @Override
+    int kind() {
+      return 2;
+    }
+
+    @Override
+    long bytes() {
+      return NODE_OBJECT + byteArray(prefix.length) + byteArray(256) + referenceArray(48);
+    }
+  }
+
+  /** Node256: one child slot per byte. */
+  private static final class DirectNode extends Node {
+    final Object[] children = new Object[256];
+
+    DirectNode(byte[] prefix) {
+      super(prefix);
+    }
+
+    @Override
+    Object child(int b) {
+      return children[b];
+    }
+
+    @Override
+    void replace(int b, Object child) {
+      children[b] = child;
+    }
+
+    @Override
+    Node add(int b, Object child) {
+      children[b] = child;
+      count++;
+      return this;
+    }
+
+    @Override
+    Node remove(int b) {
+      children[b] = null;
+      count--;
+      if (count <= 37) {
+        IndexedNode shrunk = new IndexedNode(prefix);
+        for (int i = 0; i < 256; i++)
+          if (children[i] != null) shrunk.add(i, children[i]);
+        return copyHeader(shrunk);
+      }
+      return this;
+    }
+
+    @Override
+    int next(int from) {
+      for (int i = from; i < 256; i++)
+        if (children[i] != null) return i;
+      return -1;
+    }
+
+    @Override
+    int nextPosition(int from) {
+      return from > 255 ? -1 : next(from);
+    }
+
+    @Override
+    Object childAt(int position) {
+      return children[position];
+    }
+
+    @Override
+    int positionAfter(int b) {
+      return b + 1;
+    }
+
+    @Override
+    int kind() {
+      return 3;
+    }
+
+    @Override
+    long bytes() {
+      return NODE_OBJECT + byteArray(prefix.length) + referenceArray(256);
+    }
+  }
+
+  /** How many bytes of the node's prefix match {@code bytes} from {@code depth} on. */
+  private static int prefixMatch(Node node, byte[] bytes, int depth) {
+    int limit = Math.min(node.prefix.length, bytes.length - depth);
+    int i = 0;
+    while (i < limit && node.prefix[i] == bytes[depth + i]) i++;
+    return i;
+  }
+
+  /** Hangs the leaf with key bytes {@code bytes} under a new node whose prefix ends at {@code depth}. */
+  private static void place(Node node, Leaf<?, ?> leaf, byte[] bytes, int depth) {
+    if (bytes.length == depth) node.terminal = leaf;
+    else node.add(bytes[depth] & 0xFF, leaf);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Leaf<K, V> find(K key) {
+    byte[] bytes = encoder.encode(key);
+    Object node = root;
+    int depth = 0;
+    while (node instanceof Node) {
+      Node inner = (Node) node;
+      if (prefixMatch(inner, bytes, depth) < inner.prefix.length) return null;
+      depth += inner.prefix.length;
+      if (depth == bytes.length) return (Leaf<K, V>) inner.terminal;
+      node = inner.child(bytes[depth++] & 0xFF);
+    }
+    Leaf<K, V> leaf = (Leaf<K, V>) node;
+    return leaf != null && leaf.key.compareTo(key) == 0 ? leaf : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object insert(Object node, Leaf<K, V> leaf, byte[] bytes, int depth, boolean overwrite) {
+    if (node == null) {
+      size++;
+      return leaf;
+    }
+    if (node instanceof Leaf) {
+      Leaf<K, V> existing = (Leaf<K, V>) node;
+      if (existing.key.compareTo(leaf.key) == 0) {
+        previous = existing.value;
+        if (overwrite) existing.value = leaf.value;
+        return existing;
+      }
+      byte[] existingBytes = encoder.encode(existing.key);
+      int common = depth;
+      while (common < bytes.length && common < existingBytes.length && bytes[common] == existingBytes[common])
+        common++;
+      Node branch = new SortedNode(Arrays.copyOfRange(bytes, depth, common), 4);
+      place(branch, existing, existingBytes, common);
+      place(branch, leaf, bytes, common);
+      size++;
+      return branch;
+    }
+    Node inner = (Node) node;
+    int matched = prefixMatch(inner, bytes, depth);
+    if (matched < inner.prefix.length) {
+      // the key leaves the prefix: split it at the first differing byte
+      Node branch = new SortedNode(Arrays.copyOf(inner.prefix, matched), 4);
+      branch.add(inner.prefix[matched] & 0xFF, inner);
+      inner.prefix = Arrays.copyOfRange(inner.prefix, matched + 1, inner.prefix.length);
+      place(branch, leaf, bytes, depth + matched);
+      size++;
+      return branch;
+    }
+    depth += inner.prefix.length;
+    if (depth == bytes.length) {
+      if (inner.terminal == null) {
+        inner.terminal = leaf;
+        size++;
+      } else {
+        Leaf<K, V> existing = (Leaf<K, V>) inner.terminal;
+        previous = existing.value;
+        if (overwrite) existing.value = leaf.value;
+      }
+      return inner;
+    }
+    int b = bytes[depth] & 0xFF;
+    Object child = inner.child(b);
+    if (child == null) {
+      size++;
+      return inner.add(b, leaf);
+    }
+    Object updated = insert(child, leaf, bytes, depth + 1, overwrite);
+    if (updated != child) inner.replace(b, updated);
+    return inner;
+  }
+
+  private Object insert(K key, V value, boolean overwrite) {
+    previous = ABSENT;
+    root = insert(root, new Leaf<>(key, value), encoder.encode(key), 0, overwrite);
+    return previous;
+  }
+
+  /** Drops a node left with a single way down, moving its prefix into what remains. */
+  private static Object collapse(Node node) {
+    if (node.count == 0) return node.terminal;
+    if (node.count > 1 || node.terminal != null) return node;
+    int b = node.next(0);
+    Object child = node.child(b);
+    if (child instanceof Node) {
+      Node only = (Node) child;
+      byte[] prefix = Arrays.copyOf(node.prefix, node.prefix.length + 1 + only.prefix.length);
+      prefix[node.prefix.length] = (byte) b;
+      System.arraycopy(only.prefix, 0, prefix, node.prefix.length + 1, only.prefix.length);
+      only.prefix = prefix;
+    }
+    return child;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object remove(Object node, K key, byte[] bytes, int depth) {
+    if (node == null) return null;
+    if (node instanceof Leaf) {
+      if (((Leaf<K, V>) node).key.compareTo(key) != 0) return node;
+      removed = true;
+      return null;
+    }
+    Node inner = (Node) node;
+    if (prefixMatch(inner, bytes, depth) < inner.prefix.length) return inner;
+    depth += inner.prefix.length;
+    if (depth == bytes.length) {
+      if (inner.terminal == null) return inner;
+      inner.terminal = null;
+      removed = true;
+    } else {
+      int b = bytes[depth] & 0xFF;
+      Object child = inner.child(b);
+      if (child == null) return inner;
+      Object updated = remove(child, key, bytes, depth + 1);
+      if (updated == child) return inner;
+      if (updated == null) inner = inner.remove(b);
+      else inner.replace(b, updated);
+    }
+    return collapse(inner);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to get() is null");
+    Leaf<K, V> leaf = find(key);
+    if (leaf == null) throw new KeyNotExistException();
+    return leaf.value;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to put() is null");
+    if (insert(key, value, false) != ABSENT) throw new DuplicateKeyException();
+  }
+
+  @Override
+  public void remove(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to remove() is null");
+    removed = false;
+    root = remove(root, key, encoder.encode(key), 0);
+    if (!removed) throw new KeyNotExistException();
+    size--;
+  }
+
+  @Override
+  public boolean contains(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to contains() is null");
+    return find(key) != null;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to putIfAbsent() is null");
+    Object existing = insert(key, value, false);
+    return existing == ABSENT ? null : (V) existing;
+  }
+
+  @Override
+  public V replaceValue(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to replaceValue() is null");
+    Leaf<K, V> leaf = find(key);
+    if (leaf == null) throw new KeyNotExistException();
+    V replaced = leaf.value;
+    leaf.value = value;
+    return replaced;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public V upsert(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to upsert() is null");
+    Object existing = insert(key, value, true);
+    return existing == ABSENT ? null : (V) existing;
+  }
+
+  @Override
+  public IndexFootprint footprint() {
+    IndexFootprint footprint = IndexFootprint.radixTree(size);
+    if (root != null) addFootprint(root, footprint);
+    return footprint;
+  }
+
+  private static void addFootprint(Object node, IndexFootprint footprint) {
+    if (node instanceof Leaf) {
+      footprint.addRadixLeaf(OBJECT + IndexFootprint.REFERENCE * 2);
+      return;
+    }
+    Node inner = (Node) node;
+    footprint.addRadixNode(inner.kind(), inner.bytes());
+    if (inner.terminal != null) addFootprint(inner.terminal, footprint);
+    for (int b = inner.next(0); b >= 0; b = b == 255 ? -1 : inner.next(b + 1))
+      addFootprint(inner.child(b), footprint);
+  }
+
+  @Override
+  public Iterator<Pair<K, V>> iterator() {
+    return range(null, null);
+  }
+
+  /** Pairs with {@code from <= key < to} in key order; a null bound leaves that side open. */
+  public Iterator<Pair<K, V>> range(K from, K to) {
+    return new RangeIterator(from, to);
+  }
+
+  private static final class Frame {
+    final Node node;
+    // next child position to visit
+    int next;
+    boolean terminal;
+
+    Frame(Node node, int next, boolean terminal) {
+      this.node = node;
+      this.next = next;
+      this.terminal = terminal;
+    }
+  }
+
+  /** Depth-first walk over a stack of pending leaves and partly visited nodes, smallest keys on top. */
+  private final class RangeIterator implements Iterator<Pair<K, V>> {
+    private final ArrayDeque<Object> stack = new ArrayDeque<>();
+    private final K to;
+    private Leaf<K, V> next;
+
+    RangeIterator(K from, K to) {
+      this.to = to;
+      if (root == null) return;
+      if (from == null) push(root);
+      else seek(from);
+      next = advance();
+    }
+
+    private void push(Object node) {
+      stack.push(node instanceof Leaf ? node : new Frame((Node) node, 0, true));
+    }
+
+    /** Pushes the part of the tree at or after {@code fromKey}. */
+    @SuppressWarnings("unchecked")
+    private void seek(K fromKey) {
+      byte[] from = encoder.encode(fromKey);
+      Object node = root;
+      int depth = 0;
+      while (node != null) {
+        if (node instanceof Leaf) {
+          if (((Leaf<K, V>) node).key.compareTo(fromKey) >= 0) stack.push(node);
+          return;
+        }
+        Node inner = (Node) node;
+        int matched = prefixMatch(inner, from, depth);
+        if (matched < inner.prefix.length) {
+          // every key below is past from if from ended or is smaller at the first differing byte
+          if (depth + matched == from.length || (inner.prefix[matched] & 0xFF) > (from[depth + matched] & 0xFF))
+            push(inner);
+          return;
+        }
+        depth += inner.prefix.length;
+        if (depth == from.length) {
+          push(inner);
+          return;
+        }
+        int b = from[depth++] & 0xFF;
+        stack.push(new Frame(inner, inner.positionAfter(b), false));
+        node = inner.child(b);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Leaf<K, V> advance() {
+      while (!stack.isEmpty()) {
+        Object top = stack.peek();
+        if (top instanceof Leaf) {
+          stack.pop();
+          return (Leaf<K, V>) top;
+        }
+        Frame frame = (Frame) top;
+        if (frame.terminal) {
+          frame.terminal = false;
+          if (frame.node.terminal != null) return (Leaf<K, V>) frame.node.terminal;
+        }
+        int position = frame.node.nextPosition(frame.next);
+        if (position < 0) {
+          stack.pop();
+          continue;
+        }
+        frame.next = position + 1;
+        Object child = frame.node.childAt(position);
+        if (child instanceof Leaf) return (Leaf<K, V>) child;
+        stack.push(new Frame((Node) child, 0, true));
+      }
+      return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null && (to == null || next.key.compareTo(to) < 0);
+    }
+
+    @Override
+    public Pair<K, V> next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      Pair<K, V> pair = new Pair<>(next.key, next.value);
+      next = advance();
+      return pair;
+    }
+  }
+}
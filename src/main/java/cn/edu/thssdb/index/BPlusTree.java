@@ -1,35 +1,131 @@
 package cn.edu.thssdb.index;
 
+import cn.edu.thssdb.common.Global;
 import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
 
-public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pair<K, V>> {
+import java.util.ArrayList;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+public final class BPlusTree<K extends Comparable<K>, V> implements Index<K, V> {
+
+  /** Smallest fill of the nodes of a bulk build, unless the fill factor asks for more. */
+  static final double BULK_FILL = 0.75;
+
+  final int fanout;
+  final double fillFactor;
+  // set for string keys stored prefix-compressed, see PrefixLeafNode
+  final KeyCodec<K> codec;
   BPlusTreeNode<K, V> root;
   private int size;
 
   public BPlusTree() {
-    root = new BPlusTreeLeafNode<>(0);
+    this(Global.fanout, Global.fillFactor);
+  }
+
+  public BPlusTree(int fanout, double fillFactor) {
+    this(fanout, fillFactor, null);
+  }
+
+  /**
+   * With a codec, leaves keep the keys as one shared prefix plus packed suffixes instead of key
+   * references, and internal nodes keep the shortest prefix that still separates two children.
+   */
+  public BPlusTree(int fanout, double fillFactor, KeyCodec<K> codec) {
+    if (fanout < 4) throw new IllegalArgumentException("fanout of a B+ tree must be at least 4");
+    if (fillFactor < 0.5 || fillFactor > 1)
+      throw new IllegalArgumentException("fill factor of a B+ tree must be in [0.5, 1]");
+    this.fanout = fanout;
+    this.fillFactor = fillFactor;
+    this.codec = codec;
+    root = newLeaf(0, fanout);
+  }
+
+  BPlusTreeLeafNode<K, V> newLeaf(int size, int capacity) {
+    return codec == null ? new BPlusTreeLeafNode<>(this, size, capacity) : new PrefixLeafNode<>(this, size, capacity);
+  }
+
+  /**
+   * Key to put between {@code left} and its right neighbour {@code right} in their parent. Any key in
+   * {@code (last key of left, first key of right]} works; with a codec it is the shortest prefix of the
+   * right one that is still greater than the left one.
+   */
+  K separator(BPlusTreeNode<K, V> left, BPlusTreeNode<K, V> right) {
+    K first = right.getFirstLeafKey();
+    if (codec == null) return first;
+    String high = codec.encode(first);
+    int common = PrefixLeafNode.commonPrefix(codec.encode(left.getLastLeafKey()), high);
+    return common + 1 >= high.length() ? first : codec.decode(high.substring(0, common + 1));
+  }
+
+  /**
+   * Largest fanout whose key array still fits in {@code nodeBytes}, e.g. a 64 byte cache line or a
+   * 4 KB page, assuming compressed 4 byte references.
+   */
+  public static int fanoutForNodeBytes(int nodeBytes) {
+    return Math.max(4, (nodeBytes - IndexFootprint.ARRAY_HEADER) / IndexFootprint.REFERENCE);
   }
 
   public int size() {
     return size;
   }
 
+  public int getFanout() {
+    return fanout;
+  }
+
+  public double getFillFactor() {
+    return fillFactor;
+  }
+
   public V get(K key) {
     if (key == null) throw new IllegalArgumentException("argument key to get() is null");
     return root.get(key);
   }
 
   public void update(K key, V value) {
-    root.remove(key);
-    root.put(key, value);
+    replaceValue(key, value);
   }
 
   public void put(K key, V value) {
     if (key == null) throw new IllegalArgumentException("argument key to put() is null");
-    root.put(key, value);
-    size++;
-    checkRoot();
+    if (insert(key, value, false) != BPlusTreeNode.ABSENT) throw new DuplicateKeyException();
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to putIfAbsent() is null");
+    return valueOrNull(insert(key, value, false));
+  }
+
+  @Override
+  public V upsert(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to upsert() is null");
+    return valueOrNull(insert(key, value, true));
+  }
+
+  @Override
+  public V replaceValue(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to replaceValue() is null");
+    return root.replace(key, value);
+  }
+
+  private Object insert(K key, V value, boolean overwrite) {
+    Object previous = root.insert(key, value, overwrite);
+    if (previous == BPlusTreeNode.ABSENT) {
+      size++;
+      checkRoot();
+    }
+    return previous;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V valueOrNull(Object previous) {
+    return previous == BPlusTreeNode.ABSENT ? null : (V) previous;
   }
 
   public void remove(K key) {
@@ -37,7 +133,7 @@ public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pai
     root.remove(key);
     size--;
     if (root instanceof BPlusTreeInternalNode && root.size() == 0) {
-      root = ((BPlusTreeInternalNode<K, V>) root).children.get(0);
+      root = ((BPlusTreeInternalNode<K, V>) root).children[0];
     }
   }
 
@@ -49,16 +145,151 @@ public final class BPlusTree<K extends Comparable<K>, V> implements Iterable<Pai
   private void checkRoot() {
     if (root.isOverFlow()) {
       BPlusTreeNode<K, V> newSiblingNode = root.split();
-      BPlusTreeInternalNode<K, V> newRoot = new BPlusTreeInternalNode<>(1);
-      newRoot.keys.set(0, newSiblingNode.getFirstLeafKey());
-      newRoot.children.set(0, root);
-      newRoot.children.set(1, newSiblingNode);
+      BPlusTreeInternalNode<K, V> newRoot = new BPlusTreeInternalNode<>(this, 1);
+      newRoot.keys[0] = separator(root, newSiblingNode);
+      newRoot.children[0] = root;
+      newRoot.children[1] = newSiblingNode;
       root = newRoot;
     }
   }
 
+  /**
+   * Builds an empty tree bottom-up: the sorted pairs are cut into leaves filled to the fill factor,
+   * but at least to {@link #BULK_FILL} so the tree is not left half empty, and every level above is
+   * built from the one below the same way. A tree that already has entries takes the pairs one by one.
+   */
+  @Override
+  public void bulkLoad(List<Pair<K, V>> sorted) {
+    if (size > 0 || sorted.isEmpty()) {
+      Index.super.bulkLoad(sorted);
+      return;
+    }
+    int maxKeys = fanout - 1;
+    int minKeys = (fanout + 1) / 2 - 1;
+    int target = Math.max(minKeys, (int) (maxKeys * Math.max(fillFactor, BULK_FILL)));
+    List<BPlusTreeNode<K, V>> level = new ArrayList<>();
+    int count = nodeCount(sorted.size(), target, minKeys);
+    int position = 0;
+    BPlusTreeLeafNode<K, V> previous = null;
+    for (int i = 0; i < count; i++) {
+      BPlusTreeLeafNode<K, V> leaf = newLeaf(0, fanout);
+      for (int end = (int) ((long) sorted.size() * (i + 1) / count); position < end; position++) {
+        Pair<K, V> pair = sorted.get(position);
+        if (pair.left == null) throw new IllegalArgumentException("argument key to bulkLoad() is null");
+        if (position > 0) {
+          int comparison = sorted.get(position - 1).left.compareTo(pair.left);
+          if (comparison == 0) throw new DuplicateKeyException();
+          if (comparison > 0) throw new IllegalArgumentException("bulkLoad() needs the keys in ascending order");
+        }
+        leaf.append(pair.left, pair.right);
+      }
+      if (previous != null) previous.setNext(leaf);
+      previous = leaf;
+      level.add(leaf);
+    }
+    // an internal node with n children holds n - 1 separators
+    while (level.size() > 1) {
+      List<BPlusTreeNode<K, V>> children = level;
+      level = new ArrayList<>();
+      count = nodeCount(children.size(), target + 1, minKeys + 1);
+      position = 0;
+      for (int i = 0; i < count; i++) {
+        int end = (int) ((long) children.size() * (i + 1) / count);
+        BPlusTreeInternalNode<K, V> node = new BPlusTreeInternalNode<>(this, end - position - 1);
+        node.children[0] = children.get(position);
+        for (int j = 1; position + j < end; j++) {
+          node.keys[j - 1] = separator(children.get(position + j - 1), children.get(position + j));
+          node.children[j] = children.get(position + j);
+        }
+        position = end;
+        level.add(node);
+      }
+    }
+    root = level.get(0);
+    size = sorted.size();
+  }
+
+  /**
+   * How many nodes to spread {@code items} over so that each gets about {@code target} and none fewer
+   * than {@code min}. Dropping one node when the last would fall short keeps every node below
+   * {@code 2 * min}, which a node can always hold.
+   */
+  private static int nodeCount(int items, int target, int min) {
+    int count = (items + target - 1) / target;
+    if (count > 1 && items / count < min) count--;
+    return count;
+  }
+
+  /** Walks every node and estimates how much heap the node arrays take. */
+  public IndexFootprint footprint() {
+    IndexFootprint footprint = new IndexFootprint(fanout, fillFactor, size);
+    addFootprint(root, footprint);
+    return footprint;
+  }
+
+  private void addFootprint(BPlusTreeNode<K, V> node, IndexFootprint footprint) {
+    if (node instanceof PrefixLeafNode) {
+      PrefixLeafNode<K, V> leaf = (PrefixLeafNode<K, V>) node;
+      footprint.addPrefixLeaf(leaf.capacity(), leaf.keyBytes(), leaf.uncompressedKeyBytes());
+    } else if (node instanceof BPlusTreeLeafNode) {
+      footprint.addLeaf(node.keys.length);
+    } else {
+      BPlusTreeInternalNode<K, V> internalNode = (BPlusTreeInternalNode<K, V>) node;
+      footprint.addInternal(node.keys.length, internalNode.children.length);
+      for (int i = 0; i <= node.size(); i++)
+        addFootprint(internalNode.children[i], footprint);
+    }
+  }
+
   @Override
   public BPlusTreeIterator<K, V> iterator() {
     return new BPlusTreeIterator<>(this);
   }
+
+  /** Pairs with {@code from <= key < to} in key order, walking the leaf chain; a null bound leaves that side open. */
+  public Iterator<Pair<K, V>> range(K from, K to) {
+    BPlusTreeNode<K, V> node = root;
+    while (node instanceof BPlusTreeInternalNode)
+      node = from == null ? ((BPlusTreeInternalNode<K, V>) node).children[0]
+          : ((BPlusTreeInternalNode<K, V>) node).searchChild(from);
+    BPlusTreeLeafNode<K, V> first = (BPlusTreeLeafNode<K, V>) node;
+    int index = from == null ? 0 : first.binarySearch(from);
+    int start = index >= 0 ? index : -index - 1;
+    return new Iterator<Pair<K, V>>() {
+      private BPlusTreeLeafNode<K, V> leaf = first;
+      private int position = start;
+
+      @Override
+      public boolean hasNext() {
+        while (leaf != null && position >= leaf.size()) {
+          leaf = leaf.next();
+          position = 0;
+        }
+        return leaf != null && (to == null || leaf.keyAt(position).compareTo(to) < 0);
+      }
+
+      @Override
+      public Pair<K, V> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Pair<K, V> pair = new Pair<>(leaf.keyAt(position), leaf.values[position]);
+        position++;
+        return pair;
+      }
+    };
+  }
+
+  /** Splits at internal-node boundaries, so {@code StreamSupport.stream(tree.spliterator(), true)} scans subtrees in parallel. */
+  @Override
+  public BPlusTreeSpliterator<K, V> spliterator() {
+    return new BPlusTreeSpliterator<>(this, null, null);
+  }
+
+  /**
+   * Like {@link #spliterator()}, but skips every leaf whose summary fails {@code leafFilter}. Leaves
+   * cache their summary until they change, so pass the same summarizer instance on every scan.
+   */
+  public <S> BPlusTreeSpliterator<K, V> spliterator(LeafSummarizer<V, S> summarizer, Predicate<? super S> leafFilter,
+                                                    ScanStatistics statistics) {
+    return new BPlusTreeSpliterator<>(this, leaf -> leafFilter.test(leaf.summary(summarizer)), statistics);
+  }
 }
@@ -1,30 +1,45 @@
 package cn.edu.thssdb.index;
 
-import cn.edu.thssdb.common.Global;
-
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 
 public final class BPlusTreeInternalNode<K extends Comparable<K>, V> extends BPlusTreeNode<K, V> {
 
-  ArrayList<BPlusTreeNode<K, V>> children;
+  BPlusTreeNode<K, V>[] children;
+
+  BPlusTreeInternalNode(BPlusTree<K, V> tree, int size) {
+    this(tree, size, tree.fanout);
+  }
 
-  BPlusTreeInternalNode(int size) {
-    keys = new ArrayList<>(Collections.nCopies((int) (1.5 * Global.fanout) + 1, null));
-    children = new ArrayList<>((Collections.nCopies((int) (1.5 * Global.fanout) + 2, null)));
+  @SuppressWarnings("unchecked")
+  private BPlusTreeInternalNode(BPlusTree<K, V> tree, int size, int capacity) {
+    super(tree, capacity);
+    children = new BPlusTreeNode[capacity + 1];
     this.nodeSize = size;
   }
 
   private void childrenAdd(int index, BPlusTreeNode<K, V> node) {
-    for (int i = nodeSize + 1; i > index; i--) {
-      children.set(i, children.get(i - 1));
-    }
-    children.set(index, node);
+    if (nodeSize + 2 > children.length)
+      children = Arrays.copyOf(children, nodeSize + 2);
+    System.arraycopy(children, index, children, index + 1, nodeSize + 1 - index);
+    children[index] = node;
   }
 
   private void childrenRemove(int index) {
-    for (int i = index; i < nodeSize; i++) {
-      children.set(i, children.get(i + 1));
+    System.arraycopy(children, index + 1, children, index, nodeSize - index);
+    children[nodeSize] = null;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (keys.length < capacity) {
+      keys = Arrays.copyOf(keys, capacity);
+      children = Arrays.copyOf(children, capacity + 1);
+    }
+  }
+
+  private void trimToFanout() {
+    if (keys.length > tree.fanout && nodeSize <= tree.fanout) {
+      keys = Arrays.copyOf(keys, tree.fanout);
+      children = Arrays.copyOf(children, tree.fanout + 1);
     }
   }
 
@@ -39,20 +54,26 @@ public final class BPlusTreeInternalNode<K extends Comparable<K>, V> extends BPl
   }
 
   @Override
-  void put(K key, V value) {
+  Object insert(K key, V value, boolean overwrite) {
     BPlusTreeNode<K, V> child = searchChild(key);
-    child.put(key, value);
+    Object previous = child.insert(key, value, overwrite);
     if (child.isOverFlow()) {
       BPlusTreeNode<K, V> newSiblingNode = child.split();
-      insertChild(newSiblingNode.getFirstLeafKey(), newSiblingNode);
+      insertChild(tree.separator(child, newSiblingNode), newSiblingNode);
     }
+    return previous;
+  }
+
+  @Override
+  V replace(K key, V value) {
+    return searchChild(key).replace(key, value);
   }
 
   @Override
   void remove(K key) {
     int index = binarySearch(key);
     int childIndex = index >= 0 ? index + 1 : -index - 1;
-    BPlusTreeNode<K, V> child = children.get(childIndex);
+    BPlusTreeNode<K, V> child = children[childIndex];
     child.remove(key);
     if (child.isUnderFlow()) {
       BPlusTreeNode<K, V> childLeftSibling = getChildLeftSibling(key);
@@ -60,37 +81,41 @@ public final class BPlusTreeInternalNode<K extends Comparable<K>, V> extends BPl
       BPlusTreeNode<K, V> left = childLeftSibling != null ? childLeftSibling : child;
       BPlusTreeNode<K, V> right = childLeftSibling != null ? child : childRightSibling;
       left.merge(right);
-      if (index >= 0) {
-        childrenRemove(index + 1);
-        keysRemove(index);
-      } else {
-        assert right != null;
-        deleteChild(right.getFirstLeafKey());
-      }
+      // separators may be shortened, so drop the one between left and right by position
+      int leftIndex = childLeftSibling != null ? childIndex - 1 : childIndex;
+      childrenRemove(leftIndex + 1);
+      keysRemove(leftIndex);
       if (left.isOverFlow()) {
         BPlusTreeNode<K, V> newSiblingNode = left.split();
-        insertChild(newSiblingNode.getFirstLeafKey(), newSiblingNode);
+        insertChild(tree.separator(left, newSiblingNode), newSiblingNode);
       }
     } else if (index >= 0)
-      keys.set(index, children.get(index + 1).getFirstLeafKey());
+      keys[index] = tree.separator(children[index], children[index + 1]);
   }
 
   @Override
   K getFirstLeafKey() {
-    return children.get(0).getFirstLeafKey();
+    return children[0].getFirstLeafKey();
+  }
+
+  @Override
+  K getLastLeafKey() {
+    return children[nodeSize].getLastLeafKey();
   }
 
   @Override
   BPlusTreeNode<K, V> split() {
     int from = size() / 2 + 1;
     int to = size();
-    BPlusTreeInternalNode<K, V> newSiblingNode = new BPlusTreeInternalNode(to - from);
-    for (int i = 0; i < to - from; i++) {
-      newSiblingNode.keys.set(i, keys.get(i + from));
-      newSiblingNode.children.set(i, children.get(i + from));
-    }
-    newSiblingNode.children.set(to - from, children.get(to));
-    this.nodeSize = this.nodeSize - to + from - 1;
+    int length = to - from;
+    BPlusTreeInternalNode<K, V> newSiblingNode =
+        new BPlusTreeInternalNode<>(tree, length, Math.max(tree.fanout, length));
+    System.arraycopy(keys, from, newSiblingNode.keys, 0, length);
+    System.arraycopy(children, from, newSiblingNode.children, 0, length + 1);
+    Arrays.fill(keys, from - 1, to, null);
+    Arrays.fill(children, from, to + 1, null);
+    this.nodeSize = from - 1;
+    trimToFanout();
     return newSiblingNode;
   }
 
@@ -99,44 +124,34 @@ public final class BPlusTreeInternalNode<K extends Comparable<K>, V> extends BPl
     int index = nodeSize;
     BPlusTreeInternalNode<K, V> node = (BPlusTreeInternalNode<K, V>) sibling;
     int length = node.nodeSize;
-    keys.set(index, node.getFirstLeafKey());
-    for (int i = 0; i < length; i++) {
-      keys.set(i + index + 1, node.keys.get(i));
-      children.set(i + index + 1, node.children.get(i));
-    }
-    children.set(length + index + 1, node.children.get(length));
+    ensureCapacity(index + length + 1);
+    keys[index] = node.getFirstLeafKey();
+    System.arraycopy(node.keys, 0, keys, index + 1, length);
+    System.arraycopy(node.children, 0, children, index + 1, length + 1);
     nodeSize = index + length + 1;
   }
 
-  private BPlusTreeNode<K, V> searchChild(K key) {
+  BPlusTreeNode<K, V> searchChild(K key) {
     int index = binarySearch(key);
-    return children.get(index >= 0 ? index + 1 : -index - 1);
+    return children[index >= 0 ? index + 1 : -index - 1];
   }
 
   private void insertChild(K key, BPlusTreeNode<K, V> child) {
     int index = binarySearch(key);
     int childIndex = index >= 0 ? index + 1 : -index - 1;
     if (index >= 0) {
-      children.set(childIndex, child);
+      children[childIndex] = child;
     } else {
       childrenAdd(childIndex + 1, child);
       keysAdd(childIndex, key);
     }
   }
 
-  private void deleteChild(K key) {
-    int index = binarySearch(key);
-    if (index >= 0) {
-      childrenRemove(index + 1);
-      keysRemove(index);
-    }
-  }
-
   private BPlusTreeNode<K, V> getChildLeftSibling(K key) {
     int index = binarySearch(key);
     int childIndex = index >= 0 ? index + 1 : -index - 1;
     if (childIndex > 0)
-      return children.get(childIndex - 1);
+      return children[childIndex - 1];
     return null;
   }
 
@@ -144,7 +159,7 @@ public final class BPlusTreeInternalNode<K extends Comparable<K>, V> extends BPl
     int index = binarySearch(key);
     int childIndex = index >= 0 ? index + 1 : -index - 1;
     if (childIndex < size())
-      return children.get(childIndex + 1);
+      return children[childIndex + 1];
     return null;
   }
 }
@@ -27,13 +27,13 @@ public class BPlusTreeIterator<K extends Comparable<K>, V> implements Iterator<P
       while (true) {
         BPlusTreeNode<K, V> node = queue.poll();
         if (node instanceof BPlusTreeLeafNode) {
+          BPlusTreeLeafNode<K, V> leaf = (BPlusTreeLeafNode<K, V>) node;
           for (int i = 0; i < node.size(); i++)
-            buffer.add(
-                    new Pair<>(node.keys.get(i), ((BPlusTreeLeafNode<K, V>) node).values.get(i)));
+            buffer.add(new Pair<>(leaf.keyAt(i), leaf.values[i]));
           break;
         } else if (node instanceof BPlusTreeInternalNode)
           for (int i = 0; i <= node.size(); i++)
-            queue.add(((BPlusTreeInternalNode<K, V>) node).children.get(i));
+            queue.add(((BPlusTreeInternalNode<K, V>) node).children[i]);
       }
     }
     return buffer.poll();
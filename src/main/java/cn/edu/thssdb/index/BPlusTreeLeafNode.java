@@ -1,32 +1,111 @@
 package cn.edu.thssdb.index;
 
-import cn.edu.thssdb.exception.DuplicateKeyException;
 import cn.edu.thssdb.exception.KeyNotExistException;
-import cn.edu.thssdb.common.Global;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
 
 public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode<K, V> {
 
-  ArrayList<V> values;
+  V[] values;
   private BPlusTreeLeafNode<K, V> next;
+  // cached by summary(), dropped whenever the entries change
+  private volatile Summary summary;
 
-  BPlusTreeLeafNode(int size) {
-    keys = new ArrayList<>(Collections.nCopies((int) (1.5 * Global.fanout) + 1, null));
-    values = new ArrayList<>(Collections.nCopies((int) (1.5 * Global.fanout) + 1, null));
+  private static final class Summary {
+    final LeafSummarizer<?, ?> summarizer;
+    final Object value;
+
+    Summary(LeafSummarizer<?, ?> summarizer, Object value) {
+      this.summarizer = summarizer;
+      this.value = value;
+    }
+  }
+
+  BPlusTreeLeafNode(BPlusTree<K, V> tree, int size, int capacity) {
+    this(tree, size, capacity, capacity);
+  }
+
+  @SuppressWarnings("unchecked")
+  BPlusTreeLeafNode(BPlusTree<K, V> tree, int size, int keyCapacity, int capacity) {
+    super(tree, keyCapacity);
+    values = (V[]) new Object[capacity];
     nodeSize = size;
   }
 
+  K keyAt(int index) {
+    return keys[index];
+  }
+
+  /** Grows or trims the key storage along with the value array. */
+  void resizeKeys(int capacity) {
+    keys = Arrays.copyOf(keys, capacity);
+  }
+
+  /** Moves the keys from {@code from} on to the empty {@code sibling}; {@code nodeSize} is not yet updated. */
+  void moveKeys(BPlusTreeLeafNode<K, V> sibling, int from) {
+    System.arraycopy(keys, from, sibling.keys, 0, nodeSize - from);
+    Arrays.fill(keys, from, nodeSize, null);
+  }
+
+  /** Appends the keys of {@code sibling}; {@code nodeSize} is not yet updated. */
+  void appendKeys(BPlusTreeLeafNode<K, V> sibling) {
+    System.arraycopy(sibling.keys, 0, keys, nodeSize, sibling.nodeSize);
+  }
+
+  int capacity() {
+    return values.length;
+  }
+
+  BPlusTreeLeafNode<K, V> next() {
+    return next;
+  }
+
+  /** Appends a pair whose key is greater than every key of the leaf; used by bulk loading. */
+  void append(K key, V value) {
+    values[nodeSize] = value;
+    keysAdd(nodeSize, key);
+  }
+
+  void setNext(BPlusTreeLeafNode<K, V> next) {
+    this.next = next;
+  }
+
+  @SuppressWarnings("unchecked")
+  <S> S summary(LeafSummarizer<V, S> summarizer) {
+    Summary cached = summary;
+    if (cached == null || cached.summarizer != summarizer) {
+      List<V> entries = Arrays.asList(values).subList(0, nodeSize);
+      cached = new Summary(summarizer, summarizer.summarize(entries));
+      summary = cached;
+    }
+    return (S) cached.value;
+  }
+
   private void valuesAdd(int index, V value) {
-    for (int i = nodeSize; i > index; i--)
-      values.set(i, values.get(i - 1));
-    values.set(index, value);
+    if (nodeSize == values.length)
+      values = Arrays.copyOf(values, nodeSize + 1);
+    System.arraycopy(values, index, values, index + 1, nodeSize - index);
+    values[index] = value;
   }
 
   private void valuesRemove(int index) {
-    for (int i = index; i < nodeSize - 1; i++)
-      values.set(i, values.get(i + 1));
+    System.arraycopy(values, index + 1, values, index, nodeSize - index - 1);
+    values[nodeSize - 1] = null;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (values.length < capacity) {
+      resizeKeys(capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+  }
+
+  private void trimToFanout() {
+    if (values.length > tree.fanout && nodeSize <= tree.fanout) {
+      resizeKeys(tree.fanout);
+      values = Arrays.copyOf(values, tree.fanout);
+    }
   }
 
   @Override
@@ -38,26 +117,43 @@ public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode
   V get(K key) {
     int index = binarySearch(key);
     if (index >= 0)
-      return values.get(index);
+      return values[index];
     throw new KeyNotExistException();
   }
 
   @Override
-  void put(K key, V value) {
+  Object insert(K key, V value, boolean overwrite) {
     int index = binarySearch(key);
-    int valueIndex = index >= 0 ? index : -index - 1;
-    if (index >= 0)
-      throw new DuplicateKeyException();
-    else {
-      valuesAdd(valueIndex, value);
-      keysAdd(valueIndex, key);
+    if (index >= 0) {
+      V previous = values[index];
+      if (overwrite) {
+        values[index] = value;
+        summary = null;
+      }
+      return previous;
     }
+    summary = null;
+    valuesAdd(-index - 1, value);
+    keysAdd(-index - 1, key);
+    return ABSENT;
+  }
+
+  @Override
+  V replace(K key, V value) {
+    int index = binarySearch(key);
+    if (index < 0)
+      throw new KeyNotExistException();
+    V previous = values[index];
+    values[index] = value;
+    summary = null;
+    return previous;
   }
 
   @Override
   void remove(K key) {
     int index = binarySearch(key);
     if (index >= 0) {
+      summary = null;
       valuesRemove(index);
       keysRemove(index);
     } else
@@ -66,21 +162,29 @@ public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode
 
   @Override
   K getFirstLeafKey() {
-    return keys.get(0);
+    return keyAt(0);
   }
 
   @Override
-  BPlusTreeNode split() {
+  K getLastLeafKey() {
+    return keyAt(nodeSize - 1);
+  }
+
+  @Override
+  BPlusTreeNode<K, V> split() {
     int from = (size() + 1) / 2;
     int to = size();
-    BPlusTreeLeafNode<K, V> newSiblingNode = new BPlusTreeLeafNode(to - from);
-    for (int i = 0; i < to - from; i++) {
-      newSiblingNode.keys.set(i, keys.get(i + from));
-      newSiblingNode.values.set(i, values.get(i + from));
-      keys.set(i + from, null);
-      values.set(i + from, null);
-    }
+    // the rightmost leaf mostly receives appends, so keep it as full as the fill factor asks
+    if (next == null)
+      from = Math.max(from, Math.min(to - 1, (int) (to * tree.fillFactor)));
+    int length = to - from;
+    BPlusTreeLeafNode<K, V> newSiblingNode = tree.newLeaf(length, Math.max(tree.fanout, length));
+    moveKeys(newSiblingNode, from);
+    System.arraycopy(values, from, newSiblingNode.values, 0, length);
+    Arrays.fill(values, from, to, null);
     nodeSize = from;
+    summary = null;
+    trimToFanout();
     newSiblingNode.next = next;
     next = newSiblingNode;
     return newSiblingNode;
@@ -91,11 +195,11 @@ public class BPlusTreeLeafNode<K extends Comparable<K>, V> extends BPlusTreeNode
     int index = size();
     BPlusTreeLeafNode<K, V> node = (BPlusTreeLeafNode<K, V>) sibling;
     int length = node.size();
-    for (int i = 0; i < length; i++) {
-      keys.set(i + index, node.keys.get(i));
-      values.set(i + index, node.values.get(i));
-    }
+    ensureCapacity(index + length);
+    appendKeys(node);
+    System.arraycopy(node.values, 0, values, index, length);
     nodeSize = index + length;
+    summary = null;
     next = node.next;
   }
 }
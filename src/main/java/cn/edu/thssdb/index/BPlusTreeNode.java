@@ -1,17 +1,34 @@
 package cn.edu.thssdb.index;
 
-import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.KeyNotExistException;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 
 abstract class BPlusTreeNode<K extends Comparable<K>, V> {
-  ArrayList<K> keys;
+  final BPlusTree<K, V> tree;
+  K[] keys;
   int nodeSize;
 
+  @SuppressWarnings("unchecked")
+  BPlusTreeNode(BPlusTree<K, V> tree, int capacity) {
+    this.tree = tree;
+    this.keys = (K[]) new Comparable[capacity];
+  }
+
   abstract V get(K key);
 
-  abstract void put(K key, V value);
+  /** Returned by {@link #insert} when the key was absent, since null is a valid value. */
+  static final Object ABSENT = new Object();
+
+  /**
+   * Inserts the pair, or when the key is present replaces its value if {@code overwrite} is set.
+   *
+   * @return the value the key had, or {@link #ABSENT}
+   */
+  abstract Object insert(K key, V value, boolean overwrite);
+
+  /** @throws KeyNotExistException if the key is absent */
+  abstract V replace(K key, V value);
 
   abstract void remove(K key);
 
@@ -19,6 +36,8 @@ abstract class BPlusTreeNode<K extends Comparable<K>, V> {
 
   abstract K getFirstLeafKey();
 
+  abstract K getLastLeafKey();
+
   abstract BPlusTreeNode<K, V> split();
 
   abstract void merge(BPlusTreeNode<K, V> sibling);
@@ -28,29 +47,27 @@ abstract class BPlusTreeNode<K extends Comparable<K>, V> {
   }
 
   boolean isOverFlow() {
-    return nodeSize > Global.fanout - 1;
+    return nodeSize > tree.fanout - 1;
   }
 
   boolean isUnderFlow() {
-    return nodeSize < (Global.fanout + 1) / 2 - 1;
+    return nodeSize < (tree.fanout + 1) / 2 - 1;
   }
 
   int binarySearch(K key) {
-    return Collections.binarySearch(keys.subList(0, nodeSize), key);
+    return Arrays.binarySearch(keys, 0, nodeSize, key);
   }
 
   void keysAdd(int index, K key) {
-    for (int i = nodeSize; i > index; i--) {
-      keys.set(i, keys.get(i - 1));
-    }
-    keys.set(index, key);
+    if (nodeSize == keys.length)
+      keys = Arrays.copyOf(keys, nodeSize + 1);
+    System.arraycopy(keys, index, keys, index + 1, nodeSize - index);
+    keys[index] = key;
     nodeSize++;
   }
 
   void keysRemove(int index) {
-    for (int i = index; i < nodeSize - 1; i++) {
-      keys.set(i, keys.get(i + 1));
-    }
-    nodeSize--;
+    System.arraycopy(keys, index + 1, keys, index, nodeSize - index - 1);
+    keys[--nodeSize] = null;
   }
 }
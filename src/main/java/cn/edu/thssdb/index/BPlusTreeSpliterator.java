@@ -0,0 +1,110 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Covers the children {@code [from, to)} of an internal node, or a single leaf. Splitting halves the
+ * child range and descends a level once a single child is left, so each part is a run of whole
+ * subtrees and parts never share a node. With a leaf filter, leaves whose summary rules them out
+ * are skipped without looking at their entries. Like {@link BPlusTree}, it relies on the table lock,
+ * which the thread starting a parallel scan holds until the scan is over.
+ */
+public class BPlusTreeSpliterator<K extends Comparable<K>, V> implements Spliterator<Pair<K, V>> {
+  private BPlusTreeNode<K, V> node;
+  private int from;
+  private int to;
+  private long estimate;
+  private final Predicate<BPlusTreeLeafNode<K, V>> leafFilter;
+  private final ScanStatistics statistics;
+  // traversal state, set up by the first tryAdvance
+  private ArrayDeque<BPlusTreeNode<K, V>> pending;
+  private BPlusTreeLeafNode<K, V> leaf;
+  private int position;
+  private int limit;
+
+  BPlusTreeSpliterator(BPlusTree<K, V> tree, Predicate<BPlusTreeLeafNode<K, V>> leafFilter,
+                       ScanStatistics statistics) {
+    this(tree.root, 0, childCount(tree.root), tree.size(), leafFilter, statistics);
+  }
+
+  private BPlusTreeSpliterator(BPlusTreeNode<K, V> node, int from, int to, long estimate,
+                               Predicate<BPlusTreeLeafNode<K, V>> leafFilter, ScanStatistics statistics) {
+    this.node = node;
+    this.from = from;
+    this.to = to;
+    this.estimate = estimate;
+    this.leafFilter = leafFilter;
+    this.statistics = statistics;
+  }
+
+  private static int childCount(BPlusTreeNode<?, ?> node) {
+    return node instanceof BPlusTreeLeafNode ? node.size() : node.size() + 1;
+  }
+
+  @Override
+  public Spliterator<Pair<K, V>> trySplit() {
+    if (pending != null) return null;
+    while (node instanceof BPlusTreeInternalNode && to - from == 1) {
+      node = ((BPlusTreeInternalNode<K, V>) node).children[from];
+      from = 0;
+      to = childCount(node);
+    }
+    if (node instanceof BPlusTreeLeafNode || to - from < 2) return null;
+    int middle = (from + to) >>> 1;
+    long prefixEstimate = estimate * (middle - from) / (to - from);
+    BPlusTreeSpliterator<K, V> prefix =
+        new BPlusTreeSpliterator<>(node, from, middle, prefixEstimate, leafFilter, statistics);
+    from = middle;
+    estimate -= prefixEstimate;
+    return prefix;
+  }
+
+  private void start() {
+    pending = new ArrayDeque<>();
+    if (node instanceof BPlusTreeLeafNode) {
+      if (node.size() > 0) pending.push(node);
+    } else {
+      for (int i = to - 1; i >= from; i--) pending.push(((BPlusTreeInternalNode<K, V>) node).children[i]);
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Pair<K, V>> action) {
+    if (pending == null) start();
+    while (leaf == null || position == limit) {
+      if (pending.isEmpty()) return false;
+      BPlusTreeNode<K, V> next = pending.pop();
+      if (next instanceof BPlusTreeLeafNode) {
+        if (leafFilter != null && !leafFilter.test((BPlusTreeLeafNode<K, V>) next)) {
+          if (statistics != null) statistics.leafSkipped();
+          continue;
+        }
+        if (statistics != null) statistics.leafScanned();
+        leaf = (BPlusTreeLeafNode<K, V>) next;
+        position = 0;
+        limit = next.size();
+      } else {
+        BPlusTreeInternalNode<K, V> internalNode = (BPlusTreeInternalNode<K, V>) next;
+        for (int i = next.size(); i >= 0; i--) pending.push(internalNode.children[i]);
+      }
+    }
+    action.accept(new Pair<>(leaf.keyAt(position), leaf.values[position]));
+    position++;
+    return true;
+  }
+
+  @Override
+  public long estimateSize() {
+    return estimate;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | DISTINCT | NONNULL;
+  }
+}
@@ -0,0 +1,43 @@
+package cn.edu.thssdb.index;
+
+/**
+ * Maps keys to the bytes an {@link AdaptiveRadixTree} branches on. Comparing two encodings byte by
+ * byte as unsigned values, a shorter one first when it is a prefix of the other, must give the same
+ * order as {@code compareTo} on the keys. The static helpers encode single values that way.
+ */
+public interface BinaryKeyEncoder<K> {
+  byte[] encode(K key);
+
+  static byte[] encodeInt(int value) {
+    int bits = value ^ Integer.MIN_VALUE;
+    return new byte[] {(byte) (bits >>> 24), (byte) (bits >>> 16), (byte) (bits >>> 8), (byte) bits};
+  }
+
+  static byte[] encodeLong(long value) {
+    long bits = value ^ Long.MIN_VALUE;
+    byte[] bytes = new byte[8];
+    for (int i = 7; i >= 0; i--, bits >>>= 8) bytes[i] = (byte) bits;
+    return bytes;
+  }
+
+  /** Negative values get all bits flipped and the rest only the sign bit, as in {@link Float#compare}. */
+  static byte[] encodeFloat(float value) {
+    int bits = Float.floatToIntBits(value);
+    return encodeInt((bits ^ ((bits >> 31) | Integer.MIN_VALUE)) ^ Integer.MIN_VALUE);
+  }
+
+  static byte[] encodeDouble(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return encodeLong((bits ^ ((bits >> 63) | Long.MIN_VALUE)) ^ Long.MIN_VALUE);
+  }
+
+  /** Two bytes per char, so the order is that of {@link String#compareTo}. */
+  static byte[] encodeString(String value) {
+    byte[] bytes = new byte[value.length() * 2];
+    for (int i = 0; i < value.length(); i++) {
+      bytes[2 * i] = (byte) (value.charAt(i) >>> 8);
+      bytes[2 * i + 1] = (byte) value.charAt(i);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,525 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A B+ tree that many threads can use at once, synchronized by optimistic lock coupling. Every node
+ * carries a {@link StampedLock} whose optimistic stamp serves as the node version:
+ *
+ * <ul>
+ *   <li>lookups descend without taking any latch and only validate the version of each node after
+ *       reading from it, restarting from the root if a writer got in between;
+ *   <li>inserts and deletes descend the same way and upgrade to a write latch on the leaf they
+ *       change only. A full node met on the way down is split eagerly, which additionally latches
+ *       its parent, so a split never has to travel back up the tree.
+ * </ul>
+ *
+ * Deleting does not merge underfull leaves, so a delete latches exactly one leaf; the leftmost leaf
+ * therefore never changes, and iteration walks the leaf chain from it, weakly consistent like the
+ * iterators of {@code java.util.concurrent}.
+ */
+public final class ConcurrentBPlusTree<K extends Comparable<K>, V> implements Index<K, V> {
+
+  private static final RestartException RESTART = new RestartException();
+  private static final int LATCHED_NODE_OBJECT = 80;
+  private static final Object ABSENT = new Object();
+
+  private final int maxKeys;
+  private final Leaf<K, V> head;
+  private volatile Node<K, V> root;
+  private final AtomicInteger size = new AtomicInteger();
+
+  public ConcurrentBPlusTree() {
+    this(Global.fanout);
+  }
+
+  public ConcurrentBPlusTree(int fanout) {
+    if (fanout < 4) throw new IllegalArgumentException("fanout of a B+ tree must be at least 4");
+    this.maxKeys = fanout - 1;
+    this.head = new Leaf<>(maxKeys);
+    this.root = head;
+  }
+
+  /** Thrown when a version check fails and the operation has to start again from the root. */
+  private static final class RestartException extends RuntimeException {
+    RestartException() {
+      super(null, null, false, false);
+    }
+  }
+
+  private abstract static class Node<K, V> {
+    final StampedLock latch = new StampedLock();
+    final K[] keys;
+    int count;
+
+    @SuppressWarnings("unchecked")
+    Node(int maxKeys) {
+      keys = (K[]) new Comparable[maxKeys];
+    }
+  }
+
+  private static final class Leaf<K, V> extends Node<K, V> {
+    final V[] values;
+    Leaf<K, V> next;
+
+    @SuppressWarnings("unchecked")
+    Leaf(int maxKeys) {
+      super(maxKeys);
+      values = (V[]) new Object[maxKeys];
+    }
+  }
+
+  private static final class Inner<K, V> extends Node<K, V> {
+    final Node<K, V>[] children;
+
+    @SuppressWarnings("unchecked")
+    Inner(int maxKeys) {
+      super(maxKeys);
+      children = new Node[maxKeys + 1];
+    }
+  }
+
+  private static long readLock(Node<?, ?> node) {
+    long stamp = node.latch.tryOptimisticRead();
+    if (stamp == 0) throw RESTART;
+    return stamp;
+  }
+
+  private static void check(Node<?, ?> node, long stamp) {
+    if (!node.latch.validate(stamp)) throw RESTART;
+  }
+
+  private static long upgrade(Node<?, ?> node, long stamp) {
+    long writeStamp = node.latch.tryConvertToWriteLock(stamp);
+    if (writeStamp == 0) throw RESTART;
+    return writeStamp;
+  }
+
+  /**
+   * Decides whether a failed attempt restarts: a failed version check does, and so does an exception
+   * from reading a node without a latch once the node's version has moved since {@code stamp} (a
+   * torn read). Any other exception, including every one thrown while holding a write latch, is a
+   * real error and is rethrown.
+   */
+  private static void restartOrRethrow(RuntimeException e, Node<?, ?> node, long stamp, boolean latched) {
+    if (!(e instanceof RestartException) && (latched || node.latch.validate(stamp))) throw e;
+  }
+
+  private static void backoff(int restarts) {
+    if (restarts % 16 == 15) Thread.yield();
+  }
+
+  private int childIndex(Node<K, V> node, K key) {
+    int index = Arrays.binarySearch(node.keys, 0, node.count, key);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to get() is null");
+    for (int restarts = 0; ; restarts++) {
+      Node<K, V> node = root;
+      long stamp = 0;
+      try {
+        stamp = readLock(node);
+        if (node != root) throw RESTART;
+        while (node instanceof Inner) {
+          Node<K, V> child = ((Inner<K, V>) node).children[childIndex(node, key)];
+          check(node, stamp);
+          long childStamp = readLock(child);
+          check(node, stamp);
+          node = child;
+          stamp = childStamp;
+        }
+        int index = Arrays.binarySearch(node.keys, 0, node.count, key);
+        V value = index >= 0 ? ((Leaf<K, V>) node).values[index] : null;
+        check(node, stamp);
+        if (index < 0) throw new KeyNotExistException();
+        return value;
+      } catch (RestartException | NullPointerException | ArrayIndexOutOfBoundsException e) {
+        restartOrRethrow(e, node, stamp, false);
+        backoff(restarts);
+      }
+    }
+  }
+
+  @Override
+  public boolean contains(K key) {
+    try {
+      get(key);
+      return true;
+    } catch (KeyNotExistException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to put() is null");
+    if (insert(key, value, false) != ABSENT) throw new DuplicateKeyException();
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to putIfAbsent() is null");
+    return valueOrNull(insert(key, value, false));
+  }
+
+  @Override
+  public V upsert(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to upsert() is null");
+    return valueOrNull(insert(key, value, true));
+  }
+
+  @SuppressWarnings("unchecked")
+  private V valueOrNull(Object previous) {
+    return previous == ABSENT ? null : (V) previous;
+  }
+
+  /**
+   * Descends splitting full nodes, then write latches the leaf; a present key keeps its value
+   * unless {@code overwrite} is set.
+   *
+   * @return the value the key had, or {@link #ABSENT}
+   */
+  private Object insert(K key, V value, boolean overwrite) {
+    for (int restarts = 0; ; restarts++) {
+      Node<K, V> node = root;
+      long nodeStamp = 0;
+      boolean latched = false;
+      try {
+        Leaf<K, V> leaf = null;
+        long stamp = 0;
+        nodeStamp = readLock(node);
+        if (node != root) throw RESTART;
+        Inner<K, V> parent = null;
+        long parentStamp = 0;
+        while (leaf == null) {
+          if (node.count == maxKeys) {
+            latched = true;
+            splitEagerly(parent, parentStamp, node, nodeStamp);
+            throw RESTART;
+          }
+          if (node instanceof Leaf) {
+            leaf = (Leaf<K, V>) node;
+            stamp = nodeStamp;
+          } else {
+            Node<K, V> child = ((Inner<K, V>) node).children[childIndex(node, key)];
+            check(node, nodeStamp);
+            long childStamp = readLock(child);
+            check(node, nodeStamp);
+            parent = (Inner<K, V>) node;
+            parentStamp = nodeStamp;
+            node = child;
+            nodeStamp = childStamp;
+          }
+        }
+        long writeStamp = upgrade(leaf, stamp);
+        latched = true;
+        try {
+          int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+          if (index >= 0) {
+            V previous = leaf.values[index];
+            if (overwrite) leaf.values[index] = value;
+            return previous;
+          }
+          index = -index - 1;
+          System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+          System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+          leaf.keys[index] = key;
+          leaf.values[index] = value;
+          leaf.count++;
+        } finally {
+          leaf.latch.unlockWrite(writeStamp);
+        }
+        size.incrementAndGet();
+        return ABSENT;
+      } catch (RestartException | NullPointerException | ArrayIndexOutOfBoundsException e) {
+        restartOrRethrow(e, node, nodeStamp, latched);
+        backoff(restarts);
+      }
+    }
+  }
+
+  /**
+   * Splits a full node met while descending, so that inserting into it later cannot overflow. Both
+   * the node and its parent are write latched; the parent is known not to be full, otherwise it
+   * would have been split one level earlier.
+   */
+  private void splitEagerly(Inner<K, V> parent, long parentStamp, Node<K, V> node, long nodeStamp) {
+    long parentWriteStamp = parent != null ? upgrade(parent, parentStamp) : 0;
+    long nodeWriteStamp;
+    try {
+      nodeWriteStamp = upgrade(node, nodeStamp);
+    } catch (RestartException e) {
+      if (parent != null) parent.latch.unlockWrite(parentWriteStamp);
+      throw e;
+    }
+    try {
+      if (parent == null && node != root) return;
+      K separator;
+      Node<K, V> sibling;
+      if (node instanceof Leaf) {
+        Leaf<K, V> leaf = (Leaf<K, V>) node;
+        Leaf<K, V> newLeaf = new Leaf<>(maxKeys);
+        int from = leaf.count / 2;
+        int length = leaf.count - from;
+        System.arraycopy(leaf.keys, from, newLeaf.keys, 0, length);
+        System.arraycopy(leaf.values, from, newLeaf.values, 0, length);
+        Arrays.fill(leaf.keys, from, leaf.count, null);
+        Arrays.fill(leaf.values, from, leaf.count, null);
+        newLeaf.count = length;
+        newLeaf.next = leaf.next;
+        leaf.count = from;
+        leaf.next = newLeaf;
+        separator = newLeaf.keys[0];
+        sibling = newLeaf;
+      } else {
+        Inner<K, V> inner = (Inner<K, V>) node;
+        Inner<K, V> newInner = new Inner<>(maxKeys);
+        int middle = inner.count / 2;
+        int length = inner.count - middle - 1;
+        separator = inner.keys[middle];
+        System.arraycopy(inner.keys, middle + 1, newInner.keys, 0, length);
+        System.arraycopy(inner.children, middle + 1, newInner.children, 0, length + 1);
+        Arrays.fill(inner.keys, middle, inner.count, null);
+        Arrays.fill(inner.children, middle + 1, inner.count + 1, null);
+        newInner.count = length;
+        inner.count = middle;
+        sibling = newInner;
+      }
+      if (parent == null) {
+        Inner<K, V> newRoot = new Inner<>(maxKeys);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = node;
+        newRoot.children[1] = sibling;
+        newRoot.count = 1;
+        root = newRoot;
+      } else {
+        int index = -Arrays.binarySearch(parent.keys, 0, parent.count, separator) - 1;
+        System.arraycopy(parent.keys, index, parent.keys, index + 1, parent.count - index);
+        System.arraycopy(
+            parent.children, index + 1, parent.children, index + 2, parent.count - index);
+        parent.keys[index] = separator;
+        parent.children[index + 1] = sibling;
+        parent.count++;
+      }
+    } finally {
+      node.latch.unlockWrite(nodeWriteStamp);
+      if (parent != null) parent.latch.unlockWrite(parentWriteStamp);
+    }
+  }
+
+  @Override
+  public V replaceValue(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to replaceValue() is null");
+    for (int restarts = 0; ; restarts++) {
+      Node<K, V> node = root;
+      long stamp = 0;
+      boolean latched = false;
+      try {
+        stamp = readLock(node);
+        if (node != root) throw RESTART;
+        while (node instanceof Inner) {
+          Node<K, V> child = ((Inner<K, V>) node).children[childIndex(node, key)];
+          check(node, stamp);
+          long childStamp = readLock(child);
+          check(node, stamp);
+          node = child;
+          stamp = childStamp;
+        }
+        Leaf<K, V> leaf = (Leaf<K, V>) node;
+        long writeStamp = upgrade(leaf, stamp);
+        latched = true;
+        try {
+          int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+          if (index < 0) throw new KeyNotExistException();
+          V previous = leaf.values[index];
+          leaf.values[index] = value;
+          return previous;
+        } finally {
+          leaf.latch.unlockWrite(writeStamp);
+        }
+      } catch (RestartException | NullPointerException | ArrayIndexOutOfBoundsException e) {
+        restartOrRethrow(e, node, stamp, latched);
+        backoff(restarts);
+      }
+    }
+  }
+
+  @Override
+  public void remove(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to remove() is null");
+    for (int restarts = 0; ; restarts++) {
+      Node<K, V> node = root;
+      long stamp = 0;
+      boolean latched = false;
+      try {
+        stamp = readLock(node);
+        if (node != root) throw RESTART;
+        while (node instanceof Inner) {
+          Node<K, V> child = ((Inner<K, V>) node).children[childIndex(node, key)];
+          check(node, stamp);
+          long childStamp = readLock(child);
+          check(node, stamp);
+          node = child;
+          stamp = childStamp;
+        }
+        Leaf<K, V> leaf = (Leaf<K, V>) node;
+        long writeStamp = upgrade(leaf, stamp);
+        latched = true;
+        try {
+          int index = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+          if (index < 0) throw new KeyNotExistException();
+          System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.count - index - 1);
+          System.arraycopy(leaf.values, index + 1, leaf.values, index, leaf.count - index - 1);
+          leaf.count--;
+          leaf.keys[leaf.count] = null;
+          leaf.values[leaf.count] = null;
+        } finally {
+          leaf.latch.unlockWrite(writeStamp);
+        }
+        size.decrementAndGet();
+        return;
+      } catch (RestartException | NullPointerException | ArrayIndexOutOfBoundsException e) {
+        restartOrRethrow(e, node, stamp, latched);
+        backoff(restarts);
+      }
+    }
+  }
+
+  /** Best-effort estimate; nodes changed while walking may be counted in their old shape. */
+  @Override
+  public IndexFootprint footprint() {
+    IndexFootprint footprint = new IndexFootprint(maxKeys + 1, 0.5, size());
+    addFootprint(root, footprint);
+    return footprint;
+  }
+
+  private void addFootprint(Node<K, V> node, IndexFootprint footprint) {
+    if (node instanceof Leaf) {
+      footprint.addLeaf(LATCHED_NODE_OBJECT, node.keys.length);
+    } else {
+      Inner<K, V> inner = (Inner<K, V>) node;
+      footprint.addInternal(LATCHED_NODE_OBJECT, node.keys.length, inner.children.length);
+      for (Node<K, V> child : inner.children)
+        if (child != null) addFootprint(child, footprint);
+    }
+  }
+
+  @Override
+  public Iterator<Pair<K, V>> iterator() {
+    return new LeafChainIterator(head, null, null);
+  }
+
+  /**
+   * Pairs with {@code from <= key < to} in key order, walking the leaf chain from the leaf that
+   * holds {@code from} like {@link #iterator()}; a null bound leaves that side open.
+   */
+  public Iterator<Pair<K, V>> range(K from, K to) {
+    return new LeafChainIterator(from == null ? head : leafFor(from), from, to);
+  }
+
+  private Leaf<K, V> leafFor(K key) {
+    for (int restarts = 0; ; restarts++) {
+      Node<K, V> node = root;
+      long stamp = 0;
+      try {
+        stamp = readLock(node);
+        if (node != root) throw RESTART;
+        while (node instanceof Inner) {
+          Node<K, V> child = ((Inner<K, V>) node).children[childIndex(node, key)];
+          check(node, stamp);
+          long childStamp = readLock(child);
+          check(node, stamp);
+          node = child;
+          stamp = childStamp;
+        }
+        check(node, stamp);
+        return (Leaf<K, V>) node;
+      } catch (RestartException | NullPointerException | ArrayIndexOutOfBoundsException e) {
+        restartOrRethrow(e, node, stamp, false);
+        backoff(restarts);
+      }
+    }
+  }
+
+  /**
+   * Copies one leaf at a time under a validated version and follows the copied next pointer. Keys
+   * before {@code from} are skipped in the first leaf, which a concurrent split may have moved
+   * further along the chain; the walk stops at {@code to}.
+   */
+  private final class LeafChainIterator implements Iterator<Pair<K, V>> {
+    private Leaf<K, V> nextLeaf;
+    private K from;
+    private final K to;
+    private K[] keys;
+    private V[] values;
+    private int position;
+    private int count;
+
+    LeafChainIterator(Leaf<K, V> first, K from, K to) {
+      this.nextLeaf = first;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (true) {
+        while (position == count && nextLeaf != null) loadLeaf(nextLeaf);
+        if (position == count || (to != null && keys[position].compareTo(to) >= 0)) return false;
+        if (from == null || keys[position].compareTo(from) >= 0) {
+          from = null;
+          return true;
+        }
+        position++;
+      }
+    }
+
+    @Override
+    public Pair<K, V> next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      Pair<K, V> pair = new Pair<>(keys[position], values[position]);
+      position++;
+      return pair;
+    }
+
+    private void loadLeaf(Leaf<K, V> leaf) {
+      for (int restarts = 0; ; restarts++) {
+        long stamp = 0;
+        try {
+          stamp = readLock(leaf);
+          int leafCount = leaf.count;
+          K[] leafKeys = Arrays.copyOf(leaf.keys, leafCount);
+          V[] leafValues = Arrays.copyOf(leaf.values, leafCount);
+          Leaf<K, V> leafNext = leaf.next;
+          check(leaf, stamp);
+          keys = leafKeys;
+          values = leafValues;
+          count = leafCount;
+          position = 0;
+          nextLeaf = leafNext;
+          return;
+        } catch (RestartException | ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+          restartOrRethrow(e, leaf, stamp, false);
+          backoff(restarts);
+        }
+      }
+    }
+  }
+}
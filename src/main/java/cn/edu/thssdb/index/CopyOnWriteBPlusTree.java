@@ -0,0 +1,447 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A persistent B+ tree: nodes are never changed once built, a write copies the path from the root
+ * to the leaf it touches and yields a new root. The writer (the holder of the table write lock)
+ * works on a private version; {@link #commit()} publishes it with a single volatile write, and
+ * readers take a {@link Snapshot} of the published version and scan it without any lock while the
+ * writer keeps going.
+ *
+ * <p>Old versions are reclaimed by reference counting: a snapshot pins the epoch of its version
+ * until it is closed. Nodes no longer reachable from a pinned or the latest version are left to
+ * the garbage collector; the pin counts tell how many old versions running readers still hold.
+ */
+public final class CopyOnWriteBPlusTree<K extends Comparable<K>, V> implements Index<K, V> {
+
+  private static final int NODE_OBJECT = 24;
+  private static final Object ABSENT = new Object();
+
+  private final int maxKeys;
+  private final int minKeys;
+  private Version<K, V> working;
+  private volatile Version<K, V> published;
+  private final ConcurrentSkipListMap<Long, Integer> pins = new ConcurrentSkipListMap<>();
+
+  public CopyOnWriteBPlusTree() {
+    this(Global.fanout);
+  }
+
+  public CopyOnWriteBPlusTree(int fanout) {
+    if (fanout < 4) throw new IllegalArgumentException("fanout of a B+ tree must be at least 4");
+    this.maxKeys = fanout - 1;
+    this.minKeys = (fanout - 1) / 2;
+    this.working = new Version<>(new Leaf<>(emptyKeys(), emptyValues()), 0, 0);
+    this.published = working;
+  }
+
+  private static final class Version<K, V> {
+    final Node<K, V> root;
+    final int size;
+    final long epoch;
+
+    Version(Node<K, V> root, int size, long epoch) {
+      this.root = root;
+      this.size = size;
+      this.epoch = epoch;
+    }
+  }
+
+  private abstract static class Node<K, V> {
+    final K[] keys;
+
+    Node(K[] keys) {
+      this.keys = keys;
+    }
+  }
+
+  private static final class Leaf<K, V> extends Node<K, V> {
+    final V[] values;
+
+    Leaf(K[] keys, V[] values) {
+      super(keys);
+      this.values = values;
+    }
+  }
+
+  private static final class Inner<K, V> extends Node<K, V> {
+    final Node<K, V>[] children;
+
+    Inner(K[] keys, Node<K, V>[] children) {
+      super(keys);
+      this.children = children;
+    }
+  }
+
+  /**
+   * Result of changing a subtree: one replacement node, or two with the separator between, or none
+   * when the subtree is left as it was. {@code previous} is the value the key had, or ABSENT.
+   */
+  private static final class Change<K, V> {
+    final Node<K, V> left;
+    final K separator;
+    final Node<K, V> right;
+    final Object previous;
+
+    Change(Node<K, V> left, K separator, Node<K, V> right) {
+      this(left, separator, right, ABSENT);
+    }
+
+    Change(Node<K, V> left, K separator, Node<K, V> right, Object previous) {
+      this.left = left;
+      this.separator = separator;
+      this.right = right;
+      this.previous = previous;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private K[] emptyKeys() {
+    return (K[]) new Comparable[0];
+  }
+
+  @SuppressWarnings("unchecked")
+  private V[] emptyValues() {
+    return (V[]) new Object[0];
+  }
+
+  private static <T> T[] inserted(T[] array, int index, T element) {
+    T[] result = Arrays.copyOf(array, array.length + 1);
+    System.arraycopy(array, index, result, index + 1, array.length - index);
+    result[index] = element;
+    return result;
+  }
+
+  private static <T> T[] removed(T[] array, int index) {
+    T[] result = Arrays.copyOf(array, array.length - 1);
+    System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+    return result;
+  }
+
+  private static <T> T[] replaced(T[] array, int index, T element) {
+    T[] result = array.clone();
+    result[index] = element;
+    return result;
+  }
+
+  private static <T> T[] concat(T[] first, T[] second) {
+    T[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  private static <K extends Comparable<K>> int childIndex(K[] keys, K key) {
+    int index = Arrays.binarySearch(keys, key);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  private static <K extends Comparable<K>, V> Leaf<K, V> findLeaf(Node<K, V> root, K key) {
+    Node<K, V> node = root;
+    while (node instanceof Inner) node = ((Inner<K, V>) node).children[childIndex(node.keys, key)];
+    return (Leaf<K, V>) node;
+  }
+
+  @Override
+  public int size() {
+    return working.size;
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to get() is null");
+    return lookup(working.root, key);
+  }
+
+  private static <K extends Comparable<K>, V> V lookup(Node<K, V> root, K key) {
+    Leaf<K, V> leaf = findLeaf(root, key);
+    int index = Arrays.binarySearch(leaf.keys, key);
+    if (index < 0) throw new KeyNotExistException();
+    return leaf.values[index];
+  }
+
+  @Override
+  public boolean contains(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to contains() is null");
+    return Arrays.binarySearch(findLeaf(working.root, key).keys, key) >= 0;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to put() is null");
+    if (insert(key, value, false) != ABSENT) throw new DuplicateKeyException();
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to putIfAbsent() is null");
+    return valueOrNull(insert(key, value, false));
+  }
+
+  @Override
+  public V upsert(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to upsert() is null");
+    return valueOrNull(insert(key, value, true));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V replaceValue(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to replaceValue() is null");
+    Change<K, V> change = insert(working.root, key, value, true, true);
+    working = new Version<>(change.left, working.size, working.epoch);
+    return (V) change.previous;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V valueOrNull(Object previous) {
+    return previous == ABSENT ? null : (V) previous;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object insert(K key, V value, boolean overwrite) {
+    Change<K, V> change = insert(working.root, key, value, overwrite, false);
+    if (change.left == null) return change.previous;
+    Node<K, V> root = change.left;
+    if (change.right != null) {
+      K[] keys = (K[]) new Comparable[] {change.separator};
+      root = new Inner<>(keys, new Node[] {change.left, change.right});
+    }
+    int size = change.previous == ABSENT ? working.size + 1 : working.size;
+    working = new Version<>(root, size, working.epoch);
+    return change.previous;
+  }
+
+  /** Copies the path to the key's leaf, unless the key is present and not to be overwritten. */
+  private Change<K, V> insert(Node<K, V> node, K key, V value, boolean overwrite, boolean mustExist) {
+    if (node instanceof Leaf) {
+      Leaf<K, V> leaf = (Leaf<K, V>) node;
+      int index = Arrays.binarySearch(leaf.keys, key);
+      if (index >= 0) {
+        if (!overwrite) return new Change<>(null, null, null, leaf.values[index]);
+        return new Change<>(new Leaf<>(leaf.keys, replaced(leaf.values, index, value)), null, null, leaf.values[index]);
+      }
+      if (mustExist) throw new KeyNotExistException();
+      index = -index - 1;
+      return splitIfFull(new Leaf<>(inserted(leaf.keys, index, key), inserted(leaf.values, index, value)));
+    }
+    Inner<K, V> inner = (Inner<K, V>) node;
+    int index = childIndex(inner.keys, key);
+    Change<K, V> change = insert(inner.children[index], key, value, overwrite, mustExist);
+    if (change.left == null) return change;
+    if (change.right == null)
+      return new Change<>(new Inner<>(inner.keys, replaced(inner.children, index, change.left)), null, null,
+          change.previous);
+    Node<K, V>[] children = inserted(replaced(inner.children, index, change.left), index + 1, change.right);
+    return splitIfFull(new Inner<>(inserted(inner.keys, index, change.separator), children));
+  }
+
+  private Change<K, V> splitIfFull(Node<K, V> node) {
+    if (node.keys.length <= maxKeys) return new Change<>(node, null, null);
+    return split(node);
+  }
+
+  private Change<K, V> split(Node<K, V> node) {
+    int length = node.keys.length;
+    if (node instanceof Leaf) {
+      Leaf<K, V> leaf = (Leaf<K, V>) node;
+      int from = length / 2;
+      Leaf<K, V> right = new Leaf<>(Arrays.copyOfRange(leaf.keys, from, length),
+          Arrays.copyOfRange(leaf.values, from, length));
+      Leaf<K, V> left = new Leaf<>(Arrays.copyOf(leaf.keys, from), Arrays.copyOf(leaf.values, from));
+      return new Change<>(left, right.keys[0], right);
+    }
+    Inner<K, V> inner = (Inner<K, V>) node;
+    int middle = length / 2;
+    Inner<K, V> left = new Inner<>(Arrays.copyOf(inner.keys, middle),
+        Arrays.copyOf(inner.children, middle + 1));
+    Inner<K, V> right = new Inner<>(Arrays.copyOfRange(inner.keys, middle + 1, length),
+        Arrays.copyOfRange(inner.children, middle + 1, length + 1));
+    return new Change<>(left, inner.keys[middle], right);
+  }
+
+  @Override
+  public void remove(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to remove() is null");
+    Node<K, V> root = delete(working.root, key);
+    if (root instanceof Inner && root.keys.length == 0) root = ((Inner<K, V>) root).children[0];
+    working = new Version<>(root, working.size - 1, working.epoch);
+  }
+
+  private Node<K, V> delete(Node<K, V> node, K key) {
+    if (node instanceof Leaf) {
+      Leaf<K, V> leaf = (Leaf<K, V>) node;
+      int index = Arrays.binarySearch(leaf.keys, key);
+      if (index < 0) throw new KeyNotExistException();
+      return new Leaf<>(removed(leaf.keys, index), removed(leaf.values, index));
+    }
+    Inner<K, V> inner = (Inner<K, V>) node;
+    int index = childIndex(inner.keys, key);
+    Node<K, V> child = delete(inner.children[index], key);
+    if (child.keys.length >= minKeys)
+      return new Inner<>(inner.keys, replaced(inner.children, index, child));
+    // rebalance the underfull child with a sibling: merge them, and split again if too big
+    int leftIndex = index > 0 ? index - 1 : index;
+    Node<K, V> left = leftIndex == index ? child : inner.children[leftIndex];
+    Node<K, V> right = leftIndex == index ? inner.children[index + 1] : child;
+    Node<K, V> merged = merge(left, inner.keys[leftIndex], right);
+    Node<K, V>[] children = removed(replaced(inner.children, leftIndex, merged), leftIndex + 1);
+    K[] keys = removed(inner.keys, leftIndex);
+    if (merged.keys.length > maxKeys) {
+      Change<K, V> change = split(merged);
+      children = inserted(replaced(children, leftIndex, change.left), leftIndex + 1, change.right);
+      keys = inserted(keys, leftIndex, change.separator);
+    }
+    return new Inner<>(keys, children);
+  }
+
+  private Node<K, V> merge(Node<K, V> left, K separator, Node<K, V> right) {
+    if (left instanceof Leaf) {
+      Leaf<K, V> leftLeaf = (Leaf<K, V>) left;
+      Leaf<K, V> rightLeaf = (Leaf<K, V>) right;
+      return new Leaf<>(concat(leftLeaf.keys, rightLeaf.keys), concat(leftLeaf.values, rightLeaf.values));
+    }
+    Inner<K, V> leftInner = (Inner<K, V>) left;
+    Inner<K, V> rightInner = (Inner<K, V>) right;
+    K[] keys = concat(inserted(leftInner.keys, leftInner.keys.length, separator), rightInner.keys);
+    return new Inner<>(keys, concat(leftInner.children, rightInner.children));
+  }
+
+  /** Publishes everything written so far; snapshots taken afterwards see it. */
+  public void commit() {
+    if (working == published) return;
+    working = new Version<>(working.root, working.size, published.epoch + 1);
+    published = working;
+  }
+
+  /** Captures the published version; close the snapshot to unpin it. */
+  public Snapshot snapshot() {
+    Version<K, V> version = published;
+    pins.merge(version.epoch, 1, Integer::sum);
+    return new Snapshot(version);
+  }
+
+  public long getPublishedEpoch() {
+    return published.epoch;
+  }
+
+  /** Number of snapshots still open on versions older than the published one. */
+  public int getPinnedOldVersions() {
+    long current = published.epoch;
+    int count = 0;
+    for (Map.Entry<Long, Integer> pin : pins.headMap(current).entrySet()) count += pin.getValue();
+    return count;
+  }
+
+  /** A committed version of the tree, readable without any lock. */
+  public final class Snapshot implements Iterable<Pair<K, V>>, AutoCloseable {
+    private final Version<K, V> version;
+    private boolean closed;
+
+    private Snapshot(Version<K, V> version) {
+      this.version = version;
+    }
+
+    public int size() {
+      return version.size;
+    }
+
+    public V get(K key) {
+      return lookup(version.root, key);
+    }
+
+    public long getEpoch() {
+      return version.epoch;
+    }
+
+    @Override
+    public Iterator<Pair<K, V>> iterator() {
+      return new VersionIterator<>(version.root);
+    }
+
+    @Override
+    public void close() {
+      if (closed) return;
+      closed = true;
+      pins.computeIfPresent(version.epoch, (epoch, count) -> count == 1 ? null : count - 1);
+    }
+  }
+
+  @Override
+  public IndexFootprint footprint() {
+    IndexFootprint footprint = new IndexFootprint(maxKeys + 1, 1.0, working.size);
+    addFootprint(working.root, footprint);
+    return footprint;
+  }
+
+  private void addFootprint(Node<K, V> node, IndexFootprint footprint) {
+    if (node instanceof Leaf) {
+      footprint.addLeaf(NODE_OBJECT, node.keys.length);
+    } else {
+      Inner<K, V> inner = (Inner<K, V>) node;
+      footprint.addInternal(NODE_OBJECT, node.keys.length, inner.children.length);
+      for (Node<K, V> child : inner.children) addFootprint(child, footprint);
+    }
+  }
+
+  /** Iterates the working version, i.e. what the writer itself has done so far. */
+  @Override
+  public Iterator<Pair<K, V>> iterator() {
+    return new VersionIterator<>(working.root);
+  }
+
+  /** In-order walk of an immutable version; leaves have no sibling links under path copying. */
+  private static final class VersionIterator<K, V> implements Iterator<Pair<K, V>> {
+    private final ArrayDeque<Inner<K, V>> parents = new ArrayDeque<>();
+    private final ArrayDeque<Integer> positions = new ArrayDeque<>();
+    private Leaf<K, V> leaf;
+    private int position;
+
+    VersionIterator(Node<K, V> root) {
+      descend(root);
+    }
+
+    private void descend(Node<K, V> node) {
+      while (node instanceof Inner) {
+        parents.push((Inner<K, V>) node);
+        positions.push(0);
+        node = ((Inner<K, V>) node).children[0];
+      }
+      leaf = (Leaf<K, V>) node;
+      position = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (position == leaf.keys.length) {
+        while (!parents.isEmpty() && positions.peek() == parents.peek().keys.length) {
+          parents.pop();
+          positions.pop();
+        }
+        if (parents.isEmpty()) return false;
+        int next = positions.pop() + 1;
+        positions.push(next);
+        descend(parents.peek().children[next]);
+      }
+      return true;
+    }
+
+    @Override
+    public Pair<K, V> next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      Pair<K, V> pair = new Pair<>(leaf.keys[position], leaf.values[position]);
+      position++;
+      return pair;
+    }
+  }
+}
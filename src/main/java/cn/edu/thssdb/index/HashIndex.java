@@ -0,0 +1,265 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An open-addressing hash table with linear probing for equality-only lookups: one hash and,
+ * usually, one {@code equals} per lookup instead of a {@code compareTo} at every level of a tree.
+ * Iteration order is unspecified.
+ *
+ * <p>Growing never rehashes the whole table at once. When the table gets too full a new one is
+ * allocated and every later write moves {@link #MIGRATE_STEP} slots of the old table over, while
+ * lookups probe both. Moved and removed slots become tombstones so probe sequences stay intact.
+ * Like {@link BPlusTree}, it relies on the table lock for thread safety.
+ */
+public final class HashIndex<K extends Comparable<K>, V> implements Index<K, V> {
+
+  private static final Object TOMBSTONE = new Object();
+  private static final Object ABSENT = new Object();
+  private static final int MIN_CAPACITY = 16;
+  private static final double MAX_LOAD = 0.75;
+  /**
+   * Slots moved per write. Large enough that migration always ends before the new table, which is
+   * at most 5/8 full when it finishes, needs to grow again.
+   */
+  static final int MIGRATE_STEP = 8;
+  private static final int TABLE_OBJECT = 40;
+
+  private Object[] keys;
+  private Object[] values;
+  private int used;
+  private Object[] oldKeys;
+  private Object[] oldValues;
+  private int migrated;
+  private int size;
+
+  public HashIndex() {
+    this(MIN_CAPACITY);
+  }
+
+  public HashIndex(int capacity) {
+    int tableSize = Integer.highestOneBit(Math.max(MIN_CAPACITY, capacity) - 1) << 1;
+    keys = new Object[tableSize];
+    values = new Object[tableSize];
+  }
+
+  private static int slot(Object key, int length) {
+    int h = key.hashCode() * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & (length - 1);
+  }
+
+  private static int find(Object[] table, Object key) {
+    int mask = table.length - 1;
+    for (int i = slot(key, table.length); table[i] != null; i = (i + 1) & mask)
+      if (table[i] != TOMBSTONE && table[i].equals(key)) return i;
+    return -1;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  public int getCapacity() {
+    return keys.length;
+  }
+
+  public boolean isResizing() {
+    return oldKeys != null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to get() is null");
+    int i = find(keys, key);
+    if (i >= 0) return (V) values[i];
+    if (oldKeys != null && (i = find(oldKeys, key)) >= 0) return (V) oldValues[i];
+    throw new KeyNotExistException();
+  }
+
+  @Override
+  public boolean contains(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to contains() is null");
+    return find(keys, key) >= 0 || (oldKeys != null && find(oldKeys, key) >= 0);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to put() is null");
+    if (insert(key, value, false) != ABSENT) throw new DuplicateKeyException();
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to putIfAbsent() is null");
+    return valueOrNull(insert(key, value, false));
+  }
+
+  @Override
+  public V upsert(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to upsert() is null");
+    return valueOrNull(insert(key, value, true));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V replaceValue(K key, V value) {
+    if (key == null) throw new IllegalArgumentException("argument key to replaceValue() is null");
+    Object[] tableValues = values;
+    int i = find(keys, key);
+    if (i < 0 && oldKeys != null) {
+      tableValues = oldValues;
+      i = find(oldKeys, key);
+    }
+    if (i < 0) throw new KeyNotExistException();
+    V previous = (V) tableValues[i];
+    tableValues[i] = value;
+    return previous;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V valueOrNull(Object previous) {
+    return previous == ABSENT ? null : (V) previous;
+  }
+
+  /** @return the value the key had, or {@link #ABSENT} if the pair was inserted */
+  private Object insert(K key, V value, boolean overwrite) {
+    migrate();
+    int i;
+    if (oldKeys != null && (i = find(oldKeys, key)) >= 0) {
+      Object previous = oldValues[i];
+      if (overwrite) oldValues[i] = value;
+      return previous;
+    }
+    int mask = keys.length - 1;
+    int free = -1;
+    for (i = slot(key, keys.length); keys[i] != null; i = (i + 1) & mask) {
+      if (keys[i] == TOMBSTONE) {
+        if (free < 0) free = i;
+      } else if (keys[i].equals(key)) {
+        Object previous = values[i];
+        if (overwrite) values[i] = value;
+        return previous;
+      }
+    }
+    if (free < 0) {
+      free = i;
+      used++;
+    }
+    keys[free] = key;
+    values[free] = value;
+    size++;
+    if (used > keys.length * MAX_LOAD) resize();
+    return ABSENT;
+  }
+
+  @Override
+  public void remove(K key) {
+    if (key == null) throw new IllegalArgumentException("argument key to remove() is null");
+    migrate();
+    int i = find(keys, key);
+    if (i >= 0) {
+      keys[i] = TOMBSTONE;
+      values[i] = null;
+    } else if (oldKeys != null && (i = find(oldKeys, key)) >= 0) {
+      oldKeys[i] = TOMBSTONE;
+      oldValues[i] = null;
+    } else {
+      throw new KeyNotExistException();
+    }
+    size--;
+  }
+
+  /** Starts moving to a table twice as big, or of the same size when most slots are tombstones. */
+  private void resize() {
+    if (oldKeys != null) finishMigration();
+    int capacity = size > keys.length / 2 ? keys.length * 2 : keys.length;
+    oldKeys = keys;
+    oldValues = values;
+    migrated = 0;
+    keys = new Object[capacity];
+    values = new Object[capacity];
+    used = 0;
+  }
+
+  private void migrate() {
+    if (oldKeys == null) return;
+    int end = Math.min(oldKeys.length, migrated + MIGRATE_STEP);
+    for (; migrated < end; migrated++) {
+      Object key = oldKeys[migrated];
+      if (key == null || key == TOMBSTONE) continue;
+      int mask = keys.length - 1;
+      int i = slot(key, keys.length);
+      while (keys[i] != null) i = (i + 1) & mask;
+      keys[i] = key;
+      values[i] = oldValues[migrated];
+      used++;
+      oldKeys[migrated] = TOMBSTONE;
+      oldValues[migrated] = null;
+    }
+    if (migrated == oldKeys.length) {
+      oldKeys = null;
+      oldValues = null;
+    }
+  }
+
+  private void finishMigration() {
+    while (oldKeys != null) migrate();
+  }
+
+  @Override
+  public IndexFootprint footprint() {
+    IndexFootprint footprint = new IndexFootprint(size);
+    footprint.addTable(TABLE_OBJECT, keys.length);
+    if (oldKeys != null) footprint.addTable(0, oldKeys.length);
+    return footprint;
+  }
+
+  @Override
+  public Iterator<Pair<K, V>> iterator() {
+    return new HashIndexIterator();
+  }
+
+  private final class HashIndexIterator implements Iterator<Pair<K, V>> {
+    private Object[] tableKeys = oldKeys != null ? oldKeys : keys;
+    private Object[] tableValues = oldKeys != null ? oldValues : values;
+    private int position = -1;
+
+    HashIndexIterator() {
+      advance();
+    }
+
+    private void advance() {
+      while (true) {
+        position++;
+        if (position == tableKeys.length) {
+          if (tableKeys == keys) return;
+          tableKeys = keys;
+          tableValues = values;
+          position = 0;
+        }
+        if (tableKeys[position] != null && tableKeys[position] != TOMBSTONE) return;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return position < tableKeys.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Pair<K, V> next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      Pair<K, V> pair = new Pair<>((K) tableKeys[position], (V) tableValues[position]);
+      advance();
+      return pair;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+
+import java.util.List;
+
+/**
+ * The operations a table needs from its primary index. {@link BPlusTree} relies on the table lock
+ * for thread safety, while {@link ConcurrentBPlusTree} can be used by several threads at once.
+ */
+public interface Index<K extends Comparable<K>, V> extends Iterable<Pair<K, V>> {
+
+  int size();
+
+  /** @throws cn.edu.thssdb.exception.KeyNotExistException if the key is absent */
+  V get(K key);
+
+  /** @throws cn.edu.thssdb.exception.DuplicateKeyException if the key is present */
+  void put(K key, V value);
+
+  /** @throws cn.edu.thssdb.exception.KeyNotExistException if the key is absent */
+  void remove(K key);
+
+  boolean contains(K key);
+
+  /**
+   * Inserts the pair unless the key is present, in a single descent.
+   *
+   * @return the value already stored under the key, or null if the pair was inserted
+   */
+  V putIfAbsent(K key, V value);
+
+  /**
+   * Swaps the value of a present key in place; the structure of the index does not change.
+   *
+   * @return the value replaced
+   * @throws cn.edu.thssdb.exception.KeyNotExistException if the key is absent
+   */
+  V replaceValue(K key, V value);
+
+  /**
+   * Inserts the pair, or replaces the value if the key is present, in a single descent.
+   *
+   * @return the value replaced, or null if the pair was inserted
+   */
+  V upsert(K key, V value);
+
+  /**
+   * Adds pairs given in ascending key order without duplicates. Trees that are still empty override
+   * this to build full nodes bottom-up instead of descending once per key.
+   *
+   * @throws cn.edu.thssdb.exception.DuplicateKeyException if a key is present or given twice
+   */
+  default void bulkLoad(List<Pair<K, V>> sorted) {
+    for (Pair<K, V> pair : sorted) put(pair.left, pair.right);
+  }
+
+  IndexFootprint footprint();
+}
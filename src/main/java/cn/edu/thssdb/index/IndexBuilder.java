@@ -0,0 +1,62 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Fills an index from pairs in no particular order, such as a parallel scan of a table. The pairs are
+ * collected from the stream, sorted with {@link Arrays#parallelSort}, which sorts chunks on the
+ * fork-join pool and merges them, and handed to {@link Index#bulkLoad} in key order. Builds of at
+ * least {@link #REPORT_ABOVE} pairs report the time of every phase.
+ */
+public final class IndexBuilder {
+  static final int REPORT_ABOVE = 100_000;
+
+  private IndexBuilder() {
+  }
+
+  /**
+   * @param merge combines the values of equal keys, or null if the keys are unique
+   * @param progress receives one line per phase of a large build
+   */
+  @SuppressWarnings("unchecked")
+  public static <K extends Comparable<K>, V> void build(Index<K, V> index, Stream<Pair<K, V>> pairs,
+                                                        BinaryOperator<V> merge, String name, Consumer<String> progress) {
+    long start = System.nanoTime();
+    Pair<K, V>[] sorted = pairs.toArray(Pair[]::new);
+    boolean report = sorted.length >= REPORT_ABOVE;
+    if (report) progress.accept(phase(name, "collected", sorted.length, start));
+
+    start = System.nanoTime();
+    Arrays.parallelSort(sorted, Comparator.comparing((Pair<K, V> pair) -> pair.left));
+    int length = sorted.length;
+    if (merge != null) length = merge(sorted, merge);
+    if (report) progress.accept(phase(name, "sorted", length, start));
+
+    start = System.nanoTime();
+    index.bulkLoad(Arrays.asList(sorted).subList(0, length));
+    if (report) progress.accept(phase(name, "loaded", length, start));
+  }
+
+  /** Merges runs of equal keys in place; the sort is stable, so values keep their scan order. */
+  private static <K extends Comparable<K>, V> int merge(Pair<K, V>[] sorted, BinaryOperator<V> merge) {
+    int length = 0;
+    for (Pair<K, V> pair : sorted) {
+      if (length > 0 && sorted[length - 1].left.compareTo(pair.left) == 0)
+        sorted[length - 1].right = merge.apply(sorted[length - 1].right, pair.right);
+      else
+        sorted[length++] = pair;
+    }
+    return length;
+  }
+
+  private static String phase(String name, String phase, int entries, long start) {
+    return String.format("building %s: %s %d entries in %d ms", name, phase, entries,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+}
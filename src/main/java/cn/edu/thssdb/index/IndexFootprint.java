@@ -0,0 +1,156 @@
+package cn.edu.thssdb.index;
+
+/**
+ * Estimated heap usage of the node structure of an index (keys and values themselves are shared
+ * with the table and not counted). Sizes assume a 64-bit JVM with compressed references, and the
+ * legacy numbers are what the same nodes would cost with the old preallocated {@code ArrayList}s of
+ * {@code 1.5 * fanout + 1} slots. Hash indexes report their slot arrays instead of nodes,
+ * and radix trees their inner nodes by size class and their leaves. Leaves
+ * with prefix-compressed keys own their key chars; those are reported on their own, next to what the
+ * same keys would take as separate objects.
+ */
+public class IndexFootprint {
+  static final int ARRAY_HEADER = 16;
+  static final int REFERENCE = 4;
+  private static final int NODE_OBJECT = 32;
+  private static final int ARRAY_LIST_OBJECT = 24;
+
+  private final int fanout;
+  private final double fillFactor;
+  private final int entries;
+  private final boolean hash;
+  private int leafNodes;
+  private int internalNodes;
+  private long slots;
+  private long bytes;
+  private long legacyBytes;
+  private long keyBytes;
+  private long uncompressedKeyBytes;
+  // node4, node16, node48 and node256 counts of a radix tree, null for other indexes
+  private int[] radixNodes;
+
+  IndexFootprint(int fanout, double fillFactor, int entries) {
+    this.fanout = fanout;
+    this.fillFactor = fillFactor;
+    this.entries = entries;
+    this.hash = false;
+  }
+
+  IndexFootprint(int entries) {
+    this.fanout = 0;
+    this.fillFactor = 0;
+    this.entries = entries;
+    this.hash = true;
+  }
+
+  static IndexFootprint radixTree(int entries) {
+    IndexFootprint footprint = new IndexFootprint(0, 0, entries);
+    footprint.radixNodes = new int[4];
+    return footprint;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) / 8 * 8;
+  }
+
+  private static long referenceArray(long length) {
+    return align(ARRAY_HEADER + REFERENCE * length);
+  }
+
+  private long legacyNode(int extraChildSlot) {
+    int capacity = (int) (1.5 * fanout) + 1;
+    return NODE_OBJECT + 2 * ARRAY_LIST_OBJECT
+        + referenceArray(capacity) + referenceArray(capacity + extraChildSlot);
+  }
+
+  void addLeaf(int capacity) {
+    addLeaf(NODE_OBJECT, capacity);
+  }
+
+  void addLeaf(int nodeObject, int capacity) {
+    leafNodes++;
+    slots += capacity;
+    bytes += nodeObject + 2 * referenceArray(capacity);
+    legacyBytes += legacyNode(0);
+  }
+
+  void addPrefixLeaf(int capacity, long keyBytes, long uncompressedKeyBytes) {
+    leafNodes++;
+    slots += capacity;
+    bytes += NODE_OBJECT + referenceArray(0) + referenceArray(capacity);
+    legacyBytes += legacyNode(0);
+    this.keyBytes += keyBytes;
+    this.uncompressedKeyBytes += uncompressedKeyBytes;
+  }
+
+  void addInternal(int keyCapacity, int childCapacity) {
+    addInternal(NODE_OBJECT, keyCapacity, childCapacity);
+  }
+
+  void addInternal(int nodeObject, int keyCapacity, int childCapacity) {
+    internalNodes++;
+    slots += keyCapacity;
+    bytes += nodeObject + referenceArray(keyCapacity) + referenceArray(childCapacity);
+    legacyBytes += legacyNode(1);
+  }
+
+  void addRadixNode(int kind, long nodeBytes) {
+    radixNodes[kind]++;
+    internalNodes++;
+    bytes += nodeBytes;
+  }
+
+  void addRadixLeaf(long leafBytes) {
+    leafNodes++;
+    bytes += leafBytes;
+  }
+
+  void addTable(int tableObject, int capacity) {
+    slots += capacity;
+    bytes += tableObject + 2 * referenceArray(capacity);
+  }
+
+  public int getNodes() {
+    return leafNodes + internalNodes;
+  }
+
+  public int getLeafNodes() {
+    return leafNodes;
+  }
+
+  public long getSlots() {
+    return slots;
+  }
+
+  public long getBytes() {
+    return bytes;
+  }
+
+  public long getLegacyBytes() {
+    return legacyBytes;
+  }
+
+  public long getKeyBytes() {
+    return keyBytes;
+  }
+
+  public long getUncompressedKeyBytes() {
+    return uncompressedKeyBytes;
+  }
+
+  public String toString() {
+    if (radixNodes != null)
+      return "adaptive radix tree, " + entries + " entries, " + internalNodes + " inner nodes (node4 " + radixNodes[0]
+          + ", node16 " + radixNodes[1] + ", node48 " + radixNodes[2] + ", node256 " + radixNodes[3] + "), ~" + bytes
+          + " bytes with leaves";
+    if (hash)
+      return "hash table, " + entries + " entries in " + slots + " slots ("
+          + (slots == 0 ? 0 : 100 * entries / slots) + "% full), ~" + bytes + " bytes";
+    long saved = legacyBytes == 0 ? 0 : 100 * (legacyBytes - bytes) / legacyBytes;
+    String keys = uncompressedKeyBytes == 0 ? "" : "; leaf keys ~" + keyBytes + " bytes prefix-compressed vs ~"
+        + uncompressedKeyBytes + " bytes as separate strings (" + 100 * (uncompressedKeyBytes - keyBytes) / uncompressedKeyBytes + "% saved)";
+    return "fanout " + fanout + ", fill factor " + fillFactor + ", " + entries + " entries in "
+        + getNodes() + " nodes (" + leafNodes + " leaves), " + slots + " key slots, ~" + bytes
+        + " bytes vs ~" + legacyBytes + " bytes with preallocated nodes (" + saved + "% saved)" + keys;
+  }
+}
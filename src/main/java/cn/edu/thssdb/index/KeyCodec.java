@@ -0,0 +1,12 @@
+package cn.edu.thssdb.index;
+
+/**
+ * Maps keys to the strings a prefix-compressed {@link BPlusTree} stores. The mapping must keep the
+ * order, i.e. {@code a.compareTo(b)} and {@code encode(a).compareTo(encode(b))} have the same sign,
+ * and {@code decode} must accept any prefix of an encoded key, as internal nodes store such prefixes.
+ */
+public interface KeyCodec<K> {
+  String encode(K key);
+
+  K decode(String encoded);
+}
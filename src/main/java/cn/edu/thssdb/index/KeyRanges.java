@@ -0,0 +1,216 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * A set of keys as sorted, disjoint intervals, closed under intersection and union so that the key
+ * ranges of {@code and} and {@code or} predicates can be combined. Instances are immutable.
+ */
+public final class KeyRanges<K extends Comparable<K>> {
+
+  /** One interval; a null bound leaves that side open. */
+  public static final class Range<K extends Comparable<K>> {
+    public final K low;
+    public final boolean lowInclusive;
+    public final K high;
+    public final boolean highInclusive;
+
+    Range(K low, boolean lowInclusive, K high, boolean highInclusive) {
+      this.low = low;
+      this.lowInclusive = low != null && lowInclusive;
+      this.high = high;
+      this.highInclusive = high != null && highInclusive;
+    }
+
+    boolean isEmpty() {
+      if (low == null || high == null) return false;
+      int order = low.compareTo(high);
+      return order > 0 || (order == 0 && !(lowInclusive && highInclusive));
+    }
+
+    boolean isPoint() {
+      return low != null && high != null && lowInclusive && highInclusive && low.compareTo(high) == 0;
+    }
+
+    boolean aboveLow(K key) {
+      if (low == null) return true;
+      int order = key.compareTo(low);
+      return order > 0 || (order == 0 && lowInclusive);
+    }
+
+    boolean belowHigh(K key) {
+      if (high == null) return true;
+      int order = key.compareTo(high);
+      return order < 0 || (order == 0 && highInclusive);
+    }
+
+    @Override
+    public String toString() {
+      return (lowInclusive ? "[" : "(") + (low == null ? "-inf" : low) + ", "
+          + (high == null ? "+inf" : high) + (highInclusive ? "]" : ")");
+    }
+  }
+
+  private final List<Range<K>> ranges;
+
+  private KeyRanges(List<Range<K>> ranges) {
+    this.ranges = ranges;
+  }
+
+  public static <K extends Comparable<K>> KeyRanges<K> all() {
+    return new KeyRanges<>(Collections.singletonList(new Range<K>(null, false, null, false)));
+  }
+
+  public static <K extends Comparable<K>> KeyRanges<K> none() {
+    return new KeyRanges<>(Collections.emptyList());
+  }
+
+  public static <K extends Comparable<K>> KeyRanges<K> point(K key) {
+    return range(key, true, key, true);
+  }
+
+  /** Keys between the bounds; a null bound leaves that side open. */
+  public static <K extends Comparable<K>> KeyRanges<K> range(K low, boolean lowInclusive, K high, boolean highInclusive) {
+    Range<K> range = new Range<>(low, lowInclusive, high, highInclusive);
+    return range.isEmpty() ? none() : new KeyRanges<>(Collections.singletonList(range));
+  }
+
+  public List<Range<K>> ranges() {
+    return ranges;
+  }
+
+  public boolean isAll() {
+    return ranges.size() == 1 && ranges.get(0).low == null && ranges.get(0).high == null;
+  }
+
+  public boolean isEmpty() {
+    return ranges.isEmpty();
+  }
+
+  /** The keys in ascending order if every interval is a single key, otherwise null. */
+  public List<K> points() {
+    List<K> points = new ArrayList<>(ranges.size());
+    for (Range<K> range : ranges) {
+      if (!range.isPoint()) return null;
+      points.add(range.low);
+    }
+    return points;
+  }
+
+  public boolean contains(K key) {
+    for (Range<K> range : ranges)
+      if (range.aboveLow(key) && range.belowHigh(key)) return true;
+    return false;
+  }
+
+  // -1 if a starts before b; an open low bound is the smallest
+  private static <K extends Comparable<K>> int compareLows(Range<K> a, Range<K> b) {
+    if (a.low == null || b.low == null) return a.low == null ? (b.low == null ? 0 : -1) : 1;
+    int order = a.low.compareTo(b.low);
+    if (order != 0) return order;
+    return a.lowInclusive == b.lowInclusive ? 0 : a.lowInclusive ? -1 : 1;
+  }
+
+  // -1 if a ends before b; an open high bound is the largest
+  private static <K extends Comparable<K>> int compareHighs(Range<K> a, Range<K> b) {
+    if (a.high == null || b.high == null) return a.high == null ? (b.high == null ? 0 : 1) : -1;
+    int order = a.high.compareTo(b.high);
+    if (order != 0) return order;
+    return a.highInclusive == b.highInclusive ? 0 : a.highInclusive ? 1 : -1;
+  }
+
+  /** Keys in both sets, by walking the two interval lists in step. */
+  public KeyRanges<K> intersect(KeyRanges<K> other) {
+    List<Range<K>> result = new ArrayList<>();
+    int i = 0, j = 0;
+    while (i < ranges.size() && j < other.ranges.size()) {
+      Range<K> a = ranges.get(i), b = other.ranges.get(j);
+      Range<K> low = compareLows(a, b) >= 0 ? a : b;
+      Range<K> high = compareHighs(a, b) <= 0 ? a : b;
+      Range<K> overlap = new Range<>(low.low, low.lowInclusive, high.high, high.highInclusive);
+      if (!overlap.isEmpty()) result.add(overlap);
+      if (high == a) i++;
+      else j++;
+    }
+    return new KeyRanges<>(result);
+  }
+
+  /** Keys in either set; overlapping or touching intervals are merged. */
+  public KeyRanges<K> union(KeyRanges<K> other) {
+    if (isAll() || other.isEmpty()) return this;
+    if (other.isAll() || isEmpty()) return other;
+    List<Range<K>> sorted = new ArrayList<>(ranges);
+    sorted.addAll(other.ranges);
+    sorted.sort(KeyRanges::compareLows);
+    List<Range<K>> result = new ArrayList<>();
+    Range<K> current = sorted.get(0);
+    for (Range<K> next : sorted.subList(1, sorted.size())) {
+      if (touches(current, next)) {
+        if (compareHighs(next, current) > 0)
+          current = new Range<>(current.low, current.lowInclusive, next.high, next.highInclusive);
+      } else {
+        result.add(current);
+        current = next;
+      }
+    }
+    result.add(current);
+    return new KeyRanges<>(result);
+  }
+
+  // whether next, which does not start before current, starts within or right at the end of current
+  private static <K extends Comparable<K>> boolean touches(Range<K> current, Range<K> next) {
+    if (current.high == null || next.low == null) return true;
+    int order = next.low.compareTo(current.high);
+    return order < 0 || (order == 0 && (next.lowInclusive || current.highInclusive));
+  }
+
+  /**
+   * The pairs whose keys are in the set, in key order. {@code seek} returns the pairs of an ordered
+   * index from a key onwards (from the smallest key when given null); it is called once per interval
+   * and read only up to the interval's high bound.
+   */
+  public <V> Iterator<Pair<K, V>> scan(Function<K, Iterator<Pair<K, V>>> seek) {
+    return new Iterator<Pair<K, V>>() {
+      private int position = -1;
+      private Iterator<Pair<K, V>> current = Collections.emptyIterator();
+      private Pair<K, V> next;
+
+      @Override
+      public boolean hasNext() {
+        while (next == null) {
+          if (current.hasNext()) {
+            Pair<K, V> pair = current.next();
+            Range<K> range = ranges.get(position);
+            if (!range.belowHigh(pair.left)) current = Collections.emptyIterator();
+            else if (range.aboveLow(pair.left)) next = pair;
+          } else if (++position < ranges.size()) {
+            current = seek.apply(ranges.get(position).low);
+          } else {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @Override
+      public Pair<K, V> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Pair<K, V> pair = next;
+        next = null;
+        return pair;
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return ranges.toString();
+  }
+}
@@ -0,0 +1,13 @@
+package cn.edu.thssdb.index;
+
+import java.util.List;
+
+/**
+ * Builds a summary of the values held by one B+ tree leaf, e.g. per-column min/max, so that a scan
+ * can skip whole leaves whose summary cannot match its filter. Summaries are cached in the leaf
+ * until it changes, so they must not depend on anything but the values.
+ */
+@FunctionalInterface
+public interface LeafSummarizer<V, S> {
+  S summarize(List<V> values);
+}
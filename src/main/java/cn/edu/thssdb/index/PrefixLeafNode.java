@@ -0,0 +1,190 @@
+package cn.edu.thssdb.index;
+
+import java.util.Arrays;
+
+/**
+ * Leaf of a {@link BPlusTree} with a {@link KeyCodec}: instead of an array of key references it
+ * keeps the longest prefix shared by all its keys once, and the rest of every key packed back to back
+ * in one {@code char[]}, with {@code ends[i]} the end of the i-th suffix. Keys like
+ * {@code tenant-0001-user-...} then cost only their distinct tails. Searches compare the prefix once
+ * and then the suffixes in place; keys are only rebuilt when {@link #keyAt} hands them out.
+ */
+final class PrefixLeafNode<K extends Comparable<K>, V> extends BPlusTreeLeafNode<K, V> {
+  private static final int STRING_OBJECT = 24;
+  private static final int KEY_OBJECT = 16;
+
+  private String prefix = "";
+  private char[] chars = new char[0];
+  private int[] ends;
+
+  PrefixLeafNode(BPlusTree<K, V> tree, int size, int capacity) {
+    super(tree, size, 0, capacity);
+    ends = new int[capacity];
+  }
+
+  static int commonPrefix(String a, String b) {
+    int length = Math.min(a.length(), b.length());
+    int i = 0;
+    while (i < length && a.charAt(i) == b.charAt(i)) i++;
+    return i;
+  }
+
+  private int start(int index) {
+    return index == 0 ? 0 : ends[index - 1];
+  }
+
+  private String encoded(int index) {
+    int start = start(index);
+    return prefix.concat(new String(chars, start, ends[index] - start));
+  }
+
+  @Override
+  K keyAt(int index) {
+    return tree.codec.decode(encoded(index));
+  }
+
+  /** Compares the suffix of the {@code index}-th key with {@code target} from {@code offset} on. */
+  private int compareSuffix(int index, String target, int offset) {
+    int start = start(index);
+    int length = ends[index] - start;
+    int targetLength = target.length() - offset;
+    int n = Math.min(length, targetLength);
+    for (int i = 0; i < n; i++) {
+      int difference = chars[start + i] - target.charAt(offset + i);
+      if (difference != 0) return difference;
+    }
+    return length - targetLength;
+  }
+
+  @Override
+  int binarySearch(K key) {
+    String target = tree.codec.encode(key);
+    int common = commonPrefix(target, prefix);
+    if (common < prefix.length()) {
+      // the key leaves the shared prefix, so it sorts before or after every key of the leaf
+      boolean before = common == target.length() || target.charAt(common) < prefix.charAt(common);
+      return before ? -1 : -nodeSize - 1;
+    }
+    int low = 0;
+    int high = nodeSize - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = compareSuffix(middle, target, common);
+      if (comparison < 0) low = middle + 1;
+      else if (comparison > 0) high = middle - 1;
+      else return middle;
+    }
+    return -(low + 1);
+  }
+
+  private void ensureChars(int length) {
+    if (chars.length < length) chars = Arrays.copyOf(chars, Math.max(length, chars.length * 2));
+  }
+
+  /** Shortens the shared prefix to {@code length} chars, moving the rest in front of every suffix. */
+  private void shortenPrefix(int length) {
+    String moved = prefix.substring(length);
+    int used = start(nodeSize);
+    char[] rebuilt = new char[used + moved.length() * nodeSize];
+    int position = 0;
+    int start = 0;
+    for (int i = 0; i < nodeSize; i++) {
+      moved.getChars(0, moved.length(), rebuilt, position);
+      position += moved.length();
+      System.arraycopy(chars, start, rebuilt, position, ends[i] - start);
+      position += ends[i] - start;
+      start = ends[i];
+      ends[i] = position;
+    }
+    chars = rebuilt;
+    prefix = prefix.substring(0, length);
+  }
+
+  @Override
+  void keysAdd(int index, K key) {
+    String target = tree.codec.encode(key);
+    if (nodeSize == 0) prefix = target;
+    else if (!target.startsWith(prefix)) shortenPrefix(commonPrefix(target, prefix));
+    int length = target.length() - prefix.length();
+    int used = start(nodeSize);
+    int start = start(index);
+    ensureChars(used + length);
+    System.arraycopy(chars, start, chars, start + length, used - start);
+    target.getChars(prefix.length(), target.length(), chars, start);
+    if (nodeSize == ends.length) ends = Arrays.copyOf(ends, nodeSize + 1);
+    for (int i = nodeSize; i > index; i--) ends[i] = ends[i - 1] + length;
+    ends[index] = start + length;
+    nodeSize++;
+  }
+
+  @Override
+  void keysRemove(int index) {
+    int start = start(index);
+    int length = ends[index] - start;
+    int used = start(nodeSize);
+    System.arraycopy(chars, ends[index], chars, start, used - ends[index]);
+    for (int i = index; i < nodeSize - 1; i++) ends[i] = ends[i + 1] - length;
+    ends[--nodeSize] = 0;
+    if (nodeSize == 0) prefix = "";
+  }
+
+  private String[] encodedKeys(int from, int to) {
+    String[] encoded = new String[to - from];
+    for (int i = from; i < to; i++) encoded[i - from] = encoded(i);
+    return encoded;
+  }
+
+  /** Replaces the keys with the sorted {@code encoded}, taking the longest shared prefix anew. */
+  private void load(String[] encoded) {
+    int count = encoded.length;
+    prefix = count == 0 ? "" : encoded[0].substring(0, commonPrefix(encoded[0], encoded[count - 1]));
+    int length = 0;
+    for (String key : encoded) length += key.length() - prefix.length();
+    chars = new char[length];
+    if (ends.length < count) ends = new int[count];
+    Arrays.fill(ends, 0);
+    int position = 0;
+    for (int i = 0; i < count; i++) {
+      encoded[i].getChars(prefix.length(), encoded[i].length(), chars, position);
+      position += encoded[i].length() - prefix.length();
+      ends[i] = position;
+    }
+  }
+
+  @Override
+  void resizeKeys(int capacity) {
+    ends = Arrays.copyOf(ends, capacity);
+  }
+
+  @Override
+  void moveKeys(BPlusTreeLeafNode<K, V> sibling, int from) {
+    ((PrefixLeafNode<K, V>) sibling).load(encodedKeys(from, nodeSize));
+    load(encodedKeys(0, from));
+  }
+
+  @Override
+  void appendKeys(BPlusTreeLeafNode<K, V> sibling) {
+    PrefixLeafNode<K, V> node = (PrefixLeafNode<K, V>) sibling;
+    String[] encoded = Arrays.copyOf(encodedKeys(0, nodeSize), nodeSize + node.nodeSize);
+    System.arraycopy(node.encodedKeys(0, node.nodeSize), 0, encoded, nodeSize, node.nodeSize);
+    load(encoded);
+  }
+
+  private static long charArray(long length) {
+    return (IndexFootprint.ARRAY_HEADER + 2 * length + 7) / 8 * 8;
+  }
+
+  /** Estimated bytes of the prefix, the packed suffixes and their end offsets. */
+  long keyBytes() {
+    return STRING_OBJECT + charArray(prefix.length()) + charArray(chars.length)
+        + (IndexFootprint.ARRAY_HEADER + 4L * ends.length + 7) / 8 * 8;
+  }
+
+  /** What the same keys would take as a key object and a string each. */
+  long uncompressedKeyBytes() {
+    long bytes = 0;
+    for (int i = 0; i < nodeSize; i++)
+      bytes += KEY_OBJECT + STRING_OBJECT + charArray(prefix.length() + ends[i] - start(i));
+    return bytes;
+  }
+}
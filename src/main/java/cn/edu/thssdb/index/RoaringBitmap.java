@@ -0,0 +1,398 @@
+package cn.edu.thssdb.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative ints in the style of Roaring bitmaps: values are grouped by their
+ * high 16 bits, and each group is stored in a container chosen by its cardinality, a sorted
+ * {@code char[]} for up to {@link #ARRAY_MAX} values or a 65536-bit bitmap above that. Sparse groups
+ * thus cost two bytes per value and dense ones one bit, and {@link #and}, {@link #or} and
+ * {@link #andNot} work container by container. Run containers are left out. Not thread safe.
+ */
+public final class RoaringBitmap {
+  static final int ARRAY_MAX = 4096;
+  private static final int BITMAP_WORDS = 1 << 10;
+  private static final int OBJECT = 16;
+
+  private char[] keys = new char[0];
+  private Container[] containers = new Container[0];
+  private int size;
+
+  public RoaringBitmap() {
+  }
+
+  private RoaringBitmap(int capacity) {
+    keys = new char[capacity];
+    containers = new Container[capacity];
+  }
+
+  private static char high(int value) {
+    return (char) (value >>> 16);
+  }
+
+  private static char low(int value) {
+    return (char) value;
+  }
+
+  private int find(char key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  public void add(int value) {
+    if (value < 0) throw new IllegalArgumentException("bitmap values must not be negative");
+    int index = find(high(value));
+    if (index >= 0) {
+      containers[index] = containers[index].add(low(value));
+      return;
+    }
+    index = -index - 1;
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, Math.max(4, size * 2));
+      containers = Arrays.copyOf(containers, keys.length);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = high(value);
+    containers[index] = new ArrayContainer().add(low(value));
+    size++;
+  }
+
+  public void remove(int value) {
+    if (value < 0) return;
+    int index = find(high(value));
+    if (index < 0) return;
+    Container container = containers[index].remove(low(value));
+    if (container.cardinality() > 0) {
+      containers[index] = container;
+      return;
+    }
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+    containers[--size] = null;
+  }
+
+  public boolean contains(int value) {
+    if (value < 0) return false;
+    int index = find(high(value));
+    return index >= 0 && containers[index].contains(low(value));
+  }
+
+  public int cardinality() {
+    int cardinality = 0;
+    for (int i = 0; i < size; i++) cardinality += containers[i].cardinality();
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void append(char key, Container container) {
+    if (container.cardinality() == 0) return;
+    keys[size] = key;
+    containers[size++] = container;
+  }
+
+  /** An independent copy, for handing a bitmap that keeps changing to another thread. */
+  public RoaringBitmap copy() {
+    RoaringBitmap result = new RoaringBitmap(size);
+    for (int i = 0; i < size; i++) result.append(keys[i], containers[i].copy());
+    return result;
+  }
+
+  /** Values in both bitmaps. */
+  public RoaringBitmap and(RoaringBitmap other) {
+    RoaringBitmap result = new RoaringBitmap(Math.min(size, other.size));
+    for (int i = 0, j = 0; i < size && j < other.size; ) {
+      if (keys[i] < other.keys[j]) i++;
+      else if (keys[i] > other.keys[j]) j++;
+      else result.append(keys[i], containers[i++].and(other.containers[j++]));
+    }
+    return result;
+  }
+
+  /** Values in either bitmap. */
+  public RoaringBitmap or(RoaringBitmap other) {
+    RoaringBitmap result = new RoaringBitmap(size + other.size);
+    int i = 0, j = 0;
+    while (i < size || j < other.size) {
+      if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+        result.append(keys[i], containers[i++].copy());
+      } else if (i == size || keys[i] > other.keys[j]) {
+        result.append(other.keys[j], other.containers[j++].copy());
+      } else {
+        result.append(keys[i], containers[i++].or(other.containers[j++]));
+      }
+    }
+    return result;
+  }
+
+  /** Values in this bitmap but not in {@code other}. */
+  public RoaringBitmap andNot(RoaringBitmap other) {
+    RoaringBitmap result = new RoaringBitmap(size);
+    for (int i = 0, j = 0; i < size; i++) {
+      while (j < other.size && other.keys[j] < keys[i]) j++;
+      if (j < other.size && other.keys[j] == keys[i]) result.append(keys[i], containers[i].andNot(other.containers[j]));
+      else result.append(keys[i], containers[i].copy());
+    }
+    return result;
+  }
+
+  /** Calls {@code action} for every value in ascending order. */
+  public void forEach(IntConsumer action) {
+    for (int i = 0; i < size; i++) containers[i].forEach(keys[i] << 16, action);
+  }
+
+  public int[] toArray() {
+    int[] values = new int[cardinality()];
+    int[] position = {0};
+    forEach(value -> values[position[0]++] = value);
+    return values;
+  }
+
+  /** Estimated heap usage, assuming compressed references. */
+  public long sizeInBytes() {
+    long bytes = OBJECT + IndexFootprint.ARRAY_HEADER * 2 + keys.length * 2L + (long) containers.length * IndexFootprint.REFERENCE;
+    for (int i = 0; i < size; i++) bytes += containers[i].sizeInBytes();
+    return bytes;
+  }
+
+  private abstract static class Container {
+    abstract Container add(char value);
+
+    abstract Container remove(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract Container copy();
+
+    abstract void forEach(int high, IntConsumer action);
+
+    abstract long sizeInBytes();
+  }
+
+  private static final class ArrayContainer extends Container {
+    private char[] values;
+    private int cardinality;
+
+    ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) return this;
+      if (cardinality == ARRAY_MAX) return toBitmap().add(value);
+      index = -index - 1;
+      if (cardinality == values.length) values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+      System.arraycopy(values, index, values, index + 1, cardinality - index);
+      values[index] = value;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    Container remove(char value) {
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+        cardinality--;
+      }
+      return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < cardinality; i++) bitmap.set(values[i]);
+      return bitmap;
+    }
+
+    private ArrayContainer filter(Container other, boolean keep) {
+      char[] result = new char[cardinality];
+      int count = 0;
+      for (int i = 0; i < cardinality; i++)
+        if (other.contains(values[i]) == keep) result[count++] = values[i];
+      return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container and(Container other) {
+      return filter(other, true);
+    }
+
+    @Override
+    Container or(Container other) {
+      if (other instanceof BitmapContainer) return other.or(this);
+      ArrayContainer array = (ArrayContainer) other;
+      char[] result = new char[cardinality + array.cardinality];
+      int count = 0;
+      int i = 0, j = 0;
+      while (i < cardinality || j < array.cardinality) {
+        if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) result[count++] = values[i++];
+        else if (i == cardinality || values[i] > array.values[j]) result[count++] = array.values[j++];
+        else {
+          result[count++] = values[i++];
+          j++;
+        }
+      }
+      ArrayContainer merged = new ArrayContainer(result, count);
+      return count > ARRAY_MAX ? merged.toBitmap() : merged;
+    }
+
+    @Override
+    Container andNot(Container other) {
+      return filter(other, false);
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(values, Math.max(1, cardinality)), cardinality);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+      for (int i = 0; i < cardinality; i++) action.accept(high | values[i]);
+    }
+
+    @Override
+    long sizeInBytes() {
+      return OBJECT + IndexFootprint.ARRAY_HEADER + values.length * 2L;
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer() {
+      this(new long[BITMAP_WORDS]);
+    }
+
+    BitmapContainer(long[] words) {
+      this.words = words;
+      for (long word : words) cardinality += Long.bitCount(word);
+    }
+
+    void set(char value) {
+      long mask = 1L << value;
+      if ((words[value >>> 6] & mask) == 0) {
+        words[value >>> 6] |= mask;
+        cardinality++;
+      }
+    }
+
+    @Override
+    Container add(char value) {
+      set(value);
+      return this;
+    }
+
+    @Override
+    Container remove(char value) {
+      long mask = 1L << value;
+      if ((words[value >>> 6] & mask) != 0) {
+        words[value >>> 6] &= ~mask;
+        cardinality--;
+      }
+      return cardinality <= ARRAY_MAX ? toArray() : this;
+    }
+
+    @Override
+    boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    ArrayContainer toArray() {
+      char[] values = new char[Math.max(1, cardinality)];
+      int[] count = {0};
+      forEach(0, value -> values[count[0]++] = (char) value);
+      return new ArrayContainer(values, cardinality);
+    }
+
+    private Container shrink() {
+      return cardinality <= ARRAY_MAX ? toArray() : this;
+    }
+
+    @Override
+    Container and(Container other) {
+      if (other instanceof ArrayContainer) return other.and(this);
+      long[] result = new long[BITMAP_WORDS];
+      for (int i = 0; i < BITMAP_WORDS; i++) result[i] = words[i] & ((BitmapContainer) other).words[i];
+      return new BitmapContainer(result).shrink();
+    }
+
+    @Override
+    Container or(Container other) {
+      long[] result = words.clone();
+      if (other instanceof ArrayContainer) {
+        BitmapContainer bitmap = new BitmapContainer(result);
+        other.forEach(0, value -> bitmap.set((char) value));
+        return bitmap;
+      }
+      for (int i = 0; i < BITMAP_WORDS; i++) result[i] |= ((BitmapContainer) other).words[i];
+      return new BitmapContainer(result);
+    }
+
+    @Override
+    Container andNot(Container other) {
+      long[] result = words.clone();
+      if (other instanceof ArrayContainer) {
+        other.forEach(0, value -> result[value >>> 6] &= ~(1L << value));
+      } else {
+        for (int i = 0; i < BITMAP_WORDS; i++) result[i] &= ~((BitmapContainer) other).words[i];
+      }
+      return new BitmapContainer(result).shrink();
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(words.clone());
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+
+    @Override
+    long sizeInBytes() {
+      return OBJECT + IndexFootprint.ARRAY_HEADER + BITMAP_WORDS * 8L;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package cn.edu.thssdb.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Leaves visited and skipped by summary-filtered scans; updated by parallel scan workers. */
+public final class ScanStatistics {
+  private final AtomicLong scannedLeaves = new AtomicLong();
+  private final AtomicLong skippedLeaves = new AtomicLong();
+
+  void leafScanned() {
+    scannedLeaves.incrementAndGet();
+  }
+
+  void leafSkipped() {
+    skippedLeaves.incrementAndGet();
+  }
+
+  public long getScannedLeaves() {
+    return scannedLeaves.get();
+  }
+
+  public long getSkippedLeaves() {
+    return skippedLeaves.get();
+  }
+
+  @Override
+  public String toString() {
+    long skipped = getSkippedLeaves();
+    long total = skipped + getScannedLeaves();
+    return String.format("%d of %d leaves skipped (%.1f%%)", skipped, total, total == 0 ? 0.0 : 100.0 * skipped / total);
+  }
+}
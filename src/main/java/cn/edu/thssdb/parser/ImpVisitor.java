@@ -2,23 +2,67 @@ package cn.edu.thssdb.parser;
 
 
 import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.common.Pair;
 import cn.edu.thssdb.exception.*;
+import cn.edu.thssdb.index.KeyRanges;
+import cn.edu.thssdb.index.RoaringBitmap;
 import cn.edu.thssdb.parser.item.*;
+import cn.edu.thssdb.query.AggregateOperator;
+import cn.edu.thssdb.query.BatchFilterOperator;
+import cn.edu.thssdb.query.BatchRowOperator;
+import cn.edu.thssdb.query.BatchScanOperator;
+import cn.edu.thssdb.query.CostModel;
+import cn.edu.thssdb.query.FilterOperator;
+import cn.edu.thssdb.query.HashJoinOperator;
+import cn.edu.thssdb.query.IndexNestedLoopJoinOperator;
+import cn.edu.thssdb.query.IndexScanOperator;
+import cn.edu.thssdb.query.JoinPlanner;
+import cn.edu.thssdb.query.LimitOperator;
+import cn.edu.thssdb.query.MergeJoinOperator;
+import cn.edu.thssdb.query.NestedLoopJoinOperator;
+import cn.edu.thssdb.query.Operator;
+import cn.edu.thssdb.query.ParallelScanOperator;
+import cn.edu.thssdb.query.PipelineOperator;
+import cn.edu.thssdb.query.ProjectOperator;
 import cn.edu.thssdb.query.QueryResult;
 import cn.edu.thssdb.query.QueryTable;
+import cn.edu.thssdb.query.RenameOperator;
+import cn.edu.thssdb.query.RowBatch;
+import cn.edu.thssdb.query.RowCondition;
+import cn.edu.thssdb.query.ScanOperator;
+import cn.edu.thssdb.query.SortOperator;
+import cn.edu.thssdb.query.VectorPredicate;
 import cn.edu.thssdb.schema.Database;
 import cn.edu.thssdb.schema.Manager;
 import cn.edu.thssdb.schema.Table;
 import cn.edu.thssdb.schema.Column;
 import cn.edu.thssdb.schema.Row;
 import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.IndexMeta;
+import cn.edu.thssdb.schema.SecondaryIndex;
+import cn.edu.thssdb.schema.TableStatistics;
+import cn.edu.thssdb.schema.ZoneMap;
 import cn.edu.thssdb.type.ColumnType;
 import cn.edu.thssdb.type.ComparerType;
 
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.antlr.v4.runtime.tree.ParseTree;
 
 /**
  * When use SQL sentence, e.g., "SELECT avg(A) FROM TableX;"
@@ -53,10 +97,16 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         if (ctx.delete_stmt() != null) return new QueryResult(visitDelete_stmt(ctx.delete_stmt()));
         if (ctx.update_stmt() != null) return new QueryResult(visitUpdate_stmt(ctx.update_stmt()));
         if (ctx.select_stmt() != null) return visitSelect_stmt(ctx.select_stmt());
+        if (ctx.explain_stmt() != null) return new QueryResult(visitExplain_stmt(ctx.explain_stmt()));
         if (ctx.quit_stmt() != null) return new QueryResult(visitQuit_stmt(ctx.quit_stmt()));
         if (ctx.show_meta_stmt()!=null) return new QueryResult(visitShow_meta_stmt(ctx.show_meta_stmt()));
+        if (ctx.show_index_advice_stmt()!=null) return new QueryResult(visitShow_index_advice_stmt(ctx.show_index_advice_stmt()));
+        if (ctx.show_stats_stmt()!=null) return new QueryResult(visitShow_stats_stmt(ctx.show_stats_stmt()));
+        if (ctx.analyze_stmt()!=null) return new QueryResult(visitAnalyze_stmt(ctx.analyze_stmt()));
         if (ctx.show_table_stmt()!=null) return new QueryResult(visitShow_table_stmt(ctx.show_table_stmt()));
         if (ctx.show_db_stmt()!=null) return new QueryResult(visitShow_db_stmt(ctx.show_db_stmt()));
+        if (ctx.create_index_stmt() != null) return new QueryResult(visitCreate_index_stmt(ctx.create_index_stmt()));
+        if (ctx.drop_index_stmt() != null) return new QueryResult(visitDrop_index_stmt(ctx.drop_index_stmt()));
         return null;
     }
     /**
@@ -177,13 +227,63 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         Column[] columns = columnList.toArray(new Column[0]);
 
         try (Database.DatabaseHandler db = manager.getCurrentDatabase(false, true)){
-            db.getDatabase().create(tableName, columns); //建表
+            //WITH 子句中的主键索引参数，列名在建表时由 Table 填入
+            IndexMeta primaryIndexMeta = IndexMeta.primary(null);
+            for (SQLParser.Index_optionContext option : ctx.index_option()) {
+                primaryIndexMeta.setOption(option.IDENTIFIER().getText(), option.literal_value().getText());
+                // 位图索引不能唯一地定位一行，不能作主键索引
+                if (primaryIndexMeta.isBitmap()) {
+                    throw new InvalidIndexOptionException(option.IDENTIFIER().getText(), option.literal_value().getText());
+                }
+            }
+            db.getDatabase().create(tableName, columns, primaryIndexMeta); //建表
         }catch(Exception e){
             return e.getMessage();
         }
         return "Create table " + ctx.table_name().getText() + ".";
     }
 
+    /**
+     * 创建二级索引 {@code create index <index_name> on <table_name>(<column_name>) [using hash|btree] [with (...)]}，
+     * 调用 {@link Database#createIndex}
+     */
+    @Override
+    public String visitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx) {
+        String indexName = ctx.index_name().getText().toLowerCase();
+        String tableName = ctx.table_name().getText().toLowerCase();
+        try (Database.DatabaseHandler db = manager.getCurrentDatabase(false, true)) {
+            IndexMeta indexMeta = IndexMeta.secondary(indexName, ctx.column_name(0).getText().toLowerCase());
+            if (ctx.K_USING() != null) {
+                indexMeta.setOption("type", ctx.IDENTIFIER().getText());
+            }
+            for (SQLParser.Index_optionContext option : ctx.index_option()) {
+                indexMeta.setOption(option.IDENTIFIER().getText(), option.literal_value().getText());
+            }
+            List<String> includedColumns = new ArrayList<>();
+            for (SQLParser.Column_nameContext column : ctx.column_name().subList(1, ctx.column_name().size())) {
+                includedColumns.add(column.getText().toLowerCase());
+            }
+            indexMeta.setIncludedColumns(includedColumns);
+            db.getDatabase().createIndex(tableName, indexMeta);
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+        return "Create index " + ctx.index_name().getText() + ".";
+    }
+
+    /**
+     * 删除二级索引 {@code drop index <index_name> on <table_name>}，调用 {@link Database#dropIndex}
+     */
+    @Override
+    public String visitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx) {
+        try (Database.DatabaseHandler db = manager.getCurrentDatabase(false, true)) {
+            db.getDatabase().dropIndex(ctx.table_name().getText().toLowerCase(), ctx.index_name().getText().toLowerCase());
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+        return "Drop index " + ctx.index_name().getText() + ".";
+    }
+
     /**
      *
      表格项插入:  {@code K_INSERT K_INTO table_name ( '(' column_name ( ',' column_name )* ')' )?
@@ -197,10 +297,18 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
      */
     @Override
     public String visitInsert_stmt(SQLParser.Insert_stmtContext ctx) {
+        int duplicateRows = 0;
         try(Database.DatabaseHandler db = manager.getCurrentDatabase(true, false)){// 这里是跨级别的，不需要写锁
             String tableName = ctx.table_name().getText();
             try(Table.TableHandler tb = db.getDatabase().get(tableName)) {
                 Table table = tb.getTable();
+                //ON DUPLICATE KEY UPDATE 赋值的列必须存在
+                for (SQLParser.AssignmentContext assignment : ctx.assignment()) {
+                    String columnName = assignment.column_name().getText().toLowerCase();
+                    if (table.Column2Index(columnName) < 0) {
+                        throw new ColumnNotExistException(columnName);
+                    }
+                }
                 //获取输入value_entry的字面量
                 ArrayList<ArrayList<String>> valueEntryList_str_List = new ArrayList<>();
                 for (SQLParser.Value_entryContext value_entry_ctx : ctx.value_entry()) {
@@ -325,17 +433,72 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                     }
                     //从value_entry生成row
                     Row rowToInsert = new Row(value_entry);
-                    //调用 Database 的接口来插入该行
-                    db.getDatabase().tableInsert(session, tb, rowToInsert);
-
+                    if (ctx.K_DUPLICATE() == null) {
+                        //调用 Database 的接口来插入该行
+                        db.getDatabase().tableInsert(session, tb, rowToInsert);
+                        continue;
+                    }
+                    //ON DUPLICATE KEY UPDATE：一次下降完成查重和插入，主键已存在时在原来的行上执行赋值
+                    Row existingRow = db.getDatabase().tablePutIfAbsent(session, tb, rowToInsert);
+                    if (existingRow != null) {
+                        Row newRow = assign(table, existingRow, ctx.assignment());
+                        db.getDatabase().tableUpdate(session, tb, existingRow.getEntries().get(table.getPrimaryIndex()), newRow);
+                        duplicateRows++;
+                    }
                 }
+                // 改动的行足够多时重新收集统计信息
+                table.refreshStatistics();
             }
         } catch(Exception e) {
             return e.getMessage();
         }
+        if (duplicateRows > 0) {
+            return "Insert into " + ctx.table_name().getText() + " successfully, " + duplicateRows + " duplicate rows updated";
+        }
         return "Insert into " + ctx.table_name().getText() + " successfully";
     }
 
+    /**
+     * 在一行上执行 {@code column = expression, ...} 的赋值，表达式中的列取该行原来的值
+     * @return 赋值后的新行
+     */
+    private Row assign(Table table, Row row, List<SQLParser.AssignmentContext> assignments) {
+        ArrayList<String> columnNames = new ArrayList<>();
+        for (Column column : table.columns) {
+            columnNames.add(column.getColumnName());
+        }
+        Row newRow = new Row(row);
+        for (SQLParser.AssignmentContext assignment : assignments) {
+            int index = table.Column2Index(assignment.column_name().getText().toLowerCase());
+            ComparerItem expr = visitExpression(assignment.expression());
+            newRow.getEntries().set(index, valueToCell(expr.evaluate(row, columnNames), table.columns.get(index)));
+        }
+        return newRow;
+    }
+
+    // 把表达式的值转成该列类型的 Cell
+    private Cell valueToCell(Object value, Column column) {
+        if (value == null) {
+            return new Cell();
+        }
+        if (column.getColumnType() == ColumnType.STRING) {
+            if (!(value instanceof String)) {
+                throw new ValueFormatInvalidException(". " + column.getColumnName() + " expects a string");
+            }
+            return new Cell((String) value);
+        }
+        if (!(value instanceof Number)) {
+            throw new ValueFormatInvalidException(". " + column.getColumnName() + " expects a number");
+        }
+        Number number = (Number) value;
+        switch (column.getColumnType()) {
+            case INT: return new Cell(number.intValue());
+            case LONG: return new Cell(number.longValue());
+            case FLOAT: return new Cell(number.floatValue());
+            default: return new Cell(number.doubleValue());
+        }
+    }
+
     /**
      * 删除 Table 项
      * @implNote 调用了 {@link Database#tableDelete}
@@ -377,11 +540,12 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
                 if (whereItem == null) {
                     return "Exception: Delete without where";
                 } else {
-                    for (Row row : table) {
-                        if (whereItem.evaluate(row, columnNames)) {
-                            db.getDatabase().tableDelete(session, tb, row);
-                        }
+                    // 先取得写锁再选行，写时复制表上不会删到别的事务提交前的旧版本
+                    db.getDatabase().tableWriteLock(session, tb);
+                    for (Row row : matchingRows(table, whereItem, columnNames)) {
+                        db.getDatabase().tableDelete(session, tb, row);
                     }
+                    table.refreshStatistics();
                 }
             }
         }
@@ -409,25 +573,12 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
 
                 //获取满足条件的行
                 MultipleConditionItem whereItem = null;
-                ArrayList<Row> rowToUpdate = new ArrayList<>();
                 if (ctx.multiple_condition() != null) {
                     whereItem = visitMultiple_condition(ctx.multiple_condition());
                 }
-
-                Iterator<Row> rowIterator = table.iterator();
-                if (whereItem == null) {
-                    while (rowIterator.hasNext()) {
-                        Row row = rowIterator.next();
-                        rowToUpdate.add(row);
-                    }
-                } else {
-                    while (rowIterator.hasNext()) {
-                        Row row = rowIterator.next();
-                        if (whereItem.evaluate(row, columnNames)) {
-                            rowToUpdate.add(row);
-                        }
-                    }
-                }
+                // 先取得写锁再选行，写时复制表上不会用别的事务提交前的旧版本覆盖它的修改
+                db.getDatabase().tableWriteLock(session, tb);
+                List<Row> rowToUpdate = matchingRows(table, whereItem, columnNames);
 
                 //对这些行进行更新
                 int index = table.Column2Index(columnName);
@@ -450,6 +601,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
 
                     db.getDatabase().tableUpdate(session, tb, primaryCell, newRow);
                 }
+                table.refreshStatistics();
                 return "Update " + rowToUpdate.size() + " rows";
             }
         }
@@ -467,135 +619,632 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
      */
     @Override
     public QueryResult visitSelect_stmt(SQLParser.Select_stmtContext ctx) {
+        try {
+            checkNoAggregates(ctx);
+        } catch (InvalidAggregateException e) {
+            return new QueryResult(e.getMessage());
+        }
+        long start = System.nanoTime();
+        Pair<Table, Cell> pointRead = pointRead(ctx);
+        if (pointRead != null && Global.lockFreePointReads) {
+            List<Row> rows = pointRead.left.lockFreeGet(pointRead.right);
+            if (rows != null) {
+                QueryResult result;
+                try {
+                    result = projection(ctx, new IndexScanOperator(() -> rows, pointRead.left.columns));
+                } catch (Exception e) {
+                    result = new QueryResult(e.getMessage());
+                }
+                pointRead.left.recordPointRead(true, System.nanoTime() - start);
+                return result;
+            }
+        }
+        QueryResult result = lockedSelect(ctx);
+        if (pointRead != null) {
+            pointRead.left.recordPointRead(false, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * 单表、where 只有一个 主键 = 字面量 条件的查询可以走无锁的主键点查，返回要查的表和主键
+     * 不加数据库锁和表锁，表和主键都取不到时返回 null
+     */
+    private Pair<Table, Cell> pointRead(SQLParser.Select_stmtContext ctx) {
+        if (ctx.table_query().size() != 1 || ctx.table_query(0).table_name().size() != 1 || ctx.multiple_condition() == null) {
+            return null;
+        }
+        Database database = manager.peekCurrentDatabase();
+        Table table = database == null ? null : database.peek(ctx.table_query(0).table_name(0).getText());
+        if (table == null) {
+            return null;
+        }
+        MultipleConditionItem whereItem = visitMultiple_condition(ctx.multiple_condition());
+        if (whereItem.hasChild() || !whereItem.conditionItem.comparator.equals("=")
+                || comparedColumn(table, whereItem.conditionItem) != table.getPrimaryIndex()) {
+            return null;
+        }
+        Cell value = literalToCell(whereItem.conditionItem.comparisonLiteral(), table.columns.get(table.getPrimaryIndex()));
+        return value == null ? null : new Pair<>(table, value);
+    }
+
+    /**
+     * 加数据库锁和表锁的查询：由 from 和 where 生成取行的算子树，结果逐行从树中取出，期间持有涉及的所有表的读锁
+     */
+    private QueryResult lockedSelect(SQLParser.Select_stmtContext ctx) {
         try(Database.DatabaseHandler db = manager.getCurrentDatabase(true, false)){
             //按大作业说明，只有一个tableQuery,所以只要获取第一个就行了
             SQLParser.Table_queryContext tableQuery = ctx.table_query().get(0);
             String firstTableName = tableQuery.table_name(0).getText();
             try(Table.TableHandler firsttb = db.getDatabase().get(firstTableName)) {
                 Table firstTable = firsttb.getTable();
-                // 生成from对应的查询表 targetTable
-                // select from 不止一个表,将多表进行连接，获取目标表targetTable
-                QueryTable targetTable = new QueryTable(firstTable);
-                if (tableQuery.table_name().size() > 1) {
-                    Table newFirstTable = firstTable.getColumnFullNameTable();
-                    targetTable = new QueryTable(newFirstTable);
+                if (tableQuery.table_name().size() == 1) {
+                    MultipleConditionItem whereItem = ctx.multiple_condition() == null ? null : visitMultiple_condition(ctx.multiple_condition());
+                    ArrayList<String> columnNames = columnNames(firstTable.columns);
+                    List<Row> rows = whereItem == null ? null : coveringRows(firstTable, whereItem, ctx, columnNames);
+                    if (rows != null) {
+                        new PredicateSample(firstTable, whereItem).record(false);
+                        return projection(ctx, new IndexScanOperator(() -> rows, firstTable.columns));
+                    }
+                    // 只要前几行时边扫描边过滤，取够了就停下
+                    boolean pipelined = ctx.K_LIMIT() != null && ctx.ordering_term().isEmpty() && !aggregated(ctx);
+                    return projection(ctx, rowSource(firstTable, whereItem, columnNames, pipelined));
+                }
+                // select from 多个表：列名为 tableName_columnName 的形式，连接顺序和连接方式见 JoinQuery
+                MultipleConditionItem onItem = tableQuery.multiple_condition() == null ? null : visitMultiple_condition(tableQuery.multiple_condition());
+                MultipleConditionItem whereItem = ctx.multiple_condition() == null ? null : visitMultiple_condition(ctx.multiple_condition());
+                List<Table> tables = new ArrayList<>();
+                tables.add(firstTable);
+                List<Table.TableHandler> joinedTables = new ArrayList<>();
+                try {
                     for (int i = 1; i < tableQuery.table_name().size(); i++) {
-                        String nowTableName = tableQuery.table_name(i).getText();
-                        try(Table.TableHandler nowTable = db.getDatabase().get(nowTableName)) {
-                            targetTable = targetTable.join(nowTable.getTable());
-                        }
+                        Table.TableHandler nowTable = db.getDatabase().get(tableQuery.table_name(i).getText());
+                        joinedTables.add(nowTable);
+                        tables.add(nowTable.getTable());
                     }
-                    System.out.println(targetTable.toString());
-                    //按 On 的条件进行筛选，删除不满足的行
-                    if (tableQuery.multiple_condition() != null) {
-                        MultipleConditionItem onItem = visitMultiple_condition(tableQuery.multiple_condition());
-                        Iterator<Row> rowIterator = targetTable.results.iterator();
-                        ArrayList<String> columnNames = new ArrayList<>();
-                        for (Column column : targetTable.columns) {
-                            columnNames.add(column.getColumnName());
-                        }
-                        List<Row> rowToDelete = new ArrayList<>();
-                        while (rowIterator.hasNext()) {
-                            Row row = rowIterator.next();
-                            if (!onItem.evaluate(row, columnNames)) {
-                                rowToDelete.add(row);
-                            }
-                        }
-                        targetTable.results.removeAll(rowToDelete);
+                    return projection(ctx, new JoinQuery(tables, onItem, whereItem).build());
+                } finally {
+                    for (Table.TableHandler nowTable : joinedTables) {
+                        nowTable.close();
                     }
                 }
-                // 按 where 条件进行筛选，删除不满足的行
-                if (ctx.multiple_condition() != null) {
-                    MultipleConditionItem whereItem = visitMultiple_condition(ctx.multiple_condition());
-                    Iterator<Row> rowIterator = targetTable.results.iterator();
-                    ArrayList<String> columnNames = new ArrayList<>();
-                    for (Column column : targetTable.columns) {
-                        columnNames.add(column.getColumnName());
-                    }
-                    List<Row> rowToDelete = new ArrayList<>();
-                    while (rowIterator.hasNext()) {
-                        Row row = rowIterator.next();
-                        if (!whereItem.evaluate(row, columnNames)) {
-                            rowToDelete.add(row);
-                        }
+            }
+        }
+        catch(Exception e) {
+            return new QueryResult(e.getMessage());
+        }
+    }
+
+    /**
+     * 多表查询的连接计划：where、on 中顶层用 and 连接的各部分，只涉及一张表的下推到该表的取行方式(accessPath)，
+     * 涉及多张表的在它用到的表都连接进来后检查；连接顺序和每一步的连接方式由 {@link JoinPlanner} 按估计的代价选出
+     * 各表的列名为 tableName_columnName，连接后按 from 中写的顺序排列
+     */
+    private class JoinQuery {
+        private final List<Table> tables;
+        // 各表带表名的列
+        private final List<List<Column>> columns = new ArrayList<>();
+        // 只涉及第 i 张表的条件，没有时为 null
+        private final List<MultipleConditionItem> local = new ArrayList<>();
+        private final List<AccessPath> paths = new ArrayList<>();
+        // 涉及多张表的条件，与 conditions 一一对应
+        private final List<MultipleConditionItem> joinTerms = new ArrayList<>();
+        private final List<JoinPlanner.Condition> conditions = new ArrayList<>();
+        private final JoinPlanner.Plan plan;
+
+        JoinQuery(List<Table> tables, MultipleConditionItem onItem, MultipleConditionItem whereItem) {
+            this.tables = tables;
+            ArrayList<String> joinedNames = new ArrayList<>();
+            // 按 from 中的顺序连接时每一列属于哪张表，以及它在该表中的下标
+            List<Integer> owners = new ArrayList<>();
+            List<Integer> ownColumns = new ArrayList<>();
+            for (int i = 0; i < tables.size(); i++) {
+                List<Column> fullNames = tables.get(i).getColumnFullNames();
+                this.columns.add(fullNames);
+                this.local.add(null);
+                for (int j = 0; j < fullNames.size(); j++) {
+                    joinedNames.add(fullNames.get(j).getColumnName());
+                    owners.add(i);
+                    ownColumns.add(j);
+                }
+            }
+            long allTables = (1L << tables.size()) - 1;
+            List<MultipleConditionItem> terms = new ArrayList<>();
+            if (onItem != null) {
+                terms.addAll(onItem.terms());
+            }
+            if (whereItem != null) {
+                terms.addAll(whereItem.terms());
+            }
+            for (MultipleConditionItem term : terms) {
+                List<ComparerItem> columnItems = new ArrayList<>();
+                term.collectColumnItems(columnItems);
+                long used = 0;
+                for (ComparerItem columnItem : columnItems) {
+                    int index = columnItem.columnIndex(joinedNames);
+                    // 找不到的列，或在表中按列名找到的是另一列时，留到所有表都连接后再检查
+                    if (index < 0 || columnItem.columnIndex(columnNames(tables.get(owners.get(index)).columns)) != ownColumns.get(index)) {
+                        used = allTables;
+                        break;
                     }
-                    targetTable.results.removeAll(rowToDelete);
-                }
-                //按select进行列的筛选
-                ArrayList<Column> selectColumns = new ArrayList<>();
-                ArrayList<Row> rowList = new ArrayList<>();
-                if (ctx.result_column().get(0).getText().equals("*")) {
-                    selectColumns.addAll(targetTable.columns);
-                    rowList.addAll(targetTable.results);
+                    used |= 1L << owners.get(index);
+                }
+                if (used == 0) {
+                    used = allTables;
+                }
+                if (Long.bitCount(used) == 1) {
+                    int owner = Long.numberOfTrailingZeros(used);
+                    MultipleConditionItem condition = this.local.get(owner);
+                    this.local.set(owner, condition == null ? term : new MultipleConditionItem(condition, term, "and"));
                 } else {
-                    //先对列进行筛选
-                    ArrayList<String> selectColumnName = new ArrayList<>();
-                    for (SQLParser.Result_columnContext columnContext : ctx.result_column()) {
-                        if (columnContext.column_full_name() != null) {//按大作业说明，这种情况一定存在column_full_name
-                            String columnName = columnContext.column_full_name().column_name().getText();
-                            if (columnContext.column_full_name().table_name() != null && tableQuery.table_name().size() > 1) {
-                                columnName = columnContext.column_full_name().table_name().getText() + "_" + columnName;
-                            }
-                            selectColumnName.add(columnName);
-                        }
-                    }
-                    /*
-                    System.out.print("selectColumnsName:");
-                    for(String columnName:selectColumnName){
-                        System.out.print(columnName + " ");
-                    }
-                    System.out.println(" ");
-                    */
-                    //获取selectColumnName对应的index
-                    ArrayList<Integer> selectColumnIndex = new ArrayList<>();
-                    for (String columnName : selectColumnName) {
-                        int index = targetTable.Column2Index(columnName);
-                        selectColumns.add(targetTable.columns.get(index));
-                        selectColumnIndex.add(index);
-                    }
-                    /*
-                    System.out.print("selectColumnIndex:");
-                    for(Integer index:selectColumnIndex){
-                        System.out.print(index + " ");
+                    this.joinTerms.add(term);
+                    this.conditions.add(this.condition(term, used, joinedNames, owners, ownColumns));
+                }
+            }
+            List<JoinPlanner.Relation> relations = new ArrayList<>();
+            Set<String> tableNames = new HashSet<>();
+            boolean repeated = false;
+            for (int i = 0; i < tables.size(); i++) {
+                Table table = tables.get(i);
+                MultipleConditionItem condition = this.local.get(i);
+                AccessPath path = accessPath(table, condition, columnNames(table.columns));
+                this.paths.add(path);
+                repeated |= !tableNames.add(table.tableName);
+                relations.add(new JoinPlanner.Relation(table.tableName, path.description,
+                        condition == null ? null : operand(condition), table.index.size(), path.rows, path.cost, path.keyOrdered));
+            }
+            // 同一张表出现多次时 tableName_columnName 指的是 from 中第一次出现的那张，不调整顺序
+            this.plan = JoinPlanner.plan(relations, this.conditions, repeated ? 1 : Global.joinReorderLimit, Global.hashJoinMemoryRows);
+        }
+
+        /**
+         * 两张表的 列 = 列 条件可以作连接键；字符串列与数值列比较在 evaluate 中会出错，这样的条件只在连接后检查
+         * 归并和索引查找按 Cell 比较，只用于两侧类型相同的列；二级索引不含 null，只用于不能为 null 的列
+         */
+        private JoinPlanner.Condition condition(MultipleConditionItem term, long used, ArrayList<String> joinedNames,
+                                                List<Integer> owners, List<Integer> ownColumns) {
+            ConditionItem condition = term.conditionItem;
+            if (!term.hasChild() && Long.bitCount(used) == 2 && condition.comparator.equals("=")
+                    && condition.expr1.type == ComparerType.COLUMN && condition.expr2.type == ComparerType.COLUMN) {
+                int index1 = condition.expr1.columnIndex(joinedNames);
+                int index2 = condition.expr2.columnIndex(joinedNames);
+                if (index1 < 0 || index2 < 0) {
+                    return JoinPlanner.Condition.filter(operand(term), used, CostModel.selectivity(null, term));
+                }
+                int left = owners.get(index1), right = owners.get(index2);
+                int leftColumn = ownColumns.get(index1), rightColumn = ownColumns.get(index2);
+                Table leftTable = this.tables.get(left), rightTable = this.tables.get(right);
+                ColumnType leftType = leftTable.columns.get(leftColumn).getColumnType();
+                ColumnType rightType = rightTable.columns.get(rightColumn).getColumnType();
+                if ((leftType == ColumnType.STRING) == (rightType == ColumnType.STRING)) {
+                    boolean sameType = leftType == rightType;
+                    return JoinPlanner.Condition.equality(operand(term), left, leftColumn,
+                            sameType && indexed(leftTable, leftColumn), right, rightColumn, sameType && indexed(rightTable, rightColumn),
+                            sameType && leftColumn == leftTable.getPrimaryIndex() && rightColumn == rightTable.getPrimaryIndex(),
+                            CostModel.joinSelectivity(leftTable, leftColumn, rightTable, rightColumn));
+                }
+            }
+            return JoinPlanner.Condition.filter(operand(term), used, CostModel.selectivity(null, term));
+        }
+
+        // EXPLAIN 中与其他条件用 and 连接时的写法
+        private String operand(MultipleConditionItem term) {
+            return term.hasChild() && term.op.equals("or") ? "(" + term + ")" : term.toString();
+        }
+
+        private boolean indexed(Table table, int columnIndex) {
+            return table.hasEqualityIndex(columnIndex)
+                    && (columnIndex == table.getPrimaryIndex() || table.columns.get(columnIndex).cantBeNull());
+        }
+
+        // 按计划生成算子树：依次连接各表，每一步之后检查这时能检查的条件
+        Operator build() {
+            List<JoinPlanner.Step> steps = this.plan.steps;
+            // 各表的列在连接结果中的起点
+            int[] offsets = new int[this.tables.size()];
+            int width = 0;
+            Operator joined = null;
+            List<MultipleConditionItem> checked = new ArrayList<>();
+            for (int k = 0; k < steps.size(); k++) {
+                JoinPlanner.Step step = steps.get(k);
+                int relation = step.relation;
+                joined = k == 0 ? this.open(relation) : this.join(joined, offsets, step);
+                offsets[relation] = width;
+                width += this.columns.get(relation).size();
+                checked = new ArrayList<>();
+                if (step.method == JoinPlanner.Method.INDEX && this.local.get(relation) != null) {
+                    checked.add(this.local.get(relation));
+                }
+                for (int condition : step.conditions) {
+                    checked.add(this.joinTerms.get(condition));
+                }
+                if (k < steps.size() - 1) {
+                    for (MultipleConditionItem condition : checked) {
+                        joined = filter(joined, condition);
                     }
-                    */
-
-                    //再对行按列筛选
-                    for (Row row : targetTable.results) {
-                        ArrayList<Cell> Entries = row.getEntries();
-                        ArrayList<Cell> newEntries = new ArrayList<>();
-                        for (int i = 0; i < Entries.size(); i++) {
-                            if (selectColumnIndex.contains(i)) {
-                                //System.out.println(i+"is in selectColumnIndex");
-                                newEntries.add(Entries.get(i));
-                            }
-                        }
-                        Row newRow = new Row(newEntries);
-                        rowList.add(newRow);
+                }
+            }
+            int[] columnIndexes = new int[width];
+            boolean reordered = false;
+            for (int i = 0, p = 0; i < this.tables.size(); i++) {
+                for (int j = 0; j < this.columns.get(i).size(); j++, p++) {
+                    columnIndexes[p] = offsets[i] + j;
+                    reordered |= columnIndexes[p] != p;
+                }
+            }
+            if (reordered) {
+                joined = new ProjectOperator(joined, columnIndexes);
+            }
+            // 最后一步的条件放在恢复列顺序之后，以便与 select 的投影并进同一条流水线
+            for (MultipleConditionItem condition : checked) {
+                joined = filter(joined, condition);
+            }
+            return joined;
+        }
+
+        private Operator open(int relation) {
+            return new RenameOperator(this.paths.get(relation).open(true), this.columns.get(relation));
+        }
+
+        private Operator join(Operator left, int[] offsets, JoinPlanner.Step step) {
+            int relation = step.relation;
+            int[] leftKeys = new int[step.keys.length];
+            int[] rightKeys = new int[step.keys.length];
+            for (int i = 0; i < step.keys.length; i++) {
+                JoinPlanner.Condition condition = this.conditions.get(step.keys[i]);
+                boolean innerRight = condition.getRight() == relation;
+                leftKeys[i] = innerRight ? offsets[condition.getLeft()] + condition.getLeftColumn()
+                        : offsets[condition.getRight()] + condition.getRightColumn();
+                rightKeys[i] = innerRight ? condition.getRightColumn() : condition.getLeftColumn();
+            }
+            switch (step.method) {
+                case HASH:
+                    return new HashJoinOperator(left, this.open(relation), leftKeys, rightKeys, step.buildLeft, Global.hashJoinMemoryRows);
+                case INDEX:
+                    Table table = this.tables.get(relation);
+                    int key = rightKeys[0];
+                    return new IndexNestedLoopJoinOperator(left, leftKeys[0], this.columns.get(relation), value -> table.indexLookup(key, value));
+                case MERGE:
+                    return new MergeJoinOperator(left, this.open(relation), leftKeys[0], rightKeys[0]);
+                default:
+                    return new NestedLoopJoinOperator(left, this.open(relation));
+            }
+        }
+    }
+
+    /**
+     * 只保留满足 where 或 on 条件的行
+     * 条件能生成字节码时生成为 PipelineOperator，叠在一起的过滤以及之后的投影都并进同一个生成的类
+     */
+    private static Operator filter(Operator child, MultipleConditionItem condition) {
+        RowCondition compiled = Global.compiledConditions ? condition.compile(child.getColumns()) : null;
+        if (compiled == null) {
+            return new FilterOperator(child, rowPredicate(condition, child.getColumns()));
+        }
+        Operator pipeline = Global.generatedPipelines ? PipelineOperator.filter(child, compiled) : null;
+        return pipeline != null ? pipeline : new FilterOperator(child, row -> Boolean.TRUE.equals(compiled.evaluate(row)));
+    }
+
+    /**
+     * 逐行判断 where、on 条件的谓词：能编译时用编译好的 {@link RowCondition}，列的下标和字面量只解析一次；否则解释执行
+     */
+    private static Predicate<Row> rowPredicate(MultipleConditionItem condition, List<Column> columns) {
+        RowCondition compiled = Global.compiledConditions ? condition.compile(columns) : null;
+        if (compiled != null) {
+            return row -> Boolean.TRUE.equals(compiled.evaluate(row));
+        }
+        ArrayList<String> columnNames = columnNames(columns);
+        return row -> Boolean.TRUE.equals(condition.evaluate(row, columnNames));
+    }
+
+    private static ArrayList<String> columnNames(List<Column> columns) {
+        ArrayList<String> columnNames = new ArrayList<>();
+        for (Column column : columns) {
+            columnNames.add(column.getColumnName());
+        }
+        return columnNames;
+    }
+
+    // select、order by 中的列在 source 输出中的列名：多表连接时带表名的列为 tableName_columnName
+    private String columnName(SQLParser.Column_full_nameContext column, SQLParser.Table_queryContext tableQuery) {
+        String columnName = column.column_name().getText();
+        if (column.table_name() != null && tableQuery.table_name().size() > 1) {
+            columnName = column.table_name().getText() + "_" + columnName;
+        }
+        return columnName;
+    }
+
+    /**
+     * 在取行的算子 source 之上分组聚合、按 order by 排序、按 select 的列投影、按 limit 截断，再逐行取出结果
+     */
+    private QueryResult projection(SQLParser.Select_stmtContext ctx, Operator source) {
+        SQLParser.Table_queryContext tableQuery = ctx.table_query().get(0);
+        Operator plan = source;
+        if (aggregated(ctx)) {
+            plan = aggregate(ctx, plan);
+        }
+        if (!ctx.ordering_term().isEmpty()) {
+            ArrayList<String> columnNames = columnNames(plan.getColumns());
+            int[] columnIndexes = new int[ctx.ordering_term().size()];
+            boolean[] descending = new boolean[columnIndexes.length];
+            for (int i = 0; i < columnIndexes.length; i++) {
+                SQLParser.Ordering_termContext term = ctx.ordering_term(i);
+                String columnName = term.aggregate() != null ? aggregateName(term.aggregate()) : columnName(term.column_full_name(), tableQuery);
+                columnIndexes[i] = columnNames.indexOf(columnName);
+                if (columnIndexes[i] < 0) {
+                    throw new ColumnNotExistException(columnName);
+                }
+                descending[i] = term.K_DESC() != null;
+            }
+            plan = new SortOperator(plan, SortOperator.byColumns(columnIndexes, descending));
+        }
+        //按select进行列的筛选
+        if (!ctx.result_column().get(0).getText().equals("*")) {
+            ArrayList<String> columnNames = columnNames(plan.getColumns());
+            List<Integer> selectColumnIndex = new ArrayList<>();
+            for (SQLParser.Result_columnContext columnContext : ctx.result_column()) {
+                if (columnContext.column_full_name() != null) {//按大作业说明，这种情况一定存在column_full_name
+                    selectColumnIndex.add(columnNames.indexOf(columnName(columnContext.column_full_name(), tableQuery)));
+                } else if (columnContext.aggregate() != null) {
+                    selectColumnIndex.add(columnNames.indexOf(aggregateName(columnContext.aggregate())));
+                }
+            }
+            int[] columnIndexes = selectColumnIndex.stream().mapToInt(Integer::intValue).toArray();
+            plan = plan instanceof PipelineOperator
+                    ? ((PipelineOperator) plan).project(columnIndexes)
+                    : new ProjectOperator(plan, columnIndexes);
+        }
+        if (ctx.K_LIMIT() != null) {
+            plan = new LimitOperator(plan, Long.parseLong(ctx.NUMERIC_LITERAL().getText()));
+        }
+        QueryTable[] queryTables = {new QueryTable(plan)};
+        return new QueryResult(queryTables);
+    }
+
+    // 查询中是否有 group by、having 或聚合函数
+    private static boolean aggregated(SQLParser.Select_stmtContext ctx) {
+        return ctx.group_by_clause() != null || ctx.having_clause() != null || !aggregates(ctx).isEmpty();
+    }
+
+    // select、having 和 order by 中的聚合函数
+    private static List<SQLParser.AggregateContext> aggregates(SQLParser.Select_stmtContext ctx) {
+        List<SQLParser.AggregateContext> aggregates = new ArrayList<>();
+        for (SQLParser.Result_columnContext column : ctx.result_column()) {
+            collectAggregates(column, aggregates);
+        }
+        if (ctx.having_clause() != null) {
+            collectAggregates(ctx.having_clause(), aggregates);
+        }
+        for (SQLParser.Ordering_termContext term : ctx.ordering_term()) {
+            collectAggregates(term, aggregates);
+        }
+        return aggregates;
+    }
+
+    private static void collectAggregates(ParseTree tree, List<SQLParser.AggregateContext> aggregates) {
+        if (tree instanceof SQLParser.AggregateContext) {
+            aggregates.add((SQLParser.AggregateContext) tree);
+            return;
+        }
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            collectAggregates(tree.getChild(i), aggregates);
+        }
+    }
+
+    // 排序列、分组列和聚合函数中的列
+    private static List<SQLParser.Column_full_nameContext> referencedColumns(SQLParser.Select_stmtContext ctx) {
+        List<SQLParser.Column_full_nameContext> columns = new ArrayList<>();
+        for (SQLParser.Ordering_termContext term : ctx.ordering_term()) {
+            if (term.column_full_name() != null) {
+                columns.add(term.column_full_name());
+            }
+        }
+        if (ctx.group_by_clause() != null) {
+            columns.addAll(ctx.group_by_clause().column_full_name());
+        }
+        for (SQLParser.AggregateContext aggregate : aggregates(ctx)) {
+            if (aggregate.column_full_name() != null) {
+                columns.add(aggregate.column_full_name());
+            }
+        }
+        return columns;
+    }
+
+    // 聚合函数的结果列名，如 count(*)、sum(a.x)；写法相同的聚合只算一次
+    private static String aggregateName(SQLParser.AggregateContext ctx) {
+        String argument = ctx.column_full_name() == null ? "*" : ctx.column_full_name().getText();
+        return ctx.IDENTIFIER().getText().toLowerCase() + "(" + argument + ")";
+    }
+
+    /**
+     * 在 source 之上加分组聚合(见 {@link AggregateOperator})，输出分组列和 select、having、order by 中的各个聚合，
+     * 再按 having 过滤。select 和 order by 中的列必须是分组列，不能 select *
+     */
+    private Operator aggregate(SQLParser.Select_stmtContext ctx, Operator source) {
+        SQLParser.Table_queryContext tableQuery = ctx.table_query().get(0);
+        ArrayList<String> columnNames = columnNames(source.getColumns());
+        List<String> groupNames = new ArrayList<>();
+        if (ctx.group_by_clause() != null) {
+            for (SQLParser.Column_full_nameContext column : ctx.group_by_clause().column_full_name()) {
+                String columnName = columnName(column, tableQuery);
+                if (columnNames.indexOf(columnName) < 0) {
+                    throw new ColumnNotExistException(columnName);
+                }
+                groupNames.add(columnName);
+            }
+        }
+        int[] groupColumns = groupNames.stream().mapToInt(columnNames::indexOf).toArray();
+        for (SQLParser.Result_columnContext column : ctx.result_column()) {
+            if (column.column_full_name() == null && column.aggregate() == null) {
+                throw new InvalidAggregateException("select " + column.getText() + " cannot be used with GROUP BY or aggregate functions");
+            }
+        }
+        List<SQLParser.Column_full_nameContext> selected = new ArrayList<>();
+        for (SQLParser.Result_columnContext column : ctx.result_column()) {
+            if (column.column_full_name() != null) {
+                selected.add(column.column_full_name());
+            }
+        }
+        for (SQLParser.Ordering_termContext term : ctx.ordering_term()) {
+            if (term.column_full_name() != null) {
+                selected.add(term.column_full_name());
+            }
+        }
+        for (SQLParser.Column_full_nameContext column : selected) {
+            if (!groupNames.contains(columnName(column, tableQuery))) {
+                throw new InvalidAggregateException("column " + column.getText() + " must appear in GROUP BY or be used in an aggregate function");
+            }
+        }
+        Map<String, AggregateOperator.Aggregate> aggregates = new LinkedHashMap<>();
+        for (SQLParser.AggregateContext aggregate : aggregates(ctx)) {
+            String name = aggregateName(aggregate);
+            if (aggregates.containsKey(name)) {
+                continue;
+            }
+            AggregateOperator.Function function = AggregateOperator.Function.of(aggregate.IDENTIFIER().getText());
+            if (function == null) {
+                throw new InvalidAggregateException("unknown aggregate function " + aggregate.IDENTIFIER().getText());
+            }
+            int columnIndex = -1;
+            if (aggregate.column_full_name() != null) {
+                String columnName = columnName(aggregate.column_full_name(), tableQuery);
+                columnIndex = columnNames.indexOf(columnName);
+                if (columnIndex < 0) {
+                    throw new ColumnNotExistException(columnName);
+                }
+            }
+            aggregates.put(name, new AggregateOperator.Aggregate(function, columnIndex, name, source.getColumns()));
+        }
+        Operator plan = new AggregateOperator(source, groupColumns, new ArrayList<>(aggregates.values()), Global.aggregateMemoryGroups);
+        if (ctx.having_clause() != null) {
+            plan = filter(plan, visitMultiple_condition(ctx.having_clause().multiple_condition()));
+        }
+        return plan;
+    }
+
+    // where 和 on 中不能有聚合函数
+    private static void checkNoAggregates(SQLParser.Select_stmtContext ctx) {
+        List<SQLParser.AggregateContext> aggregates = new ArrayList<>();
+        if (ctx.multiple_condition() != null) {
+            collectAggregates(ctx.multiple_condition(), aggregates);
+        }
+        for (SQLParser.Table_queryContext tableQuery : ctx.table_query()) {
+            if (tableQuery.multiple_condition() != null) {
+                collectAggregates(tableQuery.multiple_condition(), aggregates);
+            }
+        }
+        if (!aggregates.isEmpty()) {
+            throw new InvalidAggregateException("aggregate function " + aggregates.get(0).getText() + " cannot be used in WHERE or ON, use HAVING");
+        }
+    }
+
+    /**
+     * 说明查询怎样执行而不执行它 EXPLAIN select_stmt：从上到下是 limit、投影、排序，以及取行和连接的方式，
+     * 子结点比父结点多缩进两格，附有估计的行数和代价
+     */
+    @Override
+    public String visitExplain_stmt(SQLParser.Explain_stmtContext ctx) {
+        SQLParser.Select_stmtContext select = ctx.select_stmt();
+        SQLParser.Table_queryContext tableQuery = select.table_query().get(0);
+        try {
+            checkNoAggregates(select);
+        } catch (InvalidAggregateException e) {
+            return e.getMessage();
+        }
+        try(Database.DatabaseHandler db = manager.getCurrentDatabase(true, false)){
+            List<Table.TableHandler> handlers = new ArrayList<>();
+            try {
+                List<Table> tables = new ArrayList<>();
+                for (SQLParser.Table_nameContext tableName : tableQuery.table_name()) {
+                    Table.TableHandler handler = db.getDatabase().get(tableName.getText());
+                    handlers.add(handler);
+                    tables.add(handler.getTable());
+                }
+                MultipleConditionItem whereItem = select.multiple_condition() == null ? null : visitMultiple_condition(select.multiple_condition());
+                List<String> lines = new ArrayList<>();
+                String indent = explainProjection(select, lines);
+                if (tables.size() > 1) {
+                    MultipleConditionItem onItem = tableQuery.multiple_condition() == null ? null : visitMultiple_condition(tableQuery.multiple_condition());
+                    for (String line : new JoinQuery(tables, onItem, whereItem).plan.explain()) {
+                        lines.add(indent + line);
                     }
+                    return String.join("\n", lines);
                 }
-                //得到ArrayList<Column> selectColumns 为列
-                //得到ArrayList<Row> rowList 为行
-                //测试值是否正确
-                /*
-                for (Column column:selectColumns) {
-                    System.out.print(column.toString() + " ");
+                Table table = tables.get(0);
+                ArrayList<String> columnNames = columnNames(table.columns);
+                Set<Integer> referencedColumns = whereItem == null ? null : referencedColumns(table, whereItem, select);
+                Pair<ConditionItem, Cell> covering = referencedColumns == null ? null : coveringCondition(table, whereItem, referencedColumns);
+                if (pointRead(select) != null && Global.lockFreePointReads) {
+                    lines.add(indent + "Lock-free primary key lookup " + table.tableName + " where " + whereItem);
+                } else if (covering != null) {
+                    // 按统计信息估计索引中该值的行数和满足整个条件的行数，不真的查索引
+                    double tableRows = table.index.size();
+                    double fetched = tableRows * CostModel.selectivity(table, covering.left);
+                    double rows = Math.min(fetched, tableRows * CostModel.selectivity(table, whereItem));
+                    double cost = CostModel.seekCost(tableRows) + fetched * CostModel.FILTER_ROW;
+                    lines.add(indent + "Covering index lookup " + table.tableName + " where " + whereItem + JoinPlanner.estimate(rows, cost));
+                } else {
+                    AccessPath path = accessPath(table, whereItem, columnNames);
+                    lines.add(indent + path.description + JoinPlanner.estimate(path.rows, path.cost));
                 }
-                System.out.println(" ");
-                for(Row row:rowList){
-                    System.out.println(row.toString());
+                return String.join("\n", lines);
+            } finally {
+                for (Table.TableHandler handler : handlers) {
+                    handler.close();
                 }
-                 */
-                QueryTable queryTable = new QueryTable(rowList, selectColumns);
-                QueryTable[] queryTables = {queryTable};
-                return new QueryResult(queryTables);
             }
         }
-        catch(Exception e) {
-            return new QueryResult(e.getMessage());
+        catch(Exception e){
+            return e.getMessage();
         }
     }
 
+    // EXPLAIN 中 projection 在取行算子之上加的 limit、投影和排序，返回取行算子的说明的缩进
+    private String explainProjection(SQLParser.Select_stmtContext ctx, List<String> lines) {
+        String indent = "";
+        if (ctx.K_LIMIT() != null) {
+            lines.add("Limit " + ctx.NUMERIC_LITERAL().getText());
+            indent += "  ";
+        }
+        if (!ctx.result_column().get(0).getText().equals("*")) {
+            List<String> columns = new ArrayList<>();
+            for (SQLParser.Result_columnContext columnContext : ctx.result_column()) {
+                columns.add(columnContext.getText());
+            }
+            lines.add(indent + "Project " + String.join(", ", columns));
+            indent += "  ";
+        }
+        if (!ctx.ordering_term().isEmpty()) {
+            List<String> terms = new ArrayList<>();
+            for (SQLParser.Ordering_termContext term : ctx.ordering_term()) {
+                terms.add((term.aggregate() != null ? aggregateName(term.aggregate()) : term.column_full_name().getText())
+                        + (term.K_DESC() != null ? " desc" : ""));
+            }
+            lines.add(indent + "Sort by " + String.join(", ", terms));
+            indent += "  ";
+        }
+        if (ctx.having_clause() != null) {
+            lines.add(indent + "Filter " + visitMultiple_condition(ctx.having_clause().multiple_condition()));
+            indent += "  ";
+        }
+        if (aggregated(ctx)) {
+            List<String> groups = new ArrayList<>();
+            if (ctx.group_by_clause() != null) {
+                for (SQLParser.Column_full_nameContext column : ctx.group_by_clause().column_full_name()) {
+                    groups.add(column.getText());
+                }
+            }
+            Set<String> aggregates = new LinkedHashSet<>();
+            for (SQLParser.AggregateContext aggregate : aggregates(ctx)) {
+                aggregates.add(aggregateName(aggregate));
+            }
+            lines.add(indent + "Hash aggregate" + (groups.isEmpty() ? "" : " group by " + String.join(", ", groups))
+                    + (aggregates.isEmpty() ? "" : ": " + String.join(", ", aggregates)));
+            indent += "  ";
+        }
+        return indent;
+    }
+
     /**
      * Finished and Tested
      *
@@ -607,13 +1256,79 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             String tableName = ctx.table_name().getText();
             try(Table.TableHandler tb = db.getDatabase().get(tableName)) {
                 Table table = tb.getTable();
-                return table.toString();
+                StringBuilder info = new StringBuilder(table.toString());
+                info.append("Primary index: ").append(table.getIndexFootprint().toString()).append("\n");
+                info.append(table.getVersionInfo());
+                info.append(table.getScanInfo());
+                info.append(table.getPointReadInfo());
+                for (SecondaryIndex secondaryIndex : table.getSecondaryIndexes()) {
+                    info.append("Index ").append(secondaryIndex.toString()).append("\n");
+                }
+                return info.toString();
             }
         }
         catch(Exception e){
             return e.getMessage();
         }
     }
+    /**
+     * 按执行时观察到的 where 条件给出建索引的建议 SHOW INDEX ADVICE
+     */
+    @Override
+    public String visitShow_index_advice_stmt(SQLParser.Show_index_advice_stmtContext ctx){
+        try(Database.DatabaseHandler db = manager.getCurrentDatabase(true, false)){
+            return db.getDatabase().getIndexAdvice();
+        }
+        catch(Exception e){
+            return e.getMessage();
+        }
+    }
+    /**
+     * 展示 ANALYZE 收集的统计信息 SHOW STATS tableName
+     */
+    @Override
+    public String visitShow_stats_stmt(SQLParser.Show_stats_stmtContext ctx){
+        try(Database.DatabaseHandler db = manager.getCurrentDatabase(true, false)){
+            String tableName = ctx.table_name().getText();
+            try(Table.TableHandler tb = db.getDatabase().get(tableName)) {
+                TableStatistics statistics = tb.getTable().getStatistics();
+                if (statistics == null) {
+                    return "Table " + tableName + " has no statistics, run ANALYZE " + tableName + " first";
+                }
+                return "Statistics of " + tableName + ": " + statistics.toString();
+            }
+        }
+        catch(Exception e){
+            return e.getMessage();
+        }
+    }
+    /**
+     * 收集表的统计信息 ANALYZE [tableName]，不给表名时收集当前数据库中的所有表
+     * 扫描全表期间持有表的读锁
+     */
+    @Override
+    public String visitAnalyze_stmt(SQLParser.Analyze_stmtContext ctx){
+        try(Database.DatabaseHandler db = manager.getCurrentDatabase(true, false)){
+            List<String> tableNames = new ArrayList<>();
+            if (ctx.table_name() != null) {
+                tableNames.add(ctx.table_name().getText());
+            } else {
+                tableNames.addAll(db.getDatabase().getTableNames());
+                Collections.sort(tableNames);
+            }
+            StringBuilder result = new StringBuilder();
+            for (String tableName : tableNames) {
+                try(Table.TableHandler tb = db.getDatabase().get(tableName)) {
+                    TableStatistics statistics = tb.getTable().analyze();
+                    result.append("Analyze ").append(tableName).append(": ").append(statistics.getRows()).append(" rows.\n");
+                }
+            }
+            return result.length() == 0 ? "No table to analyze." : result.toString().trim();
+        }
+        catch(Exception e){
+            return e.getMessage();
+        }
+    }
     /**
      *
      * 展示数据库中的所有表
@@ -655,6 +1370,591 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         }
         return "Quit.";
     }
+    /**
+     * where 中用 and 连接的某个 列 = 字面量 条件若能走二级索引，返回估计的候选行数和取出候选行的方法，否则返回 null
+     * 先用位图索引把整个条件算成行序号的集合，其次用其他二级索引
+     * 计划时只按各个值的行数估计候选行数，位图的与、或、非在算子打开时才做；候选行仍需用完整的 where 条件过滤
+     */
+    private Pair<Double, Supplier<Iterable<Row>>> candidateLookup(Table table, MultipleConditionItem whereItem) {
+        Pair<Double, Supplier<RoaringBitmap>> ordinals = candidateBitmap(table, whereItem);
+        if (ordinals != null) {
+            return new Pair<>(ordinals.left, () -> table.rowsOf(ordinals.right.get()));
+        }
+        for (ConditionItem condition : whereItem.conjuncts()) {
+            int columnIndex = comparedColumn(table, condition);
+            if (columnIndex < 0 || !condition.comparator.equals("=") || !table.hasEqualityIndex(columnIndex)) {
+                continue;
+            }
+            Cell value = literalToCell(condition.comparisonLiteral(), table.columns.get(columnIndex));
+            if (value == null) {
+                continue;
+            }
+            double rows = table.index.size() * CostModel.equalSelectivity(table, columnIndex);
+            return new Pair<>(rows, () -> table.indexLookup(columnIndex, value));
+        }
+        return null;
+    }
+
+    /**
+     * 单表查询用到的列(选出、排序、分组、聚合的列和 where 中的列)都在某个二级索引的键列、主键和包含列中时，
+     * 用该索引的 列 = 字面量 条件只从索引取出这些列，不回表；返回的行中其余列为 null
+     * 有主键等值条件，或没有这样的索引时返回 null，由调用者照常取行
+     */
+    private List<Row> coveringRows(Table table, MultipleConditionItem whereItem,
+                                   SQLParser.Select_stmtContext ctx, ArrayList<String> columnNames) {
+        Set<Integer> referencedColumns = referencedColumns(table, whereItem, ctx);
+        Pair<ConditionItem, Cell> covering = referencedColumns == null ? null : coveringCondition(table, whereItem, referencedColumns);
+        if (covering == null) {
+            return null;
+        }
+        List<Row> rows = table.coveringLookup(comparedColumn(table, covering.left), covering.right, referencedColumns);
+        Predicate<Row> matches = rowPredicate(whereItem, table.columns);
+        List<Row> result = new ArrayList<>();
+        for (Row row : rows) {
+            if (matches.test(row)) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    // 单表查询用到的列在表中的下标，选出的列中有 * 或表中没有的列时返回 null
+    private Set<Integer> referencedColumns(Table table, MultipleConditionItem whereItem, SQLParser.Select_stmtContext ctx) {
+        Set<String> referencedNames = new HashSet<>();
+        for (SQLParser.Result_columnContext columnContext : ctx.result_column()) {
+            if (columnContext.column_full_name() != null) {
+                referencedNames.add(columnContext.column_full_name().column_name().getText());
+            } else if (columnContext.aggregate() == null) {
+                return null;
+            }
+        }
+        // 排序列、分组列和聚合的列也要从索引中取出
+        for (SQLParser.Column_full_nameContext column : referencedColumns(ctx)) {
+            referencedNames.add(column.column_name().getText());
+        }
+        whereItem.collectColumns(referencedNames);
+        Set<Integer> referencedColumns = new HashSet<>();
+        for (String columnName : referencedNames) {
+            int columnIndex = table.Column2Index(columnName);
+            if (columnIndex < 0) {
+                return null;
+            }
+            referencedColumns.add(columnIndex);
+        }
+        return referencedColumns;
+    }
+
+    /**
+     * coveringRows 用来查覆盖索引的 列 = 字面量 条件和换算成该列类型的值，只选索引不取行，EXPLAIN 也用它
+     * 有主键等值条件，或没有包含 referencedColumns 的索引时返回 null
+     */
+    private Pair<ConditionItem, Cell> coveringCondition(Table table, MultipleConditionItem whereItem, Set<Integer> referencedColumns) {
+        ArrayList<ConditionItem> conjuncts = whereItem.conjuncts();
+        for (ConditionItem condition : conjuncts) {
+            if (comparedColumn(table, condition) == table.getPrimaryIndex() && condition.comparator.equals("=")) {
+                return null;
+            }
+        }
+        for (ConditionItem condition : conjuncts) {
+            int columnIndex = comparedColumn(table, condition);
+            if (columnIndex < 0 || !condition.comparator.equals("=")) {
+                continue;
+            }
+            Cell value = literalToCell(condition.comparisonLiteral(), table.columns.get(columnIndex));
+            if (value != null && table.coveringIndex(columnIndex, referencedColumns) != null) {
+                return new Pair<>(condition, value);
+            }
+        }
+        return null;
+    }
+
+    // 条件形如 列 比较符 字面量 时返回列在表中的下标，否则返回 -1
+    private int comparedColumn(Table table, ConditionItem condition) {
+        ComparerItem columnItem = condition.comparisonColumn();
+        return columnItem == null ? -1 : table.Column2Index(columnItem.columnName);
+    }
+
+    /**
+     * 用位图索引求满足条件的行的序号：列 = 字面量 取该值的位图，列 <> 字面量 和 not 取全体行中的补集，
+     * and、or 对应位图的与、或。条件中有用不上位图的部分时返回 null
+     * (条件对 null 只有真假两种结果，该列为 null 的行满足 <>，所以补集是精确的)
+     * 返回估计的行数和求位图的方法：= 和 <> 的行数是精确的，and、or 按两侧相互独立估计
+     */
+    private Pair<Double, Supplier<RoaringBitmap>> exactBitmap(Table table, MultipleConditionItem item) {
+        double tableRows = table.index.size();
+        if (!item.hasChild()) {
+            ConditionItem condition = item.conditionItem;
+            int columnIndex = comparedColumn(table, condition);
+            if (columnIndex < 0 || !(condition.comparator.equals("=") || condition.comparator.equals("<>"))) {
+                return null;
+            }
+            Cell value = literalToCell(condition.comparisonLiteral(), table.columns.get(columnIndex));
+            int count = value == null ? -1 : table.bitmapCount(columnIndex, value);
+            if (count < 0) {
+                return null;
+            }
+            if (condition.comparator.equals("=")) {
+                return new Pair<>((double) count, () -> table.bitmapLookup(columnIndex, value));
+            }
+            return new Pair<>(tableRows - count, () -> table.liveRowBitmap().andNot(table.bitmapLookup(columnIndex, value)));
+        }
+        Pair<Double, Supplier<RoaringBitmap>> left = exactBitmap(table, item.multiConditionItem1);
+        if (left == null) {
+            return null;
+        }
+        if (item.op.equals("not")) {
+            return new Pair<>(tableRows - left.left, () -> table.liveRowBitmap().andNot(left.right.get()));
+        }
+        Pair<Double, Supplier<RoaringBitmap>> right = exactBitmap(table, item.multiConditionItem2);
+        if (right == null) {
+            return null;
+        }
+        return item.op.equals("and") ? bitmapAnd(left, right, tableRows) : bitmapOr(left, right, tableRows);
+    }
+
+    /**
+     * 满足条件的行的序号的超集：在 exactBitmap 的基础上，列 LIKE 字符串 用三元组索引求候选行，
+     * and 中用不上索引的一侧被忽略，or 的两侧都有候选时取并。整个条件都用不上索引时返回 null
+     * LIKE 的候选行数取各个三元组的倒排表中最短的一个，是上界
+     */
+    private Pair<Double, Supplier<RoaringBitmap>> candidateBitmap(Table table, MultipleConditionItem item) {
+        Pair<Double, Supplier<RoaringBitmap>> exact = exactBitmap(table, item);
+        if (exact != null) {
+            return exact;
+        }
+        if (!item.hasChild()) {
+            ConditionItem condition = item.conditionItem;
+            int columnIndex = comparedColumn(table, condition);
+            if (columnIndex < 0 || !condition.comparator.equals("like") || condition.comparisonColumn() != condition.expr1
+                    || condition.expr2.type != ComparerType.STRING) {
+                return null;
+            }
+            String pattern = Cell.unquote(condition.expr2.literalValue);
+            int estimate = table.trigramEstimate(columnIndex, pattern);
+            return estimate < 0 ? null : new Pair<>((double) estimate, () -> table.trigramLookup(columnIndex, pattern));
+        }
+        if (item.op.equals("not")) {
+            return null;
+        }
+        Pair<Double, Supplier<RoaringBitmap>> left = candidateBitmap(table, item.multiConditionItem1);
+        Pair<Double, Supplier<RoaringBitmap>> right = candidateBitmap(table, item.multiConditionItem2);
+        double tableRows = table.index.size();
+        if (item.op.equals("or")) {
+            return left == null || right == null ? null : bitmapOr(left, right, tableRows);
+        }
+        if (left == null || right == null) {
+            return left == null ? right : left;
+        }
+        return bitmapAnd(left, right, tableRows);
+    }
+
+    private static Pair<Double, Supplier<RoaringBitmap>> bitmapAnd(Pair<Double, Supplier<RoaringBitmap>> left,
+                                                              Pair<Double, Supplier<RoaringBitmap>> right, double tableRows) {
+        double rows = tableRows == 0 ? 0 : left.left * right.left / tableRows;
+        return new Pair<>(rows, () -> left.right.get().and(right.right.get()));
+    }
+
+    private static Pair<Double, Supplier<RoaringBitmap>> bitmapOr(Pair<Double, Supplier<RoaringBitmap>> left,
+                                                             Pair<Double, Supplier<RoaringBitmap>> right, double tableRows) {
+        double rows = left.left + right.left - (tableRows == 0 ? 0 : left.left * right.left / tableRows);
+        return new Pair<>(rows, () -> left.right.get().or(right.right.get()));
+    }
+
+    /**
+     * 满足条件的行的主键所在的范围：主键 比较符 字面量 换算成区间，and、or 对应区间的交、并
+     * 用不上主键的条件(包括 not)当作不限制主键，所以 and 中取另一侧的范围，or 中只要一侧不限制整体就不限制
+     * 整个条件都不限制主键时返回 null
+     */
+    private KeyRanges<Cell> keyRanges(Table table, MultipleConditionItem item) {
+        if (!item.hasChild()) {
+            return keyRange(table, item.conditionItem);
+        }
+        if (item.op.equals("not")) {
+            return null;
+        }
+        KeyRanges<Cell> left = keyRanges(table, item.multiConditionItem1);
+        KeyRanges<Cell> right = keyRanges(table, item.multiConditionItem2);
+        if (item.op.equals("or")) {
+            return left == null || right == null ? null : left.union(right);
+        }
+        if (left == null || right == null) {
+            return left == null ? right : left;
+        }
+        return left.intersect(right);
+    }
+
+    /**
+     * 条件形如 主键 比较符 字面量 时，主键满足条件的范围，与 {@link ConditionItem#evaluate} 的结果完全一致(主键不为 null)
+     * 其他条件，以及比较结果无法精确换算成区间的(FLOAT、DOUBLE 主键，超出 2^53 的数值，类型不匹配)返回 null
+     */
+    private KeyRanges<Cell> keyRange(Table table, ConditionItem condition) {
+        if (comparedColumn(table, condition) != table.getPrimaryIndex()) {
+            return null;
+        }
+        ComparerItem literal = condition.comparisonLiteral();
+        String comparator = condition.columnComparator();
+        ColumnType columnType = table.columns.get(table.getPrimaryIndex()).getColumnType();
+        Double number = literal.type == ComparerType.NUMBER ? literal.numericLiteral() : null;
+        if (comparator.equals("like")) {
+            return null;
+        }
+        // 与 null 比较(解析不了的数值字面量也是 null)：主键不为 null，只有 <> 成立
+        if (literal.type == ComparerType.NULL || (literal.type == ComparerType.NUMBER && number == null && columnType != ColumnType.STRING)) {
+            return comparator.equals("<>") ? KeyRanges.all() : KeyRanges.none();
+        }
+        if (columnType == ColumnType.STRING && literal.type == ComparerType.STRING) {
+            Cell value = new Cell(literal.literalValue);
+            switch (comparator) {
+                case "=": return KeyRanges.point(value);
+                case "<": return KeyRanges.range(null, false, value, false);
+                case "<=": return KeyRanges.range(null, false, value, true);
+                case ">": return KeyRanges.range(value, false, null, false);
+                case ">=": return KeyRanges.range(value, true, null, false);
+                default: return KeyRanges.<Cell>range(null, false, value, false).union(KeyRanges.range(value, false, null, false));
+            }
+        }
+        if ((columnType == ColumnType.INT || columnType == ColumnType.LONG) && number != null && Math.abs(number) < 0x1p53) {
+            return integerKeyRange(columnType, comparator, number);
+        }
+        return null;
+    }
+
+    /**
+     * INT、LONG 主键 比较符 v 的范围，界都换成整数的闭区间
+     * evaluate 把两侧都换成 Double 比较，|v| < 2^53 时与按实数比较相同
+     */
+    private static KeyRanges<Cell> integerKeyRange(ColumnType columnType, String comparator, double v) {
+        switch (comparator) {
+            case "=": return v == Math.floor(v) ? integerRange(columnType, (long) v, (long) v) : KeyRanges.none();
+            case "<": return integerRange(columnType, Long.MIN_VALUE, (long) Math.ceil(v) - 1);
+            case "<=": return integerRange(columnType, Long.MIN_VALUE, (long) Math.floor(v));
+            case ">": return integerRange(columnType, (long) Math.floor(v) + 1, Long.MAX_VALUE);
+            case ">=": return integerRange(columnType, (long) Math.ceil(v), Long.MAX_VALUE);
+            default: return integerKeyRange(columnType, "<", v).union(integerKeyRange(columnType, ">", v));
+        }
+    }
+
+    // [low, high] 中该类型能取到的值，到达类型的最小、最大值的一侧不设界
+    private static KeyRanges<Cell> integerRange(ColumnType columnType, long low, long high) {
+        long min = columnType == ColumnType.INT ? Integer.MIN_VALUE : Long.MIN_VALUE;
+        long max = columnType == ColumnType.INT ? Integer.MAX_VALUE : Long.MAX_VALUE;
+        if (low > max || high < min || low > high) {
+            return KeyRanges.none();
+        }
+        Cell lowCell = low <= min ? null : columnType == ColumnType.INT ? new Cell((int) low) : new Cell(low);
+        Cell highCell = high >= max ? null : columnType == ColumnType.INT ? new Cell((int) high) : new Cell(high);
+        return KeyRanges.range(lowCell, true, highCell, true);
+    }
+
+    // 条件中每个 主键 比较符 字面量 都能精确换算成区间，且没有 not 时，keyRanges 恰好是满足条件的行的主键
+    private boolean exactKeyRanges(Table table, MultipleConditionItem item) {
+        if (!item.hasChild()) {
+            return keyRange(table, item.conditionItem) != null;
+        }
+        return !item.op.equals("not") && exactKeyRanges(table, item.multiConditionItem1)
+                && exactKeyRanges(table, item.multiConditionItem2);
+    }
+
+    // 去掉顶层 and 中已由主键范围精确保证的部分后剩下的条件，全部被保证时返回 null
+    private MultipleConditionItem residual(Table table, MultipleConditionItem item) {
+        if (exactKeyRanges(table, item)) {
+            return null;
+        }
+        if (!item.hasChild() || !item.op.equals("and")) {
+            return item;
+        }
+        MultipleConditionItem left = residual(table, item.multiConditionItem1);
+        MultipleConditionItem right = residual(table, item.multiConditionItem2);
+        if (left == null || right == null) {
+            return left == null ? right : left;
+        }
+        return left == item.multiConditionItem1 && right == item.multiConditionItem2 ? item : new MultipleConditionItem(left, right, "and");
+    }
+
+    /**
+     * where 中用 and 连接的 列 比较符 字面量 条件，用来按区域映射跳过叶子
+     * 只取比较方式与 {@link ConditionItem#evaluate} 一致的：数值列与能解析的数值比较，STRING 列与字符串比较
+     */
+    private List<ZoneMap.Condition> zoneMapConditions(Table table, MultipleConditionItem whereItem) {
+        List<ZoneMap.Condition> conditions = new ArrayList<>();
+        for (ConditionItem condition : whereItem.conjuncts()) {
+            ComparerItem columnItem = condition.comparisonColumn();
+            if (columnItem == null) {
+                continue;
+            }
+            int columnIndex = table.Column2Index(columnItem.columnName);
+            if (columnIndex < 0) {
+                continue;
+            }
+            ComparerItem literal = condition.comparisonLiteral();
+            ColumnType columnType = table.columns.get(columnIndex).getColumnType();
+            if (columnType != ColumnType.STRING && literal.type == ComparerType.NUMBER) {
+                // 解析不了的数值字面量在 evaluate 中是 null
+                Double value = literal.numericLiteral();
+                if (value != null) {
+                    conditions.add(new ZoneMap.Condition(columnIndex, condition.columnComparator(), value));
+                }
+            } else if (columnType == ColumnType.STRING && literal.type == ComparerType.STRING) {
+                conditions.add(new ZoneMap.Condition(columnIndex, condition.columnComparator(), literal.literalValue));
+            }
+        }
+        return conditions;
+    }
+
+    /**
+     * 把 where 中的字面量转成与列同类型的 Cell，只在与 {@link ConditionItem#evaluate} 的比较结果完全一致时转换，否则返回 null
+     */
+    private Cell literalToCell(ComparerItem literal, Column column) {
+        try {
+            switch (column.getColumnType()) {
+                case INT:
+                    if (literal.type != ComparerType.NUMBER) return null;
+                    if (!literal.literalValue.contains(".")) return new Cell(Integer.parseInt(literal.literalValue));
+                    double d = Double.parseDouble(literal.literalValue);
+                    return d == (int) d ? new Cell((int) d) : null;
+                case LONG:
+                    // 只有规范写法的整数才能用索引
+                    if (literal.type != ComparerType.NUMBER) return null;
+                    long l = Long.parseLong(literal.literalValue);
+                    return String.valueOf(l).equals(literal.literalValue) ? new Cell(l) : null;
+                case STRING:
+                    return literal.type == ComparerType.STRING ? new Cell(literal.literalValue) : null;
+                default:
+                    return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 取出满足 where 条件的行(whereItem 为 null 时取出所有行)
+     */
+    private List<Row> matchingRows(Table table, MultipleConditionItem whereItem, ArrayList<String> columnNames) {
+        List<Row> rows = new ArrayList<>();
+        try (Operator source = rowSource(table, whereItem, columnNames, false)) {
+            source.open();
+            for (Row row = source.next(); row != null; row = source.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 输出单表中满足 where 条件的行的算子(whereItem 为 null 时输出所有行)，取行方式见 accessPath
+     */
+    private Operator rowSource(Table table, MultipleConditionItem whereItem, ArrayList<String> columnNames, boolean pipelined) {
+        return accessPath(table, whereItem, columnNames).open(pipelined);
+    }
+
+    /**
+     * 单表中满足 where 条件的行的几种取法中估计代价({@link CostModel})最小的一种(whereItem 为 null 时取出所有行)：
+     * 主键的范围比整张表小时按主键点查或范围扫描，只用主键范围保证不了的条件过滤；
+     * 能走二级索引时从索引取候选行再过滤；全表扫描总是可行
+     */
+    private AccessPath accessPath(Table table, MultipleConditionItem whereItem, ArrayList<String> columnNames) {
+        double tableRows = table.index.size();
+        if (whereItem == null) {
+            return new AccessPath("Full scan " + table.tableName, tableRows, CostModel.scanCost(tableRows, false, false),
+                    table.scansInKeyOrder(), pipelined -> new ScanOperator(table));
+        }
+        double rows = tableRows * CostModel.selectivity(table, whereItem);
+        VectorPredicate vector = Global.vectorizedExecution ? whereItem.vectorize(table.columns) : null;
+        AccessPath best = new AccessPath("Full scan " + table.tableName + (vector == null ? "" : " (vectorized)")
+                + " where " + whereItem, rows, CostModel.scanCost(tableRows, true, vector != null), table.scansInKeyOrder(),
+                pipelined -> fullScan(table, whereItem, vector, columnNames, pipelined));
+        KeyRanges<Cell> keys = keyRanges(table, whereItem);
+        if (keys != null && !keys.isAll() && table.supportsPrimaryKeyLookup(keys)) {
+            MultipleConditionItem residual = residual(table, whereItem);
+            List<Cell> points = keys.points();
+            // 主键范围内的行数按精确换算成区间的那些条件的选择率估计
+            double keySelectivity = 1;
+            for (MultipleConditionItem term : whereItem.terms()) {
+                if (exactKeyRanges(table, term)) {
+                    keySelectivity *= CostModel.selectivity(table, term);
+                }
+            }
+            double fetched = points != null ? points.size() : tableRows * keySelectivity;
+            double seeks = points != null ? points.size() : keys.ranges().size();
+            double cost = seeks * CostModel.seekCost(tableRows) + fetched * CostModel.SCAN_ROW
+                    + (residual == null ? 0 : fetched * CostModel.FILTER_ROW);
+            String description = (points != null ? "Primary key lookup " : "Primary key range scan ") + table.tableName
+                    + " " + keys + (residual == null ? "" : " where " + residual);
+            best = cheaper(best, new AccessPath(description, Math.min(rows, fetched), cost, true, pipelined -> {
+                new PredicateSample(table, whereItem).record(false);
+                // 主键点查在算子打开时才执行，EXPLAIN 和没有选中的计划不取行
+                Operator scan = new IndexScanOperator(() -> table.primaryKeyLookup(keys), table.columns);
+                return residual == null ? scan : filter(scan, residual);
+            }));
+        }
+        Pair<Double, Supplier<Iterable<Row>>> candidates = candidateLookup(table, whereItem);
+        if (candidates != null) {
+            double cost = CostModel.seekCost(tableRows) + candidates.left * (CostModel.INDEX_ROW + CostModel.FILTER_ROW);
+            best = cheaper(best, new AccessPath("Index lookup " + table.tableName + " where " + whereItem,
+                    Math.min(rows, candidates.left), cost, false, pipelined -> {
+                new PredicateSample(table, whereItem).record(false);
+                return filter(new IndexScanOperator(candidates.right, table.columns), whereItem);
+            }));
+        }
+        return best;
+    }
+
+    private static AccessPath cheaper(AccessPath a, AccessPath b) {
+        return b.cost < a.cost ? b : a;
+    }
+
+    /**
+     * 全表扫描并过滤：pipelined 为 true 时在调用线程上按主键顺序边扫描边过滤，以便上层提前结束，
+     * 否则按 B+树内部结点的边界切分后在 fork-join 线程池上并行过滤
+     * where 条件能向量化(vector 不为 null)就按批过滤，不能时逐行求值
+     */
+    private Operator fullScan(Table table, MultipleConditionItem whereItem, VectorPredicate vector,
+                              ArrayList<String> columnNames, boolean pipelined) {
+        PredicateSample sample = new PredicateSample(table, whereItem);
+        List<ZoneMap.Condition> conditions = zoneMapConditions(table, whereItem);
+        if (vector != null) {
+            Consumer<RowBatch> observer = batch -> sample.observe(batch, columnNames);
+            Operator scan = pipelined
+                    ? new BatchRowOperator(new BatchFilterOperator(new BatchScanOperator(table, conditions, observer), vector))
+                    : new ParallelScanOperator(table, conditions, vector, observer);
+            return new SampledScan(scan, sample);
+        }
+        Predicate<Row> matches = rowPredicate(whereItem, table.columns);
+        Predicate<Row> observed = row -> {
+            sample.observe(row, columnNames);
+            return matches.test(row);
+        };
+        Operator scan = pipelined
+                ? new FilterOperator(new ScanOperator(table, table.columns, conditions), observed)
+                : new ParallelScanOperator(table, conditions, observed);
+        return new SampledScan(scan, sample);
+    }
+
+    /**
+     * 单表取行的一种方式：说明、估计的输出行数和代价，open 时才生成取行的算子
+     */
+    private static class AccessPath {
+        private final String description;
+        private final double rows;
+        private final double cost;
+        // 以 pipelined 打开时按主键从小到大输出
+        private final boolean keyOrdered;
+        private final Function<Boolean, Operator> open;
+
+        AccessPath(String description, double rows, double cost, boolean keyOrdered, Function<Boolean, Operator> open) {
+            this.description = description;
+            this.rows = rows;
+            this.cost = cost;
+            this.keyOrdered = keyOrdered;
+            this.open = open;
+        }
+
+        Operator open(boolean pipelined) {
+            return this.open.apply(pipelined);
+        }
+    }
+
+    /**
+     * 全表扫描结束(关闭)时把扫描中观察到的条件统计记到表上
+     */
+    private static class SampledScan implements Operator {
+        private final Operator scan;
+        private final PredicateSample sample;
+
+        SampledScan(Operator scan, PredicateSample sample) {
+            this.scan = scan;
+            this.sample = sample;
+        }
+
+        @Override
+        public List<Column> getColumns() {
+            return this.scan.getColumns();
+        }
+
+        @Override
+        public void open() {
+            this.scan.open();
+        }
+
+        @Override
+        public Row next() {
+            return this.scan.next();
+        }
+
+        @Override
+        public void close() {
+            this.scan.close();
+            this.sample.record(true);
+        }
+    }
+
+    /**
+     * 为索引建议统计 where 中用 and 连接的 列 比较符 字面量 条件：全表扫描时数读过的行，
+     * 并在约 SAMPLED_ROWS 行的随机样本上单独检查各个条件来估计选择率；由并行扫描的工作线程同时调用
+     */
+    private static class PredicateSample {
+        private static final int SAMPLED_ROWS = 1024;
+
+        private final Table table;
+        private final List<ConditionItem> conditions = new ArrayList<>();
+        private final List<String> columns = new ArrayList<>();
+        private final int rate;
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder sampled = new LongAdder();
+        private final AtomicLongArray matches;
+
+        PredicateSample(Table table, MultipleConditionItem whereItem) {
+            this.table = table;
+            for (ConditionItem condition : whereItem.conjuncts()) {
+                ComparerItem columnItem = condition.comparisonColumn();
+                int columnIndex = columnItem == null ? -1 : table.Column2Index(columnItem.columnName);
+                if (columnIndex >= 0) {
+                    this.conditions.add(condition);
+                    this.columns.add(table.columns.get(columnIndex).getColumnName());
+                }
+            }
+            this.rate = Math.max(1, table.index.size() / SAMPLED_ROWS);
+            this.matches = new AtomicLongArray(this.conditions.size());
+        }
+
+        void observe(Row row, ArrayList<String> columnNames) {
+            this.scanned.increment();
+            if (this.conditions.isEmpty() || (this.rate > 1 && ThreadLocalRandom.current().nextInt(this.rate) != 0)) {
+                return;
+            }
+            this.check(row, columnNames);
+        }
+
+        // 向量化扫描按批观察：从随机起点开始每 rate 行取一行
+        void observe(RowBatch batch, ArrayList<String> columnNames) {
+            this.scanned.add(batch.size);
+            if (this.conditions.isEmpty()) {
+                return;
+            }
+            int start = this.rate == 1 ? 0 : ThreadLocalRandom.current().nextInt(this.rate);
+            for (int i = start; i < batch.size; i += this.rate) {
+                this.check(batch.rows[i], columnNames);
+            }
+        }
+
+        private void check(Row row, ArrayList<String> columnNames) {
+            this.sampled.increment();
+            for (int i = 0; i < this.conditions.size(); i++) {
+                if (Boolean.TRUE.equals(this.conditions.get(i).evaluate(row, columnNames))) {
+                    this.matches.incrementAndGet(i);
+                }
+            }
+        }
+
+        void record(boolean fullScan) {
+            for (int i = 0; i < this.conditions.size(); i++) {
+                this.table.getPredicateStatistics().record(this.columns.get(i), this.conditions.get(i).columnComparator(),
+                        fullScan, this.scanned.sum(), this.sampled.sum(), this.matches.get(i));
+            }
+        }
+    }
+
     @Override
     public Object visitParse(SQLParser.ParseContext ctx) {
         return visitSql_stmt_list(ctx.sql_stmt_list());
@@ -677,6 +1977,10 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
             String columnName = ctx.column_full_name().column_name().IDENTIFIER().getText();
             return new ComparerItem(ComparerType.COLUMN,tableName,columnName);
         }
+        else if(ctx.aggregate()!=null){
+            //having 中的聚合函数按名字引用聚合算子输出的列
+            return new ComparerItem(ComparerType.COLUMN,null,aggregateName(ctx.aggregate()));
+        }
         else if(ctx.literal_value()!=null){
             String literalValue = "null";
             if(ctx.literal_value().NUMERIC_LITERAL()!=null){
@@ -741,7 +2045,7 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
     public ConditionItem visitCondition(SQLParser.ConditionContext ctx){
         ComparerItem comparerItem1 = (ComparerItem) visit(ctx.getChild(0));
         ComparerItem comparerItem2 = (ComparerItem) visit(ctx.getChild(2));
-        return new ConditionItem(comparerItem1,comparerItem2,ctx.getChild(1).getText());
+        return new ConditionItem(comparerItem1,comparerItem2,ctx.getChild(1).getText().toLowerCase());
     }
 
     @Override
@@ -749,6 +2053,12 @@ public class ImpVisitor extends SQLBaseVisitor<Object> {
         if(ctx.getChildCount() == 1) {
             return new MultipleConditionItem((ConditionItem) visit(ctx.getChild(0)));
         }
+        if(ctx.K_NOT() != null) {
+            return new MultipleConditionItem(visitMultiple_condition(ctx.multiple_condition(0)), null, "not");
+        }
+        if(ctx.getChild(0).getText().equals("(")) {
+            return visitMultiple_condition(ctx.multiple_condition(0));
+        }
 
         MultipleConditionItem m1 = (MultipleConditionItem) visit(ctx.getChild(0));
         MultipleConditionItem m2 = (MultipleConditionItem) visit(ctx.getChild(2));
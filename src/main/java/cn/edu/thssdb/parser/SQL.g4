@@ -16,6 +16,7 @@ sql_stmt :
     | drop_table_stmt
     | insert_stmt
     | select_stmt
+    | explain_stmt
     | create_view_stmt
     | drop_view_stmt
     | grant_stmt
@@ -24,8 +25,13 @@ sql_stmt :
     | show_db_stmt
     | show_table_stmt
     | show_meta_stmt
+    | show_index_advice_stmt
+    | show_stats_stmt
+    | analyze_stmt
     | quit_stmt
-    | update_stmt ;
+    | update_stmt
+    | create_index_stmt
+    | drop_index_stmt ;
 
 create_db_stmt :
     K_CREATE K_DATABASE database_name ;
@@ -41,11 +47,32 @@ drop_user_stmt :
 
 create_table_stmt :
     K_CREATE K_TABLE table_name
-        '(' column_def ( ',' column_def )* ( ',' table_constraint )? ')' ;
+        '(' column_def ( ',' column_def )* ( ',' table_constraint )? ')'
+        ( K_WITH '(' index_option ( ',' index_option )* ')' )? ;
+
+create_index_stmt :
+    K_CREATE K_INDEX index_name K_ON table_name '(' column_name ')'
+        ( K_INCLUDE '(' column_name ( ',' column_name )* ')' )? ( K_USING IDENTIFIER )?
+        ( K_WITH '(' index_option ( ',' index_option )* ')' )? ;
+
+drop_index_stmt :
+    K_DROP K_INDEX index_name K_ON table_name ;
 
 show_meta_stmt :
     K_SHOW K_TABLE table_name ;
 
+show_index_advice_stmt :
+    K_SHOW K_INDEX K_ADVICE ;
+
+show_stats_stmt :
+    K_SHOW K_STATS table_name ;
+
+analyze_stmt :
+    K_ANALYZE table_name? ;
+
+explain_stmt :
+    K_EXPLAIN select_stmt ;
+
 grant_stmt :
     K_GRANT auth_level ( ',' auth_level )* K_ON table_name K_TO user_name ;
 
@@ -72,14 +99,29 @@ show_table_stmt :
 
 insert_stmt :
     K_INSERT K_INTO table_name ( '(' column_name ( ',' column_name )* ')' )?
-        K_VALUES value_entry ( ',' value_entry )* ;
+        K_VALUES value_entry ( ',' value_entry )*
+        ( K_ON K_DUPLICATE K_KEY K_UPDATE assignment ( ',' assignment )* )? ;
+
+assignment :
+    column_name '=' expression ;
 
 value_entry :
     '(' literal_value ( ',' literal_value )* ')' ;
 
 select_stmt :
     K_SELECT ( K_DISTINCT | K_ALL )? result_column ( ',' result_column )*
-        K_FROM table_query ( ',' table_query )* ( K_WHERE multiple_condition )? ;
+        K_FROM table_query ( ',' table_query )* ( K_WHERE multiple_condition )?
+        group_by_clause? having_clause?
+        ( K_ORDER K_BY ordering_term ( ',' ordering_term )* )? ( K_LIMIT NUMERIC_LITERAL )? ;
+
+group_by_clause :
+    K_GROUP K_BY column_full_name ( ',' column_full_name )* ;
+
+having_clause :
+    K_HAVING multiple_condition ;
+
+ordering_term :
+    ( column_full_name | aggregate ) ( K_ASC | K_DESC )? ;
 
 create_view_stmt :
     K_CREATE K_VIEW view_name K_AS select_stmt ;
@@ -107,6 +149,8 @@ column_constraint :
 
 multiple_condition :
     condition
+    | '(' multiple_condition ')'
+    | K_NOT multiple_condition
     | multiple_condition AND multiple_condition
     | multiple_condition OR multiple_condition ;
 
@@ -115,10 +159,11 @@ condition :
 
 comparer :
     column_full_name
-    | literal_value ;
+    | literal_value
+    | aggregate ;
 
 comparator :
-    EQ | NE | LE | GE | LT | GT ;
+    EQ | NE | LE | GE | LT | GT | K_LIKE ;
 
 expression :
     comparer
@@ -129,10 +174,17 @@ expression :
 table_constraint :
     K_PRIMARY K_KEY '(' column_name (',' column_name)* ')' ;
 
+index_option :
+    IDENTIFIER EQ literal_value ;
+
 result_column
     : '*'
     | table_name '.' '*'
-    | column_full_name;
+    | column_full_name
+    | aggregate ;
+
+aggregate :
+    IDENTIFIER '(' ( '*' | column_full_name ) ')' ;
 
 table_query :
     table_name
@@ -164,6 +216,9 @@ column_name :
 view_name :
     IDENTIFIER;
 
+index_name :
+    IDENTIFIER ;
+
 password :
     STRING_LITERAL ;
 
@@ -189,42 +244,58 @@ T_DOUBLE : D O U B L E;
 T_STRING : S T R I N G;
 
 K_ADD : A D D;
+K_ADVICE : A D V I C E;
 K_ALL : A L L;
+K_ANALYZE : A N A L Y Z E;
 K_AS : A S;
+K_ASC : A S C;
 K_BY : B Y;
 K_COLUMN : C O L U M N;
 K_CREATE : C R E A T E;
 K_DATABASE : D A T A B A S E;
 K_DATABASES : D A T A B A S E S;
 K_DELETE : D E L E T E;
+K_DESC : D E S C;
 K_DISTINCT : D I S T I N C T;
 K_DROP : D R O P;
+K_DUPLICATE : D U P L I C A T E;
 K_EXISTS : E X I S T S;
+K_EXPLAIN : E X P L A I N;
 K_FROM : F R O M;
 K_GRANT : G R A N T;
+K_GROUP : G R O U P;
+K_HAVING : H A V I N G;
 K_IF : I F;
 K_IDENTIFIED : I D E N T I F I E D;
+K_INCLUDE : I N C L U D E;
+K_INDEX : I N D E X;
 K_INSERT : I N S E R T;
 K_INTO : I N T O;
 K_JOIN : J O I N;
 K_KEY : K E Y;
+K_LIKE : L I K E;
+K_LIMIT : L I M I T;
 K_NOT : N O T;
 K_NULL : N U L L;
 K_ON : O N;
+K_ORDER : O R D E R;
 K_PRIMARY : P R I M A R Y;
 K_QUIT : Q U I T;
 K_REVOKE : R E V O K E;
 K_SELECT : S E L E C T;
 K_SET : S E T;
 K_SHOW : S H O W;
+K_STATS : S T A T S;
 K_TABLE : T A B L E;
 K_TO : T O;
 K_UPDATE : U P D A T E;
 K_USE : U S E;
 K_USER : U S E R;
+K_USING : U S I N G;
 K_VALUES : V A L U E S;
 K_VIEW : V I E W;
 K_WHERE : W H E R E;
+K_WITH : W I T H;
 
 IDENTIFIER :
     [a-zA-Z_] [a-zA-Z_0-9]* ;
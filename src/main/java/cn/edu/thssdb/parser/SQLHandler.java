@@ -75,7 +75,7 @@ public class SQLHandler {
 //                    table_list.clear();
 //                    manager.x_lockDict.put(session,table_list);
                         // 处理 Log 和文件，太长的话就抹掉
-                        String databaseLogFilename = Database.getDatabaseLogFilePath(databaseName);
+                        String databaseLogFilename = db.getDatabase().getDatabaseLogFilePath();
                         File file = new File(databaseLogFilename);
                         if (file.exists() && file.isFile() && file.length() > 50000) {
                             System.out.println("Clear database log");
@@ -87,6 +87,26 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitCreate_table_stmt(SQLParser.Create_table_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#show_meta_stmt}.
 	 * @param ctx the parse tree
@@ -97,6 +117,46 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitShow_meta_stmt(SQLParser.Show_meta_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#show_index_advice_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterShow_index_advice_stmt(SQLParser.Show_index_advice_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#show_index_advice_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitShow_index_advice_stmt(SQLParser.Show_index_advice_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#show_stats_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterShow_stats_stmt(SQLParser.Show_stats_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#show_stats_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitShow_stats_stmt(SQLParser.Show_stats_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#analyze_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterAnalyze_stmt(SQLParser.Analyze_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#analyze_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitAnalyze_stmt(SQLParser.Analyze_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#explain_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void enterExplain_stmt(SQLParser.Explain_stmtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#explain_stmt}.
+	 * @param ctx the parse tree
+	 */
+	void exitExplain_stmt(SQLParser.Explain_stmtContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#grant_stmt}.
 	 * @param ctx the parse tree
@@ -187,6 +247,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitInsert_stmt(SQLParser.Insert_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void enterAssignment(SQLParser.AssignmentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#assignment}.
+	 * @param ctx the parse tree
+	 */
+	void exitAssignment(SQLParser.AssignmentContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#value_entry}.
 	 * @param ctx the parse tree
@@ -207,6 +277,36 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitSelect_stmt(SQLParser.Select_stmtContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#group_by_clause}.
+	 * @param ctx the parse tree
+	 */
+	void enterGroup_by_clause(SQLParser.Group_by_clauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#group_by_clause}.
+	 * @param ctx the parse tree
+	 */
+	void exitGroup_by_clause(SQLParser.Group_by_clauseContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#having_clause}.
+	 * @param ctx the parse tree
+	 */
+	void enterHaving_clause(SQLParser.Having_clauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#having_clause}.
+	 * @param ctx the parse tree
+	 */
+	void exitHaving_clause(SQLParser.Having_clauseContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#ordering_term}.
+	 * @param ctx the parse tree
+	 */
+	void enterOrdering_term(SQLParser.Ordering_termContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#ordering_term}.
+	 * @param ctx the parse tree
+	 */
+	void exitOrdering_term(SQLParser.Ordering_termContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#create_view_stmt}.
 	 * @param ctx the parse tree
@@ -327,6 +427,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitTable_constraint(SQLParser.Table_constraintContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#index_option}.
+	 * @param ctx the parse tree
+	 */
+	void enterIndex_option(SQLParser.Index_optionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#index_option}.
+	 * @param ctx the parse tree
+	 */
+	void exitIndex_option(SQLParser.Index_optionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#result_column}.
 	 * @param ctx the parse tree
@@ -337,6 +447,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitResult_column(SQLParser.Result_columnContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#aggregate}.
+	 * @param ctx the parse tree
+	 */
+	void enterAggregate(SQLParser.AggregateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#aggregate}.
+	 * @param ctx the parse tree
+	 */
+	void exitAggregate(SQLParser.AggregateContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#table_query}.
 	 * @param ctx the parse tree
@@ -427,6 +547,16 @@ public interface SQLListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitView_name(SQLParser.View_nameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void enterIndex_name(SQLParser.Index_nameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 */
+	void exitIndex_name(SQLParser.Index_nameContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SQLParser#password}.
 	 * @param ctx the parse tree
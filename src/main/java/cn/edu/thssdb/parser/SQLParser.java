@@ -16,40 +16,50 @@ public class SQLParser extends Parser {
 	public static final int
 		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, EQ=6, NE=7, LT=8, GT=9, LE=10, 
 		GE=11, ADD=12, SUB=13, MUL=14, DIV=15, AND=16, OR=17, T_INT=18, T_LONG=19, 
-		T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ALL=24, K_AS=25, K_BY=26, 
-		K_COLUMN=27, K_CREATE=28, K_DATABASE=29, K_DATABASES=30, K_DELETE=31, 
-		K_DISTINCT=32, K_DROP=33, K_EXISTS=34, K_FROM=35, K_GRANT=36, K_IF=37, 
-		K_IDENTIFIED=38, K_INSERT=39, K_INTO=40, K_JOIN=41, K_KEY=42, K_NOT=43, 
-		K_NULL=44, K_ON=45, K_PRIMARY=46, K_QUIT=47, K_REVOKE=48, K_SELECT=49, 
-		K_SET=50, K_SHOW=51, K_TABLE=52, K_TO=53, K_UPDATE=54, K_USE=55, K_USER=56, 
-		K_VALUES=57, K_VIEW=58, K_WHERE=59, IDENTIFIER=60, NUMERIC_LITERAL=61, 
-		EXPONENT=62, STRING_LITERAL=63, SINGLE_LINE_COMMENT=64, MULTILINE_COMMENT=65, 
-		SPACES=66;
+		T_FLOAT=20, T_DOUBLE=21, T_STRING=22, K_ADD=23, K_ADVICE=24, K_ALL=25, 
+		K_ANALYZE=26, K_AS=27, K_ASC=28, K_BY=29, K_COLUMN=30, K_CREATE=31, K_DATABASE=32, 
+		K_DATABASES=33, K_DELETE=34, K_DESC=35, K_DISTINCT=36, K_DROP=37, K_DUPLICATE=38, 
+		K_EXISTS=39, K_EXPLAIN=40, K_FROM=41, K_GRANT=42, K_GROUP=43, K_HAVING=44, 
+		K_IF=45, K_IDENTIFIED=46, K_INCLUDE=47, K_INDEX=48, K_INSERT=49, K_INTO=50, 
+		K_JOIN=51, K_KEY=52, K_LIKE=53, K_LIMIT=54, K_NOT=55, K_NULL=56, K_ON=57, 
+		K_ORDER=58, K_PRIMARY=59, K_QUIT=60, K_REVOKE=61, K_SELECT=62, K_SET=63, 
+		K_SHOW=64, K_STATS=65, K_TABLE=66, K_TO=67, K_UPDATE=68, K_USE=69, K_USER=70, 
+		K_USING=71, K_VALUES=72, K_VIEW=73, K_WHERE=74, K_WITH=75, IDENTIFIER=76, 
+		NUMERIC_LITERAL=77, EXPONENT=78, STRING_LITERAL=79, SINGLE_LINE_COMMENT=80, 
+		MULTILINE_COMMENT=81, SPACES=82;
 	public static final int
 		RULE_parse = 0, RULE_sql_stmt_list = 1, RULE_sql_stmt = 2, RULE_create_db_stmt = 3, 
 		RULE_drop_db_stmt = 4, RULE_create_user_stmt = 5, RULE_drop_user_stmt = 6, 
-		RULE_create_table_stmt = 7, RULE_show_meta_stmt = 8, RULE_grant_stmt = 9, 
-		RULE_revoke_stmt = 10, RULE_use_db_stmt = 11, RULE_delete_stmt = 12, RULE_drop_table_stmt = 13, 
-		RULE_show_db_stmt = 14, RULE_quit_stmt = 15, RULE_show_table_stmt = 16, 
-		RULE_insert_stmt = 17, RULE_value_entry = 18, RULE_select_stmt = 19, RULE_create_view_stmt = 20, 
-		RULE_drop_view_stmt = 21, RULE_update_stmt = 22, RULE_column_def = 23, 
-		RULE_type_name = 24, RULE_column_constraint = 25, RULE_multiple_condition = 26, 
-		RULE_condition = 27, RULE_comparer = 28, RULE_comparator = 29, RULE_expression = 30, 
-		RULE_table_constraint = 31, RULE_result_column = 32, RULE_table_query = 33, 
-		RULE_auth_level = 34, RULE_literal_value = 35, RULE_column_full_name = 36, 
-		RULE_database_name = 37, RULE_table_name = 38, RULE_user_name = 39, RULE_column_name = 40, 
-		RULE_view_name = 41, RULE_password = 42;
+		RULE_create_table_stmt = 7, RULE_create_index_stmt = 8, RULE_drop_index_stmt = 9, 
+		RULE_show_meta_stmt = 10, RULE_show_index_advice_stmt = 11, RULE_show_stats_stmt = 12, 
+		RULE_analyze_stmt = 13, RULE_explain_stmt = 14, RULE_grant_stmt = 15, 
+		RULE_revoke_stmt = 16, RULE_use_db_stmt = 17, RULE_delete_stmt = 18, RULE_drop_table_stmt = 19, 
+		RULE_show_db_stmt = 20, RULE_quit_stmt = 21, RULE_show_table_stmt = 22, 
+		RULE_insert_stmt = 23, RULE_assignment = 24, RULE_value_entry = 25, RULE_select_stmt = 26, 
+		RULE_group_by_clause = 27, RULE_having_clause = 28, RULE_ordering_term = 29, 
+		RULE_create_view_stmt = 30, RULE_drop_view_stmt = 31, RULE_update_stmt = 32, 
+		RULE_column_def = 33, RULE_type_name = 34, RULE_column_constraint = 35, 
+		RULE_multiple_condition = 36, RULE_condition = 37, RULE_comparer = 38, 
+		RULE_comparator = 39, RULE_expression = 40, RULE_table_constraint = 41, 
+		RULE_index_option = 42, RULE_result_column = 43, RULE_aggregate = 44, 
+		RULE_table_query = 45, RULE_auth_level = 46, RULE_literal_value = 47, 
+		RULE_column_full_name = 48, RULE_database_name = 49, RULE_table_name = 50, 
+		RULE_user_name = 51, RULE_column_name = 52, RULE_view_name = 53, RULE_index_name = 54, 
+		RULE_password = 55;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"parse", "sql_stmt_list", "sql_stmt", "create_db_stmt", "drop_db_stmt", 
-			"create_user_stmt", "drop_user_stmt", "create_table_stmt", "show_meta_stmt", 
-			"grant_stmt", "revoke_stmt", "use_db_stmt", "delete_stmt", "drop_table_stmt", 
-			"show_db_stmt", "quit_stmt", "show_table_stmt", "insert_stmt", "value_entry", 
-			"select_stmt", "create_view_stmt", "drop_view_stmt", "update_stmt", "column_def", 
-			"type_name", "column_constraint", "multiple_condition", "condition", 
-			"comparer", "comparator", "expression", "table_constraint", "result_column", 
-			"table_query", "auth_level", "literal_value", "column_full_name", "database_name", 
-			"table_name", "user_name", "column_name", "view_name", "password"
+			"create_user_stmt", "drop_user_stmt", "create_table_stmt", "create_index_stmt", 
+			"drop_index_stmt", "show_meta_stmt", "show_index_advice_stmt", "show_stats_stmt", 
+			"analyze_stmt", "explain_stmt", "grant_stmt", "revoke_stmt", "use_db_stmt", 
+			"delete_stmt", "drop_table_stmt", "show_db_stmt", "quit_stmt", "show_table_stmt", 
+			"insert_stmt", "assignment", "value_entry", "select_stmt", "group_by_clause", 
+			"having_clause", "ordering_term", "create_view_stmt", "drop_view_stmt", 
+			"update_stmt", "column_def", "type_name", "column_constraint", "multiple_condition", 
+			"condition", "comparer", "comparator", "expression", "table_constraint", 
+			"index_option", "result_column", "aggregate", "table_query", "auth_level", 
+			"literal_value", "column_full_name", "database_name", "table_name", "user_name", 
+			"column_name", "view_name", "index_name", "password"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -65,14 +75,16 @@ public class SQLParser extends Parser {
 		return new String[] {
 			null, null, null, null, null, null, "EQ", "NE", "LT", "GT", "LE", "GE", 
 			"ADD", "SUB", "MUL", "DIV", "AND", "OR", "T_INT", "T_LONG", "T_FLOAT", 
-			"T_DOUBLE", "T_STRING", "K_ADD", "K_ALL", "K_AS", "K_BY", "K_COLUMN", 
-			"K_CREATE", "K_DATABASE", "K_DATABASES", "K_DELETE", "K_DISTINCT", "K_DROP", 
-			"K_EXISTS", "K_FROM", "K_GRANT", "K_IF", "K_IDENTIFIED", "K_INSERT", 
-			"K_INTO", "K_JOIN", "K_KEY", "K_NOT", "K_NULL", "K_ON", "K_PRIMARY", 
-			"K_QUIT", "K_REVOKE", "K_SELECT", "K_SET", "K_SHOW", "K_TABLE", "K_TO", 
-			"K_UPDATE", "K_USE", "K_USER", "K_VALUES", "K_VIEW", "K_WHERE", "IDENTIFIER", 
-			"NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", "SINGLE_LINE_COMMENT", 
-			"MULTILINE_COMMENT", "SPACES"
+			"T_DOUBLE", "T_STRING", "K_ADD", "K_ADVICE", "K_ALL", "K_ANALYZE", "K_AS", 
+			"K_ASC", "K_BY", "K_COLUMN", "K_CREATE", "K_DATABASE", "K_DATABASES", 
+			"K_DELETE", "K_DESC", "K_DISTINCT", "K_DROP", "K_DUPLICATE", "K_EXISTS", 
+			"K_EXPLAIN", "K_FROM", "K_GRANT", "K_GROUP", "K_HAVING", "K_IF", "K_IDENTIFIED", 
+			"K_INCLUDE", "K_INDEX", "K_INSERT", "K_INTO", "K_JOIN", "K_KEY", "K_LIKE", 
+			"K_LIMIT", "K_NOT", "K_NULL", "K_ON", "K_ORDER", "K_PRIMARY", "K_QUIT", 
+			"K_REVOKE", "K_SELECT", "K_SET", "K_SHOW", "K_STATS", "K_TABLE", "K_TO", 
+			"K_UPDATE", "K_USE", "K_USER", "K_USING", "K_VALUES", "K_VIEW", "K_WHERE", 
+			"K_WITH", "IDENTIFIER", "NUMERIC_LITERAL", "EXPONENT", "STRING_LITERAL", 
+			"SINGLE_LINE_COMMENT", "MULTILINE_COMMENT", "SPACES"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -155,7 +167,7 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(86);
+			setState(112);
 			sql_stmt_list();
 			}
 		}
@@ -204,63 +216,63 @@ public class SQLParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(91);
+			setState(117);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(88);
+				setState(114);
 				match(T__0);
 				}
 				}
-				setState(93);
+				setState(119);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(94);
+			setState(120);
 			sql_stmt();
-			setState(103);
+			setState(129);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(96); 
+					setState(122); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(95);
+						setState(121);
 						match(T__0);
 						}
 						}
-						setState(98); 
+						setState(124); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==T__0 );
-					setState(100);
+					setState(126);
 					sql_stmt();
 					}
 					} 
 				}
-				setState(105);
+				setState(131);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			}
-			setState(109);
+			setState(135);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(106);
+				setState(132);
 				match(T__0);
 				}
 				}
-				setState(111);
+				setState(137);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -305,6 +317,9 @@ public class SQLParser extends Parser {
 		public Select_stmtContext select_stmt() {
 			return getRuleContext(Select_stmtContext.class,0);
 		}
+		public Explain_stmtContext explain_stmt() {
+			return getRuleContext(Explain_stmtContext.class,0);
+		}
 		public Create_view_stmtContext create_view_stmt() {
 			return getRuleContext(Create_view_stmtContext.class,0);
 		}
@@ -329,12 +344,27 @@ public class SQLParser extends Parser {
 		public Show_meta_stmtContext show_meta_stmt() {
 			return getRuleContext(Show_meta_stmtContext.class,0);
 		}
+		public Show_index_advice_stmtContext show_index_advice_stmt() {
+			return getRuleContext(Show_index_advice_stmtContext.class,0);
+		}
+		public Show_stats_stmtContext show_stats_stmt() {
+			return getRuleContext(Show_stats_stmtContext.class,0);
+		}
+		public Analyze_stmtContext analyze_stmt() {
+			return getRuleContext(Analyze_stmtContext.class,0);
+		}
 		public Quit_stmtContext quit_stmt() {
 			return getRuleContext(Quit_stmtContext.class,0);
 		}
 		public Update_stmtContext update_stmt() {
 			return getRuleContext(Update_stmtContext.class,0);
 		}
+		public Create_index_stmtContext create_index_stmt() {
+			return getRuleContext(Create_index_stmtContext.class,0);
+		}
+		public Drop_index_stmtContext drop_index_stmt() {
+			return getRuleContext(Drop_index_stmtContext.class,0);
+		}
 		public Sql_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -358,142 +388,184 @@ public class SQLParser extends Parser {
 		Sql_stmtContext _localctx = new Sql_stmtContext(_ctx, getState());
 		enterRule(_localctx, 4, RULE_sql_stmt);
 		try {
-			setState(131);
+			setState(163);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(112);
+				setState(138);
 				create_table_stmt();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(113);
+				setState(139);
 				create_db_stmt();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(114);
+				setState(140);
 				create_user_stmt();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(115);
+				setState(141);
 				drop_db_stmt();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(116);
+				setState(142);
 				drop_user_stmt();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(117);
+				setState(143);
 				delete_stmt();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(118);
+				setState(144);
 				drop_table_stmt();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(119);
+				setState(145);
 				insert_stmt();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(120);
+				setState(146);
 				select_stmt();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(121);
-				create_view_stmt();
+				setState(147);
+				explain_stmt();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(122);
-				drop_view_stmt();
+				setState(148);
+				create_view_stmt();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(123);
-				grant_stmt();
+				setState(149);
+				drop_view_stmt();
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(124);
-				revoke_stmt();
+				setState(150);
+				grant_stmt();
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(125);
-				use_db_stmt();
+				setState(151);
+				revoke_stmt();
 				}
 				break;
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(126);
-				show_db_stmt();
+				setState(152);
+				use_db_stmt();
 				}
 				break;
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(127);
-				show_table_stmt();
+				setState(153);
+				show_db_stmt();
 				}
 				break;
 			case 17:
 				enterOuterAlt(_localctx, 17);
 				{
-				setState(128);
-				show_meta_stmt();
+				setState(154);
+				show_table_stmt();
 				}
 				break;
 			case 18:
 				enterOuterAlt(_localctx, 18);
 				{
-				setState(129);
-				quit_stmt();
+				setState(155);
+				show_meta_stmt();
 				}
 				break;
 			case 19:
 				enterOuterAlt(_localctx, 19);
 				{
-				setState(130);
+				setState(156);
+				show_index_advice_stmt();
+				}
+				break;
+			case 20:
+				enterOuterAlt(_localctx, 20);
+				{
+				setState(157);
+				show_stats_stmt();
+				}
+				break;
+			case 21:
+				enterOuterAlt(_localctx, 21);
+				{
+				setState(158);
+				analyze_stmt();
+				}
+				break;
+			case 22:
+				enterOuterAlt(_localctx, 22);
+				{
+				setState(159);
+				quit_stmt();
+				}
+				break;
+			case 23:
+				enterOuterAlt(_localctx, 23);
+				{
+				setState(160);
 				update_stmt();
 				}
 				break;
+			case 24:
+				enterOuterAlt(_localctx, 24);
+				{
+				setState(161);
+				create_index_stmt();
+				}
+				break;
+			case 25:
+				enterOuterAlt(_localctx, 25);
+				{
+				setState(162);
+				drop_index_stmt();
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -538,11 +610,11 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(133);
+			setState(165);
 			match(K_CREATE);
-			setState(134);
+			setState(166);
 			match(K_DATABASE);
-			setState(135);
+			setState(167);
 			database_name();
 			}
 		}
@@ -591,23 +663,23 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(137);
+			setState(169);
 			match(K_DROP);
-			setState(138);
+			setState(170);
 			match(K_DATABASE);
-			setState(141);
+			setState(173);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_IF) {
 				{
-				setState(139);
+				setState(171);
 				match(K_IF);
-				setState(140);
+				setState(172);
 				match(K_EXISTS);
 				}
 			}
 
-			setState(143);
+			setState(175);
 			database_name();
 			}
 		}
@@ -658,17 +730,17 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(145);
+			setState(177);
 			match(K_CREATE);
-			setState(146);
+			setState(178);
 			match(K_USER);
-			setState(147);
+			setState(179);
 			user_name();
-			setState(148);
+			setState(180);
 			match(K_IDENTIFIED);
-			setState(149);
+			setState(181);
 			match(K_BY);
-			setState(150);
+			setState(182);
 			password();
 			}
 		}
@@ -717,23 +789,23 @@ public class SQLParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(152);
+			setState(184);
 			match(K_DROP);
-			setState(153);
+			setState(185);
 			match(K_USER);
-			setState(156);
+			setState(188);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_IF) {
 				{
-				setState(154);
+				setState(186);
 				match(K_IF);
-				setState(155);
+				setState(187);
 				match(K_EXISTS);
 				}
 			}
 
-			setState(158);
+			setState(190);
 			user_name();
 			}
 		}
@@ -763,6 +835,13 @@ public class SQLParser extends Parser {
 		public Table_constraintContext table_constraint() {
 			return getRuleContext(Table_constraintContext.class,0);
 		}
+		public TerminalNode K_WITH() { return getToken(SQLParser.K_WITH, 0); }
+		public List<Index_optionContext> index_option() {
+			return getRuleContexts(Index_optionContext.class);
+		}
+		public Index_optionContext index_option(int i) {
+			return getRuleContext(Index_optionContext.class,i);
+		}
 		public Create_table_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -790,48 +869,80 @@ public class SQLParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(160);
+			setState(192);
 			match(K_CREATE);
-			setState(161);
+			setState(193);
 			match(K_TABLE);
-			setState(162);
+			setState(194);
 			table_name();
-			setState(163);
+			setState(195);
 			match(T__1);
-			setState(164);
+			setState(196);
 			column_def();
-			setState(169);
+			setState(201);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(165);
+					setState(197);
 					match(T__2);
-					setState(166);
+					setState(198);
 					column_def();
 					}
 					} 
 				}
-				setState(171);
+				setState(203);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,7,_ctx);
 			}
-			setState(174);
+			setState(206);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__2) {
 				{
-				setState(172);
+				setState(204);
 				match(T__2);
-				setState(173);
+				setState(205);
 				table_constraint();
 				}
 			}
 
-			setState(176);
+			setState(208);
 			match(T__3);
+			setState(221);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(209);
+				match(K_WITH);
+				setState(210);
+				match(T__1);
+				setState(211);
+				index_option();
+				setState(216);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(212);
+					match(T__2);
+					setState(213);
+					index_option();
+					}
+					}
+					setState(218);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(219);
+				match(T__3);
+				}
+			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -845,43 +956,150 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Show_meta_stmtContext extends ParserRuleContext {
-		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
-		public TerminalNode K_TABLE() { return getToken(SQLParser.K_TABLE, 0); }
+	public static class Create_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_CREATE() { return getToken(SQLParser.K_CREATE, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
 		public Table_nameContext table_name() {
 			return getRuleContext(Table_nameContext.class,0);
 		}
-		public Show_meta_stmtContext(ParserRuleContext parent, int invokingState) {
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public TerminalNode K_INCLUDE() { return getToken(SQLParser.K_INCLUDE, 0); }
+		public TerminalNode K_USING() { return getToken(SQLParser.K_USING, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(SQLParser.IDENTIFIER, 0); }
+		public TerminalNode K_WITH() { return getToken(SQLParser.K_WITH, 0); }
+		public List<Index_optionContext> index_option() {
+			return getRuleContexts(Index_optionContext.class);
+		}
+		public Index_optionContext index_option(int i) {
+			return getRuleContext(Index_optionContext.class,i);
+		}
+		public Create_index_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_show_meta_stmt; }
+		@Override public int getRuleIndex() { return RULE_create_index_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_meta_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterCreate_index_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_meta_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitCreate_index_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_meta_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitCreate_index_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Show_meta_stmtContext show_meta_stmt() throws RecognitionException {
-		Show_meta_stmtContext _localctx = new Show_meta_stmtContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_show_meta_stmt);
+	public final Create_index_stmtContext create_index_stmt() throws RecognitionException {
+		Create_index_stmtContext _localctx = new Create_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_create_index_stmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(178);
-			match(K_SHOW);
-			setState(179);
-			match(K_TABLE);
-			setState(180);
+			setState(223);
+			match(K_CREATE);
+			setState(224);
+			match(K_INDEX);
+			setState(225);
+			index_name();
+			setState(226);
+			match(K_ON);
+			setState(227);
 			table_name();
+			setState(228);
+			match(T__1);
+			setState(229);
+			column_name();
+			setState(230);
+			match(T__3);
+			setState(243);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_INCLUDE) {
+				{
+				setState(231);
+				match(K_INCLUDE);
+				setState(232);
+				match(T__1);
+				setState(233);
+				column_name();
+				setState(238);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(234);
+					match(T__2);
+					setState(235);
+					column_name();
+					}
+					}
+					setState(240);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(241);
+				match(T__3);
+				}
+			}
+
+			setState(247);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_USING) {
+				{
+				setState(245);
+				match(K_USING);
+				setState(246);
+				match(IDENTIFIER);
+				}
+			}
+
+			setState(261);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WITH) {
+				{
+				setState(249);
+				match(K_WITH);
+				setState(250);
+				match(T__1);
+				setState(251);
+				index_option();
+				setState(256);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(252);
+					match(T__2);
+					setState(253);
+					index_option();
+					}
+					}
+					setState(258);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(259);
+				match(T__3);
+				}
+			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -895,76 +1113,51 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Grant_stmtContext extends ParserRuleContext {
-		public TerminalNode K_GRANT() { return getToken(SQLParser.K_GRANT, 0); }
-		public List<Auth_levelContext> auth_level() {
-			return getRuleContexts(Auth_levelContext.class);
-		}
-		public Auth_levelContext auth_level(int i) {
-			return getRuleContext(Auth_levelContext.class,i);
+	public static class Drop_index_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLParser.K_DROP, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLParser.K_INDEX, 0); }
+		public Index_nameContext index_name() {
+			return getRuleContext(Index_nameContext.class,0);
 		}
 		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
 		public Table_nameContext table_name() {
 			return getRuleContext(Table_nameContext.class,0);
 		}
-		public TerminalNode K_TO() { return getToken(SQLParser.K_TO, 0); }
-		public User_nameContext user_name() {
-			return getRuleContext(User_nameContext.class,0);
-		}
-		public Grant_stmtContext(ParserRuleContext parent, int invokingState) {
+		public Drop_index_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_grant_stmt; }
+		@Override public int getRuleIndex() { return RULE_drop_index_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterGrant_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterDrop_index_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitGrant_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitDrop_index_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitGrant_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitDrop_index_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Grant_stmtContext grant_stmt() throws RecognitionException {
-		Grant_stmtContext _localctx = new Grant_stmtContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_grant_stmt);
-		int _la;
+	public final Drop_index_stmtContext drop_index_stmt() throws RecognitionException {
+		Drop_index_stmtContext _localctx = new Drop_index_stmtContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_drop_index_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(182);
-			match(K_GRANT);
-			setState(183);
-			auth_level();
-			setState(188);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__2) {
-				{
-				{
-				setState(184);
-				match(T__2);
-				setState(185);
-				auth_level();
-				}
-				}
-				setState(190);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(191);
+			setState(263);
+			match(K_DROP);
+			setState(264);
+			match(K_INDEX);
+			setState(265);
+			index_name();
+			setState(266);
 			match(K_ON);
-			setState(192);
+			setState(267);
 			table_name();
-			setState(193);
-			match(K_TO);
-			setState(194);
-			user_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -978,76 +1171,43 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Revoke_stmtContext extends ParserRuleContext {
-		public TerminalNode K_REVOKE() { return getToken(SQLParser.K_REVOKE, 0); }
-		public List<Auth_levelContext> auth_level() {
-			return getRuleContexts(Auth_levelContext.class);
-		}
-		public Auth_levelContext auth_level(int i) {
-			return getRuleContext(Auth_levelContext.class,i);
-		}
-		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+	public static class Show_meta_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLParser.K_TABLE, 0); }
 		public Table_nameContext table_name() {
 			return getRuleContext(Table_nameContext.class,0);
 		}
-		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
-		public User_nameContext user_name() {
-			return getRuleContext(User_nameContext.class,0);
-		}
-		public Revoke_stmtContext(ParserRuleContext parent, int invokingState) {
+		public Show_meta_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_revoke_stmt; }
+		@Override public int getRuleIndex() { return RULE_show_meta_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterRevoke_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_meta_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitRevoke_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_meta_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitRevoke_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_meta_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Revoke_stmtContext revoke_stmt() throws RecognitionException {
-		Revoke_stmtContext _localctx = new Revoke_stmtContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_revoke_stmt);
-		int _la;
+	public final Show_meta_stmtContext show_meta_stmt() throws RecognitionException {
+		Show_meta_stmtContext _localctx = new Show_meta_stmtContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_show_meta_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(196);
-			match(K_REVOKE);
-			setState(197);
-			auth_level();
-			setState(202);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__2) {
-				{
-				{
-				setState(198);
-				match(T__2);
-				setState(199);
-				auth_level();
-				}
-				}
-				setState(204);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(205);
-			match(K_ON);
-			setState(206);
+			setState(269);
+			match(K_SHOW);
+			setState(270);
+			match(K_TABLE);
+			setState(271);
 			table_name();
-			setState(207);
-			match(K_FROM);
-			setState(208);
-			user_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1061,40 +1221,41 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Use_db_stmtContext extends ParserRuleContext {
-		public TerminalNode K_USE() { return getToken(SQLParser.K_USE, 0); }
-		public Database_nameContext database_name() {
-			return getRuleContext(Database_nameContext.class,0);
-		}
-		public Use_db_stmtContext(ParserRuleContext parent, int invokingState) {
+	public static class Show_index_advice_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
+		public TerminalNode K_INDEX() { return getToken(SQLParser.K_INDEX, 0); }
+		public TerminalNode K_ADVICE() { return getToken(SQLParser.K_ADVICE, 0); }
+		public Show_index_advice_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_use_db_stmt; }
+		@Override public int getRuleIndex() { return RULE_show_index_advice_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterUse_db_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_index_advice_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitUse_db_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_index_advice_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitUse_db_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_index_advice_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Use_db_stmtContext use_db_stmt() throws RecognitionException {
-		Use_db_stmtContext _localctx = new Use_db_stmtContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_use_db_stmt);
+	public final Show_index_advice_stmtContext show_index_advice_stmt() throws RecognitionException {
+		Show_index_advice_stmtContext _localctx = new Show_index_advice_stmtContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_show_index_advice_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(210);
-			match(K_USE);
-			setState(211);
-			database_name();
+			setState(273);
+			match(K_SHOW);
+			setState(274);
+			match(K_INDEX);
+			setState(275);
+			match(K_ADVICE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1108,60 +1269,43 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Delete_stmtContext extends ParserRuleContext {
-		public TerminalNode K_DELETE() { return getToken(SQLParser.K_DELETE, 0); }
-		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
+	public static class Show_stats_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
+		public TerminalNode K_STATS() { return getToken(SQLParser.K_STATS, 0); }
 		public Table_nameContext table_name() {
 			return getRuleContext(Table_nameContext.class,0);
 		}
-		public TerminalNode K_WHERE() { return getToken(SQLParser.K_WHERE, 0); }
-		public Multiple_conditionContext multiple_condition() {
-			return getRuleContext(Multiple_conditionContext.class,0);
-		}
-		public Delete_stmtContext(ParserRuleContext parent, int invokingState) {
+		public Show_stats_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_delete_stmt; }
+		@Override public int getRuleIndex() { return RULE_show_stats_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterDelete_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_stats_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitDelete_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_stats_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitDelete_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_stats_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Delete_stmtContext delete_stmt() throws RecognitionException {
-		Delete_stmtContext _localctx = new Delete_stmtContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_delete_stmt);
-		int _la;
+	public final Show_stats_stmtContext show_stats_stmt() throws RecognitionException {
+		Show_stats_stmtContext _localctx = new Show_stats_stmtContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_show_stats_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(213);
-			match(K_DELETE);
-			setState(214);
-			match(K_FROM);
-			setState(215);
+			setState(277);
+			match(K_SHOW);
+			setState(278);
+			match(K_STATS);
+			setState(279);
 			table_name();
-			setState(218);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==K_WHERE) {
-				{
-				setState(216);
-				match(K_WHERE);
-				setState(217);
-				multiple_condition(0);
-				}
-			}
-
 			}
 		}
 		catch (RecognitionException re) {
@@ -1175,58 +1319,49 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Drop_table_stmtContext extends ParserRuleContext {
-		public TerminalNode K_DROP() { return getToken(SQLParser.K_DROP, 0); }
-		public TerminalNode K_TABLE() { return getToken(SQLParser.K_TABLE, 0); }
+	public static class Analyze_stmtContext extends ParserRuleContext {
+		public TerminalNode K_ANALYZE() { return getToken(SQLParser.K_ANALYZE, 0); }
 		public Table_nameContext table_name() {
 			return getRuleContext(Table_nameContext.class,0);
 		}
-		public TerminalNode K_IF() { return getToken(SQLParser.K_IF, 0); }
-		public TerminalNode K_EXISTS() { return getToken(SQLParser.K_EXISTS, 0); }
-		public Drop_table_stmtContext(ParserRuleContext parent, int invokingState) {
+		public Analyze_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_drop_table_stmt; }
+		@Override public int getRuleIndex() { return RULE_analyze_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterDrop_table_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterAnalyze_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitDrop_table_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitAnalyze_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitDrop_table_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitAnalyze_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Drop_table_stmtContext drop_table_stmt() throws RecognitionException {
-		Drop_table_stmtContext _localctx = new Drop_table_stmtContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_drop_table_stmt);
+	public final Analyze_stmtContext analyze_stmt() throws RecognitionException {
+		Analyze_stmtContext _localctx = new Analyze_stmtContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_analyze_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(220);
-			match(K_DROP);
-			setState(221);
-			match(K_TABLE);
-			setState(224);
+			setState(281);
+			match(K_ANALYZE);
+			setState(283);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==K_IF) {
+			if (_la==IDENTIFIER) {
 				{
-				setState(222);
-				match(K_IF);
-				setState(223);
-				match(K_EXISTS);
+				setState(282);
+				table_name();
 				}
 			}
 
-			setState(226);
-			table_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1240,38 +1375,40 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Show_db_stmtContext extends ParserRuleContext {
-		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
-		public TerminalNode K_DATABASES() { return getToken(SQLParser.K_DATABASES, 0); }
-		public Show_db_stmtContext(ParserRuleContext parent, int invokingState) {
+	public static class Explain_stmtContext extends ParserRuleContext {
+		public TerminalNode K_EXPLAIN() { return getToken(SQLParser.K_EXPLAIN, 0); }
+		public Select_stmtContext select_stmt() {
+			return getRuleContext(Select_stmtContext.class,0);
+		}
+		public Explain_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_show_db_stmt; }
+		@Override public int getRuleIndex() { return RULE_explain_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_db_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterExplain_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_db_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitExplain_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_db_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitExplain_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Show_db_stmtContext show_db_stmt() throws RecognitionException {
-		Show_db_stmtContext _localctx = new Show_db_stmtContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_show_db_stmt);
+	public final Explain_stmtContext explain_stmt() throws RecognitionException {
+		Explain_stmtContext _localctx = new Explain_stmtContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_explain_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(228);
-			match(K_SHOW);
-			setState(229);
-			match(K_DATABASES);
+			setState(285);
+			match(K_EXPLAIN);
+			setState(286);
+			select_stmt();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1285,35 +1422,76 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Quit_stmtContext extends ParserRuleContext {
-		public TerminalNode K_QUIT() { return getToken(SQLParser.K_QUIT, 0); }
-		public Quit_stmtContext(ParserRuleContext parent, int invokingState) {
+	public static class Grant_stmtContext extends ParserRuleContext {
+		public TerminalNode K_GRANT() { return getToken(SQLParser.K_GRANT, 0); }
+		public List<Auth_levelContext> auth_level() {
+			return getRuleContexts(Auth_levelContext.class);
+		}
+		public Auth_levelContext auth_level(int i) {
+			return getRuleContext(Auth_levelContext.class,i);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_TO() { return getToken(SQLParser.K_TO, 0); }
+		public User_nameContext user_name() {
+			return getRuleContext(User_nameContext.class,0);
+		}
+		public Grant_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_quit_stmt; }
+		@Override public int getRuleIndex() { return RULE_grant_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterQuit_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterGrant_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitQuit_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitGrant_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitQuit_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitGrant_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Quit_stmtContext quit_stmt() throws RecognitionException {
-		Quit_stmtContext _localctx = new Quit_stmtContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_quit_stmt);
+	public final Grant_stmtContext grant_stmt() throws RecognitionException {
+		Grant_stmtContext _localctx = new Grant_stmtContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_grant_stmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(231);
-			match(K_QUIT);
+			setState(288);
+			match(K_GRANT);
+			setState(289);
+			auth_level();
+			setState(294);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(290);
+				match(T__2);
+				setState(291);
+				auth_level();
+				}
+				}
+				setState(296);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(297);
+			match(K_ON);
+			setState(298);
+			table_name();
+			setState(299);
+			match(K_TO);
+			setState(300);
+			user_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1327,43 +1505,76 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Show_table_stmtContext extends ParserRuleContext {
-		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
-		public TerminalNode K_DATABASE() { return getToken(SQLParser.K_DATABASE, 0); }
-		public Database_nameContext database_name() {
-			return getRuleContext(Database_nameContext.class,0);
+	public static class Revoke_stmtContext extends ParserRuleContext {
+		public TerminalNode K_REVOKE() { return getToken(SQLParser.K_REVOKE, 0); }
+		public List<Auth_levelContext> auth_level() {
+			return getRuleContexts(Auth_levelContext.class);
 		}
-		public Show_table_stmtContext(ParserRuleContext parent, int invokingState) {
+		public Auth_levelContext auth_level(int i) {
+			return getRuleContext(Auth_levelContext.class,i);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
+		public User_nameContext user_name() {
+			return getRuleContext(User_nameContext.class,0);
+		}
+		public Revoke_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_show_table_stmt; }
+		@Override public int getRuleIndex() { return RULE_revoke_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_table_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterRevoke_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_table_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitRevoke_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_table_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitRevoke_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Show_table_stmtContext show_table_stmt() throws RecognitionException {
-		Show_table_stmtContext _localctx = new Show_table_stmtContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_show_table_stmt);
+	public final Revoke_stmtContext revoke_stmt() throws RecognitionException {
+		Revoke_stmtContext _localctx = new Revoke_stmtContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_revoke_stmt);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(233);
-			match(K_SHOW);
-			setState(234);
-			match(K_DATABASE);
-			setState(235);
-			database_name();
+			setState(302);
+			match(K_REVOKE);
+			setState(303);
+			auth_level();
+			setState(308);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(304);
+				match(T__2);
+				setState(305);
+				auth_level();
+				}
+				}
+				setState(310);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(311);
+			match(K_ON);
+			setState(312);
+			table_name();
+			setState(313);
+			match(K_FROM);
+			setState(314);
+			user_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1377,107 +1588,795 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Insert_stmtContext extends ParserRuleContext {
-		public TerminalNode K_INSERT() { return getToken(SQLParser.K_INSERT, 0); }
-		public TerminalNode K_INTO() { return getToken(SQLParser.K_INTO, 0); }
-		public Table_nameContext table_name() {
-			return getRuleContext(Table_nameContext.class,0);
+	public static class Use_db_stmtContext extends ParserRuleContext {
+		public TerminalNode K_USE() { return getToken(SQLParser.K_USE, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
 		}
-		public TerminalNode K_VALUES() { return getToken(SQLParser.K_VALUES, 0); }
-		public List<Value_entryContext> value_entry() {
-			return getRuleContexts(Value_entryContext.class);
+		public Use_db_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public Value_entryContext value_entry(int i) {
-			return getRuleContext(Value_entryContext.class,i);
+		@Override public int getRuleIndex() { return RULE_use_db_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterUse_db_stmt(this);
 		}
-		public List<Column_nameContext> column_name() {
-			return getRuleContexts(Column_nameContext.class);
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitUse_db_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitUse_db_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Use_db_stmtContext use_db_stmt() throws RecognitionException {
+		Use_db_stmtContext _localctx = new Use_db_stmtContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_use_db_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(316);
+			match(K_USE);
+			setState(317);
+			database_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Delete_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DELETE() { return getToken(SQLParser.K_DELETE, 0); }
+		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_WHERE() { return getToken(SQLParser.K_WHERE, 0); }
+		public Multiple_conditionContext multiple_condition() {
+			return getRuleContext(Multiple_conditionContext.class,0);
+		}
+		public Delete_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_delete_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterDelete_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitDelete_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitDelete_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Delete_stmtContext delete_stmt() throws RecognitionException {
+		Delete_stmtContext _localctx = new Delete_stmtContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_delete_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(319);
+			match(K_DELETE);
+			setState(320);
+			match(K_FROM);
+			setState(321);
+			table_name();
+			setState(324);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(322);
+				match(K_WHERE);
+				setState(323);
+				multiple_condition(0);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Drop_table_stmtContext extends ParserRuleContext {
+		public TerminalNode K_DROP() { return getToken(SQLParser.K_DROP, 0); }
+		public TerminalNode K_TABLE() { return getToken(SQLParser.K_TABLE, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_IF() { return getToken(SQLParser.K_IF, 0); }
+		public TerminalNode K_EXISTS() { return getToken(SQLParser.K_EXISTS, 0); }
+		public Drop_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_drop_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterDrop_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitDrop_table_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitDrop_table_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Drop_table_stmtContext drop_table_stmt() throws RecognitionException {
+		Drop_table_stmtContext _localctx = new Drop_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_drop_table_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(326);
+			match(K_DROP);
+			setState(327);
+			match(K_TABLE);
+			setState(330);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_IF) {
+				{
+				setState(328);
+				match(K_IF);
+				setState(329);
+				match(K_EXISTS);
+				}
+			}
+
+			setState(332);
+			table_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Show_db_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
+		public TerminalNode K_DATABASES() { return getToken(SQLParser.K_DATABASES, 0); }
+		public Show_db_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_show_db_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_db_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_db_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_db_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Show_db_stmtContext show_db_stmt() throws RecognitionException {
+		Show_db_stmtContext _localctx = new Show_db_stmtContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_show_db_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(334);
+			match(K_SHOW);
+			setState(335);
+			match(K_DATABASES);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Quit_stmtContext extends ParserRuleContext {
+		public TerminalNode K_QUIT() { return getToken(SQLParser.K_QUIT, 0); }
+		public Quit_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quit_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterQuit_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitQuit_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitQuit_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Quit_stmtContext quit_stmt() throws RecognitionException {
+		Quit_stmtContext _localctx = new Quit_stmtContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_quit_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(337);
+			match(K_QUIT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Show_table_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SHOW() { return getToken(SQLParser.K_SHOW, 0); }
+		public TerminalNode K_DATABASE() { return getToken(SQLParser.K_DATABASE, 0); }
+		public Database_nameContext database_name() {
+			return getRuleContext(Database_nameContext.class,0);
+		}
+		public Show_table_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_show_table_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterShow_table_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitShow_table_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitShow_table_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Show_table_stmtContext show_table_stmt() throws RecognitionException {
+		Show_table_stmtContext _localctx = new Show_table_stmtContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_show_table_stmt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(339);
+			match(K_SHOW);
+			setState(340);
+			match(K_DATABASE);
+			setState(341);
+			database_name();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Insert_stmtContext extends ParserRuleContext {
+		public TerminalNode K_INSERT() { return getToken(SQLParser.K_INSERT, 0); }
+		public TerminalNode K_INTO() { return getToken(SQLParser.K_INTO, 0); }
+		public Table_nameContext table_name() {
+			return getRuleContext(Table_nameContext.class,0);
+		}
+		public TerminalNode K_VALUES() { return getToken(SQLParser.K_VALUES, 0); }
+		public List<Value_entryContext> value_entry() {
+			return getRuleContexts(Value_entryContext.class);
+		}
+		public Value_entryContext value_entry(int i) {
+			return getRuleContext(Value_entryContext.class,i);
+		}
+		public List<Column_nameContext> column_name() {
+			return getRuleContexts(Column_nameContext.class);
+		}
+		public Column_nameContext column_name(int i) {
+			return getRuleContext(Column_nameContext.class,i);
+		}
+		public TerminalNode K_ON() { return getToken(SQLParser.K_ON, 0); }
+		public TerminalNode K_DUPLICATE() { return getToken(SQLParser.K_DUPLICATE, 0); }
+		public TerminalNode K_KEY() { return getToken(SQLParser.K_KEY, 0); }
+		public TerminalNode K_UPDATE() { return getToken(SQLParser.K_UPDATE, 0); }
+		public List<AssignmentContext> assignment() {
+			return getRuleContexts(AssignmentContext.class);
+		}
+		public AssignmentContext assignment(int i) {
+			return getRuleContext(AssignmentContext.class,i);
+		}
+		public Insert_stmtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_insert_stmt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterInsert_stmt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitInsert_stmt(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitInsert_stmt(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Insert_stmtContext insert_stmt() throws RecognitionException {
+		Insert_stmtContext _localctx = new Insert_stmtContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_insert_stmt);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(343);
+			match(K_INSERT);
+			setState(344);
+			match(K_INTO);
+			setState(345);
+			table_name();
+			setState(357);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__1) {
+				{
+				setState(346);
+				match(T__1);
+				setState(347);
+				column_name();
+				setState(352);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(348);
+					match(T__2);
+					setState(349);
+					column_name();
+					}
+					}
+					setState(354);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(355);
+				match(T__3);
+				}
+			}
+
+			setState(359);
+			match(K_VALUES);
+			setState(360);
+			value_entry();
+			setState(365);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(361);
+				match(T__2);
+				setState(362);
+				value_entry();
+				}
+				}
+				setState(367);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(380);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ON) {
+				{
+				setState(368);
+				match(K_ON);
+				setState(369);
+				match(K_DUPLICATE);
+				setState(370);
+				match(K_KEY);
+				setState(371);
+				match(K_UPDATE);
+				setState(372);
+				assignment();
+				setState(377);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2) {
+					{
+					{
+					setState(373);
+					match(T__2);
+					setState(374);
+					assignment();
+					}
+					}
+					setState(379);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AssignmentContext extends ParserRuleContext {
+		public Column_nameContext column_name() {
+			return getRuleContext(Column_nameContext.class,0);
+		}
+		public TerminalNode EQ() { return getToken(SQLParser.EQ, 0); }
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
+		}
+		public AssignmentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_assignment; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterAssignment(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitAssignment(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitAssignment(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AssignmentContext assignment() throws RecognitionException {
+		AssignmentContext _localctx = new AssignmentContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_assignment);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(382);
+			column_name();
+			setState(383);
+			match(EQ);
+			setState(384);
+			expression(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Value_entryContext extends ParserRuleContext {
+		public List<Literal_valueContext> literal_value() {
+			return getRuleContexts(Literal_valueContext.class);
+		}
+		public Literal_valueContext literal_value(int i) {
+			return getRuleContext(Literal_valueContext.class,i);
+		}
+		public Value_entryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value_entry; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterValue_entry(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitValue_entry(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitValue_entry(this);
+			else return visitor.visitChildren(this);
 		}
-		public Column_nameContext column_name(int i) {
-			return getRuleContext(Column_nameContext.class,i);
+	}
+
+	public final Value_entryContext value_entry() throws RecognitionException {
+		Value_entryContext _localctx = new Value_entryContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_value_entry);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(386);
+			match(T__1);
+			setState(387);
+			literal_value();
+			setState(392);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(388);
+				match(T__2);
+				setState(389);
+				literal_value();
+				}
+				}
+				setState(394);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(395);
+			match(T__3);
+			}
 		}
-		public Insert_stmtContext(ParserRuleContext parent, int invokingState) {
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Select_stmtContext extends ParserRuleContext {
+		public TerminalNode K_SELECT() { return getToken(SQLParser.K_SELECT, 0); }
+		public List<Result_columnContext> result_column() {
+			return getRuleContexts(Result_columnContext.class);
+		}
+		public Result_columnContext result_column(int i) {
+			return getRuleContext(Result_columnContext.class,i);
+		}
+		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
+		public List<Table_queryContext> table_query() {
+			return getRuleContexts(Table_queryContext.class);
+		}
+		public Table_queryContext table_query(int i) {
+			return getRuleContext(Table_queryContext.class,i);
+		}
+		public TerminalNode K_WHERE() { return getToken(SQLParser.K_WHERE, 0); }
+		public Multiple_conditionContext multiple_condition() {
+			return getRuleContext(Multiple_conditionContext.class,0);
+		}
+		public Group_by_clauseContext group_by_clause() {
+			return getRuleContext(Group_by_clauseContext.class,0);
+		}
+		public Having_clauseContext having_clause() {
+			return getRuleContext(Having_clauseContext.class,0);
+		}
+		public TerminalNode K_ORDER() { return getToken(SQLParser.K_ORDER, 0); }
+		public TerminalNode K_BY() { return getToken(SQLParser.K_BY, 0); }
+		public List<Ordering_termContext> ordering_term() {
+			return getRuleContexts(Ordering_termContext.class);
+		}
+		public Ordering_termContext ordering_term(int i) {
+			return getRuleContext(Ordering_termContext.class,i);
+		}
+		public TerminalNode K_LIMIT() { return getToken(SQLParser.K_LIMIT, 0); }
+		public TerminalNode NUMERIC_LITERAL() { return getToken(SQLParser.NUMERIC_LITERAL, 0); }
+		public TerminalNode K_DISTINCT() { return getToken(SQLParser.K_DISTINCT, 0); }
+		public TerminalNode K_ALL() { return getToken(SQLParser.K_ALL, 0); }
+		public Select_stmtContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_insert_stmt; }
+		@Override public int getRuleIndex() { return RULE_select_stmt; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterInsert_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterSelect_stmt(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitInsert_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitSelect_stmt(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitInsert_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitSelect_stmt(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Insert_stmtContext insert_stmt() throws RecognitionException {
-		Insert_stmtContext _localctx = new Insert_stmtContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_insert_stmt);
+	public final Select_stmtContext select_stmt() throws RecognitionException {
+		Select_stmtContext _localctx = new Select_stmtContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_select_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(237);
-			match(K_INSERT);
-			setState(238);
-			match(K_INTO);
-			setState(239);
-			table_name();
-			setState(251);
+			setState(397);
+			match(K_SELECT);
+			setState(399);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__1) {
+			if (_la==K_ALL || _la==K_DISTINCT) {
 				{
-				setState(240);
-				match(T__1);
-				setState(241);
-				column_name();
-				setState(246);
+				setState(398);
+				_la = _input.LA(1);
+				if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
+				_errHandler.recoverInline(this);
+				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
+				}
+				}
+			}
+
+			setState(401);
+			result_column();
+			setState(406);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(402);
+				match(T__2);
+				setState(403);
+				result_column();
+				}
+				}
+				setState(408);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(409);
+			match(K_FROM);
+			setState(410);
+			table_query();
+			setState(415);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2) {
+				{
+				{
+				setState(411);
+				match(T__2);
+				setState(412);
+				table_query();
+				}
+				}
+				setState(417);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(420);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_WHERE) {
+				{
+				setState(418);
+				match(K_WHERE);
+				setState(419);
+				multiple_condition(0);
+				}
+			}
+
+			setState(423);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_GROUP) {
+				{
+				setState(422);
+				group_by_clause();
+				}
+			}
+
+			setState(426);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_HAVING) {
+				{
+				setState(425);
+				having_clause();
+				}
+			}
+
+			setState(438);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==K_ORDER) {
+				{
+				setState(428);
+				match(K_ORDER);
+				setState(429);
+				match(K_BY);
+				setState(430);
+				ordering_term();
+				setState(435);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__2) {
 					{
 					{
-					setState(242);
+					setState(431);
 					match(T__2);
-					setState(243);
-					column_name();
+					setState(432);
+					ordering_term();
 					}
 					}
-					setState(248);
+					setState(437);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(249);
-				match(T__3);
 				}
 			}
 
-			setState(253);
-			match(K_VALUES);
-			setState(254);
-			value_entry();
-			setState(259);
+			setState(442);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__2) {
-				{
+			if (_la==K_LIMIT) {
 				{
-				setState(255);
-				match(T__2);
-				setState(256);
-				value_entry();
-				}
+				setState(440);
+				match(K_LIMIT);
+				setState(441);
+				match(NUMERIC_LITERAL);
 				}
-				setState(261);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1491,61 +2390,63 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Value_entryContext extends ParserRuleContext {
-		public List<Literal_valueContext> literal_value() {
-			return getRuleContexts(Literal_valueContext.class);
+	public static class Group_by_clauseContext extends ParserRuleContext {
+		public TerminalNode K_GROUP() { return getToken(SQLParser.K_GROUP, 0); }
+		public TerminalNode K_BY() { return getToken(SQLParser.K_BY, 0); }
+		public List<Column_full_nameContext> column_full_name() {
+			return getRuleContexts(Column_full_nameContext.class);
 		}
-		public Literal_valueContext literal_value(int i) {
-			return getRuleContext(Literal_valueContext.class,i);
+		public Column_full_nameContext column_full_name(int i) {
+			return getRuleContext(Column_full_nameContext.class,i);
 		}
-		public Value_entryContext(ParserRuleContext parent, int invokingState) {
+		public Group_by_clauseContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_value_entry; }
+		@Override public int getRuleIndex() { return RULE_group_by_clause; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterValue_entry(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterGroup_by_clause(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitValue_entry(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitGroup_by_clause(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitValue_entry(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitGroup_by_clause(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Value_entryContext value_entry() throws RecognitionException {
-		Value_entryContext _localctx = new Value_entryContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_value_entry);
+	public final Group_by_clauseContext group_by_clause() throws RecognitionException {
+		Group_by_clauseContext _localctx = new Group_by_clauseContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_group_by_clause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
-			match(T__1);
-			setState(263);
-			literal_value();
-			setState(268);
+			setState(444);
+			match(K_GROUP);
+			setState(445);
+			match(K_BY);
+			setState(446);
+			column_full_name();
+			setState(451);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(264);
+				setState(447);
 				match(T__2);
-				setState(265);
-				literal_value();
+				setState(448);
+				column_full_name();
 				}
 				}
-				setState(270);
+				setState(453);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(271);
-			match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1559,120 +2460,119 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Select_stmtContext extends ParserRuleContext {
-		public TerminalNode K_SELECT() { return getToken(SQLParser.K_SELECT, 0); }
-		public List<Result_columnContext> result_column() {
-			return getRuleContexts(Result_columnContext.class);
+	public static class Having_clauseContext extends ParserRuleContext {
+		public TerminalNode K_HAVING() { return getToken(SQLParser.K_HAVING, 0); }
+		public Multiple_conditionContext multiple_condition() {
+			return getRuleContext(Multiple_conditionContext.class,0);
 		}
-		public Result_columnContext result_column(int i) {
-			return getRuleContext(Result_columnContext.class,i);
+		public Having_clauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
 		}
-		public TerminalNode K_FROM() { return getToken(SQLParser.K_FROM, 0); }
-		public List<Table_queryContext> table_query() {
-			return getRuleContexts(Table_queryContext.class);
+		@Override public int getRuleIndex() { return RULE_having_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterHaving_clause(this);
 		}
-		public Table_queryContext table_query(int i) {
-			return getRuleContext(Table_queryContext.class,i);
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitHaving_clause(this);
 		}
-		public TerminalNode K_WHERE() { return getToken(SQLParser.K_WHERE, 0); }
-		public Multiple_conditionContext multiple_condition() {
-			return getRuleContext(Multiple_conditionContext.class,0);
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitHaving_clause(this);
+			else return visitor.visitChildren(this);
 		}
-		public TerminalNode K_DISTINCT() { return getToken(SQLParser.K_DISTINCT, 0); }
-		public TerminalNode K_ALL() { return getToken(SQLParser.K_ALL, 0); }
-		public Select_stmtContext(ParserRuleContext parent, int invokingState) {
+	}
+
+	public final Having_clauseContext having_clause() throws RecognitionException {
+		Having_clauseContext _localctx = new Having_clauseContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_having_clause);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(454);
+			match(K_HAVING);
+			setState(455);
+			multiple_condition(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Ordering_termContext extends ParserRuleContext {
+		public Column_full_nameContext column_full_name() {
+			return getRuleContext(Column_full_nameContext.class,0);
+		}
+		public AggregateContext aggregate() {
+			return getRuleContext(AggregateContext.class,0);
+		}
+		public TerminalNode K_ASC() { return getToken(SQLParser.K_ASC, 0); }
+		public TerminalNode K_DESC() { return getToken(SQLParser.K_DESC, 0); }
+		public Ordering_termContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_select_stmt; }
+		@Override public int getRuleIndex() { return RULE_ordering_term; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterSelect_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterOrdering_term(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitSelect_stmt(this);
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitOrdering_term(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitSelect_stmt(this);
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitOrdering_term(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final Select_stmtContext select_stmt() throws RecognitionException {
-		Select_stmtContext _localctx = new Select_stmtContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_select_stmt);
+	public final Ordering_termContext ordering_term() throws RecognitionException {
+		Ordering_termContext _localctx = new Ordering_termContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_ordering_term);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(273);
-			match(K_SELECT);
-			setState(275);
+			setState(459);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==K_ALL || _la==K_DISTINCT) {
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+			case 1:
 				{
-				setState(274);
-				_la = _input.LA(1);
-				if ( !(_la==K_ALL || _la==K_DISTINCT) ) {
-				_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
+				setState(457);
+				column_full_name();
 				}
-			}
-
-			setState(277);
-			result_column();
-			setState(282);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__2) {
-				{
+				break;
+			case 2:
 				{
-				setState(278);
-				match(T__2);
-				setState(279);
-				result_column();
-				}
+				setState(458);
+				aggregate();
 				}
-				setState(284);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
+				break;
 			}
-			setState(285);
-			match(K_FROM);
-			setState(286);
-			table_query();
-			setState(291);
+			setState(462);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__2) {
+			if (_la==K_ASC || _la==K_DESC) {
 				{
-				{
-				setState(287);
-				match(T__2);
-				setState(288);
-				table_query();
+				setState(461);
+				_la = _input.LA(1);
+				if ( !(_la==K_ASC || _la==K_DESC) ) {
+				_errHandler.recoverInline(this);
 				}
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
-				setState(293);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(296);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if (_la==K_WHERE) {
-				{
-				setState(294);
-				match(K_WHERE);
-				setState(295);
-				multiple_condition(0);
 				}
 			}
 
@@ -1720,19 +2620,19 @@ public class SQLParser extends Parser {
 
 	public final Create_view_stmtContext create_view_stmt() throws RecognitionException {
 		Create_view_stmtContext _localctx = new Create_view_stmtContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_create_view_stmt);
+		enterRule(_localctx, 60, RULE_create_view_stmt);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(298);
+			setState(464);
 			match(K_CREATE);
-			setState(299);
+			setState(465);
 			match(K_VIEW);
-			setState(300);
+			setState(466);
 			view_name();
-			setState(301);
+			setState(467);
 			match(K_AS);
-			setState(302);
+			setState(468);
 			select_stmt();
 			}
 		}
@@ -1776,28 +2676,28 @@ public class SQLParser extends Parser {
 
 	public final Drop_view_stmtContext drop_view_stmt() throws RecognitionException {
 		Drop_view_stmtContext _localctx = new Drop_view_stmtContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_drop_view_stmt);
+		enterRule(_localctx, 62, RULE_drop_view_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(304);
+			setState(470);
 			match(K_DROP);
-			setState(305);
+			setState(471);
 			match(K_VIEW);
-			setState(308);
+			setState(474);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_IF) {
 				{
-				setState(306);
+				setState(472);
 				match(K_IF);
-				setState(307);
+				setState(473);
 				match(K_EXISTS);
 				}
 			}
 
-			setState(310);
+			setState(476);
 			view_name();
 			}
 		}
@@ -1850,31 +2750,31 @@ public class SQLParser extends Parser {
 
 	public final Update_stmtContext update_stmt() throws RecognitionException {
 		Update_stmtContext _localctx = new Update_stmtContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_update_stmt);
+		enterRule(_localctx, 64, RULE_update_stmt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(312);
+			setState(478);
 			match(K_UPDATE);
-			setState(313);
+			setState(479);
 			table_name();
-			setState(314);
+			setState(480);
 			match(K_SET);
-			setState(315);
+			setState(481);
 			column_name();
-			setState(316);
+			setState(482);
 			match(EQ);
-			setState(317);
+			setState(483);
 			expression(0);
-			setState(320);
+			setState(486);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==K_WHERE) {
 				{
-				setState(318);
+				setState(484);
 				match(K_WHERE);
-				setState(319);
+				setState(485);
 				multiple_condition(0);
 				}
 			}
@@ -1926,26 +2826,26 @@ public class SQLParser extends Parser {
 
 	public final Column_defContext column_def() throws RecognitionException {
 		Column_defContext _localctx = new Column_defContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_column_def);
+		enterRule(_localctx, 66, RULE_column_def);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(322);
+			setState(488);
 			column_name();
-			setState(323);
+			setState(489);
 			type_name();
-			setState(327);
+			setState(493);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==K_NOT || _la==K_PRIMARY) {
 				{
 				{
-				setState(324);
+				setState(490);
 				column_constraint();
 				}
 				}
-				setState(329);
+				setState(495);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1990,49 +2890,49 @@ public class SQLParser extends Parser {
 
 	public final Type_nameContext type_name() throws RecognitionException {
 		Type_nameContext _localctx = new Type_nameContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_type_name);
+		enterRule(_localctx, 68, RULE_type_name);
 		try {
-			setState(338);
+			setState(504);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T_INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(330);
+				setState(496);
 				match(T_INT);
 				}
 				break;
 			case T_LONG:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(331);
+				setState(497);
 				match(T_LONG);
 				}
 				break;
 			case T_FLOAT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(332);
+				setState(498);
 				match(T_FLOAT);
 				}
 				break;
 			case T_DOUBLE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(333);
+				setState(499);
 				match(T_DOUBLE);
 				}
 				break;
 			case T_STRING:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(334);
+				setState(500);
 				match(T_STRING);
-				setState(335);
+				setState(501);
 				match(T__1);
-				setState(336);
+				setState(502);
 				match(NUMERIC_LITERAL);
-				setState(337);
+				setState(503);
 				match(T__3);
 				}
 				break;
@@ -2077,26 +2977,26 @@ public class SQLParser extends Parser {
 
 	public final Column_constraintContext column_constraint() throws RecognitionException {
 		Column_constraintContext _localctx = new Column_constraintContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_column_constraint);
+		enterRule(_localctx, 70, RULE_column_constraint);
 		try {
-			setState(344);
+			setState(510);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case K_PRIMARY:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(340);
+				setState(506);
 				match(K_PRIMARY);
-				setState(341);
+				setState(507);
 				match(K_KEY);
 				}
 				break;
 			case K_NOT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(342);
+				setState(508);
 				match(K_NOT);
-				setState(343);
+				setState(509);
 				match(K_NULL);
 				}
 				break;
@@ -2125,6 +3025,7 @@ public class SQLParser extends Parser {
 		public Multiple_conditionContext multiple_condition(int i) {
 			return getRuleContext(Multiple_conditionContext.class,i);
 		}
+		public TerminalNode K_NOT() { return getToken(SQLParser.K_NOT, 0); }
 		public TerminalNode AND() { return getToken(SQLParser.AND, 0); }
 		public TerminalNode OR() { return getToken(SQLParser.OR, 0); }
 		public Multiple_conditionContext(ParserRuleContext parent, int invokingState) {
@@ -2155,37 +3056,61 @@ public class SQLParser extends Parser {
 		int _parentState = getState();
 		Multiple_conditionContext _localctx = new Multiple_conditionContext(_ctx, _parentState);
 		Multiple_conditionContext _prevctx = _localctx;
-		int _startState = 52;
-		enterRecursionRule(_localctx, 52, RULE_multiple_condition, _p);
+		int _startState = 72;
+		enterRecursionRule(_localctx, 72, RULE_multiple_condition, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			{
-			setState(347);
-			condition();
+			setState(520);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
+			case 1:
+				{
+				setState(513);
+				condition();
+				}
+				break;
+			case 2:
+				{
+				setState(514);
+				match(T__1);
+				setState(515);
+				multiple_condition(0);
+				setState(516);
+				match(T__3);
+				}
+				break;
+			case 3:
+				{
+				setState(518);
+				match(K_NOT);
+				setState(519);
+				multiple_condition(3);
+				}
+				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(357);
+			setState(530);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(355);
+					setState(528);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,45,_ctx) ) {
 					case 1:
 						{
 						_localctx = new Multiple_conditionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
-						setState(349);
+						setState(522);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(350);
+						setState(523);
 						match(AND);
-						setState(351);
+						setState(524);
 						multiple_condition(3);
 						}
 						break;
@@ -2193,20 +3118,20 @@ public class SQLParser extends Parser {
 						{
 						_localctx = new Multiple_conditionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_multiple_condition);
-						setState(352);
+						setState(525);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(353);
+						setState(526);
 						match(OR);
-						setState(354);
+						setState(527);
 						multiple_condition(2);
 						}
 						break;
 					}
 					} 
 				}
-				setState(359);
+				setState(532);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
 			}
 			}
 		}
@@ -2252,15 +3177,15 @@ public class SQLParser extends Parser {
 
 	public final ConditionContext condition() throws RecognitionException {
 		ConditionContext _localctx = new ConditionContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_condition);
+		enterRule(_localctx, 74, RULE_condition);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(533);
 			expression(0);
-			setState(361);
+			setState(534);
 			comparator();
-			setState(362);
+			setState(535);
 			expression(0);
 			}
 		}
@@ -2282,6 +3207,9 @@ public class SQLParser extends Parser {
 		public Literal_valueContext literal_value() {
 			return getRuleContext(Literal_valueContext.class,0);
 		}
+		public AggregateContext aggregate() {
+			return getRuleContext(AggregateContext.class,0);
+		}
 		public ComparerContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2303,29 +3231,32 @@ public class SQLParser extends Parser {
 
 	public final ComparerContext comparer() throws RecognitionException {
 		ComparerContext _localctx = new ComparerContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_comparer);
+		enterRule(_localctx, 76, RULE_comparer);
 		try {
-			setState(366);
+			setState(540);
 			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case IDENTIFIER:
+			switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
+			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(364);
+				setState(537);
 				column_full_name();
 				}
 				break;
-			case K_NULL:
-			case NUMERIC_LITERAL:
-			case STRING_LITERAL:
+			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(365);
+				setState(538);
 				literal_value();
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(539);
+				aggregate();
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -2346,6 +3277,7 @@ public class SQLParser extends Parser {
 		public TerminalNode GE() { return getToken(SQLParser.GE, 0); }
 		public TerminalNode LT() { return getToken(SQLParser.LT, 0); }
 		public TerminalNode GT() { return getToken(SQLParser.GT, 0); }
+		public TerminalNode K_LIKE() { return getToken(SQLParser.K_LIKE, 0); }
 		public ComparatorContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2367,14 +3299,14 @@ public class SQLParser extends Parser {
 
 	public final ComparatorContext comparator() throws RecognitionException {
 		ComparatorContext _localctx = new ComparatorContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_comparator);
+		enterRule(_localctx, 78, RULE_comparator);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(368);
+			setState(542);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQ) | (1L << NE) | (1L << LT) | (1L << GT) | (1L << LE) | (1L << GE))) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EQ) | (1L << NE) | (1L << LT) | (1L << GT) | (1L << LE) | (1L << GE) | (1L << K_LIKE))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -2437,14 +3369,14 @@ public class SQLParser extends Parser {
 		int _parentState = getState();
 		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
 		ExpressionContext _prevctx = _localctx;
-		int _startState = 60;
-		enterRecursionRule(_localctx, 60, RULE_expression, _p);
+		int _startState = 80;
+		enterRecursionRule(_localctx, 80, RULE_expression, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(376);
+			setState(550);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case K_NULL:
@@ -2452,17 +3384,17 @@ public class SQLParser extends Parser {
 			case NUMERIC_LITERAL:
 			case STRING_LITERAL:
 				{
-				setState(371);
+				setState(545);
 				comparer();
 				}
 				break;
 			case T__1:
 				{
-				setState(372);
+				setState(546);
 				match(T__1);
-				setState(373);
+				setState(547);
 				expression(0);
-				setState(374);
+				setState(548);
 				match(T__3);
 				}
 				break;
@@ -2470,24 +3402,24 @@ public class SQLParser extends Parser {
 				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(386);
+			setState(560);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(384);
+					setState(558);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(378);
+						setState(552);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(379);
+						setState(553);
 						_la = _input.LA(1);
 						if ( !(_la==MUL || _la==DIV) ) {
 						_errHandler.recoverInline(this);
@@ -2497,7 +3429,7 @@ public class SQLParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(380);
+						setState(554);
 						expression(4);
 						}
 						break;
@@ -2505,9 +3437,9 @@ public class SQLParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(381);
+						setState(555);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(382);
+						setState(556);
 						_la = _input.LA(1);
 						if ( !(_la==ADD || _la==SUB) ) {
 						_errHandler.recoverInline(this);
@@ -2517,16 +3449,16 @@ public class SQLParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(383);
+						setState(557);
 						expression(3);
 						}
 						break;
 					}
 					} 
 				}
-				setState(388);
+				setState(562);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,50,_ctx);
 			}
 			}
 		}
@@ -2571,36 +3503,36 @@ public class SQLParser extends Parser {
 
 	public final Table_constraintContext table_constraint() throws RecognitionException {
 		Table_constraintContext _localctx = new Table_constraintContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_table_constraint);
+		enterRule(_localctx, 82, RULE_table_constraint);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(389);
+			setState(563);
 			match(K_PRIMARY);
-			setState(390);
+			setState(564);
 			match(K_KEY);
-			setState(391);
+			setState(565);
 			match(T__1);
-			setState(392);
+			setState(566);
 			column_name();
-			setState(397);
+			setState(571);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(393);
+				setState(567);
 				match(T__2);
-				setState(394);
+				setState(568);
 				column_name();
 				}
 				}
-				setState(399);
+				setState(573);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(400);
+			setState(574);
 			match(T__3);
 			}
 		}
@@ -2615,6 +3547,56 @@ public class SQLParser extends Parser {
 		return _localctx;
 	}
 
+	public static class Index_optionContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLParser.IDENTIFIER, 0); }
+		public TerminalNode EQ() { return getToken(SQLParser.EQ, 0); }
+		public Literal_valueContext literal_value() {
+			return getRuleContext(Literal_valueContext.class,0);
+		}
+		public Index_optionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index_option; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterIndex_option(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitIndex_option(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitIndex_option(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Index_optionContext index_option() throws RecognitionException {
+		Index_optionContext _localctx = new Index_optionContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_index_option);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(576);
+			match(IDENTIFIER);
+			setState(577);
+			match(EQ);
+			setState(578);
+			literal_value();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class Result_columnContext extends ParserRuleContext {
 		public TerminalNode MUL() { return getToken(SQLParser.MUL, 0); }
 		public Table_nameContext table_name() {
@@ -2623,6 +3605,9 @@ public class SQLParser extends Parser {
 		public Column_full_nameContext column_full_name() {
 			return getRuleContext(Column_full_nameContext.class,0);
 		}
+		public AggregateContext aggregate() {
+			return getRuleContext(AggregateContext.class,0);
+		}
 		public Result_columnContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2644,36 +3629,111 @@ public class SQLParser extends Parser {
 
 	public final Result_columnContext result_column() throws RecognitionException {
 		Result_columnContext _localctx = new Result_columnContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_result_column);
+		enterRule(_localctx, 86, RULE_result_column);
 		try {
-			setState(408);
+			setState(587);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(402);
+				setState(580);
 				match(MUL);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(403);
+				setState(581);
 				table_name();
-				setState(404);
+				setState(582);
 				match(T__4);
-				setState(405);
+				setState(583);
 				match(MUL);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(407);
+				setState(585);
+				column_full_name();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(586);
+				aggregate();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AggregateContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLParser.IDENTIFIER, 0); }
+		public TerminalNode MUL() { return getToken(SQLParser.MUL, 0); }
+		public Column_full_nameContext column_full_name() {
+			return getRuleContext(Column_full_nameContext.class,0);
+		}
+		public AggregateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_aggregate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterAggregate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitAggregate(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitAggregate(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final AggregateContext aggregate() throws RecognitionException {
+		AggregateContext _localctx = new AggregateContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_aggregate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(589);
+			match(IDENTIFIER);
+			setState(590);
+			match(T__1);
+			setState(593);
+			_errHandler.sync(this);
+			switch (_input.LA(1)) {
+			case MUL:
+				{
+				setState(591);
+				match(MUL);
+				}
+				break;
+			case IDENTIFIER:
+				{
+				setState(592);
 				column_full_name();
 				}
 				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(595);
+			match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2723,43 +3783,43 @@ public class SQLParser extends Parser {
 
 	public final Table_queryContext table_query() throws RecognitionException {
 		Table_queryContext _localctx = new Table_queryContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_table_query);
+		enterRule(_localctx, 90, RULE_table_query);
 		int _la;
 		try {
-			setState(421);
+			setState(608);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(410);
+				setState(597);
 				table_name();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(411);
+				setState(598);
 				table_name();
-				setState(414); 
+				setState(601); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(412);
+					setState(599);
 					match(K_JOIN);
-					setState(413);
+					setState(600);
 					table_name();
 					}
 					}
-					setState(416); 
+					setState(603); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==K_JOIN );
-				setState(418);
+				setState(605);
 				match(K_ON);
-				setState(419);
+				setState(606);
 				multiple_condition(0);
 				}
 				break;
@@ -2803,14 +3863,14 @@ public class SQLParser extends Parser {
 
 	public final Auth_levelContext auth_level() throws RecognitionException {
 		Auth_levelContext _localctx = new Auth_levelContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_auth_level);
+		enterRule(_localctx, 92, RULE_auth_level);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(423);
+			setState(610);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_DELETE) | (1L << K_DROP) | (1L << K_INSERT) | (1L << K_SELECT) | (1L << K_UPDATE))) != 0)) ) {
+			if ( !(((((_la - 34)) & ~0x3f) == 0 && ((1L << (_la - 34)) & ((1L << (K_DELETE - 34)) | (1L << (K_DROP - 34)) | (1L << (K_INSERT - 34)) | (1L << (K_SELECT - 34)) | (1L << (K_UPDATE - 34)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -2856,14 +3916,14 @@ public class SQLParser extends Parser {
 
 	public final Literal_valueContext literal_value() throws RecognitionException {
 		Literal_valueContext _localctx = new Literal_valueContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_literal_value);
+		enterRule(_localctx, 94, RULE_literal_value);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(425);
+			setState(612);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << K_NULL) | (1L << NUMERIC_LITERAL) | (1L << STRING_LITERAL))) != 0)) ) {
+			if ( !(((((_la - 56)) & ~0x3f) == 0 && ((1L << (_la - 56)) & ((1L << (K_NULL - 56)) | (1L << (NUMERIC_LITERAL - 56)) | (1L << (STRING_LITERAL - 56)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -2912,23 +3972,23 @@ public class SQLParser extends Parser {
 
 	public final Column_full_nameContext column_full_name() throws RecognitionException {
 		Column_full_nameContext _localctx = new Column_full_nameContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_column_full_name);
+		enterRule(_localctx, 96, RULE_column_full_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(430);
+			setState(617);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
 			case 1:
 				{
-				setState(427);
+				setState(614);
 				table_name();
-				setState(428);
+				setState(615);
 				match(T__4);
 				}
 				break;
 			}
-			setState(432);
+			setState(619);
 			column_name();
 			}
 		}
@@ -2966,11 +4026,11 @@ public class SQLParser extends Parser {
 
 	public final Database_nameContext database_name() throws RecognitionException {
 		Database_nameContext _localctx = new Database_nameContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_database_name);
+		enterRule(_localctx, 98, RULE_database_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(434);
+			setState(621);
 			match(IDENTIFIER);
 			}
 		}
@@ -3008,11 +4068,11 @@ public class SQLParser extends Parser {
 
 	public final Table_nameContext table_name() throws RecognitionException {
 		Table_nameContext _localctx = new Table_nameContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_table_name);
+		enterRule(_localctx, 100, RULE_table_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(436);
+			setState(623);
 			match(IDENTIFIER);
 			}
 		}
@@ -3050,11 +4110,11 @@ public class SQLParser extends Parser {
 
 	public final User_nameContext user_name() throws RecognitionException {
 		User_nameContext _localctx = new User_nameContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_user_name);
+		enterRule(_localctx, 102, RULE_user_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(438);
+			setState(625);
 			match(IDENTIFIER);
 			}
 		}
@@ -3092,11 +4152,11 @@ public class SQLParser extends Parser {
 
 	public final Column_nameContext column_name() throws RecognitionException {
 		Column_nameContext _localctx = new Column_nameContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_column_name);
+		enterRule(_localctx, 104, RULE_column_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(440);
+			setState(627);
 			match(IDENTIFIER);
 			}
 		}
@@ -3134,11 +4194,53 @@ public class SQLParser extends Parser {
 
 	public final View_nameContext view_name() throws RecognitionException {
 		View_nameContext _localctx = new View_nameContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_view_name);
+		enterRule(_localctx, 106, RULE_view_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(442);
+			setState(629);
+			match(IDENTIFIER);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Index_nameContext extends ParserRuleContext {
+		public TerminalNode IDENTIFIER() { return getToken(SQLParser.IDENTIFIER, 0); }
+		public Index_nameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_index_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).enterIndex_name(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SQLListener ) ((SQLListener)listener).exitIndex_name(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof SQLVisitor ) return ((SQLVisitor<? extends T>)visitor).visitIndex_name(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final Index_nameContext index_name() throws RecognitionException {
+		Index_nameContext _localctx = new Index_nameContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_index_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(631);
 			match(IDENTIFIER);
 			}
 		}
@@ -3176,11 +4278,11 @@ public class SQLParser extends Parser {
 
 	public final PasswordContext password() throws RecognitionException {
 		PasswordContext _localctx = new PasswordContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_password);
+		enterRule(_localctx, 110, RULE_password);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(444);
+			setState(633);
 			match(STRING_LITERAL);
 			}
 		}
@@ -3197,9 +4299,9 @@ public class SQLParser extends Parser {
 
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
-		case 26:
+		case 36:
 			return multiple_condition_sempred((Multiple_conditionContext)_localctx, predIndex);
-		case 30:
+		case 40:
 			return expression_sempred((ExpressionContext)_localctx, predIndex);
 		}
 		return true;
@@ -3224,7 +4326,7 @@ public class SQLParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001B\u01bf\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001R\u027c\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3236,275 +4338,395 @@ public class SQLParser extends Parser {
 		"\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e"+
 		"\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
 		"#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002"+
-		"(\u0007(\u0002)\u0007)\u0002*\u0007*\u0001\u0000\u0001\u0000\u0001\u0001"+
-		"\u0005\u0001Z\b\u0001\n\u0001\f\u0001]\t\u0001\u0001\u0001\u0001\u0001"+
-		"\u0004\u0001a\b\u0001\u000b\u0001\f\u0001b\u0001\u0001\u0005\u0001f\b"+
-		"\u0001\n\u0001\f\u0001i\t\u0001\u0001\u0001\u0005\u0001l\b\u0001\n\u0001"+
-		"\f\u0001o\t\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007+\u0002,\u0007,\u0002"+
+		"-\u0007-\u0002.\u0007.\u0002/\u0007/\u00020\u00070\u00021\u00071\u0002"+
+		"2\u00072\u00023\u00073\u00024\u00074\u00025\u00075\u00026\u00076\u0002"+
+		"7\u00077\u0001\u0000\u0001\u0000\u0001\u0001\u0005\u0001t\b\u0001\n\u0001"+
+		"\f\u0001w\t\u0001\u0001\u0001\u0001\u0001\u0004\u0001{\b\u0001\u000b\u0001"+
+		"\f\u0001|\u0001\u0001\u0005\u0001\u0080\b\u0001\n\u0001\f\u0001\u0083"+
+		"\t\u0001\u0001\u0001\u0005\u0001\u0086\b\u0001\n\u0001\f\u0001\u0089\t"+
+		"\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
 		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
 		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
-		"\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u0084\b\u0002\u0001\u0003\u0001"+
-		"\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001"+
-		"\u0004\u0003\u0004\u008e\b\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001"+
-		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
-		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u009d\b\u0006\u0001"+
-		"\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\u0007\u0005\u0007\u00a8\b\u0007\n\u0007\f\u0007"+
-		"\u00ab\t\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00af\b\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001"+
-		"\t\u0001\t\u0005\t\u00bb\b\t\n\t\f\t\u00be\t\t\u0001\t\u0001\t\u0001\t"+
-		"\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0005\n\u00c9\b\n\n\n"+
-		"\f\n\u00cc\t\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001"+
-		"\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0003\f\u00db"+
-		"\b\f\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u00e1\b\r\u0001\r\u0001\r"+
-		"\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u0010"+
-		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011"+
-		"\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0005\u0011\u00f5\b\u0011"+
-		"\n\u0011\f\u0011\u00f8\t\u0011\u0001\u0011\u0001\u0011\u0003\u0011\u00fc"+
-		"\b\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0005\u0011\u0102"+
-		"\b\u0011\n\u0011\f\u0011\u0105\t\u0011\u0001\u0012\u0001\u0012\u0001\u0012"+
-		"\u0001\u0012\u0005\u0012\u010b\b\u0012\n\u0012\f\u0012\u010e\t\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0003\u0013\u0114\b\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0013\u0005\u0013\u0119\b\u0013\n\u0013\f\u0013"+
-		"\u011c\t\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0005\u0013"+
-		"\u0122\b\u0013\n\u0013\f\u0013\u0125\t\u0013\u0001\u0013\u0001\u0013\u0003"+
-		"\u0013\u0129\b\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0003"+
-		"\u0015\u0135\b\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0003"+
-		"\u0016\u0141\b\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0005\u0017\u0146"+
-		"\b\u0017\n\u0017\f\u0017\u0149\t\u0017\u0001\u0018\u0001\u0018\u0001\u0018"+
-		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018"+
-		"\u0153\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019"+
-		"\u0159\b\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
-		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005\u001a\u0164\b\u001a"+
-		"\n\u001a\f\u001a\u0167\t\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001"+
-		"\u001b\u0001\u001c\u0001\u001c\u0003\u001c\u016f\b\u001c\u0001\u001d\u0001"+
-		"\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
-		"\u001e\u0003\u001e\u0179\b\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001"+
-		"\u001e\u0001\u001e\u0001\u001e\u0005\u001e\u0181\b\u001e\n\u001e\f\u001e"+
-		"\u0184\t\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f"+
-		"\u0001\u001f\u0005\u001f\u018c\b\u001f\n\u001f\f\u001f\u018f\t\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0003 \u0199"+
-		"\b \u0001!\u0001!\u0001!\u0001!\u0004!\u019f\b!\u000b!\f!\u01a0\u0001"+
-		"!\u0001!\u0001!\u0003!\u01a6\b!\u0001\"\u0001\"\u0001#\u0001#\u0001$\u0001"+
-		"$\u0001$\u0003$\u01af\b$\u0001$\u0001$\u0001%\u0001%\u0001&\u0001&\u0001"+
-		"\'\u0001\'\u0001(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001*\u0000\u0002"+
-		"4<+\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018"+
-		"\u001a\u001c\u001e \"$&(*,.02468:<>@BDFHJLNPRT\u0000\u0006\u0002\u0000"+
-		"\u0018\u0018  \u0001\u0000\u0006\u000b\u0001\u0000\u000e\u000f\u0001\u0000"+
-		"\f\r\u0005\u0000\u001f\u001f!!\'\'1166\u0003\u0000,,==??\u01cd\u0000V"+
-		"\u0001\u0000\u0000\u0000\u0002[\u0001\u0000\u0000\u0000\u0004\u0083\u0001"+
-		"\u0000\u0000\u0000\u0006\u0085\u0001\u0000\u0000\u0000\b\u0089\u0001\u0000"+
-		"\u0000\u0000\n\u0091\u0001\u0000\u0000\u0000\f\u0098\u0001\u0000\u0000"+
-		"\u0000\u000e\u00a0\u0001\u0000\u0000\u0000\u0010\u00b2\u0001\u0000\u0000"+
-		"\u0000\u0012\u00b6\u0001\u0000\u0000\u0000\u0014\u00c4\u0001\u0000\u0000"+
-		"\u0000\u0016\u00d2\u0001\u0000\u0000\u0000\u0018\u00d5\u0001\u0000\u0000"+
-		"\u0000\u001a\u00dc\u0001\u0000\u0000\u0000\u001c\u00e4\u0001\u0000\u0000"+
-		"\u0000\u001e\u00e7\u0001\u0000\u0000\u0000 \u00e9\u0001\u0000\u0000\u0000"+
-		"\"\u00ed\u0001\u0000\u0000\u0000$\u0106\u0001\u0000\u0000\u0000&\u0111"+
-		"\u0001\u0000\u0000\u0000(\u012a\u0001\u0000\u0000\u0000*\u0130\u0001\u0000"+
-		"\u0000\u0000,\u0138\u0001\u0000\u0000\u0000.\u0142\u0001\u0000\u0000\u0000"+
-		"0\u0152\u0001\u0000\u0000\u00002\u0158\u0001\u0000\u0000\u00004\u015a"+
-		"\u0001\u0000\u0000\u00006\u0168\u0001\u0000\u0000\u00008\u016e\u0001\u0000"+
-		"\u0000\u0000:\u0170\u0001\u0000\u0000\u0000<\u0178\u0001\u0000\u0000\u0000"+
-		">\u0185\u0001\u0000\u0000\u0000@\u0198\u0001\u0000\u0000\u0000B\u01a5"+
-		"\u0001\u0000\u0000\u0000D\u01a7\u0001\u0000\u0000\u0000F\u01a9\u0001\u0000"+
-		"\u0000\u0000H\u01ae\u0001\u0000\u0000\u0000J\u01b2\u0001\u0000\u0000\u0000"+
-		"L\u01b4\u0001\u0000\u0000\u0000N\u01b6\u0001\u0000\u0000\u0000P\u01b8"+
-		"\u0001\u0000\u0000\u0000R\u01ba\u0001\u0000\u0000\u0000T\u01bc\u0001\u0000"+
-		"\u0000\u0000VW\u0003\u0002\u0001\u0000W\u0001\u0001\u0000\u0000\u0000"+
-		"XZ\u0005\u0001\u0000\u0000YX\u0001\u0000\u0000\u0000Z]\u0001\u0000\u0000"+
-		"\u0000[Y\u0001\u0000\u0000\u0000[\\\u0001\u0000\u0000\u0000\\^\u0001\u0000"+
-		"\u0000\u0000][\u0001\u0000\u0000\u0000^g\u0003\u0004\u0002\u0000_a\u0005"+
-		"\u0001\u0000\u0000`_\u0001\u0000\u0000\u0000ab\u0001\u0000\u0000\u0000"+
-		"b`\u0001\u0000\u0000\u0000bc\u0001\u0000\u0000\u0000cd\u0001\u0000\u0000"+
-		"\u0000df\u0003\u0004\u0002\u0000e`\u0001\u0000\u0000\u0000fi\u0001\u0000"+
-		"\u0000\u0000ge\u0001\u0000\u0000\u0000gh\u0001\u0000\u0000\u0000hm\u0001"+
-		"\u0000\u0000\u0000ig\u0001\u0000\u0000\u0000jl\u0005\u0001\u0000\u0000"+
-		"kj\u0001\u0000\u0000\u0000lo\u0001\u0000\u0000\u0000mk\u0001\u0000\u0000"+
-		"\u0000mn\u0001\u0000\u0000\u0000n\u0003\u0001\u0000\u0000\u0000om\u0001"+
-		"\u0000\u0000\u0000p\u0084\u0003\u000e\u0007\u0000q\u0084\u0003\u0006\u0003"+
-		"\u0000r\u0084\u0003\n\u0005\u0000s\u0084\u0003\b\u0004\u0000t\u0084\u0003"+
-		"\f\u0006\u0000u\u0084\u0003\u0018\f\u0000v\u0084\u0003\u001a\r\u0000w"+
-		"\u0084\u0003\"\u0011\u0000x\u0084\u0003&\u0013\u0000y\u0084\u0003(\u0014"+
-		"\u0000z\u0084\u0003*\u0015\u0000{\u0084\u0003\u0012\t\u0000|\u0084\u0003"+
-		"\u0014\n\u0000}\u0084\u0003\u0016\u000b\u0000~\u0084\u0003\u001c\u000e"+
-		"\u0000\u007f\u0084\u0003 \u0010\u0000\u0080\u0084\u0003\u0010\b\u0000"+
-		"\u0081\u0084\u0003\u001e\u000f\u0000\u0082\u0084\u0003,\u0016\u0000\u0083"+
-		"p\u0001\u0000\u0000\u0000\u0083q\u0001\u0000\u0000\u0000\u0083r\u0001"+
-		"\u0000\u0000\u0000\u0083s\u0001\u0000\u0000\u0000\u0083t\u0001\u0000\u0000"+
-		"\u0000\u0083u\u0001\u0000\u0000\u0000\u0083v\u0001\u0000\u0000\u0000\u0083"+
-		"w\u0001\u0000\u0000\u0000\u0083x\u0001\u0000\u0000\u0000\u0083y\u0001"+
-		"\u0000\u0000\u0000\u0083z\u0001\u0000\u0000\u0000\u0083{\u0001\u0000\u0000"+
-		"\u0000\u0083|\u0001\u0000\u0000\u0000\u0083}\u0001\u0000\u0000\u0000\u0083"+
-		"~\u0001\u0000\u0000\u0000\u0083\u007f\u0001\u0000\u0000\u0000\u0083\u0080"+
-		"\u0001\u0000\u0000\u0000\u0083\u0081\u0001\u0000\u0000\u0000\u0083\u0082"+
-		"\u0001\u0000\u0000\u0000\u0084\u0005\u0001\u0000\u0000\u0000\u0085\u0086"+
-		"\u0005\u001c\u0000\u0000\u0086\u0087\u0005\u001d\u0000\u0000\u0087\u0088"+
-		"\u0003J%\u0000\u0088\u0007\u0001\u0000\u0000\u0000\u0089\u008a\u0005!"+
-		"\u0000\u0000\u008a\u008d\u0005\u001d\u0000\u0000\u008b\u008c\u0005%\u0000"+
-		"\u0000\u008c\u008e\u0005\"\u0000\u0000\u008d\u008b\u0001\u0000\u0000\u0000"+
-		"\u008d\u008e\u0001\u0000\u0000\u0000\u008e\u008f\u0001\u0000\u0000\u0000"+
-		"\u008f\u0090\u0003J%\u0000\u0090\t\u0001\u0000\u0000\u0000\u0091\u0092"+
-		"\u0005\u001c\u0000\u0000\u0092\u0093\u00058\u0000\u0000\u0093\u0094\u0003"+
-		"N\'\u0000\u0094\u0095\u0005&\u0000\u0000\u0095\u0096\u0005\u001a\u0000"+
-		"\u0000\u0096\u0097\u0003T*\u0000\u0097\u000b\u0001\u0000\u0000\u0000\u0098"+
-		"\u0099\u0005!\u0000\u0000\u0099\u009c\u00058\u0000\u0000\u009a\u009b\u0005"+
-		"%\u0000\u0000\u009b\u009d\u0005\"\u0000\u0000\u009c\u009a\u0001\u0000"+
-		"\u0000\u0000\u009c\u009d\u0001\u0000\u0000\u0000\u009d\u009e\u0001\u0000"+
-		"\u0000\u0000\u009e\u009f\u0003N\'\u0000\u009f\r\u0001\u0000\u0000\u0000"+
-		"\u00a0\u00a1\u0005\u001c\u0000\u0000\u00a1\u00a2\u00054\u0000\u0000\u00a2"+
-		"\u00a3\u0003L&\u0000\u00a3\u00a4\u0005\u0002\u0000\u0000\u00a4\u00a9\u0003"+
-		".\u0017\u0000\u00a5\u00a6\u0005\u0003\u0000\u0000\u00a6\u00a8\u0003.\u0017"+
-		"\u0000\u00a7\u00a5\u0001\u0000\u0000\u0000\u00a8\u00ab\u0001\u0000\u0000"+
-		"\u0000\u00a9\u00a7\u0001\u0000\u0000\u0000\u00a9\u00aa\u0001\u0000\u0000"+
-		"\u0000\u00aa\u00ae\u0001\u0000\u0000\u0000\u00ab\u00a9\u0001\u0000\u0000"+
-		"\u0000\u00ac\u00ad\u0005\u0003\u0000\u0000\u00ad\u00af\u0003>\u001f\u0000"+
-		"\u00ae\u00ac\u0001\u0000\u0000\u0000\u00ae\u00af\u0001\u0000\u0000\u0000"+
-		"\u00af\u00b0\u0001\u0000\u0000\u0000\u00b0\u00b1\u0005\u0004\u0000\u0000"+
-		"\u00b1\u000f\u0001\u0000\u0000\u0000\u00b2\u00b3\u00053\u0000\u0000\u00b3"+
-		"\u00b4\u00054\u0000\u0000\u00b4\u00b5\u0003L&\u0000\u00b5\u0011\u0001"+
-		"\u0000\u0000\u0000\u00b6\u00b7\u0005$\u0000\u0000\u00b7\u00bc\u0003D\""+
-		"\u0000\u00b8\u00b9\u0005\u0003\u0000\u0000\u00b9\u00bb\u0003D\"\u0000"+
-		"\u00ba\u00b8\u0001\u0000\u0000\u0000\u00bb\u00be\u0001\u0000\u0000\u0000"+
+		"\u0002\u0001\u0002\u0003\u0002\u00a4\b\u0002\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0003"+
+		"\u0004\u00ae\b\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0001\u0006\u0003\u0006\u00bd\b\u0006\u0001\u0006\u0001"+
+		"\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0007\u0001\u0007\u0005\u0007\u00c8\b\u0007\n\u0007\f\u0007\u00cb\t\u0007"+
+		"\u0001\u0007\u0001\u0007\u0003\u0007\u00cf\b\u0007\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0005\u0007\u00d7\b\u0007"+
+		"\n\u0007\f\u0007\u00da\t\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00de"+
+		"\b\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00ed\b\b\n\b\f\b\u00f0"+
+		"\t\b\u0001\b\u0001\b\u0003\b\u00f4\b\b\u0001\b\u0001\b\u0003\b\u00f8\b"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00ff\b\b\n\b\f\b\u0102"+
+		"\t\b\u0001\b\u0001\b\u0003\b\u0106\b\b\u0001\t\u0001\t\u0001\t\u0001\t"+
+		"\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\r\u0001"+
+		"\r\u0003\r\u011c\b\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0005\u000f\u0125\b\u000f\n\u000f\f\u000f"+
+		"\u0128\t\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f"+
+		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0005\u0010\u0133\b\u0010"+
+		"\n\u0010\f\u0010\u0136\t\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
+		"\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001"+
+		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u0145\b\u0012\u0001"+
+		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0003\u0013\u014b\b\u0013\u0001"+
+		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001"+
+		"\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0005"+
+		"\u0017\u015f\b\u0017\n\u0017\f\u0017\u0162\t\u0017\u0001\u0017\u0001\u0017"+
+		"\u0003\u0017\u0166\b\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0005\u0017\u016c\b\u0017\n\u0017\f\u0017\u016f\t\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0005"+
+		"\u0017\u0178\b\u0017\n\u0017\f\u0017\u017b\t\u0017\u0003\u0017\u017d\b"+
+		"\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0005\u0019\u0187\b\u0019\n\u0019\f\u0019"+
+		"\u018a\t\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0003\u001a"+
+		"\u0190\b\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0005\u001a\u0195\b"+
+		"\u001a\n\u001a\f\u001a\u0198\t\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
+		"\u0001\u001a\u0005\u001a\u019e\b\u001a\n\u001a\f\u001a\u01a1\t\u001a\u0001"+
+		"\u001a\u0001\u001a\u0003\u001a\u01a5\b\u001a\u0001\u001a\u0003\u001a\u01a8"+
+		"\b\u001a\u0001\u001a\u0003\u001a\u01ab\b\u001a\u0001\u001a\u0001\u001a"+
+		"\u0001\u001a\u0001\u001a\u0001\u001a\u0005\u001a\u01b2\b\u001a\n\u001a"+
+		"\f\u001a\u01b5\t\u001a\u0003\u001a\u01b7\b\u001a\u0001\u001a\u0001\u001a"+
+		"\u0003\u001a\u01bb\b\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0005\u001b\u01c2\b\u001b\n\u001b\f\u001b\u01c5\t\u001b\u0001"+
+		"\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0003\u001d\u01cc"+
+		"\b\u001d\u0001\u001d\u0003\u001d\u01cf\b\u001d\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f"+
+		"\u0001\u001f\u0001\u001f\u0003\u001f\u01db\b\u001f\u0001\u001f\u0001\u001f"+
+		"\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0003 \u01e7"+
+		"\b \u0001!\u0001!\u0001!\u0005!\u01ec\b!\n!\f!\u01ef\t!\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u01f9\b\"\u0001"+
+		"#\u0001#\u0001#\u0001#\u0003#\u01ff\b#\u0001$\u0001$\u0001$\u0001$\u0001"+
+		"$\u0001$\u0001$\u0001$\u0003$\u0209\b$\u0001$\u0001$\u0001$\u0001$\u0001"+
+		"$\u0001$\u0005$\u0211\b$\n$\f$\u0214\t$\u0001%\u0001%\u0001%\u0001%\u0001"+
+		"&\u0001&\u0001&\u0003&\u021d\b&\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001"+
+		"(\u0001(\u0001(\u0003(\u0227\b(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001"+
+		"(\u0005(\u022f\b(\n(\f(\u0232\t(\u0001)\u0001)\u0001)\u0001)\u0001)\u0001"+
+		")\u0005)\u023a\b)\n)\f)\u023d\t)\u0001)\u0001)\u0001*\u0001*\u0001*\u0001"+
+		"*\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0003+\u024c\b+\u0001"+
+		",\u0001,\u0001,\u0001,\u0003,\u0252\b,\u0001,\u0001,\u0001-\u0001-\u0001"+
+		"-\u0001-\u0004-\u025a\b-\u000b-\f-\u025b\u0001-\u0001-\u0001-\u0003-\u0261"+
+		"\b-\u0001.\u0001.\u0001/\u0001/\u00010\u00010\u00010\u00030\u026a\b0\u0001"+
+		"0\u00010\u00011\u00011\u00012\u00012\u00013\u00013\u00014\u00014\u0001"+
+		"5\u00015\u00016\u00016\u00017\u00017\u00017\u0000\u0002HP8\u0000\u0002"+
+		"\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e"+
+		" \"$&(*,.02468:<>@BDFHJLNPRTVXZ\\^`bdfhjln\u0000\u0007\u0002\u0000\u0019"+
+		"\u0019$$\u0002\u0000\u001c\u001c##\u0002\u0000\u0006\u000b55\u0001\u0000"+
+		"\u000e\u000f\u0001\u0000\f\r\u0005\u0000\"\"%%11>>DD\u0003\u000088MMO"+
+		"O\u029a\u0000p\u0001\u0000\u0000\u0000\u0002u\u0001\u0000\u0000\u0000"+
+		"\u0004\u00a3\u0001\u0000\u0000\u0000\u0006\u00a5\u0001\u0000\u0000\u0000"+
+		"\b\u00a9\u0001\u0000\u0000\u0000\n\u00b1\u0001\u0000\u0000\u0000\f\u00b8"+
+		"\u0001\u0000\u0000\u0000\u000e\u00c0\u0001\u0000\u0000\u0000\u0010\u00df"+
+		"\u0001\u0000\u0000\u0000\u0012\u0107\u0001\u0000\u0000\u0000\u0014\u010d"+
+		"\u0001\u0000\u0000\u0000\u0016\u0111\u0001\u0000\u0000\u0000\u0018\u0115"+
+		"\u0001\u0000\u0000\u0000\u001a\u0119\u0001\u0000\u0000\u0000\u001c\u011d"+
+		"\u0001\u0000\u0000\u0000\u001e\u0120\u0001\u0000\u0000\u0000 \u012e\u0001"+
+		"\u0000\u0000\u0000\"\u013c\u0001\u0000\u0000\u0000$\u013f\u0001\u0000"+
+		"\u0000\u0000&\u0146\u0001\u0000\u0000\u0000(\u014e\u0001\u0000\u0000\u0000"+
+		"*\u0151\u0001\u0000\u0000\u0000,\u0153\u0001\u0000\u0000\u0000.\u0157"+
+		"\u0001\u0000\u0000\u00000\u017e\u0001\u0000\u0000\u00002\u0182\u0001\u0000"+
+		"\u0000\u00004\u018d\u0001\u0000\u0000\u00006\u01bc\u0001\u0000\u0000\u0000"+
+		"8\u01c6\u0001\u0000\u0000\u0000:\u01cb\u0001\u0000\u0000\u0000<\u01d0"+
+		"\u0001\u0000\u0000\u0000>\u01d6\u0001\u0000\u0000\u0000@\u01de\u0001\u0000"+
+		"\u0000\u0000B\u01e8\u0001\u0000\u0000\u0000D\u01f8\u0001\u0000\u0000\u0000"+
+		"F\u01fe\u0001\u0000\u0000\u0000H\u0208\u0001\u0000\u0000\u0000J\u0215"+
+		"\u0001\u0000\u0000\u0000L\u021c\u0001\u0000\u0000\u0000N\u021e\u0001\u0000"+
+		"\u0000\u0000P\u0226\u0001\u0000\u0000\u0000R\u0233\u0001\u0000\u0000\u0000"+
+		"T\u0240\u0001\u0000\u0000\u0000V\u024b\u0001\u0000\u0000\u0000X\u024d"+
+		"\u0001\u0000\u0000\u0000Z\u0260\u0001\u0000\u0000\u0000\\\u0262\u0001"+
+		"\u0000\u0000\u0000^\u0264\u0001\u0000\u0000\u0000`\u0269\u0001\u0000\u0000"+
+		"\u0000b\u026d\u0001\u0000\u0000\u0000d\u026f\u0001\u0000\u0000\u0000f"+
+		"\u0271\u0001\u0000\u0000\u0000h\u0273\u0001\u0000\u0000\u0000j\u0275\u0001"+
+		"\u0000\u0000\u0000l\u0277\u0001\u0000\u0000\u0000n\u0279\u0001\u0000\u0000"+
+		"\u0000pq\u0003\u0002\u0001\u0000q\u0001\u0001\u0000\u0000\u0000rt\u0005"+
+		"\u0001\u0000\u0000sr\u0001\u0000\u0000\u0000tw\u0001\u0000\u0000\u0000"+
+		"us\u0001\u0000\u0000\u0000uv\u0001\u0000\u0000\u0000vx\u0001\u0000\u0000"+
+		"\u0000wu\u0001\u0000\u0000\u0000x\u0081\u0003\u0004\u0002\u0000y{\u0005"+
+		"\u0001\u0000\u0000zy\u0001\u0000\u0000\u0000{|\u0001\u0000\u0000\u0000"+
+		"|z\u0001\u0000\u0000\u0000|}\u0001\u0000\u0000\u0000}~\u0001\u0000\u0000"+
+		"\u0000~\u0080\u0003\u0004\u0002\u0000\u007fz\u0001\u0000\u0000\u0000\u0080"+
+		"\u0083\u0001\u0000\u0000\u0000\u0081\u007f\u0001\u0000\u0000\u0000\u0081"+
+		"\u0082\u0001\u0000\u0000\u0000\u0082\u0087\u0001\u0000\u0000\u0000\u0083"+
+		"\u0081\u0001\u0000\u0000\u0000\u0084\u0086\u0005\u0001\u0000\u0000\u0085"+
+		"\u0084\u0001\u0000\u0000\u0000\u0086\u0089\u0001\u0000\u0000\u0000\u0087"+
+		"\u0085\u0001\u0000\u0000\u0000\u0087\u0088\u0001\u0000\u0000\u0000\u0088"+
+		"\u0003\u0001\u0000\u0000\u0000\u0089\u0087\u0001\u0000\u0000\u0000\u008a"+
+		"\u00a4\u0003\u000e\u0007\u0000\u008b\u00a4\u0003\u0006\u0003\u0000\u008c"+
+		"\u00a4\u0003\n\u0005\u0000\u008d\u00a4\u0003\b\u0004\u0000\u008e\u00a4"+
+		"\u0003\f\u0006\u0000\u008f\u00a4\u0003$\u0012\u0000\u0090\u00a4\u0003"+
+		"&\u0013\u0000\u0091\u00a4\u0003.\u0017\u0000\u0092\u00a4\u00034\u001a"+
+		"\u0000\u0093\u00a4\u0003\u001c\u000e\u0000\u0094\u00a4\u0003<\u001e\u0000"+
+		"\u0095\u00a4\u0003>\u001f\u0000\u0096\u00a4\u0003\u001e\u000f\u0000\u0097"+
+		"\u00a4\u0003 \u0010\u0000\u0098\u00a4\u0003\"\u0011\u0000\u0099\u00a4"+
+		"\u0003(\u0014\u0000\u009a\u00a4\u0003,\u0016\u0000\u009b\u00a4\u0003\u0014"+
+		"\n\u0000\u009c\u00a4\u0003\u0016\u000b\u0000\u009d\u00a4\u0003\u0018\f"+
+		"\u0000\u009e\u00a4\u0003\u001a\r\u0000\u009f\u00a4\u0003*\u0015\u0000"+
+		"\u00a0\u00a4\u0003@ \u0000\u00a1\u00a4\u0003\u0010\b\u0000\u00a2\u00a4"+
+		"\u0003\u0012\t\u0000\u00a3\u008a\u0001\u0000\u0000\u0000\u00a3\u008b\u0001"+
+		"\u0000\u0000\u0000\u00a3\u008c\u0001\u0000\u0000\u0000\u00a3\u008d\u0001"+
+		"\u0000\u0000\u0000\u00a3\u008e\u0001\u0000\u0000\u0000\u00a3\u008f\u0001"+
+		"\u0000\u0000\u0000\u00a3\u0090\u0001\u0000\u0000\u0000\u00a3\u0091\u0001"+
+		"\u0000\u0000\u0000\u00a3\u0092\u0001\u0000\u0000\u0000\u00a3\u0093\u0001"+
+		"\u0000\u0000\u0000\u00a3\u0094\u0001\u0000\u0000\u0000\u00a3\u0095\u0001"+
+		"\u0000\u0000\u0000\u00a3\u0096\u0001\u0000\u0000\u0000\u00a3\u0097\u0001"+
+		"\u0000\u0000\u0000\u00a3\u0098\u0001\u0000\u0000\u0000\u00a3\u0099\u0001"+
+		"\u0000\u0000\u0000\u00a3\u009a\u0001\u0000\u0000\u0000\u00a3\u009b\u0001"+
+		"\u0000\u0000\u0000\u00a3\u009c\u0001\u0000\u0000\u0000\u00a3\u009d\u0001"+
+		"\u0000\u0000\u0000\u00a3\u009e\u0001\u0000\u0000\u0000\u00a3\u009f\u0001"+
+		"\u0000\u0000\u0000\u00a3\u00a0\u0001\u0000\u0000\u0000\u00a3\u00a1\u0001"+
+		"\u0000\u0000\u0000\u00a3\u00a2\u0001\u0000\u0000\u0000\u00a4\u0005\u0001"+
+		"\u0000\u0000\u0000\u00a5\u00a6\u0005\u001f\u0000\u0000\u00a6\u00a7\u0005"+
+		" \u0000\u0000\u00a7\u00a8\u0003b1\u0000\u00a8\u0007\u0001\u0000\u0000"+
+		"\u0000\u00a9\u00aa\u0005%\u0000\u0000\u00aa\u00ad\u0005 \u0000\u0000\u00ab"+
+		"\u00ac\u0005-\u0000\u0000\u00ac\u00ae\u0005\'\u0000\u0000\u00ad\u00ab"+
+		"\u0001\u0000\u0000\u0000\u00ad\u00ae\u0001\u0000\u0000\u0000\u00ae\u00af"+
+		"\u0001\u0000\u0000\u0000\u00af\u00b0\u0003b1\u0000\u00b0\t\u0001\u0000"+
+		"\u0000\u0000\u00b1\u00b2\u0005\u001f\u0000\u0000\u00b2\u00b3\u0005F\u0000"+
+		"\u0000\u00b3\u00b4\u0003f3\u0000\u00b4\u00b5\u0005.\u0000\u0000\u00b5"+
+		"\u00b6\u0005\u001d\u0000\u0000\u00b6\u00b7\u0003n7\u0000\u00b7\u000b\u0001"+
+		"\u0000\u0000\u0000\u00b8\u00b9\u0005%\u0000\u0000\u00b9\u00bc\u0005F\u0000"+
+		"\u0000\u00ba\u00bb\u0005-\u0000\u0000\u00bb\u00bd\u0005\'\u0000\u0000"+
 		"\u00bc\u00ba\u0001\u0000\u0000\u0000\u00bc\u00bd\u0001\u0000\u0000\u0000"+
-		"\u00bd\u00bf\u0001\u0000\u0000\u0000\u00be\u00bc\u0001\u0000\u0000\u0000"+
-		"\u00bf\u00c0\u0005-\u0000\u0000\u00c0\u00c1\u0003L&\u0000\u00c1\u00c2"+
-		"\u00055\u0000\u0000\u00c2\u00c3\u0003N\'\u0000\u00c3\u0013\u0001\u0000"+
-		"\u0000\u0000\u00c4\u00c5\u00050\u0000\u0000\u00c5\u00ca\u0003D\"\u0000"+
-		"\u00c6\u00c7\u0005\u0003\u0000\u0000\u00c7\u00c9\u0003D\"\u0000\u00c8"+
-		"\u00c6\u0001\u0000\u0000\u0000\u00c9\u00cc\u0001\u0000\u0000\u0000\u00ca"+
-		"\u00c8\u0001\u0000\u0000\u0000\u00ca\u00cb\u0001\u0000\u0000\u0000\u00cb"+
-		"\u00cd\u0001\u0000\u0000\u0000\u00cc\u00ca\u0001\u0000\u0000\u0000\u00cd"+
-		"\u00ce\u0005-\u0000\u0000\u00ce\u00cf\u0003L&\u0000\u00cf\u00d0\u0005"+
-		"#\u0000\u0000\u00d0\u00d1\u0003N\'\u0000\u00d1\u0015\u0001\u0000\u0000"+
-		"\u0000\u00d2\u00d3\u00057\u0000\u0000\u00d3\u00d4\u0003J%\u0000\u00d4"+
-		"\u0017\u0001\u0000\u0000\u0000\u00d5\u00d6\u0005\u001f\u0000\u0000\u00d6"+
-		"\u00d7\u0005#\u0000\u0000\u00d7\u00da\u0003L&\u0000\u00d8\u00d9\u0005"+
-		";\u0000\u0000\u00d9\u00db\u00034\u001a\u0000\u00da\u00d8\u0001\u0000\u0000"+
-		"\u0000\u00da\u00db\u0001\u0000\u0000\u0000\u00db\u0019\u0001\u0000\u0000"+
-		"\u0000\u00dc\u00dd\u0005!\u0000\u0000\u00dd\u00e0\u00054\u0000\u0000\u00de"+
-		"\u00df\u0005%\u0000\u0000\u00df\u00e1\u0005\"\u0000\u0000\u00e0\u00de"+
-		"\u0001\u0000\u0000\u0000\u00e0\u00e1\u0001\u0000\u0000\u0000\u00e1\u00e2"+
-		"\u0001\u0000\u0000\u0000\u00e2\u00e3\u0003L&\u0000\u00e3\u001b\u0001\u0000"+
-		"\u0000\u0000\u00e4\u00e5\u00053\u0000\u0000\u00e5\u00e6\u0005\u001e\u0000"+
-		"\u0000\u00e6\u001d\u0001\u0000\u0000\u0000\u00e7\u00e8\u0005/\u0000\u0000"+
-		"\u00e8\u001f\u0001\u0000\u0000\u0000\u00e9\u00ea\u00053\u0000\u0000\u00ea"+
-		"\u00eb\u0005\u001d\u0000\u0000\u00eb\u00ec\u0003J%\u0000\u00ec!\u0001"+
-		"\u0000\u0000\u0000\u00ed\u00ee\u0005\'\u0000\u0000\u00ee\u00ef\u0005("+
-		"\u0000\u0000\u00ef\u00fb\u0003L&\u0000\u00f0\u00f1\u0005\u0002\u0000\u0000"+
-		"\u00f1\u00f6\u0003P(\u0000\u00f2\u00f3\u0005\u0003\u0000\u0000\u00f3\u00f5"+
-		"\u0003P(\u0000\u00f4\u00f2\u0001\u0000\u0000\u0000\u00f5\u00f8\u0001\u0000"+
-		"\u0000\u0000\u00f6\u00f4\u0001\u0000\u0000\u0000\u00f6\u00f7\u0001\u0000"+
-		"\u0000\u0000\u00f7\u00f9\u0001\u0000\u0000\u0000\u00f8\u00f6\u0001\u0000"+
-		"\u0000\u0000\u00f9\u00fa\u0005\u0004\u0000\u0000\u00fa\u00fc\u0001\u0000"+
-		"\u0000\u0000\u00fb\u00f0\u0001\u0000\u0000\u0000\u00fb\u00fc\u0001\u0000"+
-		"\u0000\u0000\u00fc\u00fd\u0001\u0000\u0000\u0000\u00fd\u00fe\u00059\u0000"+
-		"\u0000\u00fe\u0103\u0003$\u0012\u0000\u00ff\u0100\u0005\u0003\u0000\u0000"+
-		"\u0100\u0102\u0003$\u0012\u0000\u0101\u00ff\u0001\u0000\u0000\u0000\u0102"+
-		"\u0105\u0001\u0000\u0000\u0000\u0103\u0101\u0001\u0000\u0000\u0000\u0103"+
-		"\u0104\u0001\u0000\u0000\u0000\u0104#\u0001\u0000\u0000\u0000\u0105\u0103"+
-		"\u0001\u0000\u0000\u0000\u0106\u0107\u0005\u0002\u0000\u0000\u0107\u010c"+
-		"\u0003F#\u0000\u0108\u0109\u0005\u0003\u0000\u0000\u0109\u010b\u0003F"+
-		"#\u0000\u010a\u0108\u0001\u0000\u0000\u0000\u010b\u010e\u0001\u0000\u0000"+
-		"\u0000\u010c\u010a\u0001\u0000\u0000\u0000\u010c\u010d\u0001\u0000\u0000"+
-		"\u0000\u010d\u010f\u0001\u0000\u0000\u0000\u010e\u010c\u0001\u0000\u0000"+
-		"\u0000\u010f\u0110\u0005\u0004\u0000\u0000\u0110%\u0001\u0000\u0000\u0000"+
-		"\u0111\u0113\u00051\u0000\u0000\u0112\u0114\u0007\u0000\u0000\u0000\u0113"+
-		"\u0112\u0001\u0000\u0000\u0000\u0113\u0114\u0001\u0000\u0000\u0000\u0114"+
-		"\u0115\u0001\u0000\u0000\u0000\u0115\u011a\u0003@ \u0000\u0116\u0117\u0005"+
-		"\u0003\u0000\u0000\u0117\u0119\u0003@ \u0000\u0118\u0116\u0001\u0000\u0000"+
-		"\u0000\u0119\u011c\u0001\u0000\u0000\u0000\u011a\u0118\u0001\u0000\u0000"+
-		"\u0000\u011a\u011b\u0001\u0000\u0000\u0000\u011b\u011d\u0001\u0000\u0000"+
-		"\u0000\u011c\u011a\u0001\u0000\u0000\u0000\u011d\u011e\u0005#\u0000\u0000"+
-		"\u011e\u0123\u0003B!\u0000\u011f\u0120\u0005\u0003\u0000\u0000\u0120\u0122"+
-		"\u0003B!\u0000\u0121\u011f\u0001\u0000\u0000\u0000\u0122\u0125\u0001\u0000"+
-		"\u0000\u0000\u0123\u0121\u0001\u0000\u0000\u0000\u0123\u0124\u0001\u0000"+
-		"\u0000\u0000\u0124\u0128\u0001\u0000\u0000\u0000\u0125\u0123\u0001\u0000"+
-		"\u0000\u0000\u0126\u0127\u0005;\u0000\u0000\u0127\u0129\u00034\u001a\u0000"+
-		"\u0128\u0126\u0001\u0000\u0000\u0000\u0128\u0129\u0001\u0000\u0000\u0000"+
-		"\u0129\'\u0001\u0000\u0000\u0000\u012a\u012b\u0005\u001c\u0000\u0000\u012b"+
-		"\u012c\u0005:\u0000\u0000\u012c\u012d\u0003R)\u0000\u012d\u012e\u0005"+
-		"\u0019\u0000\u0000\u012e\u012f\u0003&\u0013\u0000\u012f)\u0001\u0000\u0000"+
-		"\u0000\u0130\u0131\u0005!\u0000\u0000\u0131\u0134\u0005:\u0000\u0000\u0132"+
-		"\u0133\u0005%\u0000\u0000\u0133\u0135\u0005\"\u0000\u0000\u0134\u0132"+
-		"\u0001\u0000\u0000\u0000\u0134\u0135\u0001\u0000\u0000\u0000\u0135\u0136"+
-		"\u0001\u0000\u0000\u0000\u0136\u0137\u0003R)\u0000\u0137+\u0001\u0000"+
-		"\u0000\u0000\u0138\u0139\u00056\u0000\u0000\u0139\u013a\u0003L&\u0000"+
-		"\u013a\u013b\u00052\u0000\u0000\u013b\u013c\u0003P(\u0000\u013c\u013d"+
-		"\u0005\u0006\u0000\u0000\u013d\u0140\u0003<\u001e\u0000\u013e\u013f\u0005"+
-		";\u0000\u0000\u013f\u0141\u00034\u001a\u0000\u0140\u013e\u0001\u0000\u0000"+
-		"\u0000\u0140\u0141\u0001\u0000\u0000\u0000\u0141-\u0001\u0000\u0000\u0000"+
-		"\u0142\u0143\u0003P(\u0000\u0143\u0147\u00030\u0018\u0000\u0144\u0146"+
-		"\u00032\u0019\u0000\u0145\u0144\u0001\u0000\u0000\u0000\u0146\u0149\u0001"+
-		"\u0000\u0000\u0000\u0147\u0145\u0001\u0000\u0000\u0000\u0147\u0148\u0001"+
-		"\u0000\u0000\u0000\u0148/\u0001\u0000\u0000\u0000\u0149\u0147\u0001\u0000"+
-		"\u0000\u0000\u014a\u0153\u0005\u0012\u0000\u0000\u014b\u0153\u0005\u0013"+
-		"\u0000\u0000\u014c\u0153\u0005\u0014\u0000\u0000\u014d\u0153\u0005\u0015"+
-		"\u0000\u0000\u014e\u014f\u0005\u0016\u0000\u0000\u014f\u0150\u0005\u0002"+
-		"\u0000\u0000\u0150\u0151\u0005=\u0000\u0000\u0151\u0153\u0005\u0004\u0000"+
-		"\u0000\u0152\u014a\u0001\u0000\u0000\u0000\u0152\u014b\u0001\u0000\u0000"+
-		"\u0000\u0152\u014c\u0001\u0000\u0000\u0000\u0152\u014d\u0001\u0000\u0000"+
-		"\u0000\u0152\u014e\u0001\u0000\u0000\u0000\u01531\u0001\u0000\u0000\u0000"+
-		"\u0154\u0155\u0005.\u0000\u0000\u0155\u0159\u0005*\u0000\u0000\u0156\u0157"+
-		"\u0005+\u0000\u0000\u0157\u0159\u0005,\u0000\u0000\u0158\u0154\u0001\u0000"+
-		"\u0000\u0000\u0158\u0156\u0001\u0000\u0000\u0000\u01593\u0001\u0000\u0000"+
-		"\u0000\u015a\u015b\u0006\u001a\uffff\uffff\u0000\u015b\u015c\u00036\u001b"+
-		"\u0000\u015c\u0165\u0001\u0000\u0000\u0000\u015d\u015e\n\u0002\u0000\u0000"+
-		"\u015e\u015f\u0005\u0010\u0000\u0000\u015f\u0164\u00034\u001a\u0003\u0160"+
-		"\u0161\n\u0001\u0000\u0000\u0161\u0162\u0005\u0011\u0000\u0000\u0162\u0164"+
-		"\u00034\u001a\u0002\u0163\u015d\u0001\u0000\u0000\u0000\u0163\u0160\u0001"+
-		"\u0000\u0000\u0000\u0164\u0167\u0001\u0000\u0000\u0000\u0165\u0163\u0001"+
-		"\u0000\u0000\u0000\u0165\u0166\u0001\u0000\u0000\u0000\u01665\u0001\u0000"+
-		"\u0000\u0000\u0167\u0165\u0001\u0000\u0000\u0000\u0168\u0169\u0003<\u001e"+
-		"\u0000\u0169\u016a\u0003:\u001d\u0000\u016a\u016b\u0003<\u001e\u0000\u016b"+
-		"7\u0001\u0000\u0000\u0000\u016c\u016f\u0003H$\u0000\u016d\u016f\u0003"+
-		"F#\u0000\u016e\u016c\u0001\u0000\u0000\u0000\u016e\u016d\u0001\u0000\u0000"+
-		"\u0000\u016f9\u0001\u0000\u0000\u0000\u0170\u0171\u0007\u0001\u0000\u0000"+
-		"\u0171;\u0001\u0000\u0000\u0000\u0172\u0173\u0006\u001e\uffff\uffff\u0000"+
-		"\u0173\u0179\u00038\u001c\u0000\u0174\u0175\u0005\u0002\u0000\u0000\u0175"+
-		"\u0176\u0003<\u001e\u0000\u0176\u0177\u0005\u0004\u0000\u0000\u0177\u0179"+
-		"\u0001\u0000\u0000\u0000\u0178\u0172\u0001\u0000\u0000\u0000\u0178\u0174"+
-		"\u0001\u0000\u0000\u0000\u0179\u0182\u0001\u0000\u0000\u0000\u017a\u017b"+
-		"\n\u0003\u0000\u0000\u017b\u017c\u0007\u0002\u0000\u0000\u017c\u0181\u0003"+
-		"<\u001e\u0004\u017d\u017e\n\u0002\u0000\u0000\u017e\u017f\u0007\u0003"+
-		"\u0000\u0000\u017f\u0181\u0003<\u001e\u0003\u0180\u017a\u0001\u0000\u0000"+
-		"\u0000\u0180\u017d\u0001\u0000\u0000\u0000\u0181\u0184\u0001\u0000\u0000"+
-		"\u0000\u0182\u0180\u0001\u0000\u0000\u0000\u0182\u0183\u0001\u0000\u0000"+
-		"\u0000\u0183=\u0001\u0000\u0000\u0000\u0184\u0182\u0001\u0000\u0000\u0000"+
-		"\u0185\u0186\u0005.\u0000\u0000\u0186\u0187\u0005*\u0000\u0000\u0187\u0188"+
-		"\u0005\u0002\u0000\u0000\u0188\u018d\u0003P(\u0000\u0189\u018a\u0005\u0003"+
-		"\u0000\u0000\u018a\u018c\u0003P(\u0000\u018b\u0189\u0001\u0000\u0000\u0000"+
-		"\u018c\u018f\u0001\u0000\u0000\u0000\u018d\u018b\u0001\u0000\u0000\u0000"+
-		"\u018d\u018e\u0001\u0000\u0000\u0000\u018e\u0190\u0001\u0000\u0000\u0000"+
-		"\u018f\u018d\u0001\u0000\u0000\u0000\u0190\u0191\u0005\u0004\u0000\u0000"+
-		"\u0191?\u0001\u0000\u0000\u0000\u0192\u0199\u0005\u000e\u0000\u0000\u0193"+
-		"\u0194\u0003L&\u0000\u0194\u0195\u0005\u0005\u0000\u0000\u0195\u0196\u0005"+
-		"\u000e\u0000\u0000\u0196\u0199\u0001\u0000\u0000\u0000\u0197\u0199\u0003"+
-		"H$\u0000\u0198\u0192\u0001\u0000\u0000\u0000\u0198\u0193\u0001\u0000\u0000"+
-		"\u0000\u0198\u0197\u0001\u0000\u0000\u0000\u0199A\u0001\u0000\u0000\u0000"+
-		"\u019a\u01a6\u0003L&\u0000\u019b\u019e\u0003L&\u0000\u019c\u019d\u0005"+
-		")\u0000\u0000\u019d\u019f\u0003L&\u0000\u019e\u019c\u0001\u0000\u0000"+
-		"\u0000\u019f\u01a0\u0001\u0000\u0000\u0000\u01a0\u019e\u0001\u0000\u0000"+
-		"\u0000\u01a0\u01a1\u0001\u0000\u0000\u0000\u01a1\u01a2\u0001\u0000\u0000"+
-		"\u0000\u01a2\u01a3\u0005-\u0000\u0000\u01a3\u01a4\u00034\u001a\u0000\u01a4"+
-		"\u01a6\u0001\u0000\u0000\u0000\u01a5\u019a\u0001\u0000\u0000\u0000\u01a5"+
-		"\u019b\u0001\u0000\u0000\u0000\u01a6C\u0001\u0000\u0000\u0000\u01a7\u01a8"+
-		"\u0007\u0004\u0000\u0000\u01a8E\u0001\u0000\u0000\u0000\u01a9\u01aa\u0007"+
-		"\u0005\u0000\u0000\u01aaG\u0001\u0000\u0000\u0000\u01ab\u01ac\u0003L&"+
-		"\u0000\u01ac\u01ad\u0005\u0005\u0000\u0000\u01ad\u01af\u0001\u0000\u0000"+
-		"\u0000\u01ae\u01ab\u0001\u0000\u0000\u0000\u01ae\u01af\u0001\u0000\u0000"+
-		"\u0000\u01af\u01b0\u0001\u0000\u0000\u0000\u01b0\u01b1\u0003P(\u0000\u01b1"+
-		"I\u0001\u0000\u0000\u0000\u01b2\u01b3\u0005<\u0000\u0000\u01b3K\u0001"+
-		"\u0000\u0000\u0000\u01b4\u01b5\u0005<\u0000\u0000\u01b5M\u0001\u0000\u0000"+
-		"\u0000\u01b6\u01b7\u0005<\u0000\u0000\u01b7O\u0001\u0000\u0000\u0000\u01b8"+
-		"\u01b9\u0005<\u0000\u0000\u01b9Q\u0001\u0000\u0000\u0000\u01ba\u01bb\u0005"+
-		"<\u0000\u0000\u01bbS\u0001\u0000\u0000\u0000\u01bc\u01bd\u0005?\u0000"+
-		"\u0000\u01bdU\u0001\u0000\u0000\u0000%[bgm\u0083\u008d\u009c\u00a9\u00ae"+
-		"\u00bc\u00ca\u00da\u00e0\u00f6\u00fb\u0103\u010c\u0113\u011a\u0123\u0128"+
-		"\u0134\u0140\u0147\u0152\u0158\u0163\u0165\u016e\u0178\u0180\u0182\u018d"+
-		"\u0198\u01a0\u01a5\u01ae";
+		"\u00bd\u00be\u0001\u0000\u0000\u0000\u00be\u00bf\u0003f3\u0000\u00bf\r"+
+		"\u0001\u0000\u0000\u0000\u00c0\u00c1\u0005\u001f\u0000\u0000\u00c1\u00c2"+
+		"\u0005B\u0000\u0000\u00c2\u00c3\u0003d2\u0000\u00c3\u00c4\u0005\u0002"+
+		"\u0000\u0000\u00c4\u00c9\u0003B!\u0000\u00c5\u00c6\u0005\u0003\u0000\u0000"+
+		"\u00c6\u00c8\u0003B!\u0000\u00c7\u00c5\u0001\u0000\u0000\u0000\u00c8\u00cb"+
+		"\u0001\u0000\u0000\u0000\u00c9\u00c7\u0001\u0000\u0000\u0000\u00c9\u00ca"+
+		"\u0001\u0000\u0000\u0000\u00ca\u00ce\u0001\u0000\u0000\u0000\u00cb\u00c9"+
+		"\u0001\u0000\u0000\u0000\u00cc\u00cd\u0005\u0003\u0000\u0000\u00cd\u00cf"+
+		"\u0003R)\u0000\u00ce\u00cc\u0001\u0000\u0000\u0000\u00ce\u00cf\u0001\u0000"+
+		"\u0000\u0000\u00cf\u00d0\u0001\u0000\u0000\u0000\u00d0\u00dd\u0005\u0004"+
+		"\u0000\u0000\u00d1\u00d2\u0005K\u0000\u0000\u00d2\u00d3\u0005\u0002\u0000"+
+		"\u0000\u00d3\u00d8\u0003T*\u0000\u00d4\u00d5\u0005\u0003\u0000\u0000\u00d5"+
+		"\u00d7\u0003T*\u0000\u00d6\u00d4\u0001\u0000\u0000\u0000\u00d7\u00da\u0001"+
+		"\u0000\u0000\u0000\u00d8\u00d6\u0001\u0000\u0000\u0000\u00d8\u00d9\u0001"+
+		"\u0000\u0000\u0000\u00d9\u00db\u0001\u0000\u0000\u0000\u00da\u00d8\u0001"+
+		"\u0000\u0000\u0000\u00db\u00dc\u0005\u0004\u0000\u0000\u00dc\u00de\u0001"+
+		"\u0000\u0000\u0000\u00dd\u00d1\u0001\u0000\u0000\u0000\u00dd\u00de\u0001"+
+		"\u0000\u0000\u0000\u00de\u000f\u0001\u0000\u0000\u0000\u00df\u00e0\u0005"+
+		"\u001f\u0000\u0000\u00e0\u00e1\u00050\u0000\u0000\u00e1\u00e2\u0003l6"+
+		"\u0000\u00e2\u00e3\u00059\u0000\u0000\u00e3\u00e4\u0003d2\u0000\u00e4"+
+		"\u00e5\u0005\u0002\u0000\u0000\u00e5\u00e6\u0003h4\u0000\u00e6\u00f3\u0005"+
+		"\u0004\u0000\u0000\u00e7\u00e8\u0005/\u0000\u0000\u00e8\u00e9\u0005\u0002"+
+		"\u0000\u0000\u00e9\u00ee\u0003h4\u0000\u00ea\u00eb\u0005\u0003\u0000\u0000"+
+		"\u00eb\u00ed\u0003h4\u0000\u00ec\u00ea\u0001\u0000\u0000\u0000\u00ed\u00f0"+
+		"\u0001\u0000\u0000\u0000\u00ee\u00ec\u0001\u0000\u0000\u0000\u00ee\u00ef"+
+		"\u0001\u0000\u0000\u0000\u00ef\u00f1\u0001\u0000\u0000\u0000\u00f0\u00ee"+
+		"\u0001\u0000\u0000\u0000\u00f1\u00f2\u0005\u0004\u0000\u0000\u00f2\u00f4"+
+		"\u0001\u0000\u0000\u0000\u00f3\u00e7\u0001\u0000\u0000\u0000\u00f3\u00f4"+
+		"\u0001\u0000\u0000\u0000\u00f4\u00f7\u0001\u0000\u0000\u0000\u00f5\u00f6"+
+		"\u0005G\u0000\u0000\u00f6\u00f8\u0005L\u0000\u0000\u00f7\u00f5\u0001\u0000"+
+		"\u0000\u0000\u00f7\u00f8\u0001\u0000\u0000\u0000\u00f8\u0105\u0001\u0000"+
+		"\u0000\u0000\u00f9\u00fa\u0005K\u0000\u0000\u00fa\u00fb\u0005\u0002\u0000"+
+		"\u0000\u00fb\u0100\u0003T*\u0000\u00fc\u00fd\u0005\u0003\u0000\u0000\u00fd"+
+		"\u00ff\u0003T*\u0000\u00fe\u00fc\u0001\u0000\u0000\u0000\u00ff\u0102\u0001"+
+		"\u0000\u0000\u0000\u0100\u00fe\u0001\u0000\u0000\u0000\u0100\u0101\u0001"+
+		"\u0000\u0000\u0000\u0101\u0103\u0001\u0000\u0000\u0000\u0102\u0100\u0001"+
+		"\u0000\u0000\u0000\u0103\u0104\u0005\u0004\u0000\u0000\u0104\u0106\u0001"+
+		"\u0000\u0000\u0000\u0105\u00f9\u0001\u0000\u0000\u0000\u0105\u0106\u0001"+
+		"\u0000\u0000\u0000\u0106\u0011\u0001\u0000\u0000\u0000\u0107\u0108\u0005"+
+		"%\u0000\u0000\u0108\u0109\u00050\u0000\u0000\u0109\u010a\u0003l6\u0000"+
+		"\u010a\u010b\u00059\u0000\u0000\u010b\u010c\u0003d2\u0000\u010c\u0013"+
+		"\u0001\u0000\u0000\u0000\u010d\u010e\u0005@\u0000\u0000\u010e\u010f\u0005"+
+		"B\u0000\u0000\u010f\u0110\u0003d2\u0000\u0110\u0015\u0001\u0000\u0000"+
+		"\u0000\u0111\u0112\u0005@\u0000\u0000\u0112\u0113\u00050\u0000\u0000\u0113"+
+		"\u0114\u0005\u0018\u0000\u0000\u0114\u0017\u0001\u0000\u0000\u0000\u0115"+
+		"\u0116\u0005@\u0000\u0000\u0116\u0117\u0005A\u0000\u0000\u0117\u0118\u0003"+
+		"d2\u0000\u0118\u0019\u0001\u0000\u0000\u0000\u0119\u011b\u0005\u001a\u0000"+
+		"\u0000\u011a\u011c\u0003d2\u0000\u011b\u011a\u0001\u0000\u0000\u0000\u011b"+
+		"\u011c\u0001\u0000\u0000\u0000\u011c\u001b\u0001\u0000\u0000\u0000\u011d"+
+		"\u011e\u0005(\u0000\u0000\u011e\u011f\u00034\u001a\u0000\u011f\u001d\u0001"+
+		"\u0000\u0000\u0000\u0120\u0121\u0005*\u0000\u0000\u0121\u0126\u0003\\"+
+		".\u0000\u0122\u0123\u0005\u0003\u0000\u0000\u0123\u0125\u0003\\.\u0000"+
+		"\u0124\u0122\u0001\u0000\u0000\u0000\u0125\u0128\u0001\u0000\u0000\u0000"+
+		"\u0126\u0124\u0001\u0000\u0000\u0000\u0126\u0127\u0001\u0000\u0000\u0000"+
+		"\u0127\u0129\u0001\u0000\u0000\u0000\u0128\u0126\u0001\u0000\u0000\u0000"+
+		"\u0129\u012a\u00059\u0000\u0000\u012a\u012b\u0003d2\u0000\u012b\u012c"+
+		"\u0005C\u0000\u0000\u012c\u012d\u0003f3\u0000\u012d\u001f\u0001\u0000"+
+		"\u0000\u0000\u012e\u012f\u0005=\u0000\u0000\u012f\u0134\u0003\\.\u0000"+
+		"\u0130\u0131\u0005\u0003\u0000\u0000\u0131\u0133\u0003\\.\u0000\u0132"+
+		"\u0130\u0001\u0000\u0000\u0000\u0133\u0136\u0001\u0000\u0000\u0000\u0134"+
+		"\u0132\u0001\u0000\u0000\u0000\u0134\u0135\u0001\u0000\u0000\u0000\u0135"+
+		"\u0137\u0001\u0000\u0000\u0000\u0136\u0134\u0001\u0000\u0000\u0000\u0137"+
+		"\u0138\u00059\u0000\u0000\u0138\u0139\u0003d2\u0000\u0139\u013a\u0005"+
+		")\u0000\u0000\u013a\u013b\u0003f3\u0000\u013b!\u0001\u0000\u0000\u0000"+
+		"\u013c\u013d\u0005E\u0000\u0000\u013d\u013e\u0003b1\u0000\u013e#\u0001"+
+		"\u0000\u0000\u0000\u013f\u0140\u0005\"\u0000\u0000\u0140\u0141\u0005)"+
+		"\u0000\u0000\u0141\u0144\u0003d2\u0000\u0142\u0143\u0005J\u0000\u0000"+
+		"\u0143\u0145\u0003H$\u0000\u0144\u0142\u0001\u0000\u0000\u0000\u0144\u0145"+
+		"\u0001\u0000\u0000\u0000\u0145%\u0001\u0000\u0000\u0000\u0146\u0147\u0005"+
+		"%\u0000\u0000\u0147\u014a\u0005B\u0000\u0000\u0148\u0149\u0005-\u0000"+
+		"\u0000\u0149\u014b\u0005\'\u0000\u0000\u014a\u0148\u0001\u0000\u0000\u0000"+
+		"\u014a\u014b\u0001\u0000\u0000\u0000\u014b\u014c\u0001\u0000\u0000\u0000"+
+		"\u014c\u014d\u0003d2\u0000\u014d\'\u0001\u0000\u0000\u0000\u014e\u014f"+
+		"\u0005@\u0000\u0000\u014f\u0150\u0005!\u0000\u0000\u0150)\u0001\u0000"+
+		"\u0000\u0000\u0151\u0152\u0005<\u0000\u0000\u0152+\u0001\u0000\u0000\u0000"+
+		"\u0153\u0154\u0005@\u0000\u0000\u0154\u0155\u0005 \u0000\u0000\u0155\u0156"+
+		"\u0003b1\u0000\u0156-\u0001\u0000\u0000\u0000\u0157\u0158\u00051\u0000"+
+		"\u0000\u0158\u0159\u00052\u0000\u0000\u0159\u0165\u0003d2\u0000\u015a"+
+		"\u015b\u0005\u0002\u0000\u0000\u015b\u0160\u0003h4\u0000\u015c\u015d\u0005"+
+		"\u0003\u0000\u0000\u015d\u015f\u0003h4\u0000\u015e\u015c\u0001\u0000\u0000"+
+		"\u0000\u015f\u0162\u0001\u0000\u0000\u0000\u0160\u015e\u0001\u0000\u0000"+
+		"\u0000\u0160\u0161\u0001\u0000\u0000\u0000\u0161\u0163\u0001\u0000\u0000"+
+		"\u0000\u0162\u0160\u0001\u0000\u0000\u0000\u0163\u0164\u0005\u0004\u0000"+
+		"\u0000\u0164\u0166\u0001\u0000\u0000\u0000\u0165\u015a\u0001\u0000\u0000"+
+		"\u0000\u0165\u0166\u0001\u0000\u0000\u0000\u0166\u0167\u0001\u0000\u0000"+
+		"\u0000\u0167\u0168\u0005H\u0000\u0000\u0168\u016d\u00032\u0019\u0000\u0169"+
+		"\u016a\u0005\u0003\u0000\u0000\u016a\u016c\u00032\u0019\u0000\u016b\u0169"+
+		"\u0001\u0000\u0000\u0000\u016c\u016f\u0001\u0000\u0000\u0000\u016d\u016b"+
+		"\u0001\u0000\u0000\u0000\u016d\u016e\u0001\u0000\u0000\u0000\u016e\u017c"+
+		"\u0001\u0000\u0000\u0000\u016f\u016d\u0001\u0000\u0000\u0000\u0170\u0171"+
+		"\u00059\u0000\u0000\u0171\u0172\u0005&\u0000\u0000\u0172\u0173\u00054"+
+		"\u0000\u0000\u0173\u0174\u0005D\u0000\u0000\u0174\u0179\u00030\u0018\u0000"+
+		"\u0175\u0176\u0005\u0003\u0000\u0000\u0176\u0178\u00030\u0018\u0000\u0177"+
+		"\u0175\u0001\u0000\u0000\u0000\u0178\u017b\u0001\u0000\u0000\u0000\u0179"+
+		"\u0177\u0001\u0000\u0000\u0000\u0179\u017a\u0001\u0000\u0000\u0000\u017a"+
+		"\u017d\u0001\u0000\u0000\u0000\u017b\u0179\u0001\u0000\u0000\u0000\u017c"+
+		"\u0170\u0001\u0000\u0000\u0000\u017c\u017d\u0001\u0000\u0000\u0000\u017d"+
+		"/\u0001\u0000\u0000\u0000\u017e\u017f\u0003h4\u0000\u017f\u0180\u0005"+
+		"\u0006\u0000\u0000\u0180\u0181\u0003P(\u0000\u01811\u0001\u0000\u0000"+
+		"\u0000\u0182\u0183\u0005\u0002\u0000\u0000\u0183\u0188\u0003^/\u0000\u0184"+
+		"\u0185\u0005\u0003\u0000\u0000\u0185\u0187\u0003^/\u0000\u0186\u0184\u0001"+
+		"\u0000\u0000\u0000\u0187\u018a\u0001\u0000\u0000\u0000\u0188\u0186\u0001"+
+		"\u0000\u0000\u0000\u0188\u0189\u0001\u0000\u0000\u0000\u0189\u018b\u0001"+
+		"\u0000\u0000\u0000\u018a\u0188\u0001\u0000\u0000\u0000\u018b\u018c\u0005"+
+		"\u0004\u0000\u0000\u018c3\u0001\u0000\u0000\u0000\u018d\u018f\u0005>\u0000"+
+		"\u0000\u018e\u0190\u0007\u0000\u0000\u0000\u018f\u018e\u0001\u0000\u0000"+
+		"\u0000\u018f\u0190\u0001\u0000\u0000\u0000\u0190\u0191\u0001\u0000\u0000"+
+		"\u0000\u0191\u0196\u0003V+\u0000\u0192\u0193\u0005\u0003\u0000\u0000\u0193"+
+		"\u0195\u0003V+\u0000\u0194\u0192\u0001\u0000\u0000\u0000\u0195\u0198\u0001"+
+		"\u0000\u0000\u0000\u0196\u0194\u0001\u0000\u0000\u0000\u0196\u0197\u0001"+
+		"\u0000\u0000\u0000\u0197\u0199\u0001\u0000\u0000\u0000\u0198\u0196\u0001"+
+		"\u0000\u0000\u0000\u0199\u019a\u0005)\u0000\u0000\u019a\u019f\u0003Z-"+
+		"\u0000\u019b\u019c\u0005\u0003\u0000\u0000\u019c\u019e\u0003Z-\u0000\u019d"+
+		"\u019b\u0001\u0000\u0000\u0000\u019e\u01a1\u0001\u0000\u0000\u0000\u019f"+
+		"\u019d\u0001\u0000\u0000\u0000\u019f\u01a0\u0001\u0000\u0000\u0000\u01a0"+
+		"\u01a4\u0001\u0000\u0000\u0000\u01a1\u019f\u0001\u0000\u0000\u0000\u01a2"+
+		"\u01a3\u0005J\u0000\u0000\u01a3\u01a5\u0003H$\u0000\u01a4\u01a2\u0001"+
+		"\u0000\u0000\u0000\u01a4\u01a5\u0001\u0000\u0000\u0000\u01a5\u01a7\u0001"+
+		"\u0000\u0000\u0000\u01a6\u01a8\u00036\u001b\u0000\u01a7\u01a6\u0001\u0000"+
+		"\u0000\u0000\u01a7\u01a8\u0001\u0000\u0000\u0000\u01a8\u01aa\u0001\u0000"+
+		"\u0000\u0000\u01a9\u01ab\u00038\u001c\u0000\u01aa\u01a9\u0001\u0000\u0000"+
+		"\u0000\u01aa\u01ab\u0001\u0000\u0000\u0000\u01ab\u01b6\u0001\u0000\u0000"+
+		"\u0000\u01ac\u01ad\u0005:\u0000\u0000\u01ad\u01ae\u0005\u001d\u0000\u0000"+
+		"\u01ae\u01b3\u0003:\u001d\u0000\u01af\u01b0\u0005\u0003\u0000\u0000\u01b0"+
+		"\u01b2\u0003:\u001d\u0000\u01b1\u01af\u0001\u0000\u0000\u0000\u01b2\u01b5"+
+		"\u0001\u0000\u0000\u0000\u01b3\u01b1\u0001\u0000\u0000\u0000\u01b3\u01b4"+
+		"\u0001\u0000\u0000\u0000\u01b4\u01b7\u0001\u0000\u0000\u0000\u01b5\u01b3"+
+		"\u0001\u0000\u0000\u0000\u01b6\u01ac\u0001\u0000\u0000\u0000\u01b6\u01b7"+
+		"\u0001\u0000\u0000\u0000\u01b7\u01ba\u0001\u0000\u0000\u0000\u01b8\u01b9"+
+		"\u00056\u0000\u0000\u01b9\u01bb\u0005M\u0000\u0000\u01ba\u01b8\u0001\u0000"+
+		"\u0000\u0000\u01ba\u01bb\u0001\u0000\u0000\u0000\u01bb5\u0001\u0000\u0000"+
+		"\u0000\u01bc\u01bd\u0005+\u0000\u0000\u01bd\u01be\u0005\u001d\u0000\u0000"+
+		"\u01be\u01c3\u0003`0\u0000\u01bf\u01c0\u0005\u0003\u0000\u0000\u01c0\u01c2"+
+		"\u0003`0\u0000\u01c1\u01bf\u0001\u0000\u0000\u0000\u01c2\u01c5\u0001\u0000"+
+		"\u0000\u0000\u01c3\u01c1\u0001\u0000\u0000\u0000\u01c3\u01c4\u0001\u0000"+
+		"\u0000\u0000\u01c47\u0001\u0000\u0000\u0000\u01c5\u01c3\u0001\u0000\u0000"+
+		"\u0000\u01c6\u01c7\u0005,\u0000\u0000\u01c7\u01c8\u0003H$\u0000\u01c8"+
+		"9\u0001\u0000\u0000\u0000\u01c9\u01cc\u0003`0\u0000\u01ca\u01cc\u0003"+
+		"X,\u0000\u01cb\u01c9\u0001\u0000\u0000\u0000\u01cb\u01ca\u0001\u0000\u0000"+
+		"\u0000\u01cc\u01ce\u0001\u0000\u0000\u0000\u01cd\u01cf\u0007\u0001\u0000"+
+		"\u0000\u01ce\u01cd\u0001\u0000\u0000\u0000\u01ce\u01cf\u0001\u0000\u0000"+
+		"\u0000\u01cf;\u0001\u0000\u0000\u0000\u01d0\u01d1\u0005\u001f\u0000\u0000"+
+		"\u01d1\u01d2\u0005I\u0000\u0000\u01d2\u01d3\u0003j5\u0000\u01d3\u01d4"+
+		"\u0005\u001b\u0000\u0000\u01d4\u01d5\u00034\u001a\u0000\u01d5=\u0001\u0000"+
+		"\u0000\u0000\u01d6\u01d7\u0005%\u0000\u0000\u01d7\u01da\u0005I\u0000\u0000"+
+		"\u01d8\u01d9\u0005-\u0000\u0000\u01d9\u01db\u0005\'\u0000\u0000\u01da"+
+		"\u01d8\u0001\u0000\u0000\u0000\u01da\u01db\u0001\u0000\u0000\u0000\u01db"+
+		"\u01dc\u0001\u0000\u0000\u0000\u01dc\u01dd\u0003j5\u0000\u01dd?\u0001"+
+		"\u0000\u0000\u0000\u01de\u01df\u0005D\u0000\u0000\u01df\u01e0\u0003d2"+
+		"\u0000\u01e0\u01e1\u0005?\u0000\u0000\u01e1\u01e2\u0003h4\u0000\u01e2"+
+		"\u01e3\u0005\u0006\u0000\u0000\u01e3\u01e6\u0003P(\u0000\u01e4\u01e5\u0005"+
+		"J\u0000\u0000\u01e5\u01e7\u0003H$\u0000\u01e6\u01e4\u0001\u0000\u0000"+
+		"\u0000\u01e6\u01e7\u0001\u0000\u0000\u0000\u01e7A\u0001\u0000\u0000\u0000"+
+		"\u01e8\u01e9\u0003h4\u0000\u01e9\u01ed\u0003D\"\u0000\u01ea\u01ec\u0003"+
+		"F#\u0000\u01eb\u01ea\u0001\u0000\u0000\u0000\u01ec\u01ef\u0001\u0000\u0000"+
+		"\u0000\u01ed\u01eb\u0001\u0000\u0000\u0000\u01ed\u01ee\u0001\u0000\u0000"+
+		"\u0000\u01eeC\u0001\u0000\u0000\u0000\u01ef\u01ed\u0001\u0000\u0000\u0000"+
+		"\u01f0\u01f9\u0005\u0012\u0000\u0000\u01f1\u01f9\u0005\u0013\u0000\u0000"+
+		"\u01f2\u01f9\u0005\u0014\u0000\u0000\u01f3\u01f9\u0005\u0015\u0000\u0000"+
+		"\u01f4\u01f5\u0005\u0016\u0000\u0000\u01f5\u01f6\u0005\u0002\u0000\u0000"+
+		"\u01f6\u01f7\u0005M\u0000\u0000\u01f7\u01f9\u0005\u0004\u0000\u0000\u01f8"+
+		"\u01f0\u0001\u0000\u0000\u0000\u01f8\u01f1\u0001\u0000\u0000\u0000\u01f8"+
+		"\u01f2\u0001\u0000\u0000\u0000\u01f8\u01f3\u0001\u0000\u0000\u0000\u01f8"+
+		"\u01f4\u0001\u0000\u0000\u0000\u01f9E\u0001\u0000\u0000\u0000\u01fa\u01fb"+
+		"\u0005;\u0000\u0000\u01fb\u01ff\u00054\u0000\u0000\u01fc\u01fd\u00057"+
+		"\u0000\u0000\u01fd\u01ff\u00058\u0000\u0000\u01fe\u01fa\u0001\u0000\u0000"+
+		"\u0000\u01fe\u01fc\u0001\u0000\u0000\u0000\u01ffG\u0001\u0000\u0000\u0000"+
+		"\u0200\u0201\u0006$\uffff\uffff\u0000\u0201\u0209\u0003J%\u0000\u0202"+
+		"\u0203\u0005\u0002\u0000\u0000\u0203\u0204\u0003H$\u0000\u0204\u0205\u0005"+
+		"\u0004\u0000\u0000\u0205\u0209\u0001\u0000\u0000\u0000\u0206\u0207\u0005"+
+		"7\u0000\u0000\u0207\u0209\u0003H$\u0003\u0208\u0200\u0001\u0000\u0000"+
+		"\u0000\u0208\u0202\u0001\u0000\u0000\u0000\u0208\u0206\u0001\u0000\u0000"+
+		"\u0000\u0209\u0212\u0001\u0000\u0000\u0000\u020a\u020b\n\u0002\u0000\u0000"+
+		"\u020b\u020c\u0005\u0010\u0000\u0000\u020c\u0211\u0003H$\u0003\u020d\u020e"+
+		"\n\u0001\u0000\u0000\u020e\u020f\u0005\u0011\u0000\u0000\u020f\u0211\u0003"+
+		"H$\u0002\u0210\u020a\u0001\u0000\u0000\u0000\u0210\u020d\u0001\u0000\u0000"+
+		"\u0000\u0211\u0214\u0001\u0000\u0000\u0000\u0212\u0210\u0001\u0000\u0000"+
+		"\u0000\u0212\u0213\u0001\u0000\u0000\u0000\u0213I\u0001\u0000\u0000\u0000"+
+		"\u0214\u0212\u0001\u0000\u0000\u0000\u0215\u0216\u0003P(\u0000\u0216\u0217"+
+		"\u0003N\'\u0000\u0217\u0218\u0003P(\u0000\u0218K\u0001\u0000\u0000\u0000"+
+		"\u0219\u021d\u0003`0\u0000\u021a\u021d\u0003^/\u0000\u021b\u021d\u0003"+
+		"X,\u0000\u021c\u0219\u0001\u0000\u0000\u0000\u021c\u021a\u0001\u0000\u0000"+
+		"\u0000\u021c\u021b\u0001\u0000\u0000\u0000\u021dM\u0001\u0000\u0000\u0000"+
+		"\u021e\u021f\u0007\u0002\u0000\u0000\u021fO\u0001\u0000\u0000\u0000\u0220"+
+		"\u0221\u0006(\uffff\uffff\u0000\u0221\u0227\u0003L&\u0000\u0222\u0223"+
+		"\u0005\u0002\u0000\u0000\u0223\u0224\u0003P(\u0000\u0224\u0225\u0005\u0004"+
+		"\u0000\u0000\u0225\u0227\u0001\u0000\u0000\u0000\u0226\u0220\u0001\u0000"+
+		"\u0000\u0000\u0226\u0222\u0001\u0000\u0000\u0000\u0227\u0230\u0001\u0000"+
+		"\u0000\u0000\u0228\u0229\n\u0003\u0000\u0000\u0229\u022a\u0007\u0003\u0000"+
+		"\u0000\u022a\u022f\u0003P(\u0004\u022b\u022c\n\u0002\u0000\u0000\u022c"+
+		"\u022d\u0007\u0004\u0000\u0000\u022d\u022f\u0003P(\u0003\u022e\u0228\u0001"+
+		"\u0000\u0000\u0000\u022e\u022b\u0001\u0000\u0000\u0000\u022f\u0232\u0001"+
+		"\u0000\u0000\u0000\u0230\u022e\u0001\u0000\u0000\u0000\u0230\u0231\u0001"+
+		"\u0000\u0000\u0000\u0231Q\u0001\u0000\u0000\u0000\u0232\u0230\u0001\u0000"+
+		"\u0000\u0000\u0233\u0234\u0005;\u0000\u0000\u0234\u0235\u00054\u0000\u0000"+
+		"\u0235\u0236\u0005\u0002\u0000\u0000\u0236\u023b\u0003h4\u0000\u0237\u0238"+
+		"\u0005\u0003\u0000\u0000\u0238\u023a\u0003h4\u0000\u0239\u0237\u0001\u0000"+
+		"\u0000\u0000\u023a\u023d\u0001\u0000\u0000\u0000\u023b\u0239\u0001\u0000"+
+		"\u0000\u0000\u023b\u023c\u0001\u0000\u0000\u0000\u023c\u023e\u0001\u0000"+
+		"\u0000\u0000\u023d\u023b\u0001\u0000\u0000\u0000\u023e\u023f\u0005\u0004"+
+		"\u0000\u0000\u023fS\u0001\u0000\u0000\u0000\u0240\u0241\u0005L\u0000\u0000"+
+		"\u0241\u0242\u0005\u0006\u0000\u0000\u0242\u0243\u0003^/\u0000\u0243U"+
+		"\u0001\u0000\u0000\u0000\u0244\u024c\u0005\u000e\u0000\u0000\u0245\u0246"+
+		"\u0003d2\u0000\u0246\u0247\u0005\u0005\u0000\u0000\u0247\u0248\u0005\u000e"+
+		"\u0000\u0000\u0248\u024c\u0001\u0000\u0000\u0000\u0249\u024c\u0003`0\u0000"+
+		"\u024a\u024c\u0003X,\u0000\u024b\u0244\u0001\u0000\u0000\u0000\u024b\u0245"+
+		"\u0001\u0000\u0000\u0000\u024b\u0249\u0001\u0000\u0000\u0000\u024b\u024a"+
+		"\u0001\u0000\u0000\u0000\u024cW\u0001\u0000\u0000\u0000\u024d\u024e\u0005"+
+		"L\u0000\u0000\u024e\u0251\u0005\u0002\u0000\u0000\u024f\u0252\u0005\u000e"+
+		"\u0000\u0000\u0250\u0252\u0003`0\u0000\u0251\u024f\u0001\u0000\u0000\u0000"+
+		"\u0251\u0250\u0001\u0000\u0000\u0000\u0252\u0253\u0001\u0000\u0000\u0000"+
+		"\u0253\u0254\u0005\u0004\u0000\u0000\u0254Y\u0001\u0000\u0000\u0000\u0255"+
+		"\u0261\u0003d2\u0000\u0256\u0259\u0003d2\u0000\u0257\u0258\u00053\u0000"+
+		"\u0000\u0258\u025a\u0003d2\u0000\u0259\u0257\u0001\u0000\u0000\u0000\u025a"+
+		"\u025b\u0001\u0000\u0000\u0000\u025b\u0259\u0001\u0000\u0000\u0000\u025b"+
+		"\u025c\u0001\u0000\u0000\u0000\u025c\u025d\u0001\u0000\u0000\u0000\u025d"+
+		"\u025e\u00059\u0000\u0000\u025e\u025f\u0003H$\u0000\u025f\u0261\u0001"+
+		"\u0000\u0000\u0000\u0260\u0255\u0001\u0000\u0000\u0000\u0260\u0256\u0001"+
+		"\u0000\u0000\u0000\u0261[\u0001\u0000\u0000\u0000\u0262\u0263\u0007\u0005"+
+		"\u0000\u0000\u0263]\u0001\u0000\u0000\u0000\u0264\u0265\u0007\u0006\u0000"+
+		"\u0000\u0265_\u0001\u0000\u0000\u0000\u0266\u0267\u0003d2\u0000\u0267"+
+		"\u0268\u0005\u0005\u0000\u0000\u0268\u026a\u0001\u0000\u0000\u0000\u0269"+
+		"\u0266\u0001\u0000\u0000\u0000\u0269\u026a\u0001\u0000\u0000\u0000\u026a"+
+		"\u026b\u0001\u0000\u0000\u0000\u026b\u026c\u0003h4\u0000\u026ca\u0001"+
+		"\u0000\u0000\u0000\u026d\u026e\u0005L\u0000\u0000\u026ec\u0001\u0000\u0000"+
+		"\u0000\u026f\u0270\u0005L\u0000\u0000\u0270e\u0001\u0000\u0000\u0000\u0271"+
+		"\u0272\u0005L\u0000\u0000\u0272g\u0001\u0000\u0000\u0000\u0273\u0274\u0005"+
+		"L\u0000\u0000\u0274i\u0001\u0000\u0000\u0000\u0275\u0276\u0005L\u0000"+
+		"\u0000\u0276k\u0001\u0000\u0000\u0000\u0277\u0278\u0005L\u0000\u0000\u0278"+
+		"m\u0001\u0000\u0000\u0000\u0279\u027a\u0005O\u0000\u0000\u027ao\u0001"+
+		"\u0000\u0000\u00009u|\u0081\u0087\u00a3\u00ad\u00bc\u00c9\u00ce\u00d8"+
+		"\u00dd\u00ee\u00f3\u00f7\u0100\u0105\u011b\u0126\u0134\u0144\u014a\u0160"+
+		"\u0165\u016d\u0179\u017c\u0188\u018f\u0196\u019f\u01a4\u01a7\u01aa\u01b3"+
+		"\u01b6\u01ba\u01c3\u01cb\u01ce\u01da\u01e6\u01ed\u01f8\u01fe\u0208\u0210"+
+		"\u0212\u021c\u0226\u022e\u0230\u023b\u024b\u0251\u025b\u0260\u0269";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -58,12 +58,48 @@ public interface SQLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCreate_table_stmt(SQLParser.Create_table_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#create_index_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitCreate_index_stmt(SQLParser.Create_index_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#drop_index_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDrop_index_stmt(SQLParser.Drop_index_stmtContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#show_meta_stmt}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitShow_meta_stmt(SQLParser.Show_meta_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#show_index_advice_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitShow_index_advice_stmt(SQLParser.Show_index_advice_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#show_stats_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitShow_stats_stmt(SQLParser.Show_stats_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#analyze_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAnalyze_stmt(SQLParser.Analyze_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#explain_stmt}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitExplain_stmt(SQLParser.Explain_stmtContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#grant_stmt}.
 	 * @param ctx the parse tree
@@ -118,6 +154,12 @@ public interface SQLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitInsert_stmt(SQLParser.Insert_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#assignment}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAssignment(SQLParser.AssignmentContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#value_entry}.
 	 * @param ctx the parse tree
@@ -130,6 +172,24 @@ public interface SQLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitSelect_stmt(SQLParser.Select_stmtContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#group_by_clause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitGroup_by_clause(SQLParser.Group_by_clauseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#having_clause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitHaving_clause(SQLParser.Having_clauseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#ordering_term}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitOrdering_term(SQLParser.Ordering_termContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#create_view_stmt}.
 	 * @param ctx the parse tree
@@ -202,12 +262,24 @@ public interface SQLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitTable_constraint(SQLParser.Table_constraintContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#index_option}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIndex_option(SQLParser.Index_optionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#result_column}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitResult_column(SQLParser.Result_columnContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#aggregate}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitAggregate(SQLParser.AggregateContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#table_query}.
 	 * @param ctx the parse tree
@@ -262,6 +334,12 @@ public interface SQLVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitView_name(SQLParser.View_nameContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link SQLParser#index_name}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitIndex_name(SQLParser.Index_nameContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SQLParser#password}.
 	 * @param ctx the parse tree
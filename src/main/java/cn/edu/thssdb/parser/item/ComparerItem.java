@@ -1,12 +1,18 @@
 package cn.edu.thssdb.parser.item;
 
 import cn.edu.thssdb.exception.TypeNotMatchException;
+import cn.edu.thssdb.query.RowExpression;
+import cn.edu.thssdb.query.VectorExpression;
+import cn.edu.thssdb.type.ColumnType;
 import cn.edu.thssdb.type.ComparerType;
+import cn.edu.thssdb.schema.Column;
 import cn.edu.thssdb.schema.Row;
 import cn.edu.thssdb.schema.Cell;
 
 import java.security.KeyException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public class ComparerItem {
     public String tableName = null;
@@ -113,8 +119,32 @@ public class ComparerItem {
         - type为 NUMBER
         - type为 COLUMN,但对应entry的数据类型为NUMBER
      * 要求每一个Child的type只能为column或number(不支持string和null类型的+-/*)
+     * 计算结果会写回 literalValue，所以同一个ComparerItem不能被多个线程同时计算，并行时用 {@link #evaluate}
      */
     public Double Calculate(Row row,ArrayList<String> ColumnName){
+        Double value = calculateValue(row,ColumnName);
+        if(hasChild){
+            this.literalValue = format(value);
+        }
+        return value;
+    }
+
+    /**
+     * 求出当前ComparerItem在某一行上的值，结果与先 Calculate 再 getValue 相同，但不修改任何字段，可以并行调用
+     */
+    public Object evaluate(Row row,ArrayList<String> ColumnName){
+        if(!hasChild){
+            return getValue(row,ColumnName);
+        }
+        Double value = calculateValue(row,ColumnName);
+        if(value == null){
+            return null;
+        }
+        String literal = format(value);
+        return literal.contains(".") ? (Object) Double.parseDouble(literal) : (Object) Integer.parseInt(literal);
+    }
+
+    private Double calculateValue(Row row,ArrayList<String> ColumnName){
         if(!hasChild){
             Object value1 = getValue(row,ColumnName);
             if(value1 == null || value1 instanceof String){
@@ -122,44 +152,136 @@ public class ComparerItem {
             }
             return Double.parseDouble(value1.toString());
         }
-        else{
-            Double value1 = this.comparerItem1.Calculate(row,ColumnName);
-            Double value2 = this.comparerItem2.Calculate(row,ColumnName);
-            Double value;
-            switch(op){
-                case "+": {
-                    value = value1 + value2;
-                    break;
-                }
-                case "-":{
-                    value = value1 - value2;
-                    break;
-                }
-                case "*":{
-                    value = value1 * value2;
-                    break;
-                }
-                case "/":{
-                    value = value1 / value2;
-                    break;
-                }
-                default:{
-                    value = 0.0;
-                }
+        Double value1 = this.comparerItem1.calculateValue(row,ColumnName);
+        Double value2 = this.comparerItem2.calculateValue(row,ColumnName);
+        if(value1 == null || value2 == null){
+            return null;
+        }
+        switch(op){
+            case "+": return value1 + value2;
+            case "-": return value1 - value2;
+            case "*": return value1 * value2;
+            case "/": return value1 / value2;
+            default: return 0.0;
+        }
+    }
+
+    // 整数值写成不带小数点的形式，getValue 会把它当作 Integer
+    private static String format(Double value){
+        if(value.intValue() == value.doubleValue()){
+            return String.valueOf(value.intValue());
+        }
+        return value.toString();
+    }
+
+    public boolean isNull(){
+        return this.isNull;
+    }
+
+    // 列在 ColumnName 中的下标，查找方式与 getValue 相同；不是列或找不到时返回 -1
+    public int columnIndex(ArrayList<String> ColumnName){
+        if(type != ComparerType.COLUMN || hasChild){
+            return -1;
+        }
+        int index = -1;
+        if(this.tableName != null){
+            index = ColumnName.indexOf(this.tableName + "_" + this.columnName);
+        }
+        return index == -1 ? ColumnName.indexOf(this.columnName) : index;
+    }
+
+    // 数值字面量按 getValue 的方式解析出的值，解析不了(如超出 int 的整数)时为 null
+    public Double numericLiteral(){
+        try {
+            return literalValue.contains(".") ? Double.parseDouble(literalValue) : (double) Integer.parseInt(literalValue);
+        }
+        catch (NumberFormatException e){
+            return null;
+        }
+    }
+
+    /**
+     * 编译成在一批行上求值的数值表达式，结果与 evaluate 相同；top 为 true 时这是比较的一侧
+     * 四则运算中的字符串和 null 与 calculateValue 一样当作 null；表达式中有除法或不存在的列时返回 null
+     */
+    public VectorExpression vectorize(List<Column> columns, ArrayList<String> ColumnName, boolean top){
+        if(hasChild){
+            // 除以 0 得到的 Infinity、NaN 在 evaluate 格式化结果时出错，含除法的表达式留给逐行求值
+            if(op.equals("/")){
+                return null;
             }
-            String newLiteralValue;
-            if(value.intValue() == value.doubleValue()){
-                newLiteralValue=String.valueOf(value.intValue());
+            VectorExpression left = comparerItem1.vectorize(columns, ColumnName, false);
+            VectorExpression right = comparerItem2.vectorize(columns, ColumnName, false);
+            if(left == null || right == null){
+                return null;
             }
-            else{
-                newLiteralValue = value.toString();
+            return VectorExpression.arithmetic(op.charAt(0), left, right, top);
+        }
+        if(type == ComparerType.COLUMN){
+            int index = columnIndex(ColumnName);
+            if(index < 0){
+                return null;
             }
-            this.literalValue = newLiteralValue;
-            return value;
+            return columns.get(index).getColumnType() == ColumnType.STRING ? VectorExpression.constant(null) : VectorExpression.column(index);
         }
+        return VectorExpression.constant(type == ComparerType.NUMBER ? numericLiteral() : null);
     }
 
-    public boolean isNull(){
-        return this.isNull;
+    /**
+     * 编译成逐行求值的数值表达式，结果与 evaluate 相同；top 为 true 时这是比较的一侧
+     * 四则运算中的字符串和 null 与 calculateValue 一样当作 null；表达式中有不存在的列时返回 null
+     */
+    public RowExpression compile(List<Column> columns, ArrayList<String> ColumnName, boolean top){
+        if(hasChild){
+            RowExpression left = comparerItem1.compile(columns, ColumnName, false);
+            RowExpression right = comparerItem2.compile(columns, ColumnName, false);
+            if(left == null || right == null){
+                return null;
+            }
+            return RowExpression.arithmetic(op.charAt(0), left, right, top);
+        }
+        if(type == ComparerType.COLUMN){
+            int index = columnIndex(ColumnName);
+            if(index < 0){
+                return null;
+            }
+            ColumnType columnType = columns.get(index).getColumnType();
+            return columnType == ColumnType.STRING ? RowExpression.constant(null) : RowExpression.column(index, columnType);
+        }
+        return RowExpression.constant(type == ComparerType.NUMBER ? numericLiteral() : null);
+    }
+
+    // 把表达式中出现的列名加入 columnNames
+    public void collectColumns(Collection<String> columnNames){
+        if(hasChild){
+            comparerItem1.collectColumns(columnNames);
+            comparerItem2.collectColumns(columnNames);
+        }
+        else if(type == ComparerType.COLUMN){
+            columnNames.add(columnName);
+        }
+    }
+
+    // 把表达式中出现的列加入 columns
+    public void collectColumnItems(Collection<ComparerItem> columns){
+        if(hasChild){
+            comparerItem1.collectColumnItems(columns);
+            comparerItem2.collectColumnItems(columns);
+        }
+        else if(type == ComparerType.COLUMN){
+            columns.add(this);
+        }
+    }
+
+    // 按 SQL 的写法输出，如 t.a、'x'、(a + 1)
+    @Override
+    public String toString(){
+        if(hasChild){
+            return "(" + comparerItem1 + " " + op + " " + comparerItem2 + ")";
+        }
+        if(type == ComparerType.COLUMN){
+            return tableName == null ? columnName : tableName + "." + columnName;
+        }
+        return literalValue;
     }
 }
@@ -3,13 +3,22 @@ package cn.edu.thssdb.parser.item;
 import cn.edu.thssdb.exception.IndexExceedLimitException;
 import cn.edu.thssdb.exception.InvalidComparatorException;
 import cn.edu.thssdb.exception.TypeNotMatchException;
+import cn.edu.thssdb.query.RowCondition;
+import cn.edu.thssdb.query.RowExpression;
+import cn.edu.thssdb.query.VectorExpression;
+import cn.edu.thssdb.query.VectorPredicate;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
 import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
 import cn.edu.thssdb.type.ComparerType;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public class ConditionItem {
-    public String comparator;//{> >= < <= == <>}
+    public String comparator;//{> >= < <= = <> like}
     public ComparerItem expr1;
     public ComparerItem expr2;
 
@@ -38,11 +47,9 @@ public class ConditionItem {
     public Boolean evaluate(Row row,ArrayList<String> columnName){
         try {
             int compareResult = 0;
-            expr1.Calculate(row,columnName);
-            Object value1 = expr1.getValue(row, columnName);
+            Object value1 = expr1.evaluate(row, columnName);
             //if(value1!=null){System.out.println("value1 = " + value1.getClass().toString() + " " + value1);}
-            expr2.Calculate(row,columnName);
-            Object value2 = expr2.getValue(row, columnName);
+            Object value2 = expr2.evaluate(row, columnName);
             //if(value2!=null){System.out.println("value2 = " + value2.getClass().toString() + " " + value2);}
 
             //先处理一方为null的情况
@@ -65,8 +72,13 @@ public class ConditionItem {
                 throw new TypeNotMatchException(ComparerType.NUMBER, ComparerType.STRING);
             }
 
+            if(comparator.equals("like")){
+                return like(Cell.unquote(value1.toString()), Cell.unquote(value2.toString()));
+            }
+
             //存在Double无法和Integer转换的问题，所以单独讨论Number的部分（坑死了）
-            if(value1 instanceof Integer || value1 instanceof Double){
+            //INT、LONG、FLOAT、DOUBLE 都按数值比较，不论哪一侧是列
+            if(value1 instanceof Number){
                 Double newValue1 = Double.valueOf(value1.toString());
                 Double newValue2 = Double.valueOf(value2.toString());
                 compareResult = newValue1.compareTo(newValue2);
@@ -96,4 +108,248 @@ public class ConditionItem {
         }
     }
 
+    /**
+     * SQL 的 LIKE 匹配：% 匹配任意长的字符串，_ 匹配一个字符，区分大小写
+     * 遇到 % 时记下位置，之后失配就回到这里让 % 多吞一个字符
+     */
+    public static boolean like(String value, String pattern){
+        int v = 0, p = 0, starP = -1, starV = 0;
+        while(v < value.length()){
+            if(p < pattern.length() && (pattern.charAt(p) == '_' || pattern.charAt(p) == value.charAt(v))){
+                v++;
+                p++;
+            }
+            else if(p < pattern.length() && pattern.charAt(p) == '%'){
+                starP = p++;
+                starV = v;
+            }
+            else if(starP >= 0){
+                p = starP + 1;
+                v = ++starV;
+            }
+            else{
+                return false;
+            }
+        }
+        while(p < pattern.length() && pattern.charAt(p) == '%'){
+            p++;
+        }
+        return p == pattern.length();
+    }
+
+    /**
+     * 条件形如 列 比较符 字面量(或 字面量 比较符 列)时返回列一侧，否则返回 null
+     */
+    public ComparerItem comparisonColumn(){
+        if(expr1.hasChild || expr2.hasChild){
+            return null;
+        }
+        if(expr1.type == ComparerType.COLUMN && expr2.type != ComparerType.COLUMN){
+            return expr1;
+        }
+        if(expr2.type == ComparerType.COLUMN && expr1.type != ComparerType.COLUMN){
+            return expr2;
+        }
+        return null;
+    }
+
+    // 与 comparisonColumn 配对的字面量一侧
+    public ComparerItem comparisonLiteral(){
+        return comparisonColumn() == expr1 ? expr2 : expr1;
+    }
+
+    // 把列换到左边后的比较符，如 5 < a 即 a > 5
+    public String columnComparator(){
+        if(comparisonColumn() == expr1){
+            return comparator;
+        }
+        switch (comparator){
+            case "<": return ">";
+            case "<=": return ">=";
+            case ">": return "<";
+            case ">=": return "<=";
+            default: return comparator;
+        }
+    }
+
+    /**
+     * 条件形如 列 = 字面量(或 字面量 = 列)时返回列一侧，否则返回 null
+     */
+    public ComparerItem equalityColumn(){
+        return comparator.equals("=") ? comparisonColumn() : null;
+    }
+
+    // 与 equalityColumn 配对的字面量一侧
+    public ComparerItem equalityLiteral(){
+        return comparisonLiteral();
+    }
+
+    private static final int NUMERIC = 0, STRING = 1, NULL = 2, UNSUPPORTED = -1;
+
+    // 比较的一侧在 evaluate 中取到的值的类别
+    private static int kind(ComparerItem item, List<Column> columns, ArrayList<String> columnNames){
+        if(item.hasChild){
+            return NUMERIC;
+        }
+        switch (item.type){
+            case COLUMN:
+                int index = item.columnIndex(columnNames);
+                if(index < 0){
+                    return UNSUPPORTED;
+                }
+                return columns.get(index).getColumnType() == ColumnType.STRING ? STRING : NUMERIC;
+            case NUMBER:
+                return item.numericLiteral() == null ? NULL : NUMERIC;
+            case STRING:
+                return STRING;
+            default:
+                return NULL;
+        }
+    }
+
+    /**
+     * 编译成在一批行上求值的 {@link VectorPredicate}，结果与逐行调用 evaluate 相同
+     * 数值与字符串比较、对数值做 like 等 evaluate 会出错(返回 null)的条件，以及用到不存在的列的条件返回 null，由调用者逐行求值
+     */
+    public VectorPredicate vectorize(List<Column> columns, ArrayList<String> columnNames){
+        int kind1 = kind(expr1, columns, columnNames);
+        int kind2 = kind(expr2, columns, columnNames);
+        if(kind1 == UNSUPPORTED || kind2 == UNSUPPORTED){
+            return null;
+        }
+        // 即使另一侧为 null，evaluate 也会先求出这一侧，求值出错时整个条件为 null
+        VectorExpression left = kind1 == NUMERIC ? expr1.vectorize(columns, columnNames, true) : null;
+        VectorExpression right = kind2 == NUMERIC ? expr2.vectorize(columns, columnNames, true) : null;
+        if((kind1 == NUMERIC && left == null) || (kind2 == NUMERIC && right == null)){
+            return null;
+        }
+        if(kind1 == NULL || kind2 == NULL){
+            if(!comparator.equals("=") && !comparator.equals("<>")){
+                return VectorPredicate.constant(false);
+            }
+            boolean isNull = comparator.equals("=");
+            ComparerItem other = kind1 == NULL ? expr2 : expr1;
+            int otherKind = kind1 == NULL ? kind2 : kind1;
+            if(otherKind == NULL){
+                return VectorPredicate.constant(isNull);
+            }
+            if(otherKind == NUMERIC){
+                return VectorPredicate.isNull(kind1 == NULL ? right : left, isNull);
+            }
+            int index = other.columnIndex(columnNames);
+            return index < 0 ? VectorPredicate.constant(!isNull) : VectorPredicate.isNull(index, isNull);
+        }
+        if(kind1 != kind2){
+            return null;
+        }
+        ComparerItem column = comparisonColumn();
+        if(kind1 == STRING){
+            // 只支持 列 比较符 字符串，以及 列 like 字符串
+            if(column == null || (comparator.equals("like") && column != expr1)){
+                return null;
+            }
+            int index = column.columnIndex(columnNames);
+            String literal = comparisonLiteral().literalValue;
+            if(comparator.equals("like")){
+                return VectorPredicate.like(index, Cell.unquote(literal));
+            }
+            return VectorPredicate.compare(index, columnComparator(), literal);
+        }
+        if(comparator.equals("like")){
+            return null;
+        }
+        if(column != null){
+            int index = column.columnIndex(columnNames);
+            return VectorPredicate.compare(index, columns.get(index).getColumnType(), columnComparator(),
+                    comparisonLiteral().numericLiteral());
+        }
+        return VectorPredicate.compare(left, right, comparator);
+    }
+
+    /**
+     * 编译成逐行求值的 {@link RowCondition}，按两侧的类型选用专门的比较结点，结果与 evaluate 相同
+     * 与 vectorize 一样，evaluate 一定出错的条件(数值与字符串比较、对数值做 like)和用到不存在的列的条件返回 null，由调用者解释执行；
+     * 四则运算可以含除法，结果为 Infinity、NaN 时与 evaluate 一样整个条件为 null
+     */
+    public RowCondition compile(List<Column> columns, ArrayList<String> columnNames){
+        int kind1 = kind(expr1, columns, columnNames);
+        int kind2 = kind(expr2, columns, columnNames);
+        if(kind1 == UNSUPPORTED || kind2 == UNSUPPORTED){
+            return null;
+        }
+        RowExpression left = kind1 == NUMERIC ? expr1.compile(columns, columnNames, true) : null;
+        RowExpression right = kind2 == NUMERIC ? expr2.compile(columns, columnNames, true) : null;
+        if((kind1 == NUMERIC && left == null) || (kind2 == NUMERIC && right == null)){
+            return null;
+        }
+        if(kind1 == NULL || kind2 == NULL){
+            // 四则运算的一侧先求值，出错时整个条件为 null，由通用的比较结点处理
+            if(hasArithmetic()){
+                return comparator.equals("like") ? null : RowCondition.compare(left == null ? RowExpression.constant(null) : left,
+                        right == null ? RowExpression.constant(null) : right, comparator);
+            }
+            if(!comparator.equals("=") && !comparator.equals("<>")){
+                return RowCondition.constant(false);
+            }
+            boolean isNull = comparator.equals("=");
+            ComparerItem other = kind1 == NULL ? expr2 : expr1;
+            int otherKind = kind1 == NULL ? kind2 : kind1;
+            if(otherKind == NULL){
+                return RowCondition.constant(isNull);
+            }
+            int index = other.columnIndex(columnNames);
+            return index < 0 ? RowCondition.constant(!isNull) : RowCondition.isNull(index, isNull);
+        }
+        if(kind1 != kind2){
+            return null;
+        }
+        ComparerItem column = comparisonColumn();
+        if(kind1 == STRING){
+            if(column == null || (comparator.equals("like") && column != expr1)){
+                return null;
+            }
+            int index = column.columnIndex(columnNames);
+            String literal = comparisonLiteral().literalValue;
+            if(comparator.equals("like")){
+                return RowCondition.like(index, Cell.unquote(literal));
+            }
+            return RowCondition.compare(index, columnComparator(), literal);
+        }
+        if(comparator.equals("like")){
+            return null;
+        }
+        if(column != null){
+            int index = column.columnIndex(columnNames);
+            return RowCondition.compare(index, columns.get(index).getColumnType(), columnComparator(),
+                    comparisonLiteral().numericLiteral());
+        }
+        int index1 = expr1.columnIndex(columnNames), index2 = expr2.columnIndex(columnNames);
+        if(index1 >= 0 && index2 >= 0 && columns.get(index1).getColumnType() == ColumnType.INT
+                && columns.get(index2).getColumnType() == ColumnType.INT){
+            return RowCondition.compareInts(index1, index2, comparator);
+        }
+        return RowCondition.compare(left, right, comparator);
+    }
+
+    // 两侧是否有四则运算；只有这样的条件编译后求值可能出错
+    public boolean hasArithmetic(){
+        return expr1.hasChild || expr2.hasChild;
+    }
+
+    // 把条件两侧出现的列名加入 columnNames
+    public void collectColumns(Collection<String> columnNames){
+        expr1.collectColumns(columnNames);
+        expr2.collectColumns(columnNames);
+    }
+
+    // 把条件两侧出现的列加入 columns
+    public void collectColumnItems(Collection<ComparerItem> columns){
+        expr1.collectColumnItems(columns);
+        expr2.collectColumnItems(columns);
+    }
+
+    @Override
+    public String toString(){
+        return expr1 + " " + comparator + " " + expr2;
+    }
 }
@@ -1,9 +1,14 @@
 package cn.edu.thssdb.parser.item;
 
 import cn.edu.thssdb.exception.IndexExceedLimitException;
+import cn.edu.thssdb.query.RowCondition;
+import cn.edu.thssdb.query.VectorPredicate;
+import cn.edu.thssdb.schema.Column;
 import cn.edu.thssdb.schema.Row;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public class MultipleConditionItem {
     public String op;
@@ -17,6 +22,7 @@ public class MultipleConditionItem {
         this.conditionItem = c;
     }
 
+    // op 为 and、or，或者 not(此时只有 m1)
     public MultipleConditionItem(MultipleConditionItem m1,MultipleConditionItem m2,String op){
         this.multiConditionItem1 = m1;
         this.multiConditionItem2 = m2;
@@ -49,6 +55,10 @@ public class MultipleConditionItem {
         if(!hasChild){
             return conditionItem.evaluate(row,ColumnName);
         }
+        else if(op.equals("not")){
+            Boolean cond = multiConditionItem1.evaluate(row,ColumnName);
+            return cond == null ? null : !cond;
+        }
         else{
             Boolean leftCond = multiConditionItem1.evaluate(row,ColumnName);
             Boolean rightCond = multiConditionItem2.evaluate(row,ColumnName);
@@ -56,4 +66,147 @@ public class MultipleConditionItem {
             else{return (leftCond || rightCond);}
         }
     }
+
+    /**
+     * 编译成在一批行上求值的 {@link VectorPredicate}，结果与逐行调用 evaluate 相同
+     * 有不能向量化的条件时返回 null，由调用者逐行求值
+     * @param columns 行的各列
+     */
+    public VectorPredicate vectorize(List<Column> columns){
+        ArrayList<String> columnNames = new ArrayList<>();
+        for(Column column : columns){
+            columnNames.add(column.getColumnName());
+        }
+        return vectorize(columns, columnNames);
+    }
+
+    private VectorPredicate vectorize(List<Column> columns, ArrayList<String> columnNames){
+        if(!hasChild){
+            return conditionItem.vectorize(columns, columnNames);
+        }
+        VectorPredicate left = multiConditionItem1.vectorize(columns, columnNames);
+        if(left == null){
+            return null;
+        }
+        if(op.equals("not")){
+            return VectorPredicate.not(left);
+        }
+        VectorPredicate right = multiConditionItem2.vectorize(columns, columnNames);
+        if(right == null){
+            return null;
+        }
+        return op.equals("and") ? VectorPredicate.and(left, right) : VectorPredicate.or(left, right);
+    }
+
+    /**
+     * 编译成逐行求值的 {@link RowCondition}，列的下标和字面量在编译时确定，结果与 evaluate 相同
+     * 有不能编译的条件时返回 null，由调用者解释执行
+     * @param columns 行的各列
+     */
+    public RowCondition compile(List<Column> columns){
+        ArrayList<String> columnNames = new ArrayList<>();
+        for(Column column : columns){
+            columnNames.add(column.getColumnName());
+        }
+        return compile(columns, columnNames);
+    }
+
+    private RowCondition compile(List<Column> columns, ArrayList<String> columnNames){
+        if(!hasChild){
+            return conditionItem.compile(columns, columnNames);
+        }
+        RowCondition left = multiConditionItem1.compile(columns, columnNames);
+        if(left == null){
+            return null;
+        }
+        if(op.equals("not")){
+            return RowCondition.not(left);
+        }
+        RowCondition right = multiConditionItem2.compile(columns, columnNames);
+        if(right == null){
+            return null;
+        }
+        // evaluate 总是求出右侧，右侧可能出错时不能跳过
+        boolean mayFail = multiConditionItem2.hasArithmetic();
+        return op.equals("and") ? RowCondition.and(left, right, mayFail) : RowCondition.or(left, right, mayFail);
+    }
+
+    private boolean hasArithmetic(){
+        if(!hasChild){
+            return conditionItem.hasArithmetic();
+        }
+        return multiConditionItem1.hasArithmetic() || (multiConditionItem2 != null && multiConditionItem2.hasArithmetic());
+    }
+
+    /**
+     * 顶层用 and 连接的各个条件，整行满足时它们都必须满足
+     * 可以用其中任意一个缩小需要检查的行的范围
+     */
+    public ArrayList<ConditionItem> conjuncts(){
+        ArrayList<ConditionItem> conditions = new ArrayList<>();
+        if(!hasChild){
+            conditions.add(conditionItem);
+        }
+        else if(op.equals("and")){
+            conditions.addAll(multiConditionItem1.conjuncts());
+            conditions.addAll(multiConditionItem2.conjuncts());
+        }
+        return conditions;
+    }
+
+    /**
+     * 顶层用 and 连接的各个部分，与 conjuncts 不同，or、not 连接的子条件作为一个整体保留
+     * 整行满足条件当且仅当这些部分都满足
+     */
+    public ArrayList<MultipleConditionItem> terms(){
+        ArrayList<MultipleConditionItem> terms = new ArrayList<>();
+        if(hasChild && op.equals("and")){
+            terms.addAll(multiConditionItem1.terms());
+            terms.addAll(multiConditionItem2.terms());
+        }
+        else{
+            terms.add(this);
+        }
+        return terms;
+    }
+
+    // 把各个条件中出现的列名加入 columnNames
+    public void collectColumns(Collection<String> columnNames){
+        if(!hasChild){
+            conditionItem.collectColumns(columnNames);
+            return;
+        }
+        multiConditionItem1.collectColumns(columnNames);
+        if(multiConditionItem2 != null){
+            multiConditionItem2.collectColumns(columnNames);
+        }
+    }
+
+    // 把各个条件中出现的列加入 columns
+    public void collectColumnItems(Collection<ComparerItem> columns){
+        if(!hasChild){
+            conditionItem.collectColumnItems(columns);
+            return;
+        }
+        multiConditionItem1.collectColumnItems(columns);
+        if(multiConditionItem2 != null){
+            multiConditionItem2.collectColumnItems(columns);
+        }
+    }
+
+    // 按 SQL 的写法输出，与外层连接方式不同的子条件加括号
+    @Override
+    public String toString(){
+        if(!hasChild){
+            return conditionItem.toString();
+        }
+        if(op.equals("not")){
+            return "not " + operand(multiConditionItem1);
+        }
+        return operand(multiConditionItem1) + " " + op + " " + operand(multiConditionItem2);
+    }
+
+    private String operand(MultipleConditionItem item){
+        return item.hasChild && !item.op.equals(op) && !item.op.equals("not") ? "(" + item + ")" : item.toString();
+    }
 }
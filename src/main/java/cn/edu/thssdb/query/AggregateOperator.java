@@ -0,0 +1,377 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.InvalidAggregateException;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 分组聚合(GROUP BY 与 COUNT、SUM、AVG、MIN、MAX)：open() 时逐行读下层，按分组列的值在哈希表中找到该组，
+ * 把这一行累加到该组的中间结果上，不保存读过的行；读完后每组输出一行：分组列在前，各聚合的结果在后
+ * 组数超过 memoryGroups 时改为基于排序的聚合：把哈希表中各组的中间结果按分组列排好序写到临时文件(一个有序段)，
+ * 清空哈希表继续读；读完后多路归并各有序段，合并分组列相同的中间结果，边归并边输出，内存中每段只有一组
+ * 与 SQL 一致：COUNT(*) 数所有行，其余聚合忽略 null，一组中全是 null 时 SUM、AVG、MIN、MAX 为 null；
+ * 分组列为 null 的行归为同一组；没有分组列时即使没有行也输出一行
+ * 按哈希表聚合时按各组第一次出现的顺序输出，溢出到临时文件后按分组列的顺序输出
+ */
+public class AggregateOperator implements Operator {
+
+  public enum Function {
+    COUNT, SUM, AVG, MIN, MAX;
+
+    // 函数名(不区分大小写)对应的聚合函数，不是聚合函数时返回 null
+    public static Function of(String name) {
+      for (Function function : values())
+        if (function.name().equalsIgnoreCase(name))
+          return function;
+      return null;
+    }
+
+    // 中间结果占的格数：AVG 为和与个数，其余为一格
+    int width() {
+      return this == AVG ? 2 : 1;
+    }
+  }
+
+  /**
+   * 一个聚合：对下层第 column 列(COUNT(*) 为 -1)求 function，结果列名为 name
+   * 结果的类型：COUNT 为 LONG，整数列的 SUM 为 LONG、其余 SUM 和 AVG 为 DOUBLE，MIN、MAX 与该列相同
+   */
+  public static class Aggregate {
+    private final Function function;
+    private final int column;
+    private final Column output;
+    private final boolean integral;
+
+    public Aggregate(Function function, int column, String name, List<Column> columns) {
+      this.function = function;
+      this.column = column;
+      if (column < 0 && function != Function.COUNT)
+        throw new InvalidAggregateException(name + " needs a column");
+      Column input = column < 0 ? null : columns.get(column);
+      ColumnType inputType = input == null ? null : input.getColumnType();
+      if (inputType == ColumnType.STRING && (function == Function.SUM || function == Function.AVG))
+        throw new InvalidAggregateException(name + " needs a numeric column");
+      this.integral = inputType == ColumnType.INT || inputType == ColumnType.LONG;
+      ColumnType type;
+      switch (function) {
+        case COUNT: type = ColumnType.LONG; break;
+        case SUM: type = this.integral ? ColumnType.LONG : ColumnType.DOUBLE; break;
+        case AVG: type = ColumnType.DOUBLE; break;
+        default: type = inputType;
+      }
+      this.output = new Column(name, type, 0, false, type == ColumnType.STRING ? input.getMaxLength() : 0);
+    }
+
+    public Column getOutput() {
+      return this.output;
+    }
+  }
+
+  private final Operator child;
+  private final int[] groupColumns;
+  private final Aggregate[] aggregates;
+  private final long memoryGroups;
+  private final List<Column> columns;
+  // 中间结果中各聚合的起点：前 groupColumns.length 格是分组列的值
+  private final int[] offsets;
+  private final int width;
+  private final Comparator<Comparable[]> byKeys;
+
+  private Iterator<Comparable[]> groups;
+  private List<RowFile> runs = new ArrayList<>();
+  private PriorityQueue<Run> merge;
+  private int spilledRuns;
+
+  /**
+   * @param groupColumns 分组列在下层中的下标，没有 GROUP BY 时为空
+   * @param memoryGroups 内存中的哈希表最多保存的组数
+   */
+  public AggregateOperator(Operator child, int[] groupColumns, List<Aggregate> aggregates, long memoryGroups) {
+    this.child = child;
+    this.groupColumns = groupColumns;
+    this.aggregates = aggregates.toArray(new Aggregate[0]);
+    this.memoryGroups = memoryGroups;
+    this.columns = new ArrayList<>();
+    for (int column : groupColumns)
+      this.columns.add(child.getColumns().get(column));
+    for (Aggregate aggregate : aggregates)
+      this.columns.add(aggregate.output);
+    this.offsets = new int[this.aggregates.length];
+    int width = groupColumns.length;
+    for (int i = 0; i < this.aggregates.length; i++) {
+      this.offsets[i] = width;
+      width += this.aggregates[i].function.width();
+    }
+    this.width = width;
+    this.byKeys = (group1, group2) -> {
+      for (int i = 0; i < this.groupColumns.length; i++) {
+        int result = compare(group1[i], group2[i]);
+        if (result != 0)
+          return result;
+      }
+      return 0;
+    };
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  // 上一次 open() 时写到临时文件的有序段数，没有溢出时为 0
+  public int getSpilledRuns() {
+    return this.spilledRuns;
+  }
+
+  // null 排在最前；同一列的值类型相同
+  @SuppressWarnings("unchecked")
+  private static int compare(Comparable value1, Comparable value2) {
+    return value1 == null ? (value2 == null ? 0 : -1) : value2 == null ? 1 : value1.compareTo(value2);
+  }
+
+  // 分组列的值：只有一列时不包装成 List
+  private Object key(Row row) {
+    if (this.groupColumns.length == 1)
+      return row.getEntries().get(this.groupColumns[0]).value;
+    Object[] values = new Object[this.groupColumns.length];
+    for (int i = 0; i < values.length; i++)
+      values[i] = row.getEntries().get(this.groupColumns[i]).value;
+    return Arrays.asList(values);
+  }
+
+  // 新的一组：分组列取该行的值，中间结果为没有行时的初值
+  private Comparable[] newGroup(Row row) {
+    Comparable[] group = new Comparable[this.width];
+    for (int i = 0; i < this.groupColumns.length; i++)
+      group[i] = row == null ? null : row.getEntries().get(this.groupColumns[i]).value;
+    for (int i = 0; i < this.aggregates.length; i++) {
+      Function function = this.aggregates[i].function;
+      if (function == Function.COUNT)
+        group[this.offsets[i]] = 0L;
+      else if (function == Function.AVG) {
+        group[this.offsets[i]] = 0.0;
+        group[this.offsets[i] + 1] = 0L;
+      }
+    }
+    return group;
+  }
+
+  private void accumulate(Comparable[] group, Row row) {
+    for (int i = 0; i < this.aggregates.length; i++) {
+      Aggregate aggregate = this.aggregates[i];
+      int offset = this.offsets[i];
+      Comparable value = aggregate.column < 0 ? 0 : row.getEntries().get(aggregate.column).value;
+      if (value == null)
+        continue;
+      switch (aggregate.function) {
+        case COUNT:
+          group[offset] = (Long) group[offset] + 1;
+          break;
+        case SUM:
+          group[offset] = add(group[offset], aggregate.integral ? (Comparable) ((Number) value).longValue()
+              : (Comparable) ((Number) value).doubleValue());
+          break;
+        case AVG:
+          group[offset] = (Double) group[offset] + ((Number) value).doubleValue();
+          group[offset + 1] = (Long) group[offset + 1] + 1;
+          break;
+        case MIN:
+          if (group[offset] == null || compare(value, group[offset]) < 0)
+            group[offset] = value;
+          break;
+        case MAX:
+          if (group[offset] == null || compare(value, group[offset]) > 0)
+            group[offset] = value;
+          break;
+      }
+    }
+  }
+
+  private static Comparable add(Comparable sum, Comparable value) {
+    if (sum == null)
+      return value;
+    if (value instanceof Long)
+      return (Long) sum + (Long) value;
+    return (Double) sum + (Double) value;
+  }
+
+  // 把另一个中间结果(分组列相同)合并到 group 中
+  private void combine(Comparable[] group, Comparable[] other) {
+    for (int i = 0; i < this.aggregates.length; i++) {
+      int offset = this.offsets[i];
+      switch (this.aggregates[i].function) {
+        case COUNT:
+          group[offset] = (Long) group[offset] + (Long) other[offset];
+          break;
+        case SUM:
+          if (other[offset] != null)
+            group[offset] = add(group[offset], other[offset]);
+          break;
+        case AVG:
+          group[offset] = (Double) group[offset] + (Double) other[offset];
+          group[offset + 1] = (Long) group[offset + 1] + (Long) other[offset + 1];
+          break;
+        case MIN:
+          if (other[offset] != null && (group[offset] == null || compare(other[offset], group[offset]) < 0))
+            group[offset] = other[offset];
+          break;
+        case MAX:
+          if (other[offset] != null && (group[offset] == null || compare(other[offset], group[offset]) > 0))
+            group[offset] = other[offset];
+          break;
+      }
+    }
+  }
+
+  // 由中间结果得到输出的行
+  private Row finish(Comparable[] group) {
+    Cell[] cells = new Cell[this.columns.size()];
+    for (int i = 0; i < this.groupColumns.length; i++)
+      cells[i] = new Cell(group[i]);
+    for (int i = 0; i < this.aggregates.length; i++) {
+      int offset = this.offsets[i];
+      Comparable value = group[offset];
+      if (this.aggregates[i].function == Function.AVG) {
+        long count = (Long) group[offset + 1];
+        value = count == 0 ? null : (Double) value / count;
+      }
+      cells[this.groupColumns.length + i] = new Cell(value);
+    }
+    return new Row(cells);
+  }
+
+  @Override
+  public void open() {
+    this.close();
+    this.spilledRuns = 0;
+    Map<Object, Comparable[]> table = new LinkedHashMap<>();
+    this.child.open();
+    try {
+      for (Row row = this.child.next(); row != null; row = this.child.next()) {
+        Object key = this.key(row);
+        Comparable[] group = table.get(key);
+        if (group == null) {
+          group = this.newGroup(row);
+          table.put(key, group);
+        }
+        this.accumulate(group, row);
+        if (table.size() > this.memoryGroups)
+          this.spill(table);
+      }
+    } finally {
+      this.child.close();
+    }
+    if (this.runs.isEmpty()) {
+      if (table.isEmpty() && this.groupColumns.length == 0)
+        table.put(null, this.newGroup(null));
+      this.groups = table.values().iterator();
+      return;
+    }
+    // 归并各有序段和哈希表中剩下的组
+    this.merge = new PriorityQueue<>((run1, run2) -> this.byKeys.compare(run1.head, run2.head));
+    for (RowFile file : this.runs)
+      this.addRun(new Run(new RunIterator(file.read())));
+    List<Comparable[]> rest = new ArrayList<>(table.values());
+    rest.sort(this.byKeys);
+    this.addRun(new Run(rest.iterator()));
+  }
+
+  // 哈希表中的组按分组列排好序写成一个有序段，清空哈希表
+  private void spill(Map<Object, Comparable[]> table) {
+    List<Comparable[]> groups = new ArrayList<>(table.values());
+    groups.sort(this.byKeys);
+    RowFile file = new RowFile("thssdb-aggregate-");
+    this.runs.add(file);
+    for (Comparable[] group : groups) {
+      Cell[] cells = new Cell[group.length];
+      for (int i = 0; i < group.length; i++)
+        cells[i] = new Cell(group[i]);
+      file.write(new Row(cells));
+    }
+    this.spilledRuns++;
+    table.clear();
+  }
+
+  private void addRun(Run run) {
+    if (run.advance())
+      this.merge.add(run);
+  }
+
+  @Override
+  public Row next() {
+    if (this.merge == null) {
+      if (this.groups == null || !this.groups.hasNext())
+        return null;
+      return this.finish(this.groups.next());
+    }
+    Run run = this.merge.poll();
+    if (run == null)
+      return null;
+    Comparable[] group = run.head;
+    this.addRun(run);
+    while (!this.merge.isEmpty() && this.byKeys.compare(this.merge.peek().head, group) == 0) {
+      Run same = this.merge.poll();
+      this.combine(group, same.head);
+      this.addRun(same);
+    }
+    return this.finish(group);
+  }
+
+  @Override
+  public void close() {
+    for (RowFile file : this.runs)
+      file.delete();
+    this.runs = new ArrayList<>();
+    this.groups = null;
+    this.merge = null;
+  }
+
+  // 归并中的一个有序段和它当前的组
+  private static class Run {
+    private final Iterator<Comparable[]> groups;
+    private Comparable[] head;
+
+    Run(Iterator<Comparable[]> groups) {
+      this.groups = groups;
+    }
+
+    boolean advance() {
+      this.head = this.groups.hasNext() ? this.groups.next() : null;
+      return this.head != null;
+    }
+  }
+
+  // 把临时文件中的行读回成中间结果
+  private static class RunIterator implements Iterator<Comparable[]> {
+    private final Iterator<Row> rows;
+
+    RunIterator(Iterator<Row> rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.rows.hasNext();
+    }
+
+    @Override
+    public Comparable[] next() {
+      List<Cell> entries = this.rows.next().getEntries();
+      Comparable[] group = new Comparable[entries.size()];
+      for (int i = 0; i < group.length; i++)
+        group[i] = entries.get(i).value;
+      return group;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+
+import java.util.List;
+
+/**
+ * 在每一批上求值条件，缩小批的 selection；跳过没有行满足条件的批
+ */
+public class BatchFilterOperator implements BatchOperator {
+  private final BatchOperator child;
+  private final VectorPredicate predicate;
+
+  public BatchFilterOperator(BatchOperator child, VectorPredicate predicate) {
+    this.child = child;
+    this.predicate = predicate;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.child.getColumns();
+  }
+
+  @Override
+  public void open() {
+    this.child.open();
+  }
+
+  @Override
+  public RowBatch nextBatch() {
+    RowBatch batch;
+    while ((batch = this.child.nextBatch()) != null) {
+      batch.filter(this.predicate);
+      if (batch.selected > 0)
+        return batch;
+    }
+    return null;
+  }
+
+  @Override
+  public void close() {
+    this.child.close();
+  }
+}
@@ -0,0 +1,21 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+
+import java.util.List;
+
+/**
+ * 向量化执行的算子：与 {@link Operator} 相同地 open、close，但每次 nextBatch() 交出一批行
+ * 返回的批在下一次调用 nextBatch() 之前有效，之后可能被下层重用；没有更多的行时返回 null
+ */
+public interface BatchOperator extends AutoCloseable {
+
+  List<Column> getColumns();
+
+  void open();
+
+  RowBatch nextBatch();
+
+  @Override
+  void close();
+}
@@ -0,0 +1,48 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.List;
+
+/**
+ * 把向量化的算子接到逐行的算子树上：逐个交出每批中选中的行
+ * 行就是表中的行，不复制；投影、排序等由上层逐行的算子完成
+ */
+public class BatchRowOperator implements Operator {
+  private final BatchOperator child;
+  private RowBatch batch;
+  private int position;
+
+  public BatchRowOperator(BatchOperator child) {
+    this.child = child;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.child.getColumns();
+  }
+
+  @Override
+  public void open() {
+    this.child.open();
+    this.batch = null;
+  }
+
+  @Override
+  public Row next() {
+    while (this.batch == null || this.position >= this.batch.selected) {
+      this.batch = this.child.nextBatch();
+      this.position = 0;
+      if (this.batch == null)
+        return null;
+    }
+    return this.batch.rows[this.batch.selection[this.position++]];
+  }
+
+  @Override
+  public void close() {
+    this.batch = null;
+    this.child.close();
+  }
+}
@@ -0,0 +1,67 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.schema.ZoneMap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 按主键顺序扫描全表，每次读出至多 {@link RowBatch#SIZE} 行放进同一个批中交给上层
+ * 由区域映射可知不含满足条件的行的叶子整个跳过
+ */
+public class BatchScanOperator implements BatchOperator {
+  private final Table table;
+  private final List<Column> columns;
+  private final List<ZoneMap.Condition> conditions;
+  private final Consumer<RowBatch> observer;
+  private Iterator<Row> iterator;
+  private RowBatch batch;
+
+  /**
+   * @param observer 每读出一批行后调用，可以为 null
+   */
+  public BatchScanOperator(Table table, List<ZoneMap.Condition> conditions, Consumer<RowBatch> observer) {
+    this.table = table;
+    this.columns = new ArrayList<>(table.columns);
+    this.conditions = conditions;
+    this.observer = observer;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.iterator = this.table.iterator(this.conditions);
+    this.batch = new RowBatch(this.columns);
+  }
+
+  @Override
+  public RowBatch nextBatch() {
+    if (!this.batch.fill(this.iterator))
+      return null;
+    if (this.observer != null)
+      this.observer.accept(this.batch);
+    return this.batch;
+  }
+
+  @Override
+  public void close() {
+    // 读快照时提前停下也要释放快照
+    if (this.iterator instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) this.iterator).close();
+      } catch (Exception ignored) {
+      }
+    }
+    this.iterator = null;
+    this.batch = null;
+  }
+}
@@ -0,0 +1,281 @@
+package cn.edu.thssdb.query;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 生成 class 文件的最小实现，只支持 {@link PipelineGenerator} 用到的常量、字段和方法
+ * 版本号为 49(Java 5)：不需要 StackMapTable，由类型推导校验器校验，跳转只需登记目标位置
+ * 类名、描述符都用内部形式(cn/edu/thssdb/schema/Row、(I)Ljava/lang/Object;)
+ */
+final class ClassFileWriter {
+  static final int ACC_PUBLIC = 0x0001, ACC_PRIVATE = 0x0002, ACC_FINAL = 0x0010, ACC_SUPER = 0x0020;
+
+  private static final int VERSION = 49;
+  private static final int CONSTANT_UTF8 = 1, CONSTANT_CLASS = 7, CONSTANT_FIELDREF = 9, CONSTANT_METHODREF = 10,
+      CONSTANT_INTERFACE_METHODREF = 11, CONSTANT_NAME_AND_TYPE = 12;
+
+  private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+  private final DataOutputStream poolOut = new DataOutputStream(pool);
+  private final Map<String, Integer> poolIndexes = new HashMap<>();
+  private int poolCount = 1;
+
+  private final int thisClass, superClass;
+  private final int[] interfaces;
+  private final ByteArrayOutputStream members = new ByteArrayOutputStream();
+  private int fieldCount;
+  private final List<Code> methods = new ArrayList<>();
+
+  ClassFileWriter(String name, String superName, String... interfaceNames) {
+    thisClass = classRef(name);
+    superClass = classRef(superName);
+    interfaces = new int[interfaceNames.length];
+    for (int i = 0; i < interfaceNames.length; i++)
+      interfaces[i] = classRef(interfaceNames[i]);
+  }
+
+  // 同样的常量只登记一次
+  private int constant(String key, int tag, int... operands) {
+    Integer index = poolIndexes.get(key);
+    if (index != null)
+      return index;
+    try {
+      poolOut.writeByte(tag);
+      for (int operand : operands)
+        poolOut.writeShort(operand);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    poolIndexes.put(key, poolCount);
+    return poolCount++;
+  }
+
+  int utf8(String value) {
+    Integer index = poolIndexes.get("U" + value);
+    if (index != null)
+      return index;
+    try {
+      poolOut.writeByte(CONSTANT_UTF8);
+      poolOut.writeUTF(value);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    poolIndexes.put("U" + value, poolCount);
+    return poolCount++;
+  }
+
+  int classRef(String name) {
+    return constant("C" + name, CONSTANT_CLASS, utf8(name));
+  }
+
+  private int nameAndType(String name, String descriptor) {
+    return constant("N" + name + ":" + descriptor, CONSTANT_NAME_AND_TYPE, utf8(name), utf8(descriptor));
+  }
+
+  int fieldRef(String owner, String name, String descriptor) {
+    return constant("F" + owner + "." + name + ":" + descriptor, CONSTANT_FIELDREF, classRef(owner), nameAndType(name, descriptor));
+  }
+
+  int methodRef(String owner, String name, String descriptor) {
+    return constant("M" + owner + "." + name + descriptor, CONSTANT_METHODREF, classRef(owner), nameAndType(name, descriptor));
+  }
+
+  int interfaceMethodRef(String owner, String name, String descriptor) {
+    return constant("I" + owner + "." + name + descriptor, CONSTANT_INTERFACE_METHODREF, classRef(owner),
+        nameAndType(name, descriptor));
+  }
+
+  void field(int access, String name, String descriptor) {
+    DataOutputStream out = new DataOutputStream(members);
+    try {
+      out.writeShort(access);
+      out.writeShort(utf8(name));
+      out.writeShort(utf8(descriptor));
+      out.writeShort(0);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    fieldCount++;
+  }
+
+  /**
+   * 新增一个方法，返回写方法体的 {@link Code}；maxStack 取足够大的值即可，maxLocals 含 this 和参数
+   */
+  Code method(int access, String name, String descriptor, int maxStack, int maxLocals) {
+    Code code = new Code(this, utf8(name), utf8(descriptor), access, maxStack, maxLocals);
+    methods.add(code);
+    return code;
+  }
+
+  byte[] toByteArray() {
+    int codeName = utf8("Code");
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0);
+      out.writeShort(VERSION);
+      out.writeShort(poolCount);
+      pool.writeTo(out);
+      out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+      out.writeShort(thisClass);
+      out.writeShort(superClass);
+      out.writeShort(interfaces.length);
+      for (int i : interfaces)
+        out.writeShort(i);
+      out.writeShort(fieldCount);
+      members.writeTo(out);
+      out.writeShort(methods.size());
+      for (Code method : methods)
+        method.writeTo(out, codeName);
+      out.writeShort(0);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /** 跳转的目标位置，mark 之前就可以作为跳转目标 */
+  static final class Label {
+    private int position = -1;
+  }
+
+  /**
+   * 方法体：按指令追加字节码，跳转先记下待填的偏移量，写出时统一填上
+   */
+  static final class Code {
+    static final int ACONST_NULL = 0x01, ICONST_0 = 0x03, BIPUSH = 0x10, SIPUSH = 0x11,
+        LLOAD = 0x16, ALOAD = 0x19, LSTORE = 0x37, ASTORE = 0x3a, LALOAD = 0x2f, AALOAD = 0x32,
+        POP = 0x57, DUP = 0x59, I2L = 0x85, LCMP = 0x94,
+        IFEQ = 0x99, IFNE = 0x9a, IFLT = 0x9b, IFGE = 0x9c, IFGT = 0x9d, IFLE = 0x9e, GOTO = 0xa7,
+        ARETURN = 0xb0, RETURN = 0xb1, GETFIELD = 0xb4, PUTFIELD = 0xb5,
+        INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, INVOKESTATIC = 0xb8, INVOKEINTERFACE = 0xb9,
+        NEW = 0xbb, CHECKCAST = 0xc0, IFNULL = 0xc6, IFNONNULL = 0xc7;
+
+    private final ClassFileWriter owner;
+    private final int name, descriptor, access, maxStack, maxLocals;
+    private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+    // 跳转指令的位置和目标
+    private final List<Integer> jumpPositions = new ArrayList<>();
+    private final List<Label> jumpTargets = new ArrayList<>();
+
+    private Code(ClassFileWriter owner, int name, int descriptor, int access, int maxStack, int maxLocals) {
+      this.owner = owner;
+      this.name = name;
+      this.descriptor = descriptor;
+      this.access = access;
+      this.maxStack = maxStack;
+      this.maxLocals = maxLocals;
+    }
+
+    void op(int opcode) {
+      code.write(opcode);
+    }
+
+    private void u2(int value) {
+      code.write(value >>> 8);
+      code.write(value);
+    }
+
+    void push(int value) {
+      if (value >= -1 && value <= 5) {
+        op(ICONST_0 + value);
+      } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+        op(BIPUSH);
+        code.write(value);
+      } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+        op(SIPUSH);
+        u2(value);
+      } else {
+        throw new IllegalArgumentException("constant out of range: " + value);
+      }
+    }
+
+    void push(boolean value) {
+      push(value ? 1 : 0);
+    }
+
+    // 局部变量下标不超过 255，不需要 wide
+    void local(int opcode, int index) {
+      op(opcode);
+      code.write(index);
+    }
+
+    void field(int opcode, String owner, String name, String descriptor) {
+      op(opcode);
+      u2(this.owner.fieldRef(owner, name, descriptor));
+    }
+
+    void invoke(int opcode, String owner, String name, String descriptor) {
+      op(opcode);
+      if (opcode == INVOKEINTERFACE) {
+        u2(this.owner.interfaceMethodRef(owner, name, descriptor));
+        code.write(argumentSlots(descriptor) + 1);
+        code.write(0);
+      } else {
+        u2(this.owner.methodRef(owner, name, descriptor));
+      }
+    }
+
+    // 类型指令：new、checkcast
+    void type(int opcode, String name) {
+      op(opcode);
+      u2(owner.classRef(name));
+    }
+
+    void jump(int opcode, Label target) {
+      jumpPositions.add(code.size());
+      jumpTargets.add(target);
+      op(opcode);
+      u2(0);
+    }
+
+    void mark(Label label) {
+      label.position = code.size();
+    }
+
+    private static int argumentSlots(String descriptor) {
+      int slots = 0;
+      for (int i = 1; descriptor.charAt(i) != ')'; i++) {
+        char c = descriptor.charAt(i);
+        while (c == '[')
+          c = descriptor.charAt(++i);
+        if (c == 'L')
+          i = descriptor.indexOf(';', i);
+        slots += (c == 'J' || c == 'D') && descriptor.charAt(i - 1) != '[' ? 2 : 1;
+      }
+      return slots;
+    }
+
+    private void writeTo(DataOutputStream out, int codeName) throws IOException {
+      byte[] bytes = code.toByteArray();
+      for (int i = 0; i < jumpPositions.size(); i++) {
+        int position = jumpPositions.get(i), target = jumpTargets.get(i).position;
+        if (target < 0)
+          throw new IllegalStateException("unmarked label");
+        int offset = target - position;
+        if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE)
+          throw new IllegalStateException("method too large");
+        bytes[position + 1] = (byte) (offset >>> 8);
+        bytes[position + 2] = (byte) offset;
+      }
+      out.writeShort(access);
+      out.writeShort(name);
+      out.writeShort(descriptor);
+      out.writeShort(1);
+      out.writeShort(codeName);
+      out.writeInt(12 + bytes.length);
+      out.writeShort(maxStack);
+      out.writeShort(maxLocals);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+      out.writeShort(0);
+      out.writeShort(0);
+    }
+  }
+}
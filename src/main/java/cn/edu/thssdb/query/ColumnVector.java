@@ -0,0 +1,41 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.type.ColumnType;
+
+/**
+ * 一批行中某一列的值，按列的类型放在 int、long、float、double 或 String 数组中，null 记在 nulls 中
+ * 只分配该类型用到的数组
+ */
+public class ColumnVector {
+  public final ColumnType type;
+  public final int[] ints;
+  public final long[] longs;
+  public final float[] floats;
+  public final double[] doubles;
+  public final String[] strings;
+  public final boolean[] nulls;
+
+  public ColumnVector(ColumnType type, int capacity) {
+    this.type = type;
+    this.ints = type == ColumnType.INT ? new int[capacity] : null;
+    this.longs = type == ColumnType.LONG ? new long[capacity] : null;
+    this.floats = type == ColumnType.FLOAT ? new float[capacity] : null;
+    this.doubles = type == ColumnType.DOUBLE ? new double[capacity] : null;
+    this.strings = type == ColumnType.STRING ? new String[capacity] : null;
+    this.nulls = new boolean[capacity];
+  }
+
+  // 第 position 个值，value 的类型与列的类型一致
+  public void set(int position, Comparable value) {
+    this.nulls[position] = value == null;
+    if (value == null)
+      return;
+    switch (this.type) {
+      case INT: this.ints[position] = (Integer) value; break;
+      case LONG: this.longs[position] = (Long) value; break;
+      case FLOAT: this.floats[position] = (Float) value; break;
+      case DOUBLE: this.doubles[position] = (Double) value; break;
+      default: this.strings[position] = (String) value;
+    }
+  }
+}
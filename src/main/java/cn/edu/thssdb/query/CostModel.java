@@ -0,0 +1,151 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.schema.TableStatistics;
+import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.ComparerType;
+
+/**
+ * 优化器的代价模型：估计条件的选择率、各种取行方式和连接方式的代价
+ * 代价以顺序扫描读一行为单位；选择率优先用列的不同值个数(主键为行数，二级索引为键数，否则为 ANALYZE 的估计值)、
+ * ANALYZE 收集的 null 比例、最小最大值和直方图，以及执行时抽样得到的选择率，都没有时用固定的默认值。
+ * 各个条件按相互独立估计
+ */
+public final class CostModel {
+  // 全表扫描读一行
+  public static final double SCAN_ROW = 1.0;
+  // 逐行对条件求值
+  public static final double FILTER_ROW = 0.5;
+  // 向量化扫描中按批对条件求值，摊到每行
+  public static final double BATCH_FILTER_ROW = 0.2;
+  // 按主键回表取一行(二级索引查到主键后、位图索引查到行序号后)
+  public static final double INDEX_ROW = 3.0;
+  // 哈希连接中把一行放进哈希表、用一行查哈希表
+  public static final double HASH_BUILD_ROW = 2.0;
+  public static final double HASH_PROBE_ROW = 1.0;
+  // 哈希表放不下时两侧每行写出、读回临时文件
+  public static final double SPILL_ROW = 4.0;
+  // 归并连接中读一行并比较
+  public static final double MERGE_ROW = 0.5;
+  // 嵌套循环连接中检查一对行
+  public static final double PAIR_ROW = 0.2;
+  // 连接拼出一行
+  public static final double OUTPUT_ROW = 0.5;
+
+  // 不知道列的不同值个数时假定的值
+  public static final double DEFAULT_DISTINCT = 200;
+  public static final double RANGE_SELECTIVITY = 1.0 / 3;
+  public static final double LIKE_SELECTIVITY = 0.25;
+  public static final double NULL_SELECTIVITY = 0.05;
+
+  private CostModel() {
+  }
+
+  // 在有 rows 行的索引上查找一次
+  public static double seekCost(double rows) {
+    return Math.log(rows + 2) / Math.log(2);
+  }
+
+  // 全表扫描并过滤：vectorized 为 true 时按批求值
+  public static double scanCost(double rows, boolean filtered, boolean vectorized) {
+    if (!filtered)
+      return rows * SCAN_ROW;
+    return rows * (SCAN_ROW + (vectorized ? BATCH_FILTER_ROW : FILTER_ROW));
+  }
+
+  // 表中第 columnIndex 列不同值的个数，不知道时按 DEFAULT_DISTINCT(不超过行数)估计
+  public static double distinctValues(Table table, int columnIndex) {
+    long distinct = table.distinctValues(columnIndex);
+    if (distinct > 0)
+      return distinct;
+    return Math.max(1, Math.min(DEFAULT_DISTINCT, table.index.size()));
+  }
+
+  // 列 = 某个值 的选择率
+  public static double equalSelectivity(Table table, int columnIndex) {
+    return 1 / distinctValues(table, columnIndex);
+  }
+
+  // 两表的列相等的连接条件的选择率：较小一侧的每个值在另一侧平均匹配 行数 / 不同值个数 行
+  public static double joinSelectivity(Table left, int leftColumn, Table right, int rightColumn) {
+    return 1 / Math.max(distinctValues(left, leftColumn), distinctValues(right, rightColumn));
+  }
+
+  /**
+   * 条件的选择率：and 为两侧之积，or 为 s1 + s2 - s1 * s2，not 为 1 - s
+   * table 为 null 时(条件涉及多张表)只用默认值
+   */
+  public static double selectivity(Table table, MultipleConditionItem item) {
+    if (item == null)
+      return 1;
+    if (!item.hasChild())
+      return selectivity(table, item.conditionItem);
+    double left = selectivity(table, item.multiConditionItem1);
+    switch (item.op) {
+      case "not": return 1 - left;
+      case "and": return left * selectivity(table, item.multiConditionItem2);
+      default:
+        double right = selectivity(table, item.multiConditionItem2);
+        return left + right - left * right;
+    }
+  }
+
+  /**
+   * 单个比较条件的选择率：列 = 值 为 非 null 的比例 / 不同值个数(值在最小、最大值之外时只算一行)，<> 为其补；
+   * 范围比较先用 ANALYZE 的直方图，再用执行时抽样得到的选择率，都没有时用默认值。
+   * 与 null 比较时只有 = null(该列为 null 的行)和 <> null 可能成立
+   */
+  public static double selectivity(Table table, ConditionItem condition) {
+    ComparerItem column = condition.comparisonColumn();
+    int columnIndex = table == null || column == null ? -1 : table.Column2Index(column.columnName);
+    String comparator = column == null ? condition.comparator : condition.columnComparator();
+    if (columnIndex < 0)
+      return defaultSelectivity(comparator);
+    TableStatistics.ColumnStatistics statistics = table.getColumnStatistics(columnIndex);
+    ComparerItem literal = condition.comparisonLiteral();
+    if (literal.type == ComparerType.NULL) {
+      boolean nullable = columnIndex != table.getPrimaryIndex() && !table.columns.get(columnIndex).cantBeNull();
+      double nulls = !nullable ? 0 : statistics != null ? statistics.nullFraction() : NULL_SELECTIVITY;
+      return comparator.equals("=") ? nulls : comparator.equals("<>") ? 1 - nulls : 0;
+    }
+    Comparable value = statistics == null ? null : statisticsValue(table.columns.get(columnIndex).getColumnType(), literal);
+    // 统计信息估计出的选择率至少是一行
+    double oneRow = 1.0 / Math.max(1, table.index.size());
+    double equal = equalSelectivity(table, columnIndex);
+    if (statistics != null)
+      equal = value != null && !statistics.inRange(value) ? oneRow : equal * (1 - statistics.nullFraction());
+    if (comparator.equals("="))
+      return equal;
+    if (comparator.equals("<>"))
+      return 1 - equal;
+    if (value != null) {
+      double histogram = statistics.rangeSelectivity(comparator, value);
+      if (histogram >= 0)
+        return Math.max(histogram, oneRow);
+    }
+    double observed = table.getPredicateStatistics()
+        .selectivity(table.columns.get(columnIndex).getColumnName(), comparator);
+    return observed >= 0 ? observed : defaultSelectivity(comparator);
+  }
+
+  // 字面量在统计信息中比较用的值：数值列与数值比较时为 double，STRING 列与字符串比较时为带引号的字符串，其他为 null
+  private static Comparable statisticsValue(ColumnType columnType, ComparerItem literal) {
+    if (columnType != ColumnType.STRING && literal.type == ComparerType.NUMBER)
+      return literal.numericLiteral();
+    if (columnType == ColumnType.STRING && literal.type == ComparerType.STRING)
+      return literal.literalValue;
+    return null;
+  }
+
+  private static double defaultSelectivity(String comparator) {
+    switch (comparator) {
+      case "=": return 1 / DEFAULT_DISTINCT;
+      case "<>": return 1 - 1 / DEFAULT_DISTINCT;
+      case "like": return LIKE_SELECTIVITY;
+      default: return RANGE_SELECTIVITY;
+    }
+  }
+}
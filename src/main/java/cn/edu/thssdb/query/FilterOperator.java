@@ -0,0 +1,45 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 只输出满足条件的行
+ */
+public class FilterOperator implements Operator {
+  private final Operator child;
+  private final Predicate<Row> predicate;
+
+  public FilterOperator(Operator child, Predicate<Row> predicate) {
+    this.child = child;
+    this.predicate = predicate;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.child.getColumns();
+  }
+
+  @Override
+  public void open() {
+    this.child.open();
+  }
+
+  @Override
+  public Row next() {
+    Row row;
+    while ((row = this.child.next()) != null) {
+      if (this.predicate.test(row))
+        return row;
+    }
+    return null;
+  }
+
+  @Override
+  public void close() {
+    this.child.close();
+  }
+}
@@ -0,0 +1,456 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.FileIOException;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 等值连接：open() 时把较小的一侧(build 侧)读进以连接列为键的哈希表，再逐行读另一侧(probe 侧)查表，
+ * 输出左右两行拼接成的行，列的顺序与 {@link NestedLoopJoinOperator} 相同(左边在前)
+ * 连接列的比较与 {@link cn.edu.thssdb.parser.item.ConditionItem#evaluate} 的 = 一致：数值按 double 比较，null 与 null 相等
+ * build 侧超过 memoryRows 行时改为分区连接：两侧都按键的哈希值分成 PARTITIONS 个分区写到各自的临时文件，
+ * 再逐个分区在内存中建表、查表，probe 侧的行逐块从文件读出；build 侧的分区仍超过 memoryRows 行时换一个哈希种子
+ * 把两侧的这个分区再分一次，键都相同(例如都为 null)而分不开时改为块嵌套循环连接：每次读入 memoryRows 行建表，
+ * 每批都把 probe 侧的这个分区读一遍。内存中最多只有 memoryRows 行 build 侧的行
+ */
+public class HashJoinOperator implements Operator {
+  static final int PARTITIONS = 64;
+  // 一个分区最多再分的次数，更深时直接块嵌套循环连接
+  private static final int MAX_LEVELS = 4;
+
+  private final Operator left;
+  private final Operator right;
+  private final int[] leftKeys;
+  private final int[] rightKeys;
+  private final boolean buildLeft;
+  private final long memoryRows;
+  private final List<Column> columns;
+
+  private Map<Object, List<Row>> table;
+  private Iterator<Row> probeRows;
+  private Row probeRow;
+  private List<Row> matches = Collections.emptyList();
+  private int matchIndex;
+  private SpillFile buildPartitions;
+  private SpillFile probePartitions;
+  // 分区连接时写过的所有临时文件，close() 时删除
+  private final List<SpillFile> spillFiles = new ArrayList<>();
+  // 还没有连接的分区，再分出的子分区放在前面
+  private final Deque<Partition> partitions = new ArrayDeque<>();
+  // 正在连接的分区和它的 build 侧还没有读进哈希表的行
+  private Partition partition;
+  private Iterator<Row> buildRows;
+  private int spilledPartitions;
+
+  /**
+   * @param leftKeys 与 rightKeys 一一对应，左右两侧连接列的下标
+   * @param buildLeft 用左侧建哈希表，否则用右侧
+   * @param memoryRows 内存中的哈希表最多保存的行数
+   */
+  public HashJoinOperator(Operator left, Operator right, int[] leftKeys, int[] rightKeys, boolean buildLeft,
+                          long memoryRows) {
+    this.left = left;
+    this.right = right;
+    this.leftKeys = leftKeys;
+    this.rightKeys = rightKeys;
+    this.buildLeft = buildLeft;
+    this.memoryRows = memoryRows;
+    this.columns = new ArrayList<>(left.getColumns());
+    this.columns.addAll(right.getColumns());
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  // 上一次 open() 时写到临时文件的分区数(包括再分出的子分区)，没有分区时为 0
+  public int getSpilledPartitions() {
+    return this.spilledPartitions;
+  }
+
+  private Operator build() {
+    return this.buildLeft ? this.left : this.right;
+  }
+
+  private Operator probe() {
+    return this.buildLeft ? this.right : this.left;
+  }
+
+  // 连接列的值：数值统一成 double，只有一列时不包装成 List
+  private static Object key(Row row, int[] keys) {
+    if (keys.length == 1)
+      return normalize(row.getEntries().get(keys[0]).value);
+    Object[] values = new Object[keys.length];
+    for (int i = 0; i < keys.length; i++)
+      values[i] = normalize(row.getEntries().get(keys[i]).value);
+    return Arrays.asList(values);
+  }
+
+  private static Object normalize(Comparable value) {
+    return value instanceof Number ? (Object) Double.valueOf(value.toString()) : value;
+  }
+
+  // 按第 level 次分区的种子打散键的哈希值，取高位作为分区号；上一次分到同一个分区的不同键这一次会分开
+  private static int partitionOf(Object key, int level) {
+    int hash = (key == null ? 0 : key.hashCode()) ^ level * 0x9E3779B9;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    hash *= 0xC2B2AE35;
+    hash ^= hash >>> 16;
+    return hash >>> (32 - Integer.numberOfTrailingZeros(PARTITIONS));
+  }
+
+  private static void add(Map<Object, List<Row>> table, Object key, Row row) {
+    table.computeIfAbsent(key, k -> new ArrayList<>(1)).add(row);
+  }
+
+  @Override
+  public void open() {
+    this.close();
+    this.spilledPartitions = 0;
+    int[] buildKeys = this.buildLeft ? this.leftKeys : this.rightKeys;
+    Map<Object, List<Row>> table = new HashMap<>();
+    long rows = 0;
+    Operator build = this.build();
+    build.open();
+    try {
+      for (Row row = build.next(); row != null; row = build.next()) {
+        if (this.buildPartitions != null) {
+          this.buildPartitions.write(partitionOf(key(row, buildKeys), 0), row);
+          continue;
+        }
+        add(table, key(row, buildKeys), row);
+        if (++rows > this.memoryRows)
+          this.spill(table, buildKeys);
+      }
+    } finally {
+      build.close();
+    }
+    this.probe().open();
+    if (this.buildPartitions == null) {
+      this.table = table;
+      this.probeRows = new OperatorIterator(this.probe());
+      return;
+    }
+    // 分区连接：probe 侧也全部写到临时文件，之后逐个分区连接
+    int[] probeKeys = this.buildLeft ? this.rightKeys : this.leftKeys;
+    try {
+      for (Row row = this.probe().next(); row != null; row = this.probe().next())
+        this.probePartitions.write(partitionOf(key(row, probeKeys), 0), row);
+    } finally {
+      this.probe().close();
+    }
+    this.buildPartitions.finish();
+    this.probePartitions.finish();
+    for (int i = PARTITIONS - 1; i >= 0; i--)
+      this.partitions.push(new Partition(this.buildPartitions, this.probePartitions, i, 0));
+    this.table = Collections.emptyMap();
+    this.probeRows = Collections.emptyIterator();
+  }
+
+  // 内存中的哈希表超过上限：建好临时文件，把已读入的行按分区写出去
+  private void spill(Map<Object, List<Row>> table, int[] buildKeys) {
+    this.buildPartitions = this.newSpillFile();
+    this.probePartitions = this.newSpillFile();
+    this.spilledPartitions = PARTITIONS;
+    for (List<Row> rows : table.values())
+      for (Row row : rows)
+        this.buildPartitions.write(partitionOf(key(row, buildKeys), 0), row);
+    table.clear();
+  }
+
+  private SpillFile newSpillFile() {
+    SpillFile file = new SpillFile();
+    this.spillFiles.add(file);
+    return file;
+  }
+
+  /**
+   * 分区连接时读入下一批 build 侧的行建表，并从头读这个分区 probe 侧的行，没有下一批时返回 false
+   * build 侧超过 memoryRows 行的分区先再分一次，分不开时每批只读入 memoryRows 行
+   */
+  private boolean nextPartition() {
+    int[] buildKeys = this.buildLeft ? this.leftKeys : this.rightKeys;
+    while (this.buildRows == null || !this.buildRows.hasNext()) {
+      Partition partition = this.partitions.poll();
+      if (partition == null)
+        return false;
+      int rows = partition.build.size(partition.index);
+      // 内连接：有一侧为空的分区没有结果
+      if (rows == 0 || partition.probe.size(partition.index) == 0)
+        continue;
+      if (rows > this.memoryRows && partition.level < MAX_LEVELS && this.split(partition, buildKeys))
+        continue;
+      this.partition = partition;
+      this.buildRows = partition.build.read(partition.index);
+    }
+    Map<Object, List<Row>> table = new HashMap<>();
+    for (long rows = 0; rows < this.memoryRows && this.buildRows.hasNext(); rows++) {
+      Row row = this.buildRows.next();
+      add(table, key(row, buildKeys), row);
+    }
+    this.table = table;
+    this.probeRows = this.partition.probe.read(this.partition.index);
+    return true;
+  }
+
+  /**
+   * 按下一层的种子把两侧的这个分区再分成 PARTITIONS 个子分区，放到待连接的分区的最前面
+   * 有一个子分区仍包含 build 侧的所有行时再分也没用，删掉子分区并返回 false
+   */
+  private boolean split(Partition partition, int[] buildKeys) {
+    int[] probeKeys = this.buildLeft ? this.rightKeys : this.leftKeys;
+    int level = partition.level + 1;
+    SpillFile build = this.newSpillFile();
+    SpillFile probe = this.newSpillFile();
+    for (Iterator<Row> rows = partition.build.read(partition.index); rows.hasNext(); ) {
+      Row row = rows.next();
+      build.write(partitionOf(key(row, buildKeys), level), row);
+    }
+    for (Iterator<Row> rows = partition.probe.read(partition.index); rows.hasNext(); ) {
+      Row row = rows.next();
+      probe.write(partitionOf(key(row, probeKeys), level), row);
+    }
+    build.finish();
+    probe.finish();
+    for (int i = 0; i < PARTITIONS; i++) {
+      if (build.size(i) == partition.build.size(partition.index)) {
+        build.delete();
+        probe.delete();
+        return false;
+      }
+    }
+    for (int i = PARTITIONS - 1; i >= 0; i--)
+      this.partitions.push(new Partition(build, probe, i, level));
+    this.spilledPartitions += PARTITIONS;
+    return true;
+  }
+
+  @Override
+  public Row next() {
+    int[] probeKeys = this.buildLeft ? this.rightKeys : this.leftKeys;
+    while (true) {
+      if (this.matchIndex < this.matches.size()) {
+        Row match = this.matches.get(this.matchIndex++);
+        Row row = new Row(this.buildLeft ? match : this.probeRow);
+        row.appendEntries((this.buildLeft ? this.probeRow : match).getEntries());
+        return row;
+      }
+      if (this.probeRows == null)
+        return null;
+      if (!this.probeRows.hasNext()) {
+        if (!this.nextPartition())
+          return null;
+        continue;
+      }
+      this.probeRow = this.probeRows.next();
+      List<Row> matches = this.table.get(key(this.probeRow, probeKeys));
+      this.matches = matches == null ? Collections.emptyList() : matches;
+      this.matchIndex = 0;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (this.probeRows instanceof OperatorIterator)
+      this.probe().close();
+    for (SpillFile file : this.spillFiles)
+      file.delete();
+    this.spillFiles.clear();
+    this.partitions.clear();
+    this.partition = null;
+    this.buildRows = null;
+    this.buildPartitions = null;
+    this.probePartitions = null;
+    this.table = null;
+    this.probeRows = null;
+    this.probeRow = null;
+    this.matches = Collections.emptyList();
+    this.matchIndex = 0;
+  }
+
+  // 把算子当作 Iterator 逐行读
+  private static class OperatorIterator implements Iterator<Row> {
+    private final Operator operator;
+    private Row nextRow;
+
+    OperatorIterator(Operator operator) {
+      this.operator = operator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (this.nextRow == null)
+        this.nextRow = this.operator.next();
+      return this.nextRow != null;
+    }
+
+    @Override
+    public Row next() {
+      if (!this.hasNext())
+        throw new NoSuchElementException();
+      Row row = this.nextRow;
+      this.nextRow = null;
+      return row;
+    }
+  }
+
+  // 一对临时文件中的一个分区，level 为这个分区是第几次分区分出来的
+  private static class Partition {
+    private final SpillFile build;
+    private final SpillFile probe;
+    private final int index;
+    private final int level;
+
+    Partition(SpillFile build, SpillFile probe, int index, int level) {
+      this.build = build;
+      this.probe = probe;
+      this.index = index;
+      this.level = level;
+    }
+  }
+
+  /**
+   * 一侧的所有分区共用的临时文件：每个分区的行先在内存中编码(与 {@link RowFile} 相同)，攒够 BLOCK 字节就作为一块
+   * 追加到文件末尾，finish() 之后按分区逐块读回
+   */
+  private static class SpillFile {
+    private static final int BLOCK = 32 * 1024;
+
+    private final ByteArrayOutputStream[] buffers = new ByteArrayOutputStream[PARTITIONS];
+    private final DataOutputStream[] encoders = new DataOutputStream[PARTITIONS];
+    // 每个分区写到文件中的各块的起点和长度
+    private final List<List<long[]>> blocks = new ArrayList<>();
+    private final int[] rows = new int[PARTITIONS];
+    private File file;
+    private RandomAccessFile output;
+
+    SpillFile() {
+      for (int i = 0; i < PARTITIONS; i++) {
+        this.buffers[i] = new ByteArrayOutputStream();
+        this.encoders[i] = new DataOutputStream(this.buffers[i]);
+        this.blocks.add(new ArrayList<>());
+      }
+    }
+
+    void write(int partition, Row row) {
+      try {
+        DataOutputStream encoder = this.encoders[partition];
+        List<Cell> entries = row.getEntries();
+        encoder.writeInt(entries.size());
+        for (Cell cell : entries)
+          RowFile.writeValue(encoder, cell.value);
+        this.rows[partition]++;
+        if (this.buffers[partition].size() >= BLOCK)
+          this.flush(partition);
+      } catch (IOException e) {
+        throw new FileIOException(this.file == null ? "temporary join partition" : this.file.getPath());
+      }
+    }
+
+    private void flush(int partition) throws IOException {
+      ByteArrayOutputStream buffer = this.buffers[partition];
+      if (buffer.size() == 0)
+        return;
+      if (this.output == null) {
+        this.file = File.createTempFile("thssdb-join-", ".tmp");
+        this.file.deleteOnExit();
+        this.output = new RandomAccessFile(this.file, "rw");
+      }
+      long offset = this.output.length();
+      this.output.seek(offset);
+      this.output.write(buffer.toByteArray());
+      this.blocks.get(partition).add(new long[]{offset, buffer.size()});
+      buffer.reset();
+    }
+
+    // 写完所有行：把各分区剩下的不满一块的行也写到文件中，之后不再需要写缓冲
+    void finish() {
+      try {
+        for (int i = 0; i < PARTITIONS; i++) {
+          this.flush(i);
+          this.buffers[i] = null;
+          this.encoders[i] = null;
+        }
+      } catch (IOException e) {
+        throw new FileIOException(this.file == null ? "temporary join partition" : this.file.getPath());
+      }
+    }
+
+    int size(int partition) {
+      return this.rows[partition];
+    }
+
+    // 逐行读回一个分区，内存中只有当前的一块
+    Iterator<Row> read(int partition) {
+      Iterator<long[]> blocks = this.blocks.get(partition).iterator();
+      return new Iterator<Row>() {
+        private DataInputStream input;
+
+        @Override
+        public boolean hasNext() {
+          try {
+            while ((this.input == null || this.input.available() == 0) && blocks.hasNext())
+              this.input = SpillFile.this.readBlock(blocks.next());
+            return this.input != null && this.input.available() > 0;
+          } catch (IOException e) {
+            throw new FileIOException(SpillFile.this.file.getPath());
+          }
+        }
+
+        @Override
+        public Row next() {
+          if (!this.hasNext())
+            throw new NoSuchElementException();
+          try {
+            Cell[] cells = new Cell[this.input.readInt()];
+            for (int j = 0; j < cells.length; j++)
+              cells[j] = new Cell(RowFile.readValue(this.input));
+            return new Row(cells);
+          } catch (IOException e) {
+            throw new FileIOException(SpillFile.this.file.getPath());
+          }
+        }
+      };
+    }
+
+    private DataInputStream readBlock(long[] block) throws IOException {
+      byte[] bytes = new byte[(int) block[1]];
+      this.output.seek(block[0]);
+      this.output.readFully(bytes);
+      return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    void delete() {
+      try {
+        if (this.output != null)
+          this.output.close();
+      } catch (IOException ignored) {
+      }
+      this.output = null;
+      if (this.file != null && !this.file.delete())
+        this.file.deleteOnExit();
+      this.file = null;
+    }
+  }
+}
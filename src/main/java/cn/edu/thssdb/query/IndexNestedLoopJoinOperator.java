@@ -0,0 +1,74 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 索引嵌套循环连接：对外表的每一行，用它的连接列的值通过内表的索引(如 {@link cn.edu.thssdb.schema.Table#indexLookup})
+ * 取出内表中连接列等于该值的行，输出两行拼接成的行，不扫描内表也不建哈希表
+ * 输出顺序与 {@link NestedLoopJoinOperator} 相同：按外表的顺序，每行之后是它在内表中的匹配
+ */
+public class IndexNestedLoopJoinOperator implements Operator {
+  private final Operator outer;
+  private final int outerKey;
+  private final Function<Cell, List<Row>> lookup;
+  private final List<Column> columns;
+  private Row outerRow;
+  private List<Row> matches = Collections.emptyList();
+  private int matchIndex;
+
+  /**
+   * @param outerKey 外表连接列的下标
+   * @param innerColumns 内表的各列
+   * @param lookup 取出内表中连接列等于给定值的行，值的类型与内表连接列相同；外表的值为 null 时不调用
+   */
+  public IndexNestedLoopJoinOperator(Operator outer, int outerKey, List<Column> innerColumns,
+                                     Function<Cell, List<Row>> lookup) {
+    this.outer = outer;
+    this.outerKey = outerKey;
+    this.lookup = lookup;
+    this.columns = new ArrayList<>(outer.getColumns());
+    this.columns.addAll(innerColumns);
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.outer.open();
+    this.outerRow = null;
+    this.matches = Collections.emptyList();
+    this.matchIndex = 0;
+  }
+
+  @Override
+  public Row next() {
+    while (this.matchIndex >= this.matches.size()) {
+      this.outerRow = this.outer.next();
+      if (this.outerRow == null)
+        return null;
+      Cell key = this.outerRow.getEntries().get(this.outerKey);
+      this.matches = key.value == null ? Collections.emptyList() : this.lookup.apply(key);
+      this.matchIndex = 0;
+    }
+    Row row = new Row(this.outerRow);
+    row.appendEntries(this.matches.get(this.matchIndex++).getEntries());
+    return row;
+  }
+
+  @Override
+  public void close() {
+    this.outerRow = null;
+    this.matches = Collections.emptyList();
+    this.outer.close();
+  }
+}
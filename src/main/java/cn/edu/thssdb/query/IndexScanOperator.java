@@ -0,0 +1,44 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 输出由索引查到的行：主键或二级索引的等值查找、位图索引求出的行、覆盖索引取出的列等
+ * 查找在 open() 时进行，每次 open() 重新查找
+ */
+public class IndexScanOperator implements Operator {
+  private final Supplier<? extends Iterable<Row>> lookup;
+  private final List<Column> columns;
+  private Iterator<Row> iterator;
+
+  public IndexScanOperator(Supplier<? extends Iterable<Row>> lookup, List<Column> columns) {
+    this.lookup = lookup;
+    this.columns = new ArrayList<>(columns);
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.iterator = this.lookup.get().iterator();
+  }
+
+  @Override
+  public Row next() {
+    return this.iterator.hasNext() ? this.iterator.next() : null;
+  }
+
+  @Override
+  public void close() {
+    this.iterator = null;
+  }
+}
@@ -0,0 +1,340 @@
+package cn.edu.thssdb.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 多表连接的代价优化：在左深连接树中选出估计代价({@link CostModel})最小的连接顺序，以及每一步的连接方式
+ * 不超过 limit 张表时用动态规划：对表的每个子集记下连接出它的最便宜的计划，由子集加上一张表递推；
+ * 表更多时按 from 中写的顺序连接，只为每一步选连接方式
+ * 只涉及一张表的条件已经下推到该表的取行方式({@link Relation})，涉及多张表的条件({@link Condition})在它用到的表都连接进来后立刻检查
+ */
+public final class JoinPlanner {
+  // 动态规划为每个子集保存一个计划，表数再多时内存和时间都是指数增长
+  public static final int MAX_REORDERED_TABLES = 16;
+
+  public enum Method {
+    NESTED_LOOP("Nested loop join"), HASH("Hash join"), INDEX("Index nested loop join"), MERGE("Merge join");
+
+    private final String description;
+
+    Method(String description) {
+      this.description = description;
+    }
+
+    @Override
+    public String toString() {
+      return this.description;
+    }
+  }
+
+  /**
+   * 参与连接的一张表，已经按只涉及它的条件选好了取行方式
+   */
+  public static final class Relation {
+    final String name;
+    // 取行方式的说明
+    final String access;
+    // 只涉及该表的条件，没有时为 null；索引嵌套循环连接不经过取行方式，连接后再检查它
+    final String filter;
+    final double tableRows;
+    // 取行方式输出的估计行数和代价
+    final double rows;
+    final double cost;
+    // 取行方式按主键从小到大输出
+    final boolean keyOrdered;
+
+    public Relation(String name, String access, String filter, double tableRows, double rows, double cost,
+                    boolean keyOrdered) {
+      this.name = name;
+      this.access = access;
+      this.filter = filter;
+      this.tableRows = tableRows;
+      this.rows = rows;
+      this.cost = cost;
+      this.keyOrdered = keyOrdered;
+    }
+  }
+
+  /**
+   * 涉及多张表的条件；两表的列相等时可以作为连接键
+   */
+  public static final class Condition {
+    final String description;
+    // 用到的表，第 i 位对应第 i 张表
+    final long tables;
+    final double selectivity;
+    // 两表的列相等时为两侧的表和列，否则 left 为 -1
+    final int left;
+    final int leftColumn;
+    final int right;
+    final int rightColumn;
+    // 该侧的表能按连接列用索引查找，可以作索引嵌套循环连接的内表
+    final boolean leftIndexed;
+    final boolean rightIndexed;
+    // 两侧都是各自表的主键且类型相同，可以归并连接
+    final boolean primaryKeys;
+
+    private Condition(String description, long tables, double selectivity, int left, int leftColumn, int right,
+                      int rightColumn, boolean leftIndexed, boolean rightIndexed, boolean primaryKeys) {
+      this.description = description;
+      this.tables = tables;
+      this.selectivity = selectivity;
+      this.left = left;
+      this.leftColumn = leftColumn;
+      this.right = right;
+      this.rightColumn = rightColumn;
+      this.leftIndexed = leftIndexed;
+      this.rightIndexed = rightIndexed;
+      this.primaryKeys = primaryKeys;
+    }
+
+    // 只能在连接后逐行检查的条件
+    public static Condition filter(String description, long tables, double selectivity) {
+      return new Condition(description, tables, selectivity, -1, -1, -1, -1, false, false, false);
+    }
+
+    // 第 left 张表的 leftColumn 列 = 第 right 张表的 rightColumn 列
+    public static Condition equality(String description, int left, int leftColumn, boolean leftIndexed, int right,
+                                     int rightColumn, boolean rightIndexed, boolean primaryKeys, double selectivity) {
+      return new Condition(description, 1L << left | 1L << right, selectivity, left, leftColumn, right, rightColumn,
+          leftIndexed, rightIndexed, primaryKeys);
+    }
+
+    public boolean isEquality() {
+      return this.left >= 0;
+    }
+
+    public int getLeft() {
+      return this.left;
+    }
+
+    public int getLeftColumn() {
+      return this.leftColumn;
+    }
+
+    public int getRight() {
+      return this.right;
+    }
+
+    public int getRightColumn() {
+      return this.rightColumn;
+    }
+  }
+
+  /**
+   * 连接顺序中的一步：把第 relation 张表连接到之前的结果上，第一步只有这张表
+   */
+  public static final class Step {
+    public final int relation;
+    // 第一步为 null
+    public final Method method;
+    // 用作连接键的条件的下标：哈希连接为所有两表列相等的条件，索引嵌套循环和归并连接为其中一个
+    public final int[] keys;
+    // 哈希连接用左侧(之前的结果)建哈希表
+    public final boolean buildLeft;
+    // 这一步之后检查的条件的下标，包括用作连接键的条件
+    public final int[] conditions;
+    // 这一步之后的估计行数，和到这一步为止的估计代价
+    public final double rows;
+    public final double cost;
+
+    Step(int relation, Method method, int[] keys, boolean buildLeft, int[] conditions, double rows, double cost) {
+      this.relation = relation;
+      this.method = method;
+      this.keys = keys;
+      this.buildLeft = buildLeft;
+      this.conditions = conditions;
+      this.rows = rows;
+      this.cost = cost;
+    }
+  }
+
+  /**
+   * 选出的左深连接计划
+   */
+  public static final class Plan {
+    private final List<Relation> relations;
+    private final List<Condition> conditions;
+    public final List<Step> steps;
+
+    Plan(List<Relation> relations, List<Condition> conditions, List<Step> steps) {
+      this.relations = relations;
+      this.conditions = conditions;
+      this.steps = steps;
+    }
+
+    public double getRows() {
+      return this.steps.get(this.steps.size() - 1).rows;
+    }
+
+    public double getCost() {
+      return this.steps.get(this.steps.size() - 1).cost;
+    }
+
+    // 各张表的连接顺序
+    public int[] order() {
+      return this.steps.stream().mapToInt(step -> step.relation).toArray();
+    }
+
+    /**
+     * 按树的形状逐行说明计划，子结点比父结点多缩进两格，每一步的顶上一行带估计的行数和代价
+     */
+    public List<String> explain() {
+      List<String> lines = new ArrayList<>();
+      this.explain(this.steps.size() - 1, "", lines);
+      return lines;
+    }
+
+    private void explain(int index, String indent, List<String> lines) {
+      Step step = this.steps.get(index);
+      Relation relation = this.relations.get(step.relation);
+      if (index == 0) {
+        lines.add(indent + relation.access + estimate(step.rows, step.cost));
+        return;
+      }
+      List<String> filters = new ArrayList<>();
+      if (step.method == Method.INDEX && relation.filter != null)
+        filters.add(relation.filter);
+      for (int condition : step.conditions)
+        filters.add(this.conditions.get(condition).description);
+      String joinIndent = indent;
+      if (!filters.isEmpty()) {
+        lines.add(indent + "Filter " + String.join(" and ", filters) + estimate(step.rows, step.cost));
+        joinIndent += "  ";
+      }
+      StringBuilder join = new StringBuilder(joinIndent).append(step.method);
+      for (int i = 0; i < step.keys.length; i++)
+        join.append(i == 0 ? " on " : ", ").append(this.conditions.get(step.keys[i]).description);
+      if (step.method == Method.HASH)
+        join.append(", build ").append(step.buildLeft ? "left" : relation.name);
+      if (filters.isEmpty())
+        join.append(estimate(step.rows, step.cost));
+      lines.add(join.toString());
+      this.explain(index - 1, joinIndent + "  ", lines);
+      if (step.method == Method.INDEX)
+        lines.add(joinIndent + "  Index lookup " + relation.name + " for each row");
+      else
+        lines.add(joinIndent + "  " + relation.access + estimate(relation.rows, relation.cost));
+    }
+  }
+
+  public static String estimate(double rows, double cost) {
+    return String.format("  (rows=%.0f, cost=%.0f)", rows, cost);
+  }
+
+  // 动态规划中连接出某个表集合的计划：最后一步和之前的部分
+  private static final class Entry {
+    final Entry previous;
+    final Step step;
+    final long tables;
+
+    Entry(Entry previous, Step step) {
+      this.previous = previous;
+      this.step = step;
+      this.tables = (previous == null ? 0 : previous.tables) | 1L << step.relation;
+    }
+  }
+
+  private JoinPlanner() {
+  }
+
+  /**
+   * 选出连接 relations 中所有表的计划
+   * @param limit 不超过这么多张表时调整连接顺序，否则按 relations 的顺序连接
+   * @param memoryRows 哈希连接在内存中的哈希表最多保存的行数，超过时计入分区写临时文件的代价
+   */
+  public static Plan plan(List<Relation> relations, List<Condition> conditions, int limit, long memoryRows) {
+    int n = relations.size();
+    Entry best;
+    if (n > 1 && n <= Math.min(limit, MAX_REORDERED_TABLES)) {
+      Entry[] plans = new Entry[1 << n];
+      for (int i = 0; i < n; i++)
+        plans[1 << i] = new Entry(null, first(relations, i));
+      // 子集加上一张表后数值更大，按从小到大的顺序处理时每个子集的计划都已经选好
+      for (int tables = 1; tables < plans.length; tables++) {
+        if (plans[tables] == null)
+          continue;
+        for (int i = 0; i < n; i++) {
+          if ((tables & 1 << i) != 0)
+            continue;
+          Step step = cheapest(relations, conditions, plans[tables], i, memoryRows);
+          int joined = tables | 1 << i;
+          if (plans[joined] == null || step.cost < plans[joined].step.cost)
+            plans[joined] = new Entry(plans[tables], step);
+        }
+      }
+      best = plans[plans.length - 1];
+    } else {
+      best = new Entry(null, first(relations, 0));
+      for (int i = 1; i < n; i++)
+        best = new Entry(best, cheapest(relations, conditions, best, i, memoryRows));
+    }
+    List<Step> steps = new ArrayList<>();
+    for (Entry entry = best; entry != null; entry = entry.previous)
+      steps.add(entry.step);
+    Collections.reverse(steps);
+    return new Plan(relations, conditions, steps);
+  }
+
+  private static Step first(List<Relation> relations, int relation) {
+    Relation first = relations.get(relation);
+    return new Step(relation, null, new int[0], false, new int[0], first.rows, first.cost);
+  }
+
+  // 把第 relation 张表连接到 previous 上的各种方式中估计代价最小的
+  private static Step cheapest(List<Relation> relations, List<Condition> conditions, Entry previous, int relation,
+                               long memoryRows) {
+    Relation inner = relations.get(relation);
+    long joined = previous.tables | 1L << relation;
+    List<Integer> applied = new ArrayList<>();
+    List<Integer> equalities = new ArrayList<>();
+    double selectivity = 1;
+    for (int i = 0; i < conditions.size(); i++) {
+      Condition condition = conditions.get(i);
+      if ((condition.tables & joined) != condition.tables || (condition.tables & 1L << relation) == 0)
+        continue;
+      applied.add(i);
+      selectivity *= condition.selectivity;
+      if (condition.isEquality())
+        equalities.add(i);
+    }
+    int[] checked = applied.stream().mapToInt(Integer::intValue).toArray();
+    double left = previous.step.rows;
+    double right = inner.rows;
+    double rows = left * right * selectivity;
+    double base = previous.step.cost + rows * CostModel.OUTPUT_ROW;
+
+    Step best = new Step(relation, Method.NESTED_LOOP, new int[0], false, checked, rows,
+        base + inner.cost + left * right * CostModel.PAIR_ROW);
+    if (equalities.isEmpty())
+      return best;
+    double build = Math.min(left, right);
+    double hash = inner.cost + build * CostModel.HASH_BUILD_ROW + Math.max(left, right) * CostModel.HASH_PROBE_ROW
+        + (build > memoryRows ? (left + right) * CostModel.SPILL_ROW : 0);
+    best = cheaper(best, new Step(relation, Method.HASH, equalities.stream().mapToInt(Integer::intValue).toArray(),
+        left < right, checked, rows, base + hash));
+    for (int key : equalities) {
+      Condition condition = conditions.get(key);
+      if (condition.right == relation ? condition.rightIndexed : condition.leftIndexed) {
+        // 每个外表行按连接列查一次索引，取出的行都要回表，内表自己的条件在连接后检查
+        double fetched = left * inner.tableRows * condition.selectivity;
+        double index = left * CostModel.seekCost(inner.tableRows) + fetched * CostModel.INDEX_ROW
+            + (inner.filter == null ? 0 : fetched * CostModel.FILTER_ROW);
+        best = cheaper(best, new Step(relation, Method.INDEX, new int[]{key}, false, checked, rows, base + index));
+      }
+      // 归并连接的左侧只能是一张表按主键顺序的输出
+      if (condition.primaryKeys && previous.previous == null && relations.get(previous.step.relation).keyOrdered
+          && inner.keyOrdered) {
+        double merge = inner.cost + (left + right) * CostModel.MERGE_ROW;
+        best = cheaper(best, new Step(relation, Method.MERGE, new int[]{key}, false, checked, rows, base + merge));
+      }
+    }
+    return best;
+  }
+
+  private static Step cheaper(Step a, Step b) {
+    return b.cost < a.cost ? b : a;
+  }
+}
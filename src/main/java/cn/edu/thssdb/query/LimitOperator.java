@@ -0,0 +1,46 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.List;
+
+/**
+ * 只输出前 limit 行，之后不再向下层要行，下层的扫描随之提前结束
+ */
+public class LimitOperator implements Operator {
+  private final Operator child;
+  private final long limit;
+  private long returned;
+
+  public LimitOperator(Operator child, long limit) {
+    this.child = child;
+    this.limit = limit;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.child.getColumns();
+  }
+
+  @Override
+  public void open() {
+    this.returned = 0;
+    this.child.open();
+  }
+
+  @Override
+  public Row next() {
+    if (this.returned >= this.limit)
+      return null;
+    Row row = this.child.next();
+    if (row != null)
+      this.returned++;
+    return row;
+  }
+
+  @Override
+  public void close() {
+    this.child.close();
+  }
+}
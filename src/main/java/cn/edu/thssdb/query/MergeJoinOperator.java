@@ -0,0 +1,94 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 归并连接：两侧都已按连接列从小到大排好序(如按主键顺序的全表扫描)，同时向前推进两侧，
+ * 连接列相等的行两两拼接输出，左边在前。右侧连接列相同的一组行先缓存起来，与左侧相同键的每一行连接
+ * 两侧连接列的类型相同且不为 null；只读一遍两侧，不需要索引查找也不建哈希表
+ */
+public class MergeJoinOperator implements Operator {
+  private final Operator left;
+  private final Operator right;
+  private final int leftKey;
+  private final int rightKey;
+  private final List<Column> columns;
+  private Row leftRow;
+  private Row rightRow;
+  // 右侧连接列等于 groupKey 的行
+  private final List<Row> group = new ArrayList<>();
+  private Comparable groupKey;
+  private int groupIndex;
+
+  public MergeJoinOperator(Operator left, Operator right, int leftKey, int rightKey) {
+    this.left = left;
+    this.right = right;
+    this.leftKey = leftKey;
+    this.rightKey = rightKey;
+    this.columns = new ArrayList<>(left.getColumns());
+    this.columns.addAll(right.getColumns());
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.left.open();
+    this.right.open();
+    this.rightRow = this.right.next();
+    this.leftRow = null;
+    this.group.clear();
+    this.groupKey = null;
+    this.groupIndex = 0;
+  }
+
+  private static Comparable key(Row row, int column) {
+    return row.getEntries().get(column).value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Row next() {
+    while (this.leftRow == null || this.groupIndex >= this.group.size()) {
+      this.leftRow = this.left.next();
+      if (this.leftRow == null)
+        return null;
+      this.groupIndex = 0;
+      Comparable key = key(this.leftRow, this.leftKey);
+      if (this.groupKey != null && this.groupKey.compareTo(key) == 0)
+        continue;
+      // 右侧跳过比 key 小的行，再收集等于 key 的一组
+      while (this.rightRow != null && key(this.rightRow, this.rightKey).compareTo(key) < 0)
+        this.rightRow = this.right.next();
+      this.group.clear();
+      this.groupKey = key;
+      while (this.rightRow != null && key(this.rightRow, this.rightKey).compareTo(key) == 0) {
+        this.group.add(this.rightRow);
+        this.rightRow = this.right.next();
+      }
+      // 右侧已读完，左侧之后的行(键不小于 key)都不会再有匹配
+      if (this.rightRow == null && this.group.isEmpty())
+        return null;
+    }
+    Row row = new Row(this.leftRow);
+    row.appendEntries(this.group.get(this.groupIndex++).getEntries());
+    return row;
+  }
+
+  @Override
+  public void close() {
+    this.leftRow = null;
+    this.rightRow = null;
+    this.group.clear();
+    this.groupKey = null;
+    this.left.close();
+    this.right.close();
+  }
+}
@@ -0,0 +1,64 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 嵌套循环连接：对外表的每一行重新打开内表扫描一遍，输出两行拼接成的行(笛卡尔积)
+ * 连接条件由上层的 FilterOperator 检查，不保存中间结果
+ */
+public class NestedLoopJoinOperator implements Operator {
+  private final Operator outer;
+  private final Operator inner;
+  private final List<Column> columns;
+  private Row outerRow;
+
+  public NestedLoopJoinOperator(Operator outer, Operator inner) {
+    this.outer = outer;
+    this.inner = inner;
+    this.columns = new ArrayList<>(outer.getColumns());
+    this.columns.addAll(inner.getColumns());
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.outer.open();
+    this.outerRow = null;
+  }
+
+  @Override
+  public Row next() {
+    while (true) {
+      if (this.outerRow == null) {
+        this.outerRow = this.outer.next();
+        if (this.outerRow == null)
+          return null;
+        this.inner.open();
+      }
+      Row innerRow = this.inner.next();
+      if (innerRow != null) {
+        Row row = new Row(this.outerRow);
+        row.appendEntries(innerRow.getEntries());
+        return row;
+      }
+      this.inner.close();
+      this.outerRow = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (this.outerRow != null)
+      this.inner.close();
+    this.outerRow = null;
+    this.outer.close();
+  }
+}
@@ -0,0 +1,24 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.List;
+
+/**
+ * 查询计划中的算子(Volcano 模型)：上层算子调用 next() 时才向下层要一行，行在算子树中逐个流动
+ * open() 之后可以反复调用 next()，返回 null 表示没有更多的行；close() 释放资源，之后可以再次 open() 从头开始
+ * 算子只在调用线程上执行，查询期间调用者持有所需的数据库锁和表锁
+ */
+public interface Operator extends AutoCloseable {
+
+  // 输出行的各列
+  List<Column> getColumns();
+
+  void open();
+
+  Row next();
+
+  @Override
+  void close();
+}
@@ -0,0 +1,85 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.schema.ZoneMap;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 扫描并过滤全表：open() 时把表按 B+树内部结点的边界切分，在 fork-join 线程池上并行过滤，再逐行输出满足条件的行
+ * 相当于 ScanOperator 加 FilterOperator，但要等整张表过滤完才输出第一行，只在需要所有结果(没有 LIMIT)时使用
+ * 条件由多个工作线程同时调用；条件是 {@link VectorPredicate} 时各工作线程按 {@link RowBatch} 成批求值
+ */
+public class ParallelScanOperator implements Operator {
+  private final Table table;
+  private final List<Column> columns;
+  private final List<ZoneMap.Condition> conditions;
+  private final Predicate<Row> predicate;
+  private final VectorPredicate vectorPredicate;
+  private final Consumer<RowBatch> observer;
+  private Iterator<Row> iterator;
+
+  public ParallelScanOperator(Table table, List<ZoneMap.Condition> conditions, Predicate<Row> predicate) {
+    this.table = table;
+    this.columns = new ArrayList<>(table.columns);
+    this.conditions = conditions;
+    this.predicate = predicate;
+    this.vectorPredicate = null;
+    this.observer = null;
+  }
+
+  /**
+   * 向量化地过滤：每个工作线程把自己的那部分表按批读出，在批上求值条件
+   * @param observer 每读出一批行后调用，由多个工作线程同时调用，可以为 null
+   */
+  public ParallelScanOperator(Table table, List<ZoneMap.Condition> conditions, VectorPredicate predicate,
+                              Consumer<RowBatch> observer) {
+    this.table = table;
+    this.columns = new ArrayList<>(table.columns);
+    this.conditions = conditions;
+    this.predicate = null;
+    this.vectorPredicate = predicate;
+    this.observer = observer;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    Stream<Row> rows = this.table.parallelStream(this.conditions);
+    if (this.vectorPredicate == null) {
+      this.iterator = rows.filter(this.predicate).collect(Collectors.toList()).iterator();
+      return;
+    }
+    this.iterator = StreamSupport.stream(RowBatch.spliterator(rows.spliterator(), this.columns), true)
+            .flatMap(batch -> {
+              if (this.observer != null)
+                this.observer.accept(batch);
+              batch.filter(this.vectorPredicate);
+              return batch.selectedRows().stream();
+            })
+            .collect(Collectors.toList()).iterator();
+  }
+
+  @Override
+  public Row next() {
+    return this.iterator.hasNext() ? this.iterator.next() : null;
+  }
+
+  @Override
+  public void close() {
+    this.iterator = null;
+  }
+}
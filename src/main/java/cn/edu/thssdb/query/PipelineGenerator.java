@@ -0,0 +1,467 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.query.ClassFileWriter.Code;
+import cn.edu.thssdb.query.ClassFileWriter.Label;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static cn.edu.thssdb.query.ClassFileWriter.Code.*;
+
+/**
+ * 在运行时把过滤条件(编译好的 {@link RowCondition})和投影的列下标生成为一个实现 {@link RowPipeline} 的类：
+ * 取行、判断条件、取出投影的列都在同一个方法里，条件的 and、or、not 生成为短路跳转，各个比较按列的类型直接比较基本类型的值
+ * 条件的结构、列的下标和类型、比较符和投影决定流水线的形状，形状相同的流水线共用一个生成的类，
+ * 常量(数值区间的两端、字符串)由构造函数传入，生成的类按形状缓存，各用一个类加载器加载，移出缓存后可以被回收
+ * 生成和加载类的开销比一次短查询还大，一个形状用到第 Global.pipelineGenerateThreshold 次之前只逐结点求值，之后才生成类；
+ * 全局锁只保护形状到 Shape 的缓存，生成类时只锁住这个形状，不挡住其他形状的查询
+ * 条件中有生成不了的结点(两个表达式的比较，可能出错)时返回 null，由调用方逐结点求值
+ */
+public final class PipelineGenerator {
+  private static final int CACHE_SIZE = 256;
+  private static final String PACKAGE = "cn/edu/thssdb/query/generated/";
+  private static final String ROW = "cn/edu/thssdb/schema/Row", CELL = "cn/edu/thssdb/schema/Cell",
+      OPERATOR = "cn/edu/thssdb/query/Operator", PIPELINE = "cn/edu/thssdb/query/RowPipeline",
+      KERNELS = "cn/edu/thssdb/query/VectorKernels", CONDITION_ITEM = "cn/edu/thssdb/parser/item/ConditionItem",
+      LIST = "java/util/ArrayList", STRING = "java/lang/String";
+  // 生成的 next 方法的局部变量：0 为 this，1 为 child
+  private static final int CHILD = 1, ROW_LOCAL = 2, ENTRIES = 3, VALUE = 4, OTHER_VALUE = 5, KEY = 6, OUTPUT = 8,
+      MAX_LOCALS = 9;
+
+  private static final AtomicInteger classCount = new AtomicInteger();
+  private static final Map<String, Shape> cache = new LinkedHashMap<String, Shape>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Shape> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  private PipelineGenerator() {
+  }
+
+  /**
+   * 生成(或从缓存中取出)过滤条件为 condition、输出 columnIndexes 中的列(为 null 时输出整行)的流水线，生成不了时返回 null
+   * 形状用到的次数还没有超过阈值时返回逐结点求值的流水线
+   */
+  public static RowPipeline generate(RowCondition condition, int[] columnIndexes) {
+    StringBuilder shape = new StringBuilder();
+    List<Long> longs = new ArrayList<>();
+    List<String> strings = new ArrayList<>();
+    if (!describe(condition, shape, longs, strings))
+      return null;
+    shape.append(columnIndexes == null ? "*" : Arrays.toString(columnIndexes));
+    Shape entry;
+    synchronized (cache) {
+      entry = cache.computeIfAbsent(shape.toString(), key -> new Shape());
+    }
+    Constructor<?> constructor = entry.constructor;
+    if (constructor == null) {
+      if (entry.uses.incrementAndGet() <= Global.pipelineGenerateThreshold)
+        return new InterpretedPipeline(condition, columnIndexes);
+      constructor = entry.define(condition, columnIndexes);
+    }
+    long[] longArray = new long[longs.size()];
+    for (int i = 0; i < longArray.length; i++)
+      longArray[i] = longs.get(i);
+    try {
+      return (RowPipeline) constructor.newInstance(longArray, strings.toArray(new String[0]));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // 缓存中生成的类的个数
+  static int cachedClasses() {
+    synchronized (cache) {
+      int count = 0;
+      for (Shape entry : cache.values())
+        if (entry.constructor != null)
+          count++;
+      return count;
+    }
+  }
+
+  /**
+   * 一个形状用到的次数和生成的类，类只由第一个超过阈值的线程生成，同一形状的其他线程等它生成完
+   */
+  private static final class Shape {
+    private final AtomicInteger uses = new AtomicInteger();
+    private volatile Constructor<?> constructor;
+
+    synchronized Constructor<?> define(RowCondition condition, int[] columnIndexes) {
+      if (constructor == null)
+        constructor = PipelineGenerator.define(condition, columnIndexes);
+      return constructor;
+    }
+  }
+
+  /**
+   * 还没有生成类的形状：与生成的类做同样的事，条件按 RowCondition 的树逐结点求值
+   */
+  private static final class InterpretedPipeline implements RowPipeline {
+    private final RowCondition condition;
+    private final int[] columnIndexes;
+
+    InterpretedPipeline(RowCondition condition, int[] columnIndexes) {
+      this.condition = condition;
+      this.columnIndexes = columnIndexes;
+    }
+
+    @Override
+    public Row next(Operator child) {
+      Row row;
+      do {
+        row = child.next();
+        if (row == null)
+          return null;
+      } while (!Boolean.TRUE.equals(condition.evaluate(row)));
+      if (columnIndexes == null)
+        return row;
+      ArrayList<Cell> entries = new ArrayList<>(columnIndexes.length);
+      for (int columnIndex : columnIndexes)
+        entries.add(row.getEntries().get(columnIndex));
+      return new Row(entries);
+    }
+  }
+
+  /**
+   * 按先左后右的顺序记下条件的形状和常量，生成字节码时按同样的顺序取常量；有生成不了的结点时返回 false
+   */
+  private static boolean describe(RowCondition condition, StringBuilder shape, List<Long> longs, List<String> strings) {
+    if (condition instanceof RowCondition.And || condition instanceof RowCondition.Or) {
+      boolean and = condition instanceof RowCondition.And;
+      shape.append(and ? "&(" : "|(");
+      boolean generated = describe(and ? ((RowCondition.And) condition).left : ((RowCondition.Or) condition).left, shape, longs, strings);
+      shape.append(',');
+      generated = generated && describe(and ? ((RowCondition.And) condition).right : ((RowCondition.Or) condition).right,
+          shape, longs, strings);
+      shape.append(')');
+      return generated;
+    }
+    if (condition instanceof RowCondition.Not) {
+      shape.append("!(");
+      boolean generated = describe(((RowCondition.Not) condition).child, shape, longs, strings);
+      shape.append(')');
+      return generated;
+    }
+    if (condition instanceof RowCondition.Constant) {
+      Boolean value = ((RowCondition.Constant) condition).value;
+      shape.append(value == null ? "?" : value ? "T" : "F");
+      return value != null;
+    }
+    if (condition instanceof RowCondition.IsNull) {
+      RowCondition.IsNull isNull = (RowCondition.IsNull) condition;
+      shape.append(isNull.isNull ? "N" : "!N").append(isNull.columnIndex);
+      return true;
+    }
+    if (condition instanceof RowCondition.ColumnRange) {
+      RowCondition.ColumnRange range = (RowCondition.ColumnRange) condition;
+      shape.append('R').append(range.type.name()).append(range.columnIndex)
+          .append(range.negate ? "~" : "").append(range.nullMatches ? "?" : "");
+      longs.add(range.low);
+      longs.add(range.high);
+      return true;
+    }
+    if (condition instanceof RowCondition.IntColumns) {
+      RowCondition.IntColumns columns = (RowCondition.IntColumns) condition;
+      shape.append('I').append(columns.leftIndex).append(columns.comparator).append(columns.rightIndex);
+      return true;
+    }
+    if (condition instanceof RowCondition.StringCompare) {
+      RowCondition.StringCompare compare = (RowCondition.StringCompare) condition;
+      shape.append('S').append(compare.columnIndex).append(compare.comparator);
+      strings.add(compare.constant);
+      return true;
+    }
+    if (condition instanceof RowCondition.Like) {
+      shape.append('L').append(((RowCondition.Like) condition).columnIndex);
+      strings.add(((RowCondition.Like) condition).pattern);
+      return true;
+    }
+    return false;
+  }
+
+  private static Constructor<?> define(RowCondition condition, int[] columnIndexes) {
+    String name = PACKAGE + "Pipeline" + classCount.incrementAndGet();
+    ClassFileWriter writer = new ClassFileWriter(name, "java/lang/Object", PIPELINE);
+    writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, "longs", "[J");
+    writer.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, "strings", "[L" + STRING + ";");
+
+    Code init = writer.method(ClassFileWriter.ACC_PUBLIC, "<init>", "([J[L" + STRING + ";)V", 2, 3);
+    init.local(ALOAD, 0);
+    init.invoke(INVOKESPECIAL, "java/lang/Object", "<init>", "()V");
+    init.local(ALOAD, 0);
+    init.local(ALOAD, 1);
+    init.field(PUTFIELD, name, "longs", "[J");
+    init.local(ALOAD, 0);
+    init.local(ALOAD, 2);
+    init.field(PUTFIELD, name, "strings", "[L" + STRING + ";");
+    init.op(RETURN);
+
+    Code next = writer.method(ClassFileWriter.ACC_PUBLIC, "next", "(L" + OPERATOR + ";)L" + ROW + ";", 8, MAX_LOCALS);
+    new Emitter(next, name).rowLoop(condition, columnIndexes);
+
+    byte[] bytes = writer.toByteArray();
+    try {
+      return new PipelineClassLoader().define(name.replace('/', '.'), bytes).getConstructor(long[].class, String[].class);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 生成 next 方法的方法体：
+   * 循环从 child 取行，不满足条件时跳回循环开头，满足时取出投影的列组成新行返回
+   */
+  private static final class Emitter {
+    private final Code code;
+    private final String className;
+    private int longIndex, stringIndex;
+
+    Emitter(Code code, String className) {
+      this.code = code;
+      this.className = className;
+    }
+
+    void rowLoop(RowCondition condition, int[] columnIndexes) {
+      Label loop = new Label(), body = new Label();
+      code.mark(loop);
+      code.local(ALOAD, CHILD);
+      code.invoke(INVOKEINTERFACE, OPERATOR, "next", "()L" + ROW + ";");
+      code.local(ASTORE, ROW_LOCAL);
+      code.local(ALOAD, ROW_LOCAL);
+      code.jump(IFNONNULL, body);
+      code.op(ACONST_NULL);
+      code.op(ARETURN);
+      code.mark(body);
+      code.local(ALOAD, ROW_LOCAL);
+      code.invoke(INVOKEVIRTUAL, ROW, "getEntries", "()L" + LIST + ";");
+      code.local(ASTORE, ENTRIES);
+      jumpIf(condition, false, loop);
+      if (columnIndexes == null) {
+        code.local(ALOAD, ROW_LOCAL);
+        code.op(ARETURN);
+        return;
+      }
+      code.type(NEW, LIST);
+      code.op(DUP);
+      code.push(columnIndexes.length);
+      code.invoke(INVOKESPECIAL, LIST, "<init>", "(I)V");
+      code.local(ASTORE, OUTPUT);
+      for (int columnIndex : columnIndexes) {
+        code.local(ALOAD, OUTPUT);
+        code.local(ALOAD, ENTRIES);
+        code.push(columnIndex);
+        code.invoke(INVOKEVIRTUAL, LIST, "get", "(I)Ljava/lang/Object;");
+        code.invoke(INVOKEVIRTUAL, LIST, "add", "(Ljava/lang/Object;)Z");
+        code.op(POP);
+      }
+      code.type(NEW, ROW);
+      code.op(DUP);
+      code.local(ALOAD, OUTPUT);
+      code.invoke(INVOKESPECIAL, ROW, "<init>", "(L" + LIST + ";)V");
+      code.op(ARETURN);
+    }
+
+    // 条件的值为 when 时跳到 target，否则接着执行下一条指令
+    private void jumpIf(RowCondition condition, boolean when, Label target) {
+      if (condition instanceof RowCondition.And || condition instanceof RowCondition.Or) {
+        boolean and = condition instanceof RowCondition.And;
+        RowCondition left = and ? ((RowCondition.And) condition).left : ((RowCondition.Or) condition).left;
+        RowCondition right = and ? ((RowCondition.And) condition).right : ((RowCondition.Or) condition).right;
+        // and 为 false、or 为 true 时只要有一侧是这个值；否则左侧不是这个值时就不用看右侧
+        if (when != and) {
+          jumpIf(left, when, target);
+          jumpIf(right, when, target);
+        } else {
+          Label skip = new Label();
+          jumpIf(left, !when, skip);
+          jumpIf(right, when, target);
+          code.mark(skip);
+        }
+      } else if (condition instanceof RowCondition.Not) {
+        jumpIf(((RowCondition.Not) condition).child, !when, target);
+      } else if (condition instanceof RowCondition.Constant) {
+        if (((RowCondition.Constant) condition).value == when)
+          code.jump(GOTO, target);
+      } else {
+        test(condition);
+        code.jump(when ? IFNE : IFEQ, target);
+      }
+    }
+
+    // 比较结点：在栈上留下 1(满足)或 0
+    private void test(RowCondition condition) {
+      Label present = new Label(), done = new Label();
+      if (condition instanceof RowCondition.IsNull) {
+        RowCondition.IsNull isNull = (RowCondition.IsNull) condition;
+        loadValue(isNull.columnIndex);
+        code.jump(IFNONNULL, present);
+        code.push(isNull.isNull);
+        code.jump(GOTO, done);
+        code.mark(present);
+        code.push(!isNull.isNull);
+      } else if (condition instanceof RowCondition.ColumnRange) {
+        RowCondition.ColumnRange range = (RowCondition.ColumnRange) condition;
+        Label outside = new Label();
+        nullOr(range.columnIndex, range.nullMatches, present, done);
+        switch (range.type) {
+          case INT:
+            code.type(CHECKCAST, "java/lang/Integer");
+            code.invoke(INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I");
+            code.op(I2L);
+            break;
+          case LONG:
+            code.type(CHECKCAST, "java/lang/Long");
+            code.invoke(INVOKEVIRTUAL, "java/lang/Long", "longValue", "()J");
+            break;
+          case FLOAT:
+            code.type(CHECKCAST, "java/lang/Float");
+            code.invoke(INVOKEVIRTUAL, "java/lang/Float", "floatValue", "()F");
+            code.invoke(INVOKESTATIC, KERNELS, "floatKey", "(F)I");
+            code.op(I2L);
+            break;
+          default:
+            code.type(CHECKCAST, "java/lang/Double");
+            code.invoke(INVOKEVIRTUAL, "java/lang/Double", "doubleValue", "()D");
+            code.invoke(INVOKESTATIC, KERNELS, "doubleKey", "(D)J");
+        }
+        code.local(LSTORE, KEY);
+        boundCheck(longIndex++, IFLT, outside);
+        boundCheck(longIndex++, IFGT, outside);
+        code.push(!range.negate);
+        code.jump(GOTO, done);
+        code.mark(outside);
+        code.push(range.negate);
+      } else if (condition instanceof RowCondition.IntColumns) {
+        RowCondition.IntColumns columns = (RowCondition.IntColumns) condition;
+        Label leftNull = new Label(), oneNull = new Label();
+        loadValue(columns.leftIndex);
+        code.local(ASTORE, VALUE);
+        loadValue(columns.rightIndex);
+        code.local(ASTORE, OTHER_VALUE);
+        code.local(ALOAD, VALUE);
+        code.jump(IFNULL, leftNull);
+        code.local(ALOAD, OTHER_VALUE);
+        code.jump(IFNULL, oneNull);
+        code.local(ALOAD, VALUE);
+        code.type(CHECKCAST, "java/lang/Integer");
+        code.invoke(INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I");
+        code.local(ALOAD, OTHER_VALUE);
+        code.type(CHECKCAST, "java/lang/Integer");
+        code.invoke(INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I");
+        code.invoke(INVOKESTATIC, "java/lang/Integer", "compare", "(II)I");
+        compareResult(columns.comparator, done);
+        // 有一侧为 null：= 在两侧都为 null 时满足，<> 在只有一侧为 null 时满足
+        code.mark(leftNull);
+        code.local(ALOAD, OTHER_VALUE);
+        code.jump(IFNONNULL, oneNull);
+        code.push(columns.comparator.equals("="));
+        code.jump(GOTO, done);
+        code.mark(oneNull);
+        code.push(columns.comparator.equals("<>"));
+      } else if (condition instanceof RowCondition.StringCompare) {
+        RowCondition.StringCompare compare = (RowCondition.StringCompare) condition;
+        nullOr(compare.columnIndex, compare.comparator.equals("<>"), present, done);
+        code.type(CHECKCAST, STRING);
+        loadString();
+        code.invoke(INVOKEVIRTUAL, STRING, "compareTo", "(L" + STRING + ";)I");
+        compareResult(compare.comparator, done);
+      } else {
+        RowCondition.Like like = (RowCondition.Like) condition;
+        nullOr(like.columnIndex, false, present, done);
+        code.type(CHECKCAST, STRING);
+        code.invoke(INVOKESTATIC, CELL, "unquote", "(L" + STRING + ";)L" + STRING + ";");
+        loadString();
+        code.invoke(INVOKESTATIC, CONDITION_ITEM, "like", "(L" + STRING + ";L" + STRING + ";)Z");
+      }
+      code.mark(done);
+    }
+
+    // 栈上放列值(Cell.value)
+    private void loadValue(int columnIndex) {
+      code.local(ALOAD, ENTRIES);
+      code.push(columnIndex);
+      code.invoke(INVOKEVIRTUAL, LIST, "get", "(I)Ljava/lang/Object;");
+      code.type(CHECKCAST, CELL);
+      code.field(GETFIELD, CELL, "value", "Ljava/lang/Comparable;");
+    }
+
+    // 列值为 null 时结果为 nullMatches，否则在 present 处把列值放在栈上
+    private void nullOr(int columnIndex, boolean nullMatches, Label present, Label done) {
+      loadValue(columnIndex);
+      code.local(ASTORE, VALUE);
+      code.local(ALOAD, VALUE);
+      code.jump(IFNONNULL, present);
+      code.push(nullMatches);
+      code.jump(GOTO, done);
+      code.mark(present);
+      code.local(ALOAD, VALUE);
+    }
+
+    // KEY 与 longs[index] 比较，结果满足 opcode 时跳到 target
+    private void boundCheck(int index, int opcode, Label target) {
+      code.local(LLOAD, KEY);
+      code.local(ALOAD, 0);
+      code.field(GETFIELD, className, "longs", "[J");
+      code.push(index);
+      code.op(LALOAD);
+      code.op(LCMP);
+      code.jump(opcode, target);
+    }
+
+    private void loadString() {
+      code.local(ALOAD, 0);
+      code.field(GETFIELD, className, "strings", "[L" + STRING + ";");
+      code.push(stringIndex++);
+      code.op(AALOAD);
+    }
+
+    // 栈上为比较结果(负数、0、正数)，换成比较符是否满足的 1 或 0 后跳到 done
+    private void compareResult(String comparator, Label done) {
+      Label matches = new Label();
+      code.jump(comparisonJump(comparator), matches);
+      code.push(false);
+      code.jump(GOTO, done);
+      code.mark(matches);
+      code.push(true);
+      code.jump(GOTO, done);
+    }
+
+    private static int comparisonJump(String comparator) {
+      switch (comparator) {
+        case "<":
+          return IFLT;
+        case "<=":
+          return IFLE;
+        case ">":
+          return IFGT;
+        case ">=":
+          return IFGE;
+        case "=":
+          return IFEQ;
+        default:
+          return IFNE;
+      }
+    }
+  }
+
+  // 每个生成的类用单独的类加载器，类移出缓存后随类加载器一起被回收
+  private static final class PipelineClassLoader extends ClassLoader {
+    PipelineClassLoader() {
+      super(PipelineGenerator.class.getClassLoader());
+    }
+
+    Class<?> define(String name, byte[] bytes) {
+      return defineClass(name, bytes, 0, bytes.length);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 用 {@link PipelineGenerator} 生成的类过滤并投影 child 的行，相当于 FilterOperator 加上 ProjectOperator
+ * 叠在上面的过滤和投影并进同一条流水线(见 filter、project)，整条流水线只生成一个类
+ */
+public class PipelineOperator implements Operator {
+  private final Operator child;
+  private final RowCondition condition;
+  // 为 null 时输出整行
+  private final int[] columnIndexes;
+  private final RowPipeline pipeline;
+  private final List<Column> columns;
+
+  private PipelineOperator(Operator child, RowCondition condition, int[] columnIndexes, RowPipeline pipeline) {
+    this.child = child;
+    this.condition = condition;
+    this.columnIndexes = columnIndexes;
+    this.pipeline = pipeline;
+    if (columnIndexes == null) {
+      this.columns = child.getColumns();
+    } else {
+      this.columns = new ArrayList<>();
+      for (int columnIndex : columnIndexes)
+        this.columns.add(child.getColumns().get(columnIndex));
+    }
+  }
+
+  /**
+   * 只输出 child 中满足 condition 的行；child 是还没有投影的流水线时与它的条件合成一个 and
+   * 条件生成不了时返回 null
+   */
+  public static PipelineOperator filter(Operator child, RowCondition condition) {
+    if (child instanceof PipelineOperator && ((PipelineOperator) child).columnIndexes == null) {
+      PipelineOperator pipeline = (PipelineOperator) child;
+      PipelineOperator merged = filter(pipeline.child, RowCondition.and(pipeline.condition, condition, false));
+      if (merged != null)
+        return merged;
+    }
+    RowPipeline pipeline = PipelineGenerator.generate(condition, null);
+    return pipeline == null ? null : new PipelineOperator(child, condition, null, pipeline);
+  }
+
+  /**
+   * 在这条流水线上再按下标取出列，返回投影并进流水线后的算子
+   */
+  public Operator project(int[] columnIndexes) {
+    if (this.columnIndexes != null)
+      return new ProjectOperator(this, columnIndexes);
+    RowPipeline pipeline = PipelineGenerator.generate(condition, columnIndexes);
+    return new PipelineOperator(child, condition, columnIndexes, pipeline);
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.child.open();
+  }
+
+  @Override
+  public Row next() {
+    return this.pipeline.next(this.child);
+  }
+
+  @Override
+  public void close() {
+    this.child.close();
+  }
+}
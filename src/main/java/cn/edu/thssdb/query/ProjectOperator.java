@@ -0,0 +1,50 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按下标取出各行中选出的列，列的顺序与下标的顺序相同
+ */
+public class ProjectOperator implements Operator {
+  private final Operator child;
+  private final int[] columnIndexes;
+  private final List<Column> columns = new ArrayList<>();
+
+  public ProjectOperator(Operator child, int[] columnIndexes) {
+    this.child = child;
+    this.columnIndexes = columnIndexes;
+    for (int columnIndex : columnIndexes)
+      this.columns.add(child.getColumns().get(columnIndex));
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.child.open();
+  }
+
+  @Override
+  public Row next() {
+    Row row = this.child.next();
+    if (row == null)
+      return null;
+    ArrayList<Cell> entries = new ArrayList<>(this.columnIndexes.length);
+    for (int columnIndex : this.columnIndexes)
+      entries.add(row.getEntries().get(columnIndex));
+    return new Row(entries);
+  }
+
+  @Override
+  public void close() {
+    this.child.close();
+  }
+}
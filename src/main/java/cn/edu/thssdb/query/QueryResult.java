@@ -30,7 +30,13 @@ public class QueryResult {
   public QueryResult(QueryTable[] queryTables) {
     this.resultType = QueryResultType.SELECT;
     this.errorMessage = null;
-    this.results = queryTables[0].results;
+    // 从算子树逐行取出结果，调用者此时仍持有查询所需的锁
+    this.results = new ArrayList<>();
+    try (QueryTable queryTable = queryTables[0]) {
+      while (queryTable.hasNext()) {
+        this.results.add(queryTable.next());
+      }
+    }
     this.columnNames = new ArrayList<>();
     for (Column column:queryTables[0].columns) {
       columnNames.add(column.getColumnName());
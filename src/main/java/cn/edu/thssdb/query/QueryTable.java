@@ -7,39 +7,62 @@ import cn.edu.thssdb.schema.Table;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Designed for the select query with join/filtering...
  * hasNext() looks up whether the select result contains a next row
  * next() returns a row, plz keep an iterator.
+ * 结果由算子树逐行产生：第一次 hasNext() 时打开根算子，之后每次向它要一行，不保存整张结果表
  */
 
-public class QueryTable implements Iterator<Row> {
-  public List<Row> results;
+public class QueryTable implements Iterator<Row>, AutoCloseable {
   public List<Column> columns;
+  private final Operator operator;
+  private boolean opened;
+  private Row nextRow;
+
+  public QueryTable(Operator operator) {
+    this.operator = operator;
+    this.columns = new ArrayList<>(operator.getColumns());
+  }
   public QueryTable(Table table) {
-    results = new ArrayList<>();
-    columns = new ArrayList<>();
-    columns.addAll(table.columns);
-    for (Row row : table) {
-      results.add(row);
-    }
+    this(new ScanOperator(table));
   }
   public QueryTable(List<Row> rows,List<Column> columns){
-    this.results = new ArrayList<>();
-    this.columns = new ArrayList<>();
-    this.results.addAll(rows);
-    this.columns.addAll(columns);
+    this(new IndexScanOperator(() -> rows, columns));
+  }
+
+  public Operator getOperator() {
+    return operator;
   }
 
   @Override
   public boolean hasNext() {
-    return results.iterator().hasNext();
+    if (!opened) {
+      operator.open();
+      opened = true;
+    }
+    if (nextRow == null)
+      nextRow = operator.next();
+    return nextRow != null;
   }
 
   @Override
   public Row next() {
-    return results.iterator().next();
+    if (!hasNext())
+      throw new NoSuchElementException();
+    Row row = nextRow;
+    nextRow = null;
+    return row;
+  }
+
+  @Override
+  public void close() {
+    if (opened)
+      operator.close();
+    opened = false;
+    nextRow = null;
   }
 
   public int Column2Index(String columnName){
@@ -50,19 +73,6 @@ public class QueryTable implements Iterator<Row> {
     return columnNames.indexOf(columnName);
   }
 
-  public QueryTable combineQueryTable(QueryTable queryTable){
-    List<Row> newRowList = new ArrayList<>();
-    List<Column> newColumnList = new ArrayList<>(this.columns);
-    newColumnList.addAll(queryTable.columns);
-    for (Row row1: this.results) {
-      for(Row row2: queryTable.results){
-        Row newRow = new Row(row1);
-        newRow.appendEntries(row2.getEntries());
-        newRowList.add(newRow);
-      }
-    }
-    return new QueryTable(newRowList,newColumnList);
-  }
   /**
    * 表的笛卡尔积连接操作
    * 由一个 QueryTable 调用，参数为其将要连接的表（不包括自己）
@@ -70,7 +80,6 @@ public class QueryTable implements Iterator<Row> {
    */
   public QueryTable join(Table table) {
     Table newTable = table.getColumnFullNameTable();
-    QueryTable newTargetTable = new QueryTable(newTable);
-    return this.combineQueryTable(newTargetTable);
+    return new QueryTable(new NestedLoopJoinOperator(this.operator, new ScanOperator(newTable)));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.List;
+
+/**
+ * 原样输出 child 的行，只把列换成给定的列(如多表连接时带表名的 tableName_columnName)
+ */
+public class RenameOperator implements Operator {
+  private final Operator child;
+  private final List<Column> columns;
+
+  public RenameOperator(Operator child, List<Column> columns) {
+    this.child = child;
+    this.columns = columns;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.child.open();
+  }
+
+  @Override
+  public Row next() {
+    return this.child.next();
+  }
+
+  @Override
+  public void close() {
+    this.child.close();
+  }
+}
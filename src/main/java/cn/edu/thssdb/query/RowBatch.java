@@ -0,0 +1,125 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 向量化执行中在算子间传递的一批行(至多 SIZE 行)：rows 为表中的行，selection 的前 selected 项为其中
+ * 仍满足已检查的条件的行的位置(递增)
+ * 条件用到某一列时才把这一列从各行中取出放进 {@link ColumnVector}，之后的比较都在基本类型数组上进行
+ */
+public class RowBatch {
+  public static final int SIZE = 1024;
+
+  public final Row[] rows = new Row[SIZE];
+  public int size;
+  public final int[] selection = new int[SIZE];
+  public int selected;
+
+  private final List<Column> columns;
+  private final ColumnVector[] vectors;
+  private final boolean[] decoded;
+
+  public RowBatch(List<Column> columns) {
+    this.columns = columns;
+    this.vectors = new ColumnVector[columns.size()];
+    this.decoded = new boolean[columns.size()];
+  }
+
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  // 清空后从 iterator 读入至多 SIZE 行并全部选中，没有读到行时返回 false
+  public boolean fill(Iterator<Row> iterator) {
+    this.clear();
+    while (this.size < SIZE && iterator.hasNext())
+      this.add(iterator.next());
+    return this.size > 0;
+  }
+
+  // 同 fill(Iterator)，从 spliterator 读入
+  public boolean fill(Spliterator<Row> spliterator) {
+    this.clear();
+    while (this.size < SIZE && spliterator.tryAdvance(this::add)) {
+    }
+    return this.size > 0;
+  }
+
+  private void clear() {
+    this.size = 0;
+    this.selected = 0;
+    for (int i = 0; i < this.decoded.length; i++)
+      this.decoded[i] = false;
+  }
+
+  private void add(Row row) {
+    this.selection[this.size] = this.size;
+    this.rows[this.size++] = row;
+    this.selected = this.size;
+  }
+
+  // 第 columnIndex 列的值，第一次用到时从各行中取出
+  public ColumnVector vector(int columnIndex) {
+    ColumnVector vector = this.vectors[columnIndex];
+    if (vector == null)
+      vector = this.vectors[columnIndex] = new ColumnVector(this.columns.get(columnIndex).getColumnType(), SIZE);
+    if (!this.decoded[columnIndex]) {
+      for (int i = 0; i < this.size; i++)
+        vector.set(i, this.rows[i].getEntries().get(columnIndex).value);
+      this.decoded[columnIndex] = true;
+    }
+    return vector;
+  }
+
+  // 只保留满足条件的行
+  public void filter(VectorPredicate predicate) {
+    this.selected = predicate.select(this, this.selection, this.selected, this.selection);
+  }
+
+  public List<Row> selectedRows() {
+    List<Row> rows = new ArrayList<>(this.selected);
+    for (int i = 0; i < this.selected; i++)
+      rows.add(this.rows[this.selection[i]]);
+    return rows;
+  }
+
+  /**
+   * 把行的 Spliterator 包装成批的 Spliterator，按原来的方式切分，供并行的向量化扫描使用
+   */
+  public static Spliterator<RowBatch> spliterator(Spliterator<Row> rows, List<Column> columns) {
+    return new Spliterator<RowBatch>() {
+      @Override
+      public boolean tryAdvance(Consumer<? super RowBatch> action) {
+        RowBatch batch = new RowBatch(columns);
+        if (!batch.fill(rows))
+          return false;
+        action.accept(batch);
+        return true;
+      }
+
+      @Override
+      public Spliterator<RowBatch> trySplit() {
+        Spliterator<Row> prefix = rows.trySplit();
+        return prefix == null ? null : spliterator(prefix, columns);
+      }
+
+      @Override
+      public long estimateSize() {
+        long size = rows.estimateSize();
+        return size == Long.MAX_VALUE ? size : (size + SIZE - 1) / SIZE;
+      }
+
+      @Override
+      public int characteristics() {
+        return rows.characteristics() & (Spliterator.ORDERED | Spliterator.NONNULL);
+      }
+    };
+  }
+}
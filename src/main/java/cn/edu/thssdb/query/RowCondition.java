@@ -0,0 +1,288 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+
+/**
+ * 逐行求值的 where、on 条件，由 {@link cn.edu.thssdb.parser.item.MultipleConditionItem#compile} 编译得到：
+ * 列的下标、字面量的值和比较方式在编译时确定，按两侧的类型选用专门的比较结点，求值时不再查列名、解析字面量或经过字符串
+ * 结果与 evaluate 相同：满足为 TRUE，不满足为 FALSE，求值出错为 null；不保存状态，可以由多个线程同时使用
+ */
+public interface RowCondition {
+
+  Boolean evaluate(Row row);
+
+  /**
+   * 与 evaluate 一样，一侧为 null(出错)时抛出 NullPointerException
+   * evaluate 总是先求出两侧，右侧可能出错(mayFail)时也先求出右侧，否则左侧为 FALSE 时不再求右侧
+   */
+  static RowCondition and(RowCondition left, RowCondition right, boolean mayFail) {
+    return new And(left, right, mayFail);
+  }
+
+  static RowCondition or(RowCondition left, RowCondition right, boolean mayFail) {
+    return new Or(left, right, mayFail);
+  }
+
+  static RowCondition not(RowCondition child) {
+    return new Not(child);
+  }
+
+  static RowCondition constant(Boolean value) {
+    return new Constant(value);
+  }
+
+  // 列的值为 null(isNull 为 false 时不为 null)
+  static RowCondition isNull(int columnIndex, boolean isNull) {
+    return new IsNull(columnIndex, isNull);
+  }
+
+  /**
+   * 数值列 比较符 常量：与 {@link VectorPredicate#compare(int, ColumnType, String, double)} 一样把常量换算成列值的区间，
+   * 按列的类型取出基本类型的值与区间的两端比较
+   */
+  static RowCondition compare(int columnIndex, ColumnType type, String comparator, double constant) {
+    VectorKernels.Range range;
+    switch (type) {
+      case INT:
+        range = VectorKernels.Range.of(comparator, constant, Integer.MIN_VALUE, Integer.MAX_VALUE, x -> x);
+        break;
+      case LONG:
+        range = VectorKernels.Range.of(comparator, constant, Long.MIN_VALUE, Long.MAX_VALUE, x -> (double) x);
+        break;
+      case FLOAT:
+        range = VectorKernels.Range.of(comparator, constant, VectorKernels.floatKey(Float.NEGATIVE_INFINITY),
+                VectorKernels.floatKey(Float.NaN), x -> VectorKernels.floatToDouble(VectorKernels.keyToFloat((int) x)));
+        break;
+      case DOUBLE:
+        range = VectorKernels.Range.of(comparator, constant, VectorKernels.doubleKey(Double.NEGATIVE_INFINITY),
+                VectorKernels.doubleKey(Double.NaN), VectorKernels::keyToDouble);
+        break;
+      default:
+        throw new IllegalArgumentException(type.name());
+    }
+    return new ColumnRange(columnIndex, type, range.low, range.high, range.negate, comparator.equals("<>"));
+  }
+
+  // 两个 INT 列比较：int 转成 double 没有误差，直接比较 int
+  static RowCondition compareInts(int leftIndex, int rightIndex, String comparator) {
+    return new IntColumns(leftIndex, rightIndex, comparator);
+  }
+
+  /**
+   * 两个数值表达式比较：与 evaluate 一样先求出两侧，有一侧出错时整个条件为 null，再处理 null，最后按 Double.compare 比较
+   */
+  static RowCondition compare(RowExpression left, RowExpression right, String comparator) {
+    int mask = VectorKernels.mask(comparator);
+    boolean equal = comparator.equals("="), notEqual = comparator.equals("<>");
+    return row -> {
+      boolean leftNull = left.isNull(row), rightNull = right.isNull(row);
+      double l = leftNull ? 0.0 : left.value(row), r = rightNull ? 0.0 : right.value(row);
+      if (Double.isNaN(l) || Double.isNaN(r))
+        return null;
+      if (leftNull || rightNull) {
+        boolean bothNull = leftNull && rightNull;
+        return equal ? bothNull : notEqual && !bothNull;
+      }
+      return VectorKernels.matches(mask, Double.compare(l, r));
+    };
+  }
+
+  // STRING 列 比较符 字符串常量(带引号)
+  static RowCondition compare(int columnIndex, String comparator, String constant) {
+    return new StringCompare(columnIndex, comparator, constant);
+  }
+
+  // STRING 列 like 模式(已去掉引号)
+  static RowCondition like(int columnIndex, String pattern) {
+    return new Like(columnIndex, pattern);
+  }
+
+  /*
+   * 以下结点记下了编译时确定的参数，PipelineGenerator 按这些参数把整个条件生成为字节码；
+   * 两个表达式的比较可能出错，只有逐结点求值的实现
+   */
+
+  final class And implements RowCondition {
+    final RowCondition left, right;
+    final boolean mayFail;
+
+    And(RowCondition left, RowCondition right, boolean mayFail) {
+      this.left = left;
+      this.right = right;
+      this.mayFail = mayFail;
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      if (mayFail) {
+        Boolean l = left.evaluate(row);
+        Boolean r = right.evaluate(row);
+        return l && r;
+      }
+      return left.evaluate(row) && right.evaluate(row);
+    }
+  }
+
+  final class Or implements RowCondition {
+    final RowCondition left, right;
+    final boolean mayFail;
+
+    Or(RowCondition left, RowCondition right, boolean mayFail) {
+      this.left = left;
+      this.right = right;
+      this.mayFail = mayFail;
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      if (mayFail) {
+        Boolean l = left.evaluate(row);
+        Boolean r = right.evaluate(row);
+        return l || r;
+      }
+      return left.evaluate(row) || right.evaluate(row);
+    }
+  }
+
+  final class Not implements RowCondition {
+    final RowCondition child;
+
+    Not(RowCondition child) {
+      this.child = child;
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      Boolean value = child.evaluate(row);
+      return value == null ? null : !value;
+    }
+  }
+
+  final class Constant implements RowCondition {
+    final Boolean value;
+
+    Constant(Boolean value) {
+      this.value = value;
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      return value;
+    }
+  }
+
+  final class IsNull implements RowCondition {
+    final int columnIndex;
+    final boolean isNull;
+
+    IsNull(int columnIndex, boolean isNull) {
+      this.columnIndex = columnIndex;
+      this.isNull = isNull;
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      return (row.getEntries().get(columnIndex).value == null) == isNull;
+    }
+  }
+
+  // 列值(FLOAT、DOUBLE 换成保序的整数)落在 [low, high] 内，negate 时落在区间外；列值为 null 时为 nullMatches
+  final class ColumnRange implements RowCondition {
+    final int columnIndex;
+    final ColumnType type;
+    final long low, high;
+    final boolean negate, nullMatches;
+
+    ColumnRange(int columnIndex, ColumnType type, long low, long high, boolean negate, boolean nullMatches) {
+      this.columnIndex = columnIndex;
+      this.type = type;
+      this.low = low;
+      this.high = high;
+      this.negate = negate;
+      this.nullMatches = nullMatches;
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      Object value = row.getEntries().get(columnIndex).value;
+      if (value == null)
+        return nullMatches;
+      long x;
+      switch (type) {
+        case INT:
+          x = (Integer) value;
+          break;
+        case LONG:
+          x = (Long) value;
+          break;
+        case FLOAT:
+          x = VectorKernels.floatKey((Float) value);
+          break;
+        default:
+          x = VectorKernels.doubleKey((Double) value);
+      }
+      return (x >= low && x <= high) != negate;
+    }
+  }
+
+  final class IntColumns implements RowCondition {
+    final int leftIndex, rightIndex;
+    final String comparator;
+    private final int mask;
+
+    IntColumns(int leftIndex, int rightIndex, String comparator) {
+      this.leftIndex = leftIndex;
+      this.rightIndex = rightIndex;
+      this.comparator = comparator;
+      this.mask = VectorKernels.mask(comparator);
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      Object left = row.getEntries().get(leftIndex).value, right = row.getEntries().get(rightIndex).value;
+      if (left == null || right == null) {
+        boolean bothNull = left == null && right == null;
+        return comparator.equals("=") ? bothNull : comparator.equals("<>") && !bothNull;
+      }
+      return VectorKernels.matches(mask, Integer.compare((Integer) left, (Integer) right));
+    }
+  }
+
+  final class StringCompare implements RowCondition {
+    final int columnIndex;
+    final String comparator, constant;
+    private final int mask;
+
+    StringCompare(int columnIndex, String comparator, String constant) {
+      this.columnIndex = columnIndex;
+      this.comparator = comparator;
+      this.constant = constant;
+      this.mask = VectorKernels.mask(comparator);
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      Object value = row.getEntries().get(columnIndex).value;
+      return value == null ? comparator.equals("<>") : VectorKernels.matches(mask, ((String) value).compareTo(constant));
+    }
+  }
+
+  final class Like implements RowCondition {
+    final int columnIndex;
+    final String pattern;
+
+    Like(int columnIndex, String pattern) {
+      this.columnIndex = columnIndex;
+      this.pattern = pattern;
+    }
+
+    @Override
+    public Boolean evaluate(Row row) {
+      Object value = row.getEntries().get(columnIndex).value;
+      return value != null && ConditionItem.like(Cell.unquote((String) value), pattern);
+    }
+  }
+}
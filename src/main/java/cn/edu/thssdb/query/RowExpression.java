@@ -0,0 +1,91 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+
+/**
+ * 逐行求值的数值表达式，由 {@link cn.edu.thssdb.parser.item.ComparerItem#compile} 编译得到，列的下标和字面量的值在编译时确定
+ * 结果与 {@link cn.edu.thssdb.parser.item.ComparerItem#evaluate} 相同：各列的值转成 double 后做四则运算，有一个操作数为 null 时结果为 null
+ */
+public interface RowExpression {
+
+  // 值是否为 null，为 null 时不再调用 value
+  boolean isNull(Row row);
+
+  /**
+   * 不为 null 时的值；作为比较一侧的四则运算求值出错(结果为 Infinity 或 NaN)时为 NaN
+   */
+  double value(Row row);
+
+  // INT、LONG、FLOAT 或 DOUBLE 列，按列的类型取值，不经过字符串
+  static RowExpression column(int columnIndex, ColumnType type) {
+    if (type == ColumnType.FLOAT) {
+      return new RowExpression() {
+        @Override
+        public boolean isNull(Row row) {
+          return row.getEntries().get(columnIndex).value == null;
+        }
+
+        @Override
+        public double value(Row row) {
+          return VectorKernels.floatToDouble((Float) row.getEntries().get(columnIndex).value);
+        }
+      };
+    }
+    return new RowExpression() {
+      @Override
+      public boolean isNull(Row row) {
+        return row.getEntries().get(columnIndex).value == null;
+      }
+
+      @Override
+      public double value(Row row) {
+        return ((Number) row.getEntries().get(columnIndex).value).doubleValue();
+      }
+    };
+  }
+
+  // value 为 null 时表达式的值总是 null
+  static RowExpression constant(Double value) {
+    boolean isNull = value == null;
+    double constant = isNull ? 0.0 : value;
+    return new RowExpression() {
+      @Override
+      public boolean isNull(Row row) {
+        return isNull;
+      }
+
+      @Override
+      public double value(Row row) {
+        return constant;
+      }
+    };
+  }
+
+  /**
+   * 四则运算；top 为 true 时这是比较的一侧，与 ComparerItem 把结果写成字面量再读回一样，-0.0 变成 0.0，
+   * 写不成字面量的 Infinity、NaN 是求值出错，值为 NaN
+   */
+  static RowExpression arithmetic(char operator, RowExpression left, RowExpression right, boolean top) {
+    return new RowExpression() {
+      @Override
+      public boolean isNull(Row row) {
+        return left.isNull(row) || right.isNull(row);
+      }
+
+      @Override
+      public double value(Row row) {
+        double l = left.value(row), r = right.value(row), result;
+        switch (operator) {
+          case '+': result = l + r; break;
+          case '-': result = l - r; break;
+          case '*': result = l * r; break;
+          default: result = l / r;
+        }
+        if (!top)
+          return result;
+        return Double.isInfinite(result) ? Double.NaN : result + 0.0;
+      }
+    };
+  }
+}
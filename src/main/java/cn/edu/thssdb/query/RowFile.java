@@ -0,0 +1,144 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.FileIOException;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 算子内存不够时把行按顺序写到临时文件，写完后再按写入的顺序读回(如聚合溢出的有序段)
+ * 每个值前写一个字节表示类型，比 Java 序列化紧凑，也不用为每行写类的描述
+ */
+class RowFile {
+  private static final byte NULL = 0, INT = 1, LONG = 2, FLOAT = 3, DOUBLE = 4, STRING = 5;
+
+  private final File file;
+  private DataOutputStream output;
+  private DataInputStream input;
+
+  RowFile(String prefix) {
+    try {
+      this.file = File.createTempFile(prefix, ".tmp");
+      this.file.deleteOnExit();
+      this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)));
+    } catch (IOException e) {
+      throw new FileIOException("temporary file " + prefix);
+    }
+  }
+
+  static void writeValue(DataOutputStream output, Comparable value) throws IOException {
+    if (value == null) {
+      output.writeByte(NULL);
+    } else if (value instanceof Integer) {
+      output.writeByte(INT);
+      output.writeInt((Integer) value);
+    } else if (value instanceof Long) {
+      output.writeByte(LONG);
+      output.writeLong((Long) value);
+    } else if (value instanceof Float) {
+      output.writeByte(FLOAT);
+      output.writeFloat((Float) value);
+    } else if (value instanceof Double) {
+      output.writeByte(DOUBLE);
+      output.writeDouble((Double) value);
+    } else {
+      output.writeByte(STRING);
+      output.writeUTF(value.toString());
+    }
+  }
+
+  static Comparable readValue(DataInputStream input) throws IOException {
+    switch (input.readByte()) {
+      case NULL: return null;
+      case INT: return input.readInt();
+      case LONG: return input.readLong();
+      case FLOAT: return input.readFloat();
+      case DOUBLE: return input.readDouble();
+      default: return input.readUTF();
+    }
+  }
+
+  void write(Row row) {
+    try {
+      List<Cell> entries = row.getEntries();
+      this.output.writeInt(entries.size());
+      for (Cell cell : entries)
+        writeValue(this.output, cell.value);
+    } catch (IOException e) {
+      throw new FileIOException(this.file.getPath());
+    }
+  }
+
+  // 写完之后按写入的顺序逐行读回，只能读一遍
+  Iterator<Row> read() {
+    try {
+      this.output.close();
+      this.output = null;
+      this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+    } catch (IOException e) {
+      throw new FileIOException(this.file.getPath());
+    }
+    return new Iterator<Row>() {
+      private Row nextRow;
+
+      @Override
+      public boolean hasNext() {
+        if (this.nextRow == null && RowFile.this.input != null)
+          this.nextRow = RowFile.this.readRow();
+        return this.nextRow != null;
+      }
+
+      @Override
+      public Row next() {
+        if (!this.hasNext())
+          throw new NoSuchElementException();
+        Row row = this.nextRow;
+        this.nextRow = null;
+        return row;
+      }
+    };
+  }
+
+  private Row readRow() {
+    try {
+      int size;
+      try {
+        size = this.input.readInt();
+      } catch (EOFException e) {
+        return null;
+      }
+      Cell[] cells = new Cell[size];
+      for (int i = 0; i < size; i++)
+        cells[i] = new Cell(readValue(this.input));
+      return new Row(cells);
+    } catch (IOException e) {
+      throw new FileIOException(this.file.getPath());
+    }
+  }
+
+  void delete() {
+    try {
+      if (this.output != null)
+        this.output.close();
+      if (this.input != null)
+        this.input.close();
+    } catch (IOException ignored) {
+    }
+    this.output = null;
+    this.input = null;
+    if (!this.file.delete())
+      this.file.deleteOnExit();
+  }
+}
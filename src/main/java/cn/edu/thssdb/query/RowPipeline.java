@@ -0,0 +1,12 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Row;
+
+/**
+ * 由 {@link PipelineGenerator} 在运行时生成的一段过滤、投影流水线：从 child 取行直到有一行满足条件，
+ * 返回它投影后的行，child 取完时返回 null。整个取行循环在生成的方法里，JIT 可以把条件和投影内联到循环中
+ */
+public interface RowPipeline {
+
+  Row next(Operator child);
+}
@@ -0,0 +1,63 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.schema.ZoneMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 按主键顺序扫描全表，由区域映射可知不含满足条件的行的叶子整个跳过
+ * 返回的行仍需由上层的 FilterOperator 用完整的条件过滤
+ */
+public class ScanOperator implements Operator {
+  private final Table table;
+  private final List<Column> columns;
+  private final List<ZoneMap.Condition> conditions;
+  private Iterator<Row> iterator;
+
+  public ScanOperator(Table table) {
+    this(table, table.columns, Collections.emptyList());
+  }
+
+  /**
+   * @param columns 输出的列，多表连接时为 tableName_columnName 形式的列名
+   * @param conditions 用来跳过叶子的条件
+   */
+  public ScanOperator(Table table, List<Column> columns, List<ZoneMap.Condition> conditions) {
+    this.table = table;
+    this.columns = new ArrayList<>(columns);
+    this.conditions = conditions;
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.columns;
+  }
+
+  @Override
+  public void open() {
+    this.iterator = this.table.iterator(this.conditions);
+  }
+
+  @Override
+  public Row next() {
+    return this.iterator.hasNext() ? this.iterator.next() : null;
+  }
+
+  @Override
+  public void close() {
+    // 读快照时提前停下也要释放快照
+    if (this.iterator instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) this.iterator).close();
+      } catch (Exception ignored) {
+      }
+    }
+    this.iterator = null;
+  }
+}
@@ -0,0 +1,74 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 排序：open() 时取出下层的所有行排好序，再逐行输出(阻塞算子)
+ */
+public class SortOperator implements Operator {
+  private final Operator child;
+  private final Comparator<Row> comparator;
+  private Iterator<Row> iterator;
+
+  public SortOperator(Operator child, Comparator<Row> comparator) {
+    this.child = child;
+    this.comparator = comparator;
+  }
+
+  /**
+   * 按若干列排序的比较器，null 排在最前
+   * @param descending 与 columnIndexes 一一对应，该列是否降序
+   */
+  public static Comparator<Row> byColumns(int[] columnIndexes, boolean[] descending) {
+    return (row1, row2) -> {
+      for (int i = 0; i < columnIndexes.length; i++) {
+        int result = compare(row1.getEntries().get(columnIndexes[i]).value, row2.getEntries().get(columnIndexes[i]).value);
+        if (result != 0)
+          return descending[i] ? -result : result;
+      }
+      return 0;
+    };
+  }
+
+  // null 排在最前；同一列的值类型相同
+  @SuppressWarnings("unchecked")
+  private static int compare(Comparable value1, Comparable value2) {
+    return value1 == null ? (value2 == null ? 0 : -1) : value2 == null ? 1 : value1.compareTo(value2);
+  }
+
+  @Override
+  public List<Column> getColumns() {
+    return this.child.getColumns();
+  }
+
+  @Override
+  public void open() {
+    List<Row> rows = new ArrayList<>();
+    this.child.open();
+    try {
+      Row row;
+      while ((row = this.child.next()) != null)
+        rows.add(row);
+    } finally {
+      this.child.close();
+    }
+    rows.sort(this.comparator);
+    this.iterator = rows.iterator();
+  }
+
+  @Override
+  public Row next() {
+    return this.iterator.hasNext() ? this.iterator.next() : null;
+  }
+
+  @Override
+  public void close() {
+    this.iterator = null;
+  }
+}
@@ -0,0 +1,56 @@
+package cn.edu.thssdb.query;
+
+/**
+ * 在一批行上求值的数值表达式，与 {@link cn.edu.thssdb.parser.item.ComparerItem#evaluate} 逐行求值的结果相同：
+ * 各列的值转成 double 后做四则运算，有一个操作数为 null 时结果为 null
+ */
+public interface VectorExpression {
+
+  /**
+   * 在 selection 中的位置上求值，结果按位置写入 values 和 nulls，其他位置不变
+   */
+  void evaluate(RowBatch batch, int[] selection, int count, double[] values, boolean[] nulls);
+
+  // INT、LONG、FLOAT 或 DOUBLE 列
+  static VectorExpression column(int columnIndex) {
+    return (batch, selection, count, values, nulls) -> {
+      ColumnVector vector = batch.vector(columnIndex);
+      switch (vector.type) {
+        case INT: VectorKernels.widen(vector.ints, selection, count, values); break;
+        case LONG: VectorKernels.widen(vector.longs, selection, count, values); break;
+        case FLOAT: VectorKernels.widen(vector.floats, selection, count, values); break;
+        default: VectorKernels.widen(vector.doubles, selection, count, values);
+      }
+      for (int i = 0; i < count; i++)
+        nulls[selection[i]] = vector.nulls[selection[i]];
+    };
+  }
+
+  // value 为 null 时表达式的值总是 null
+  static VectorExpression constant(Double value) {
+    return (batch, selection, count, values, nulls) -> {
+      for (int i = 0; i < count; i++) {
+        int position = selection[i];
+        nulls[position] = value == null;
+        values[position] = value == null ? 0.0 : value;
+      }
+    };
+  }
+
+  /**
+   * 四则运算；top 为 true 时这是比较的一侧，与 ComparerItem 把结果写成字面量再读回一样，-0.0 变成 0.0
+   */
+  static VectorExpression arithmetic(char operator, VectorExpression left, VectorExpression right, boolean top) {
+    return (batch, selection, count, values, nulls) -> {
+      double[] rightValues = new double[RowBatch.SIZE];
+      boolean[] rightNulls = new boolean[RowBatch.SIZE];
+      left.evaluate(batch, selection, count, values, nulls);
+      right.evaluate(batch, selection, count, rightValues, rightNulls);
+      VectorKernels.arithmetic(operator, values, nulls, rightValues, rightNulls, selection, count);
+      if (top) {
+        for (int i = 0; i < count; i++)
+          values[selection[i]] += 0.0;
+      }
+    };
+  }
+}
@@ -0,0 +1,336 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.schema.Cell;
+
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * 向量化执行的基本运算，每个方法是在一批值上对 selection 中的位置做同一种操作的简单循环
+ * 选择类的方法把满足条件的位置按原顺序写入 out 并返回个数，out 可以就是 selection
+ * 比较的结果与 {@link ConditionItem#evaluate} 一致：数值按 double 比较(Double.compare 的顺序)，
+ * 与常量比较时为 null 的值只满足 <>
+ */
+public final class VectorKernels {
+
+  private VectorKernels() {
+  }
+
+  /**
+   * 满足比较符的比较结果：第 0、1、2 位分别对应小于、等于、大于
+   */
+  public static int mask(String comparator) {
+    switch (comparator) {
+      case "<": return 1;
+      case "=": return 2;
+      case ">": return 4;
+      case "<=": return 3;
+      case ">=": return 6;
+      case "<>": return 5;
+      default: throw new IllegalArgumentException(comparator);
+    }
+  }
+
+  // 比较符两侧交换后的比较符，如 5 < a 即 a > 5
+  public static String flip(String comparator) {
+    switch (comparator) {
+      case "<": return ">";
+      case "<=": return ">=";
+      case ">": return "<";
+      case ">=": return "<=";
+      default: return comparator;
+    }
+  }
+
+  static boolean matches(int mask, int compareResult) {
+    return (mask >> (Integer.signum(compareResult) + 1) & 1) != 0;
+  }
+
+  // float、double 的位模式映射成整数，整数的大小顺序与 Float.compare、Double.compare 的顺序相同
+  public static int floatKey(float value) {
+    int bits = Float.floatToIntBits(value);
+    return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+  }
+
+  public static float keyToFloat(int key) {
+    return Float.intBitsToFloat(key ^ ((key >> 31) & Integer.MAX_VALUE));
+  }
+
+  public static long doubleKey(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  public static double keyToDouble(long key) {
+    return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+  }
+
+  // FLOAT 的值在比较和计算时先写成十进制再读成 double，与 ConditionItem、ComparerItem 相同
+  public static double floatToDouble(float value) {
+    return Double.parseDouble(Float.toString(value));
+  }
+
+  /**
+   * 列 比较符 常量 在列值(或其有序编码)上对应的区间：值在 [low, high] 中(negate 时在其外)即满足条件
+   * 列值经 toDouble 转成 double 后与 constant 按 Double.compare 比较，toDouble 在 [min, max] 上单调不减，
+   * 所以满足 >=、> 的值各是一段后缀，用二分查找找出起点
+   */
+  public static final class Range {
+    public final long low;
+    public final long high;
+    public final boolean negate;
+
+    private Range(long low, long high, boolean negate) {
+      this.low = low;
+      this.high = high;
+      this.negate = negate;
+    }
+
+    private static final Range EMPTY = new Range(1, 0, false);
+
+    public static Range of(String comparator, double constant, long min, long max, LongToDoubleFunction toDouble) {
+      Long greaterOrEqual = firstTrue(min, max, x -> Double.compare(toDouble.applyAsDouble(x), constant) >= 0);
+      Long greater = firstTrue(min, max, x -> Double.compare(toDouble.applyAsDouble(x), constant) > 0);
+      switch (comparator) {
+        case ">": return greater == null ? EMPTY : new Range(greater, max, false);
+        case ">=": return greaterOrEqual == null ? EMPTY : new Range(greaterOrEqual, max, false);
+        case "<": return below(greaterOrEqual, min, max);
+        case "<=": return below(greater, min, max);
+        default:
+          Range equal = greaterOrEqual == null || greaterOrEqual.equals(greater) ? EMPTY
+                  : new Range(greaterOrEqual, greater == null ? max : greater - 1, false);
+          return comparator.equals("=") ? equal : new Range(equal.low, equal.high, true);
+      }
+    }
+
+    // 小于 bound 的所有值
+    private static Range below(Long bound, long min, long max) {
+      if (bound == null)
+        return new Range(min, max, false);
+      return bound == min ? EMPTY : new Range(min, bound - 1, false);
+    }
+
+    // 单调(先假后真)的条件在 [min, max] 上第一个为真的值，都为假时返回 null
+    private static Long firstTrue(long min, long max, LongPredicate predicate) {
+      long low = min, high = max;
+      while (low < high) {
+        long middle = (low & high) + ((low ^ high) >> 1);
+        if (predicate.test(middle))
+          high = middle;
+        else
+          low = middle + 1;
+      }
+      return predicate.test(low) ? low : null;
+    }
+  }
+
+  public static int selectRange(int[] values, boolean[] nulls, boolean nullMatches, Range range,
+                                int[] selection, int count, int[] out) {
+    long low = range.low, high = range.high;
+    boolean negate = range.negate;
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      int value = values[position];
+      if (nulls[position] ? nullMatches : (value >= low && value <= high) != negate)
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  public static int selectRange(long[] values, boolean[] nulls, boolean nullMatches, Range range,
+                                int[] selection, int count, int[] out) {
+    long low = range.low, high = range.high;
+    boolean negate = range.negate;
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      long value = values[position];
+      if (nulls[position] ? nullMatches : (value >= low && value <= high) != negate)
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  // 区间是 floatKey 的区间
+  public static int selectRange(float[] values, boolean[] nulls, boolean nullMatches, Range range,
+                                int[] selection, int count, int[] out) {
+    long low = range.low, high = range.high;
+    boolean negate = range.negate;
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      int key = floatKey(values[position]);
+      if (nulls[position] ? nullMatches : (key >= low && key <= high) != negate)
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  // 区间是 doubleKey 的区间
+  public static int selectRange(double[] values, boolean[] nulls, boolean nullMatches, Range range,
+                                int[] selection, int count, int[] out) {
+    long low = range.low, high = range.high;
+    boolean negate = range.negate;
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      long key = doubleKey(values[position]);
+      if (nulls[position] ? nullMatches : (key >= low && key <= high) != negate)
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  /**
+   * 两批数值逐个比较；一侧为 null 时 = 只在两侧都为 null 时成立，<> 在两侧不都为 null 时成立，其他比较不成立
+   */
+  public static int selectCompare(double[] left, boolean[] leftNulls, double[] right, boolean[] rightNulls, String comparator,
+                                  int[] selection, int count, int[] out) {
+    int mask = mask(comparator);
+    boolean equal = comparator.equals("="), notEqual = comparator.equals("<>");
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      boolean match;
+      if (leftNulls[position] || rightNulls[position]) {
+        boolean bothNull = leftNulls[position] && rightNulls[position];
+        match = equal ? bothNull : notEqual && !bothNull;
+      }
+      else
+        match = matches(mask, Double.compare(left[position], right[position]));
+      if (match)
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  public static int selectCompare(String[] values, boolean[] nulls, String constant, String comparator,
+                                  int[] selection, int count, int[] out) {
+    int mask = mask(comparator);
+    boolean nullMatches = comparator.equals("<>");
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      if (nulls[position] ? nullMatches : matches(mask, values[position].compareTo(constant)))
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  // pattern 已去掉引号
+  public static int selectLike(String[] values, boolean[] nulls, String pattern, int[] selection, int count, int[] out) {
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      if (!nulls[position] && ConditionItem.like(Cell.unquote(values[position]), pattern))
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  // 值为 null(isNull 为 false 时不为 null)的位置
+  public static int selectNull(boolean[] nulls, boolean isNull, int[] selection, int count, int[] out) {
+    int selected = 0;
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      if (nulls[position] == isNull)
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  // selection 中不在 subset(selection 的子序列)中的位置
+  public static int difference(int[] selection, int count, int[] subset, int subsetCount, int[] out) {
+    int selected = 0;
+    for (int i = 0, j = 0; i < count; i++) {
+      int position = selection[i];
+      if (j < subsetCount && subset[j] == position)
+        j++;
+      else
+        out[selected++] = position;
+    }
+    return selected;
+  }
+
+  // 两个递增且不相交的位置序列合并成一个
+  public static int union(int[] first, int firstCount, int[] second, int secondCount, int[] out) {
+    int i = 0, j = 0, selected = 0;
+    while (i < firstCount || j < secondCount) {
+      if (j >= secondCount || (i < firstCount && first[i] < second[j]))
+        out[selected++] = first[i++];
+      else
+        out[selected++] = second[j++];
+    }
+    return selected;
+  }
+
+  public static void widen(int[] values, int[] selection, int count, double[] out) {
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      out[position] = values[position];
+    }
+  }
+
+  public static void widen(long[] values, int[] selection, int count, double[] out) {
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      out[position] = values[position];
+    }
+  }
+
+  public static void widen(float[] values, int[] selection, int count, double[] out) {
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      out[position] = floatToDouble(values[position]);
+    }
+  }
+
+  public static void widen(double[] values, int[] selection, int count, double[] out) {
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      out[position] = values[position];
+    }
+  }
+
+  /**
+   * left 与 right 逐个做四则运算，结果写回 left；一侧为 null 时结果为 null
+   */
+  public static void arithmetic(char operator, double[] left, boolean[] leftNulls, double[] right, boolean[] rightNulls,
+                                int[] selection, int count) {
+    switch (operator) {
+      case '+':
+        for (int i = 0; i < count; i++) {
+          int position = selection[i];
+          left[position] += right[position];
+        }
+        break;
+      case '-':
+        for (int i = 0; i < count; i++) {
+          int position = selection[i];
+          left[position] -= right[position];
+        }
+        break;
+      case '*':
+        for (int i = 0; i < count; i++) {
+          int position = selection[i];
+          left[position] *= right[position];
+        }
+        break;
+      case '/':
+        for (int i = 0; i < count; i++) {
+          int position = selection[i];
+          left[position] /= right[position];
+        }
+        break;
+      default:
+        for (int i = 0; i < count; i++)
+          left[selection[i]] = 0.0;
+    }
+    for (int i = 0; i < count; i++) {
+      int position = selection[i];
+      leftNulls[position] |= rightNulls[position];
+    }
+  }
+}
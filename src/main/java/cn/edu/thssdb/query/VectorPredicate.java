@@ -0,0 +1,125 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.type.ColumnType;
+
+/**
+ * 在一批行上求值的 where 条件，由 {@link cn.edu.thssdb.parser.item.MultipleConditionItem#vectorize} 编译得到，
+ * 结果与逐行调用 evaluate 相同。不保存状态，可以由多个线程在不同的批上同时使用
+ */
+public interface VectorPredicate {
+
+  /**
+   * 检查 selection 的前 count 个位置(递增)，把满足条件的位置按原顺序写入 out(可以就是 selection)，返回个数
+   */
+  int select(RowBatch batch, int[] selection, int count, int[] out);
+
+  static VectorPredicate and(VectorPredicate left, VectorPredicate right) {
+    return (batch, selection, count, out) -> right.select(batch, out, left.select(batch, selection, count, out), out);
+  }
+
+  static VectorPredicate or(VectorPredicate left, VectorPredicate right) {
+    return (batch, selection, count, out) -> {
+      int[] first = new int[count];
+      int firstCount = left.select(batch, selection, count, first);
+      int[] rest = new int[count - firstCount];
+      int restCount = VectorKernels.difference(selection, count, first, firstCount, rest);
+      int secondCount = right.select(batch, rest, restCount, rest);
+      return VectorKernels.union(first, firstCount, rest, secondCount, out);
+    };
+  }
+
+  static VectorPredicate not(VectorPredicate child) {
+    return (batch, selection, count, out) -> {
+      int[] matched = new int[count];
+      int matchedCount = child.select(batch, selection, count, matched);
+      return VectorKernels.difference(selection, count, matched, matchedCount, out);
+    };
+  }
+
+  static VectorPredicate constant(boolean value) {
+    return (batch, selection, count, out) -> {
+      if (!value)
+        return 0;
+      System.arraycopy(selection, 0, out, 0, count);
+      return count;
+    };
+  }
+
+  /**
+   * 数值列 比较符 常量：常量换算成列值的区间，在列的基本类型数组上直接比较
+   */
+  static VectorPredicate compare(int columnIndex, ColumnType type, String comparator, double constant) {
+    VectorKernels.Range range;
+    switch (type) {
+      case INT:
+        range = VectorKernels.Range.of(comparator, constant, Integer.MIN_VALUE, Integer.MAX_VALUE, x -> x);
+        break;
+      case LONG:
+        range = VectorKernels.Range.of(comparator, constant, Long.MIN_VALUE, Long.MAX_VALUE, x -> (double) x);
+        break;
+      case FLOAT:
+        range = VectorKernels.Range.of(comparator, constant, VectorKernels.floatKey(Float.NEGATIVE_INFINITY),
+                VectorKernels.floatKey(Float.NaN), x -> VectorKernels.floatToDouble(VectorKernels.keyToFloat((int) x)));
+        break;
+      case DOUBLE:
+        range = VectorKernels.Range.of(comparator, constant, VectorKernels.doubleKey(Double.NEGATIVE_INFINITY),
+                VectorKernels.doubleKey(Double.NaN), VectorKernels::keyToDouble);
+        break;
+      default:
+        throw new IllegalArgumentException(type.name());
+    }
+    boolean nullMatches = comparator.equals("<>");
+    return (batch, selection, count, out) -> {
+      ColumnVector vector = batch.vector(columnIndex);
+      switch (type) {
+        case INT: return VectorKernels.selectRange(vector.ints, vector.nulls, nullMatches, range, selection, count, out);
+        case LONG: return VectorKernels.selectRange(vector.longs, vector.nulls, nullMatches, range, selection, count, out);
+        case FLOAT: return VectorKernels.selectRange(vector.floats, vector.nulls, nullMatches, range, selection, count, out);
+        default: return VectorKernels.selectRange(vector.doubles, vector.nulls, nullMatches, range, selection, count, out);
+      }
+    };
+  }
+
+  // 两个数值表达式比较
+  static VectorPredicate compare(VectorExpression left, VectorExpression right, String comparator) {
+    return (batch, selection, count, out) -> {
+      double[] leftValues = new double[RowBatch.SIZE], rightValues = new double[RowBatch.SIZE];
+      boolean[] leftNulls = new boolean[RowBatch.SIZE], rightNulls = new boolean[RowBatch.SIZE];
+      left.evaluate(batch, selection, count, leftValues, leftNulls);
+      right.evaluate(batch, selection, count, rightValues, rightNulls);
+      return VectorKernels.selectCompare(leftValues, leftNulls, rightValues, rightNulls, comparator, selection, count, out);
+    };
+  }
+
+  // STRING 列 比较符 字符串常量(带引号)
+  static VectorPredicate compare(int columnIndex, String comparator, String constant) {
+    return (batch, selection, count, out) -> {
+      ColumnVector vector = batch.vector(columnIndex);
+      return VectorKernels.selectCompare(vector.strings, vector.nulls, constant, comparator, selection, count, out);
+    };
+  }
+
+  // STRING 列 like 模式(已去掉引号)
+  static VectorPredicate like(int columnIndex, String pattern) {
+    return (batch, selection, count, out) -> {
+      ColumnVector vector = batch.vector(columnIndex);
+      return VectorKernels.selectLike(vector.strings, vector.nulls, pattern, selection, count, out);
+    };
+  }
+
+  // 列的值为 null(isNull 为 false 时不为 null)
+  static VectorPredicate isNull(int columnIndex, boolean isNull) {
+    return (batch, selection, count, out) ->
+            VectorKernels.selectNull(batch.vector(columnIndex).nulls, isNull, selection, count, out);
+  }
+
+  // 数值表达式的值为 null(isNull 为 false 时不为 null)
+  static VectorPredicate isNull(VectorExpression expression, boolean isNull) {
+    return (batch, selection, count, out) -> {
+      double[] values = new double[RowBatch.SIZE];
+      boolean[] nulls = new boolean[RowBatch.SIZE];
+      expression.evaluate(batch, selection, count, values, nulls);
+      return VectorKernels.selectNull(nulls, isNull, selection, count, out);
+    };
+  }
+}
@@ -0,0 +1,101 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.index.HashIndex;
+import cn.edu.thssdb.index.IndexFootprint;
+import cn.edu.thssdb.index.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 位图索引：给某一列的每个不同的值保存一个位图，位图中的位是含有该值的行的序号
+ * 适合状态、类型这类只有少数几个不同值的列，where 中的 and、or、not 可以先用位图运算求出行的序号再取行
+ * 值到位图的字典是哈希表；行序号由表中所有位图索引共用的 {@link RowOrdinals} 分配
+ */
+public class BitmapIndex extends SecondaryIndex {
+  private final RowOrdinals ordinals;
+  private final HashIndex<Cell, RoaringBitmap> bitmaps = new HashIndex<>();
+  // 该列不为 null 的行数
+  private int indexedRows;
+
+  public BitmapIndex(IndexMeta meta, int columnIndex, RowOrdinals ordinals) {
+    super(meta, columnIndex);
+    this.ordinals = ordinals;
+  }
+
+  @Override
+  public void add(Row row, int primaryIndex) {
+    Cell value = row.getEntries().get(this.getColumnIndex());
+    if (value.value == null)
+      return;
+    int ordinal = this.ordinals.ordinal(row.getEntries().get(primaryIndex));
+    if (!this.bitmaps.contains(value))
+      this.bitmaps.put(value, new RoaringBitmap());
+    this.bitmaps.get(value).add(ordinal);
+    this.indexedRows++;
+  }
+
+  @Override
+  public void remove(Row row, int primaryIndex) {
+    Cell value = row.getEntries().get(this.getColumnIndex());
+    if (value.value == null || !this.bitmaps.contains(value))
+      return;
+    int ordinal = this.ordinals.ordinal(row.getEntries().get(primaryIndex));
+    RoaringBitmap bitmap = this.bitmaps.get(value);
+    bitmap.remove(ordinal);
+    if (bitmap.isEmpty())
+      this.bitmaps.remove(value);
+    this.indexedRows--;
+  }
+
+  // 该列等于 value 的行的序号，没有这样的行时为空位图；返回的位图不能修改
+  public RoaringBitmap bitmap(Cell value) {
+    if (value.value == null || !this.bitmaps.contains(value))
+      return new RoaringBitmap();
+    return this.bitmaps.get(value);
+  }
+
+  // 该列等于 value 的行数，不复制位图；查询计划用它估计位图运算的结果
+  public int count(Cell value) {
+    if (value.value == null || !this.bitmaps.contains(value))
+      return 0;
+    return this.bitmaps.get(value).cardinality();
+  }
+
+  @Override
+  public List<Cell> lookup(Cell value) {
+    List<Cell> primaryCells = new ArrayList<>();
+    bitmap(value).forEach(ordinal -> primaryCells.add(this.ordinals.primaryCell(ordinal)));
+    return primaryCells;
+  }
+
+  // 值字典(哈希表)的占用
+  @Override
+  public IndexFootprint footprint() {
+    return this.bitmaps.footprint();
+  }
+
+  public int getDistinctValues() {
+    return this.bitmaps.size();
+  }
+
+  @Override
+  public int distinctValues() {
+    return this.getDistinctValues();
+  }
+
+  public long getBitmapBytes() {
+    long bytes = 0;
+    for (Pair<Cell, RoaringBitmap> pair : this.bitmaps)
+      bytes += pair.right.sizeInBytes();
+    return bytes;
+  }
+
+  @Override
+  public String toString() {
+    return this.getMeta().getIndexName() + " on " + this.getMeta().getColumnName() + " (" + this.getMeta().getType() + "): "
+            + getDistinctValues() + " distinct values over " + this.indexedRows + " rows, bitmaps ~"
+            + getBitmapBytes() + " bytes";
+  }
+}
@@ -1,6 +1,8 @@
 package cn.edu.thssdb.schema;
 
 import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.index.BinaryKeyEncoder;
+import cn.edu.thssdb.index.KeyCodec;
 
 import java.io.Serializable;
 
@@ -8,10 +10,39 @@ public class Cell implements Comparable<Cell>, Serializable {
   private static final long serialVersionUID = -5809782578272943999L;
   public Comparable value;
 
+  // 按值的类型编码成保持顺序的字节串，供自适应基数树使用；同一列的 Cell 类型相同
+  public static final BinaryKeyEncoder<Cell> BINARY_KEYS = key -> {
+    if (key.value instanceof Integer) return BinaryKeyEncoder.encodeInt((Integer) key.value);
+    if (key.value instanceof Long) return BinaryKeyEncoder.encodeLong((Long) key.value);
+    if (key.value instanceof Float) return BinaryKeyEncoder.encodeFloat((Float) key.value);
+    if (key.value instanceof Double) return BinaryKeyEncoder.encodeDouble((Double) key.value);
+    return BinaryKeyEncoder.encodeString(key.value.toString());
+  };
+
+  // STRING 列的 Cell 与其带引号的字符串一一对应且保持顺序，供键前缀压缩的 B+ 树使用
+  public static final KeyCodec<Cell> STRING_KEYS = new KeyCodec<Cell>() {
+    @Override
+    public String encode(Cell key) {
+      return (String) key.value;
+    }
+
+    @Override
+    public Cell decode(String encoded) {
+      return new Cell(encoded);
+    }
+  };
+
   public Cell(Comparable value) {
     this.value = value;
   }
   public Cell(){this.value=null;}
+
+  // 字符串按 'abc' 的形式(带单引号)保存和比较，取出其中的内容
+  public static String unquote(String s) {
+    if (s.length() >= 2 && s.charAt(0) == '\'' && s.charAt(s.length() - 1) == '\'')
+      return s.substring(1, s.length() - 1);
+    return s;
+  }
   @Override
   public int compareTo(Cell e) {
     return value.compareTo(e.value);
@@ -2,24 +2,26 @@ package cn.edu.thssdb.schema;
 
 import cn.edu.thssdb.exception.DuplicateTableException;
 import cn.edu.thssdb.exception.FileIOException;
+import cn.edu.thssdb.exception.LockUpgradeException;
 import cn.edu.thssdb.exception.TableNotExistException;
 import cn.edu.thssdb.common.Global;
 
 import javax.xml.crypto.Data;
 import java.io.*;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 
 public class Database {
 
   private String databaseName; // 数据库名称
-  private HashMap<String, Table> tableMap;
+  private ConcurrentHashMap<String, Table> tableMap;
   private LockManager tableLockManager;
   public Logger databaseLogger;
   private ReentrantReadWriteLock lock;
+  private final String dbmsDir;
 
   public class DatabaseHandler implements AutoCloseable{
     private Database database;
@@ -62,8 +64,14 @@ public class Database {
   }
 
   public Database(String databaseName) {
+    this(Global.DBMS_DIR, databaseName);
+  }
+
+  // 数据库的文件放在数据目录 dbmsDir 下
+  public Database(String dbmsDir, String databaseName) {
+    this.dbmsDir = dbmsDir;
     this.databaseName = databaseName;
-    this.tableMap = new HashMap<>();
+    this.tableMap = new ConcurrentHashMap<>();
     this.lock = new ReentrantReadWriteLock();
     this.tableLockManager = new LockManager(this);
     File tableFolder = new File(this.getDatabaseTableFolderPath());
@@ -76,6 +84,12 @@ public class Database {
 
   // Operations: (basic) persist, create tables
   private void persist() {
+    this.persistMeta();
+    // 清除日志
+    databaseLogger.clearLog();
+  }
+
+  private void persistMeta() {
     // 把各表的元数据写到磁盘上
     for (Table table : this.tableMap.values()) {
       String filename = table.getTableMetaPath();
@@ -90,9 +104,22 @@ public class Database {
       } catch (Exception e) {
         throw new FileIOException(filename);
       }
+      // 索引的元数据写到 _index 文件
+      String indexFilename = table.getTableIndexMetaPath();
+      try {
+        FileOutputStream fileOutputStream = new FileOutputStream(indexFilename);
+        OutputStreamWriter outputStreamWriter = new OutputStreamWriter(fileOutputStream);
+        outputStreamWriter.write(table.getPrimaryIndexMeta().toString() + "\n");
+        for (SecondaryIndex secondaryIndex : table.getSecondaryIndexes())
+          outputStreamWriter.write(secondaryIndex.getMeta().toString() + "\n");
+        outputStreamWriter.close();
+        fileOutputStream.close();
+      } catch (Exception e) {
+        throw new FileIOException(indexFilename);
+      }
+      // 统计信息写到 _stats 文件，保存收集之后改动的行数
+      table.persistStatistics();
     }
-    // 清除日志
-    databaseLogger.clearLog();
   }
 
   public String getName() {
@@ -102,13 +129,35 @@ public class Database {
   // 创建表。
   // 需要拥有 Database 写的权限
   public void create(String tableName, Column[] columns) {
+    create(tableName, columns, null);
+  }
+
+  // 创建表，并指定主键索引的参数(fanout、填充因子)
+  public void create(String tableName, Column[] columns, IndexMeta primaryIndexMeta) {
     if (this.tableMap.containsKey(tableName))
       throw new DuplicateTableException(tableName);
-    Table table = new Table(this.databaseName, tableName, columns);
+    Table table = new Table(this.dbmsDir, this.databaseName, tableName, columns, primaryIndexMeta);
     this.tableMap.put(tableName, table);
     this.persist();
   }
 
+  // 在表的某一列上创建二级索引
+  // 需要拥有 Database 写的权限
+  public void createIndex(String tableName, IndexMeta indexMeta) {
+    if (!this.tableMap.containsKey(tableName))
+      throw new TableNotExistException(tableName);
+    this.tableMap.get(tableName).createIndex(indexMeta);
+    // 表中的数据还没有写盘，日志要保留到下次持久化；恢复时先建索引再重放日志
+    this.persistMeta();
+  }
+
+  public void dropIndex(String tableName, String indexName) {
+    if (!this.tableMap.containsKey(tableName))
+      throw new TableNotExistException(tableName);
+    this.tableMap.get(tableName).dropIndex(indexName);
+    this.persistMeta();
+  }
+
   // 根据 Table 的名称获取 Table 变量
   // 需要拥有读的锁。
   public Table.TableHandler get(String tableName) {
@@ -117,33 +166,65 @@ public class Database {
     return this.tableMap.get(tableName).getTableHandler();
   }
 
+  public ArrayList<String> getTableNames() {
+    return new ArrayList<>(this.tableMap.keySet());
+  }
+
+  // 不加锁地取表，没有时返回 null；只用于主键点查的无锁路径，由表自己的 seqlock 保证读到完整的行
+  public Table peek(String tableName) {
+    Map<String, Table> tables = this.tableMap;
+    return tables == null ? null : tables.get(tableName);
+  }
+
   // 根据 TableName 丢弃一张表
   public void drop(Long session, String tableName) {
     if (!this.tableMap.containsKey(tableName))
       throw new TableNotExistException(tableName);
     try(Table.TableHandler tb = this.get(tableName)) {
       Table table = tb.getTable();
+      if (tableLockManager.holdsSharedWriteLock(session, table))
+        throw new LockUpgradeException(tableName);
       String filename = table.getTableMetaPath();
       File file = new File(filename);
       if (file.isFile() && !file.delete())
         throw new FileIOException(tableName + " _meta  when drop a table in database");
+      File indexFile = new File(table.getTableIndexMetaPath());
+      if (indexFile.isFile() && !indexFile.delete())
+        throw new FileIOException(tableName + " _index when drop a table in database");
+      File statisticsFile = new File(table.getTableStatisticsPath());
+      if (statisticsFile.isFile() && !statisticsFile.delete())
+        throw new FileIOException(tableName + " _stats when drop a table in database");
       tableLockManager.getWriteLock(session, tb);
       table.dropTable();
     }
     this.tableMap.remove(tableName);
   }
 
+  // UPDATE、DELETE 在选出要修改的行之前先取得写锁，写时复制表上才会从写者的版本而不是已提交的快照中选行
+  // 并发表的写者之间不互斥，只持有表的读锁到提交
+  public void tableWriteLock(Long session, Table.TableHandler tb) {
+    if (tb.getTable().isConcurrent())
+      tableLockManager.getSharedWriteLock(session, tb);
+    else
+      tableLockManager.getWriteLock(session, tb);
+  }
+
   public void tableInsert(Long session, Table.TableHandler tb, Row row){
-    tableLockManager.getWriteLock(session, tb);
+    tableWriteLock(session, tb);
     tb.getTable().insert(row);
   }
+  // 主键不存在时插入，否则返回已有的行(INSERT ... ON DUPLICATE KEY UPDATE)
+  public Row tablePutIfAbsent(Long session, Table.TableHandler tb, Row row){
+    tableWriteLock(session, tb);
+    return tb.getTable().putIfAbsent(row);
+  }
   public void tableDelete(Long session, Table.TableHandler tb, Row row) {
-    tableLockManager.getWriteLock(session, tb);
+    tableWriteLock(session, tb);
     tb.getTable().delete(row);
   }
 
   public void tableUpdate(Long session, Table.TableHandler tb, Cell primaryCell, Row row) {
-    tableLockManager.getWriteLock(session, tb);
+    tableWriteLock(session, tb);
     tb.getTable().update(primaryCell, row);
   }
 
@@ -154,6 +235,12 @@ public class Database {
       File file = new File(table.getTableMetaPath());
       if (file.isFile()&&!file.delete())
         throw new FileIOException(this.databaseName + " _meta when drop the database");
+      File indexFile = new File(table.getTableIndexMetaPath());
+      if (indexFile.isFile()&&!indexFile.delete())
+        throw new FileIOException(this.databaseName + " _index when drop the database");
+      File statisticsFile = new File(table.getTableStatisticsPath());
+      if (statisticsFile.isFile()&&!statisticsFile.delete())
+        throw new FileIOException(this.databaseName + " _stats when drop the database");
       table.dropTable();
       }
     this.tableMap.clear();
@@ -184,7 +271,25 @@ public class Database {
           columnList.add(Column.parseColumn(readLine));
         bufferedReader.close();
         reader.close();
-        Table table = new Table(this.databaseName, tableName, columnList.toArray(new Column[0]));
+        // 旧版本的表没有 _index 文件，使用默认的主键索引参数
+        IndexMeta primaryIndexMeta = null;
+        ArrayList<IndexMeta> secondaryIndexMetas = new ArrayList<>();
+        File indexFile = new File(this.getDatabaseTableFolderPath() + File.separator + tableName + Global.INDEX_SUFFIX);
+        if (indexFile.isFile()) {
+          bufferedReader = new BufferedReader(new InputStreamReader(new FileInputStream(indexFile)));
+          while ((readLine = bufferedReader.readLine()) != null) {
+            IndexMeta indexMeta = IndexMeta.parseIndexMeta(readLine);
+            if (indexMeta.isPrimary())
+              primaryIndexMeta = indexMeta;
+            else
+              secondaryIndexMetas.add(indexMeta);
+          }
+          bufferedReader.close();
+        }
+        Table table = new Table(this.dbmsDir, this.databaseName, tableName, columnList.toArray(new Column[0]), primaryIndexMeta);
+        for (IndexMeta indexMeta : secondaryIndexMetas)
+          table.createIndex(indexMeta);
+        table.recoverStatistics();
         System.out.println(table.toString());
         for(Row row: table)
           System.out.println(row.toString());
@@ -215,17 +320,14 @@ public class Database {
 
   // Find position
   public String getDatabaseDirPath(){
-    return Global.DBMS_DIR + File.separator + "data" + File.separator + this.databaseName;
+    return this.dbmsDir + File.separator + "data" + File.separator + this.databaseName;
   }
   public String getDatabaseTableFolderPath(){
     return this.getDatabaseDirPath() + File.separator + "tables";
   }
-  private String getDatabaseLogFilePath(){
+  public String getDatabaseLogFilePath(){
     return this.getDatabaseDirPath() + File.separator + "log";
   }
-  public static String getDatabaseLogFilePath(String databaseName){
-    return Global.DBMS_DIR + File.separator + "data" + File.separator + databaseName + File.separator + "log";
-  }
 
   // Other utils.
   public String getDatabaseName() { return this.databaseName; }
@@ -245,4 +347,28 @@ public class Database {
   public String getTableInfo() {
     return this.toString();
   }
+
+  /**
+   * 各表按观察到的 where 条件给出的建索引建议，按估计少读的行数从多到少排列，并列出各表记录到的条件
+   */
+  public String getIndexAdvice() {
+    ArrayList<IndexAdvice> advice = new ArrayList<>();
+    StringBuilder predicates = new StringBuilder();
+    for (String tableName : this.tableMap.keySet())
+      try(Table.TableHandler tb = get(tableName)) {
+        Table table = tb.getTable();
+        advice.addAll(table.getIndexAdvice());
+        for (PredicateStatistics.Usage usage : table.getPredicateStatistics().getUsages())
+          predicates.append("  ").append(tableName).append(".").append(usage.toString()).append("\n");
+      }
+    advice.sort((a, b) -> Double.compare(b.getSavedRows(), a.getSavedRows()));
+    StringBuilder result = new StringBuilder("Index advice for " + this.databaseName + ":\n");
+    if (advice.isEmpty())
+      result.append("  none\n");
+    for (int i = 0; i < advice.size(); i++)
+      result.append("  ").append(i + 1).append(". ").append(advice.get(i).toString()).append("\n");
+    result.append("Predicates seen:\n");
+    result.append(predicates.length() == 0 ? "  none\n" : predicates.toString());
+    return result.toString();
+  }
 }
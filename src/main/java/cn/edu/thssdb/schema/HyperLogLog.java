@@ -0,0 +1,59 @@
+package cn.edu.thssdb.schema;
+
+import java.io.Serializable;
+
+/**
+ * 估计不同值个数的 HyperLogLog 草图：值的 64 位哈希的前 PRECISION 位选一个寄存器，
+ * 寄存器记录其余位中第一个 1 出现的最靠前的位置。2^PRECISION 个寄存器共 4KB，相对误差约 1.6%
+ * 估计值较小时改用线性计数(按空寄存器的个数估计)
+ */
+public class HyperLogLog implements Serializable {
+  private static final long serialVersionUID = 4290834311536722301L;
+  private static final int PRECISION = 12;
+  private static final int REGISTERS = 1 << PRECISION;
+  private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+  private final byte[] registers = new byte[REGISTERS];
+
+  // 值的 64 位哈希：数值按其 double 的位、字符串按内容，再用 MurmurHash3 的 fmix64 打散
+  public static long hash(Object value) {
+    long h;
+    if (value instanceof Number)
+      h = Double.doubleToLongBits(((Number) value).doubleValue());
+    else {
+      h = 1125899906842597L;
+      String s = value.toString();
+      for (int i = 0; i < s.length(); i++)
+        h = 31 * h + s.charAt(i);
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  public void add(Object value) {
+    long h = hash(value);
+    int register = (int) (h >>> (64 - PRECISION));
+    // 其余位后面补一个 1，保证 rank 不超过 64 - PRECISION + 1
+    int rank = Long.numberOfLeadingZeros((h << PRECISION) | (1L << (PRECISION - 1))) + 1;
+    if (rank > this.registers[register])
+      this.registers[register] = (byte) rank;
+  }
+
+  public long estimate() {
+    double sum = 0;
+    int empty = 0;
+    for (byte register : this.registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0)
+        empty++;
+    }
+    double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+    if (estimate <= 2.5 * REGISTERS && empty > 0)
+      estimate = REGISTERS * Math.log((double) REGISTERS / empty);
+    return Math.round(estimate);
+  }
+}
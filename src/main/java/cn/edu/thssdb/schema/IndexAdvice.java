@@ -0,0 +1,76 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.type.IndexType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一条建索引的建议：在某表的某列上建某种二级索引，以及按观察到的条件估计它能少读的行数
+ * 等值条件选择率低时建 B+ 树，选择率高(值很少)时和 <> 条件一样建位图索引，LIKE 条件建三元组索引
+ */
+public class IndexAdvice {
+  // 等值条件的选择率达到该值时认为该列只有少数几个值，建议位图索引
+  static final double BITMAP_SELECTIVITY = 0.05;
+
+  private final String tableName;
+  private final String columnName;
+  private final IndexType type;
+  private final List<PredicateStatistics.Usage> usages = new ArrayList<>();
+  private double savedRows;
+
+  IndexAdvice(String tableName, String columnName, IndexType type) {
+    this.tableName = tableName;
+    this.columnName = columnName;
+    this.type = type;
+  }
+
+  // 该条件能由哪种二级索引取行，都不能时返回 null
+  static IndexType typeFor(PredicateStatistics.Usage usage) {
+    switch (usage.getOperator()) {
+      case "=":
+        return usage.getSelectivity() >= BITMAP_SELECTIVITY ? IndexType.BITMAP : IndexType.BTREE;
+      case "<>":
+        return IndexType.BITMAP;
+      case "like":
+        return IndexType.TRIGRAM;
+      default:
+        return null;
+    }
+  }
+
+  void add(PredicateStatistics.Usage usage) {
+    this.usages.add(usage);
+    this.savedRows += usage.getSavedRows();
+  }
+
+  public String getTableName() {
+    return this.tableName;
+  }
+
+  public String getColumnName() {
+    return this.columnName;
+  }
+
+  public IndexType getType() {
+    return this.type;
+  }
+
+  public double getSavedRows() {
+    return this.savedRows;
+  }
+
+  public String getStatement() {
+    String using = this.type == IndexType.BTREE ? "" : " USING " + this.type;
+    return "CREATE INDEX " + this.tableName + "_" + this.columnName + " ON " + this.tableName
+            + "(" + this.columnName + ")" + using;
+  }
+
+  public String toString() {
+    StringBuilder info = new StringBuilder(this.getStatement());
+    info.append(String.format(": ~%.0f fewer rows scanned", this.savedRows));
+    for (PredicateStatistics.Usage usage : this.usages)
+      info.append("\n    ").append(usage.toString());
+    return info.toString();
+  }
+}
@@ -0,0 +1,145 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.exception.InvalidIndexOptionException;
+import cn.edu.thssdb.index.AdaptiveRadixTree;
+import cn.edu.thssdb.index.BPlusTree;
+import cn.edu.thssdb.index.BinaryKeyEncoder;
+import cn.edu.thssdb.index.ConcurrentBPlusTree;
+import cn.edu.thssdb.index.CopyOnWriteBPlusTree;
+import cn.edu.thssdb.index.HashIndex;
+import cn.edu.thssdb.index.Index;
+import cn.edu.thssdb.index.KeyCodec;
+import cn.edu.thssdb.type.IndexType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 索引的元数据：索引名、索引列、索引类型，以及 B+ 树的扇出(fanout)和填充因子(fill factor)，
+ * 二级索引还可以有 INCLUDE 的列。
+ * 和 {@link Column} 一样，每个索引以逗号分隔的一行保存在表的 _index 文件中，INCLUDE 的列用 | 分隔写在最后。
+ */
+public class IndexMeta {
+  public static final String PRIMARY = "PRIMARY";
+
+  private String indexName;
+  private String columnName;
+  private IndexType type;
+  private int fanout;
+  private double fillFactor;
+  private List<String> includedColumns = new ArrayList<>();
+
+  public IndexMeta(String indexName, String columnName, IndexType type, int fanout, double fillFactor) {
+    this.indexName = indexName;
+    this.columnName = columnName;
+    this.type = type;
+    this.fanout = fanout;
+    this.fillFactor = fillFactor;
+  }
+
+  public static IndexMeta primary(String columnName) {
+    return new IndexMeta(PRIMARY, columnName, IndexType.BTREE, Global.fanout, Global.fillFactor);
+  }
+
+  // 二级索引，参数默认与主键索引相同
+  public static IndexMeta secondary(String indexName, String columnName) {
+    return new IndexMeta(indexName, columnName, IndexType.BTREE, Global.fanout, Global.fillFactor);
+  }
+
+  /**
+   * 设置 {@code WITH (option = value, ...)} 中的一项
+   * - fanout: 节点最多的孩子数
+   * - node_bytes: 按节点键数组的字节数(如 64 字节缓存行、4096 字节页)推算 fanout
+   * - fillfactor: 最右叶子分裂时左侧保留的比例，可写成 0.9 或 90
+   * - type: 索引的实现，'btree'、'concurrent'(可多线程并发读写的 B+ 树)
+   *         'cow'(写时复制的 B+ 树，提交时发布新版本，读者无锁扫描快照)
+   *         'hash'(开放寻址的哈希表，只支持等值查找，扫描无序)
+   *         'bitmap'(位图索引，只能用于二级索引)
+   *         'trigram'(三元组倒排索引，只能用于 STRING 列上的二级索引，供 LIKE 使用)
+   *         'prefix'(键前缀压缩的 B+ 树，只能用于 STRING 列)
+   *         或 'art'(自适应基数树，按键的字节逐层分支，适合整数和短字符串键)
+   */
+  public void setOption(String option, String value) {
+    try {
+      switch (option.toLowerCase()) {
+        case "fanout":
+          fanout = Integer.parseInt(value);
+          break;
+        case "node_bytes":
+          fanout = BPlusTree.fanoutForNodeBytes(Integer.parseInt(value));
+          break;
+        case "fillfactor":
+          double factor = Double.parseDouble(value);
+          fillFactor = factor > 1 ? factor / 100 : factor;
+          break;
+        case "type":
+          type = IndexType.valueOf(value.replace("'", "").toUpperCase());
+          break;
+        default:
+          throw new InvalidIndexOptionException(option, value);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new InvalidIndexOptionException(option, value);
+    }
+    if (fanout < 4)
+      throw new InvalidIndexOptionException(option, value);
+    if (fillFactor < 0.5 || fillFactor > 1)
+      throw new InvalidIndexOptionException(option, value);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <K extends Comparable<K>, V> Index<K, V> createIndex() {
+    if (type == IndexType.CONCURRENT)
+      return new ConcurrentBPlusTree<>(fanout);
+    if (type == IndexType.COW)
+      return new CopyOnWriteBPlusTree<>(fanout);
+    if (type == IndexType.HASH)
+      return new HashIndex<>();
+    // 键都是 Cell，前缀压缩时还都是 STRING 列的，由建索引时检查
+    if (type == IndexType.PREFIX)
+      return new BPlusTree<>(fanout, fillFactor, (KeyCodec<K>) Cell.STRING_KEYS);
+    if (type == IndexType.ART)
+      return new AdaptiveRadixTree<>((BinaryKeyEncoder<K>) Cell.BINARY_KEYS);
+    return new BPlusTree<>(fanout, fillFactor);
+  }
+
+  public String getIndexName() { return this.indexName; }
+  public String getColumnName() { return this.columnName; }
+  public IndexType getType() { return this.type; }
+  public int getFanout() { return this.fanout; }
+  public double getFillFactor() { return this.fillFactor; }
+  public boolean isPrimary() { return PRIMARY.equals(this.indexName); }
+  public boolean isHash() { return this.type == IndexType.HASH; }
+  public boolean isBitmap() { return this.type == IndexType.BITMAP; }
+  public boolean isTrigram() { return this.type == IndexType.TRIGRAM; }
+  public boolean isPrefix() { return this.type == IndexType.PREFIX; }
+  // 位图索引和三元组索引按行序号组织
+  public boolean usesRowOrdinals() { return isBitmap() || isTrigram(); }
+
+  public List<String> getIncludedColumns() { return this.includedColumns; }
+
+  public void setColumnName(String columnName) { this.columnName = columnName; }
+
+  // INCLUDE 的列的值随索引项一起保存，查询只用到这些列时不必回主键索引取整行
+  public void setIncludedColumns(List<String> includedColumns) {
+    if (usesRowOrdinals() && !includedColumns.isEmpty())
+      throw new InvalidIndexOptionException("include", String.join(",", includedColumns));
+    this.includedColumns = includedColumns;
+  }
+
+  public String toString() {
+    String s = indexName + ',' + columnName + ',' + type + ',' + fanout + ',' + fillFactor;
+    return includedColumns.isEmpty() ? s : s + ',' + String.join("|", includedColumns);
+  }
+
+  public static IndexMeta parseIndexMeta(String s) {
+    String[] sArray = s.split(",");
+    IndexMeta indexMeta = new IndexMeta(sArray[0], sArray[1], IndexType.valueOf(sArray[2]),
+            Integer.parseInt(sArray[3]), Double.parseDouble(sArray[4]));
+    if (sArray.length > 5)
+      indexMeta.includedColumns = new ArrayList<>(Arrays.asList(sArray[5].split("\\|")));
+    return indexMeta;
+  }
+}
@@ -0,0 +1,62 @@
+package cn.edu.thssdb.schema;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 按纳秒记录延迟的直方图，可由多个线程无锁地同时记录
+ * 每个 2 的幂区间再分成 8 个桶，分位数的误差不超过 1/8
+ */
+public class LatencyHistogram {
+  private static final int SUB_BUCKETS = 8;
+  private static final int BUCKETS = (64 - 2) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+  static int bucket(long nanos) {
+    if (nanos < SUB_BUCKETS)
+      return (int) Math.max(nanos, 0);
+    int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+    int sub = (int) (nanos >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+    return (exponent - 2) * SUB_BUCKETS + sub;
+  }
+
+  // 桶中最大的延迟
+  static long upperBound(int bucket) {
+    if (bucket < SUB_BUCKETS)
+      return bucket;
+    int exponent = bucket / SUB_BUCKETS + 2;
+    long width = 1L << (exponent - 3);
+    return (SUB_BUCKETS + bucket % SUB_BUCKETS) * width + width - 1;
+  }
+
+  public void record(long nanos) {
+    this.counts.incrementAndGet(bucket(nanos));
+  }
+
+  public long count() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++)
+      count += this.counts.get(i);
+    return count;
+  }
+
+  // 第 quantile(0~1) 分位的延迟(纳秒)，没有记录时为 0
+  public long percentile(double quantile) {
+    long total = this.count();
+    if (total == 0)
+      return 0;
+    long rank = Math.max(1, (long) Math.ceil(quantile * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += this.counts.get(i);
+      if (seen >= rank)
+        return upperBound(i);
+    }
+    return upperBound(BUCKETS - 1);
+  }
+
+  public String toString() {
+    return String.format("%d reads, p50 %.1f us, p99 %.1f us, p99.9 %.1f us", this.count(),
+            this.percentile(0.5) / 1000.0, this.percentile(0.99) / 1000.0, this.percentile(0.999) / 1000.0);
+  }
+}
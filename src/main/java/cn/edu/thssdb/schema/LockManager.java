@@ -2,17 +2,24 @@ package cn.edu.thssdb.schema;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class LockManager {
     private Database database;
     public HashMap<Long, ArrayList<ReentrantReadWriteLock.ReadLock>> readLockList;
     public HashMap<Long, ArrayList<ReentrantReadWriteLock.WriteLock>> writeLockList;
+    // 与 writeLockList 一一对应，释放写锁(即提交)前要发布这些表的新版本
+    private HashMap<Long, ArrayList<Table>> writeTableList;
+    // 各个事务修改过的并发表，事务持有这些表的读锁直到提交；写同一张表的多个会话会同时修改它
+    private ConcurrentHashMap<Long, ArrayList<Table>> sharedWriteTableList;
 
     public LockManager(Database database) {
         this.database = database;
         this.readLockList = new HashMap<>();
         this.writeLockList = new HashMap<>();
+        this.writeTableList = new HashMap<>();
+        this.sharedWriteTableList = new ConcurrentHashMap<>();
     }
 
 //    public void getReadLock(Long session, String tableName) {
@@ -49,20 +56,50 @@ public class LockManager {
         ArrayList<ReentrantReadWriteLock.WriteLock> currentSessionWriteLockList = writeLockList.get(session);
         currentSessionWriteLockList.add(tb.getTable().lock.writeLock());
         writeLockList.put(session, currentSessionWriteLockList);
+        writeTableList.computeIfAbsent(session, k -> new ArrayList<>()).add(tb.getTable());
+    }
+
+    /**
+     * 主键索引为并发 B+ 树的表上修改行之前调用：只持有表的读锁直到提交，修改不同键的写者不会互相阻塞，
+     * 删表这样需要表写锁的操作仍要等这些事务提交。每一行的修改由并发 B+ 树和 Table 保证原子性
+     */
+    public void getSharedWriteLock(Long session, Table.TableHandler tb) {
+        ArrayList<Table> sessionTableList = sharedWriteTableList.computeIfAbsent(session, k -> new ArrayList<>());
+        if(sessionTableList.contains(tb.getTable())) return;
+        tb.setSharedWriteLock();
+        sessionTableList.add(tb.getTable());
+    }
+
+    // 本事务是否以共享方式修改过这张表；这时再取表的写锁会等待自己持有的读锁
+    public boolean holdsSharedWriteLock(Long session, Table table) {
+        ArrayList<Table> sessionTableList = sharedWriteTableList.get(session);
+        return sessionTableList != null && sessionTableList.contains(table);
     }
 
     public void releaseWriteLock(Long session, Table.TableHandler tb) {
         ReentrantReadWriteLock.WriteLock writeLock = tb.getTable().lock.writeLock();
         System.out.println(writeLockList.toString());
         if(writeLockList.containsKey(session) && writeLockList.get(session).remove(writeLock)) {
+            writeTableList.get(session).remove(tb.getTable());
+            tb.getTable().commit();
             writeLock.unlock();
         }
     }
 
     public void releaseSessionAllWriteLock(Long session) {
+        ArrayList<Table> sharedTableList = sharedWriteTableList.remove(session);
+        if(sharedTableList != null) {
+            for(Table table : sharedTableList)
+                table.lock.readLock().unlock();
+        }
         if(!writeLockList.containsKey(session)){
             return;
         }
+        ArrayList<Table> sessionTableList = writeTableList.get(session);
+        for(Table table : sessionTableList){
+            table.commit();
+        }
+        sessionTableList.clear();
         ArrayList<ReentrantReadWriteLock.WriteLock> sessionLockList = writeLockList.get(session);
         for(ReentrantReadWriteLock.WriteLock lock : sessionLockList){
             lock.unlock();
@@ -8,15 +8,18 @@ import cn.edu.thssdb.common.Global;
 import javax.xml.crypto.Data;
 import java.io.*;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 
 public class Manager {
-  private HashMap<String, Database> databases;
+  // 主键点查的无锁路径不加 Manager 的锁读取这两个字段
+  private ConcurrentHashMap<String, Database> databases;
   private static ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // 用来保护 Manager 的文件
-  private String currentDatabaseName;
+  // 数据目录，各个数据库的文件在它的 data 子目录下
+  private final String dbmsDir;
+  private volatile String currentDatabaseName;
   public ArrayList<Long> currentSessions;
   public ArrayList<Long> waitSessions;
   public static SQLHandler sqlHandler;
@@ -26,12 +29,17 @@ public class Manager {
   }
 
   public Manager() {
-    databases = new HashMap<>();
+    this(Global.DBMS_DIR);
+  }
+
+  public Manager(String dbmsDir) {
+    this.dbmsDir = dbmsDir;
+    databases = new ConcurrentHashMap<>();
     currentDatabaseName = null;
     sqlHandler = new SQLHandler(this);
 //    x_lockDict = new HashMap<>();
     currentSessions = new ArrayList<>();
-    File managerFolder = new File(Global.DBMS_DIR + File.separator + "data");
+    File managerFolder = new File(dbmsDir + File.separator + "data");
     if(!managerFolder.exists())
       managerFolder.mkdirs();
     this.recover();
@@ -100,6 +108,12 @@ public class Manager {
   }
 
 
+  // 不加锁地取当前数据库，没有时返回 null；取到的数据库可能随后被删除，只用于主键点查的无锁路径
+  public Database peekCurrentDatabase() {
+    String databaseName = currentDatabaseName;
+    return databaseName == null ? null : databases.get(databaseName);
+  }
+
   public Database.DatabaseHandler get(String databaseName, Boolean read, Boolean write) {
     try {
       lock.readLock().lock();
@@ -131,7 +145,7 @@ public class Manager {
     try {
       lock.writeLock().lock();
       if (!databases.containsKey(databaseName))
-        databases.put(databaseName, new Database(databaseName));
+        databases.put(databaseName, new Database(this.dbmsDir, databaseName));
       if (currentDatabaseName == null) {
         if (!databases.containsKey(databaseName))
           throw new DatabaseNotExistException(databaseName);
@@ -144,14 +158,14 @@ public class Manager {
 
   public void persist() {
     try {
-      FileOutputStream fos = new FileOutputStream(Manager.getManagerDataFilePath());
+      FileOutputStream fos = new FileOutputStream(this.getManagerDataFilePath());
       OutputStreamWriter writer = new OutputStreamWriter(fos);
       for (String databaseName : databases.keySet())
         writer.write(databaseName + "\n");
       writer.close();
       fos.close();
     } catch (Exception e) {
-      throw new FileIOException(Manager.getManagerDataFilePath());
+      throw new FileIOException(this.getManagerDataFilePath());
     }
   }
 
@@ -168,7 +182,7 @@ public class Manager {
   }
 
   public void recover() {
-    File managerDataFile = new File(Manager.getManagerDataFilePath());
+    File managerDataFile = new File(this.getManagerDataFilePath());
     if (!managerDataFile.isFile()) return;
     try {
       System.out.println("??!! try to recover manager");
@@ -215,8 +229,8 @@ public class Manager {
 
 
   // Get positions
-  public static String getManagerDataFilePath(){
-    return Global.DBMS_DIR + File.separator + "data" + File.separator + "manager";
+  public String getManagerDataFilePath(){
+    return this.dbmsDir + File.separator + "data" + File.separator + "manager";
   }
 
 }
@@ -0,0 +1,91 @@
+package cn.edu.thssdb.schema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 执行时观察到的 where 条件：对每个 列 比较符 的组合记录执行次数、其中全表扫描的次数、
+ * 全表扫描读过的行数，以及抽样估计的选择率(读过的行中满足该条件的比例)
+ * 由此估计在该列上建索引能少读多少行，供 SHOW INDEX ADVICE 排序。只保存在内存中，重启后清空
+ */
+public class PredicateStatistics {
+
+  public static class Usage {
+    private final String columnName;
+    private final String operator;
+    private long executions;
+    private long fullScans;
+    private long scannedRows;
+    // 全表扫描中估计满足该条件的行数之和
+    private double matchedRows;
+    private long sampledRows;
+    private long sampledMatches;
+
+    Usage(String columnName, String operator) {
+      this.columnName = columnName;
+      this.operator = operator;
+    }
+
+    public String getColumnName() {
+      return this.columnName;
+    }
+
+    public String getOperator() {
+      return this.operator;
+    }
+
+    // 没有抽样过时返回 -1
+    public double getSelectivity() {
+      return this.sampledRows == 0 ? -1 : (double) this.sampledMatches / this.sampledRows;
+    }
+
+    // 有索引时这些全表扫描可以少读的行数：读过的行减去估计满足条件的行
+    public double getSavedRows() {
+      return this.scannedRows - this.matchedRows;
+    }
+
+    public String toString() {
+      double selectivity = this.getSelectivity();
+      return String.format("%s %s: %d executions, %d full scans over %d rows, selectivity %s", this.columnName,
+              this.operator, this.executions, this.fullScans, this.scannedRows,
+              selectivity < 0 ? "unknown" : String.format("%.2f%%", 100 * selectivity));
+    }
+  }
+
+  private final Map<String, Usage> usages = new LinkedHashMap<>();
+
+  /**
+   * 记录一次执行中的一个条件
+   * @param fullScan 这次执行是否扫描了全表，否则是用索引取的行，没有扫描的代价
+   * @param scannedRows 全表扫描中实际读过的行数
+   * @param sampledRows 读过的行中单独检查过该条件的行数
+   * @param sampledMatches 其中满足该条件的行数
+   */
+  public synchronized void record(String columnName, String operator, boolean fullScan, long scannedRows,
+                                  long sampledRows, long sampledMatches) {
+    Usage usage = this.usages.computeIfAbsent(columnName + " " + operator, key -> new Usage(columnName, operator));
+    usage.executions++;
+    if (!fullScan)
+      return;
+    usage.fullScans++;
+    usage.scannedRows += scannedRows;
+    usage.sampledRows += sampledRows;
+    usage.sampledMatches += sampledMatches;
+    if (sampledRows > 0)
+      usage.matchedRows += (double) scannedRows * sampledMatches / sampledRows;
+    else
+      usage.matchedRows += scannedRows;
+  }
+
+  // 抽样估计的 列 比较符 的选择率，没有抽样过时返回 -1
+  public synchronized double selectivity(String columnName, String operator) {
+    Usage usage = this.usages.get(columnName + " " + operator);
+    return usage == null ? -1 : usage.getSelectivity();
+  }
+
+  public synchronized List<Usage> getUsages() {
+    return new ArrayList<>(this.usages.values());
+  }
+}
@@ -0,0 +1,54 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.index.HashIndex;
+import cn.edu.thssdb.index.RoaringBitmap;
+
+import java.util.ArrayList;
+
+/**
+ * 给表中的每一行分配一个序号(row ordinal)，供位图索引使用
+ * 同一张表的各个位图索引共用序号，所以不同列上的位图可以直接做与、或、非运算
+ * 删除的行空出的序号会被重新使用，使位图保持紧凑
+ */
+public class RowOrdinals {
+  private final HashIndex<Cell, Integer> ordinalOf = new HashIndex<>();
+  private final ArrayList<Cell> primaryCells = new ArrayList<>();
+  private final ArrayList<Integer> freeOrdinals = new ArrayList<>();
+  // 表中现有的所有行，用来求 NOT
+  private final RoaringBitmap liveRows = new RoaringBitmap();
+
+  public int assign(Cell primaryCell) {
+    int ordinal;
+    if(freeOrdinals.isEmpty()){
+      ordinal = primaryCells.size();
+      primaryCells.add(primaryCell);
+    }
+    else{
+      ordinal = freeOrdinals.remove(freeOrdinals.size() - 1);
+      primaryCells.set(ordinal, primaryCell);
+    }
+    ordinalOf.put(primaryCell, ordinal);
+    liveRows.add(ordinal);
+    return ordinal;
+  }
+
+  public void release(Cell primaryCell) {
+    int ordinal = ordinalOf.get(primaryCell);
+    ordinalOf.remove(primaryCell);
+    primaryCells.set(ordinal, null);
+    freeOrdinals.add(ordinal);
+    liveRows.remove(ordinal);
+  }
+
+  public int ordinal(Cell primaryCell) {
+    return ordinalOf.get(primaryCell);
+  }
+
+  public Cell primaryCell(int ordinal) {
+    return primaryCells.get(ordinal);
+  }
+
+  public RoaringBitmap getLiveRows() {
+    return liveRows;
+  }
+}
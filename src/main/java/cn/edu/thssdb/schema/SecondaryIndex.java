@@ -0,0 +1,176 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.index.Index;
+import cn.edu.thssdb.index.IndexBuilder;
+import cn.edu.thssdb.index.IndexFootprint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 二级索引：把某一列的值映射到含有该值的各行的主键。
+ * 列值可以重复，所以每个键对应一组主键；该列为 null 的行不进入索引。
+ * 和主键索引一样依赖表锁保证线程安全。
+ * 建索引时 INCLUDE 的列(包含列)和主键一起存进索引：每个键对应的列表依次存放
+ * 主键、包含列1、包含列2……，查询只涉及键列、主键和包含列时不必回表。
+ */
+public class SecondaryIndex {
+  private final IndexMeta meta;
+  private final int columnIndex;
+  private final Index<Cell, ArrayList<Cell>> index;
+  private final int[] includedColumns;
+  // 每一行在列表中占的位置数：主键加上各包含列
+  private final int stride;
+
+  public SecondaryIndex(IndexMeta meta, int columnIndex, int[] includedColumns) {
+    this(meta, columnIndex, meta.createIndex(), includedColumns);
+  }
+
+  // 子类(如位图索引)自己组织索引结构，index 为 null，也不存包含列
+  protected SecondaryIndex(IndexMeta meta, int columnIndex) {
+    this(meta, columnIndex, null, new int[0]);
+  }
+
+  private SecondaryIndex(IndexMeta meta, int columnIndex, Index<Cell, ArrayList<Cell>> index, int[] includedColumns) {
+    this.meta = meta;
+    this.columnIndex = columnIndex;
+    this.index = index;
+    this.includedColumns = includedColumns;
+    this.stride = 1 + includedColumns.length;
+  }
+
+  public IndexMeta getMeta() {
+    return this.meta;
+  }
+
+  public int getColumnIndex() {
+    return this.columnIndex;
+  }
+
+  public IndexFootprint footprint() {
+    return this.index.footprint();
+  }
+
+  // 索引中不同列值的个数(不含 null)，优化器用来估计 列 = 值 的选择率；不能按值查找的索引返回 -1
+  public int distinctValues() {
+    return this.index.size();
+  }
+
+  // 一行在列表中占的位置：主键和各包含列
+  private ArrayList<Cell> entry(Row row, int primaryIndex) {
+    ArrayList<Cell> primaryCells = new ArrayList<>(this.stride);
+    primaryCells.add(row.getEntries().get(primaryIndex));
+    for (int includedColumn : this.includedColumns)
+      primaryCells.add(row.getEntries().get(includedColumn));
+    return primaryCells;
+  }
+
+  public void add(Row row, int primaryIndex) {
+    Cell value = row.getEntries().get(this.columnIndex);
+    if (value.value == null)
+      return;
+    ArrayList<Cell> primaryCells = this.entry(row, primaryIndex);
+    ArrayList<Cell> existingCells = this.index.putIfAbsent(value, primaryCells);
+    if (existingCells != null)
+      existingCells.addAll(primaryCells);
+  }
+
+  /**
+   * 用表中已有的行填充空索引：并行收集各行的键，并行排序后把相同的键合并，再自底向上装入索引，
+   * 比逐行 add 少了每行一次的查找和节点分裂。自己组织结构的子类逐行 add
+   */
+  public void build(Stream<Row> rows, int primaryIndex, Consumer<String> progress) {
+    if (this.index == null) {
+      rows.sequential().forEach(row -> this.add(row, primaryIndex));
+      return;
+    }
+    Stream<Pair<Cell, ArrayList<Cell>>> pairs = rows
+            .filter(row -> row.getEntries().get(this.columnIndex).value != null)
+            .map(row -> new Pair<>(row.getEntries().get(this.columnIndex), this.entry(row, primaryIndex)));
+    IndexBuilder.build(this.index, pairs, (cells, more) -> {
+      cells.addAll(more);
+      return cells;
+    }, "index " + this.meta.getIndexName(), progress);
+  }
+
+  public void remove(Row row, int primaryIndex) {
+    Cell value = row.getEntries().get(this.columnIndex);
+    if (value.value == null || !this.index.contains(value))
+      return;
+    ArrayList<Cell> primaryCells = this.index.get(value);
+    Cell primaryCell = row.getEntries().get(primaryIndex);
+    for (int i = 0; i < primaryCells.size(); i += this.stride)
+      if (primaryCells.get(i).equals(primaryCell)) {
+        primaryCells.subList(i, i + this.stride).clear();
+        break;
+      }
+    if (primaryCells.isEmpty())
+      this.index.remove(value);
+  }
+
+  // 能否用 lookup 按值查找，不能时 lookup 抛出 UnsupportedOperationException
+  public boolean supportsEquality() {
+    return true;
+  }
+
+  // 该列等于 value 的各行的主键
+  public List<Cell> lookup(Cell value) {
+    if (value.value == null || !this.index.contains(value))
+      return Collections.emptyList();
+    ArrayList<Cell> primaryCells = this.index.get(value);
+    if (this.stride == 1)
+      return primaryCells;
+    ArrayList<Cell> result = new ArrayList<>(primaryCells.size() / this.stride);
+    for (int i = 0; i < primaryCells.size(); i += this.stride)
+      result.add(primaryCells.get(i));
+    return result;
+  }
+
+  // 查询用到的列都在索引里(键列、主键或包含列)时返回 true
+  public boolean covers(Collection<Integer> columns, int primaryIndex) {
+    for (int column : columns) {
+      if (column == this.columnIndex || column == primaryIndex)
+        continue;
+      boolean included = false;
+      for (int includedColumn : this.includedColumns)
+        included |= includedColumn == column;
+      if (!included)
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * 只用索引中的内容还原该列等于 value 的各行，不回表
+   * 行的宽度与表相同，不在索引中的列为 null，调用者应先用 {@link #covers} 确认用到的列都在索引里
+   */
+  public List<Row> coveringLookup(Cell value, int columnCount, int primaryIndex) {
+    if (value.value == null || !this.index.contains(value))
+      return Collections.emptyList();
+    ArrayList<Cell> primaryCells = this.index.get(value);
+    ArrayList<Row> rows = new ArrayList<>(primaryCells.size() / this.stride);
+    for (int i = 0; i < primaryCells.size(); i += this.stride) {
+      Cell[] cells = new Cell[columnCount];
+      for (int j = 0; j < columnCount; j++)
+        cells[j] = new Cell();
+      cells[this.columnIndex] = value;
+      cells[primaryIndex] = primaryCells.get(i);
+      for (int j = 0; j < this.includedColumns.length; j++)
+        cells[this.includedColumns[j]] = primaryCells.get(i + 1 + j);
+      rows.add(new Row(cells));
+    }
+    return rows;
+  }
+
+  public String toString() {
+    String included = this.meta.getIncludedColumns().isEmpty() ? ""
+            : " include (" + String.join(", ", this.meta.getIncludedColumns()) + ")";
+    return this.meta.getIndexName() + " on " + this.meta.getColumnName() + included + " (" + this.meta.getType() + "): "
+            + this.footprint().toString();
+  }
+}
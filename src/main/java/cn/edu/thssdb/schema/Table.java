@@ -2,24 +2,76 @@ package cn.edu.thssdb.schema;
 
 import cn.edu.thssdb.exception.*;
 import cn.edu.thssdb.index.BPlusTree;
+import cn.edu.thssdb.index.ConcurrentBPlusTree;
+import cn.edu.thssdb.index.CopyOnWriteBPlusTree;
+import cn.edu.thssdb.index.Index;
+import cn.edu.thssdb.index.IndexBuilder;
+import cn.edu.thssdb.index.IndexFootprint;
+import cn.edu.thssdb.index.KeyRanges;
+import cn.edu.thssdb.index.RoaringBitmap;
+import cn.edu.thssdb.index.ScanStatistics;
 import cn.edu.thssdb.common.Global;
 import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.type.IndexType;
+import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static cn.edu.thssdb.type.ColumnType.STRING;
 
 public class Table implements Iterable<Row> {
+  // 恢复和建索引时大表的进度写到服务器日志
+  private static final org.slf4j.Logger logger = LoggerFactory.getLogger(Table.class);
   public ReentrantReadWriteLock lock;
+  private String dbmsDir;
   private String databaseName;
   public String tableName;
   public ArrayList<Column> columns;
-  public BPlusTree<Cell, Row> index;
+  public Index<Cell, Row> index;
   private int primaryIndex;
+  private IndexMeta primaryIndexMeta;
+  private ArrayList<SecondaryIndex> secondaryIndexes;
+  // 有位图索引时才分配行序号
+  private RowOrdinals rowOrdinals;
+  private final ScanStatistics scanStatistics = new ScanStatistics();
+  private final PredicateStatistics predicateStatistics = new PredicateStatistics();
+  // 所有表共用的重新收集统计信息的后台线程，见 refreshStatistics
+  private static final ExecutorService STATISTICS_REFRESHER = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "statistics-refresher");
+    thread.setDaemon(true);
+    return thread;
+  });
+  // 已经提交给后台线程、还没有执行完的重新收集
+  private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+  private volatile boolean dropped;
+  // ANALYZE 收集的统计信息，没有收集过时为 null
+  private volatile TableStatistics statistics;
+  // 写者修改一行期间持有它的写锁；不加表锁的主键点查用乐观读检查期间索引没有被修改
+  // 主键索引为并发 B+ 树的表上写者只持有表的读锁，彼此不互斥，也不需要 seqlock(点查直接读索引)；
+  // 只在有二级索引时用它让一行在主键索引和二级索引中的修改一起生效，读二级索引的读者持有它的读锁
+  private final StampedLock seqlock = new StampedLock();
+  private static final int OPTIMISTIC_ATTEMPTS = 8;
+  private final LatencyHistogram lockFreePointReads = new LatencyHistogram();
+  private final LatencyHistogram lockedPointReads = new LatencyHistogram();
 
   public class TableHandler implements AutoCloseable {
     private Table table;
@@ -29,7 +81,12 @@ public class Table implements Iterable<Row> {
       this.table = table;
       this.haveReadLock = read;
       this.haveWriteLock = write;
-      if(read){
+      // 写时复制索引的读者扫描已提交的快照，不需要读锁，也就不会和写者互相阻塞
+      // 要修改行的语句不能从快照中选行，需在选行之前取得写锁(见 Database.tableWriteLock)
+      if(read && table.isVersioned()){
+        this.haveReadLock = false;
+      }
+      else if(read){
         //System.out.println("get read lock" + this.table.tableName);
         this.table.lock.readLock().lock();
       }
@@ -54,6 +111,18 @@ public class Table implements Iterable<Row> {
       this.haveWriteLock = true;
       return true;
     }
+    /**
+     * 并发表的写者持有表的读锁到提交(见 LockManager.getSharedWriteLock)
+     * 已经持有读锁时直接交给调用者，close 时不再释放
+     */
+    public void setSharedWriteLock() {
+      if(this.haveReadLock){
+        this.haveReadLock = false;
+      }
+      else {
+        this.table.lock.readLock().lock();
+      }
+    }
     public Table getTable(){ return this.table; }
     @Override
     public void close() {
@@ -74,12 +143,27 @@ public class Table implements Iterable<Row> {
 
   // Initiate: Table, recover
   public Table(String databaseName, String tableName, Column[] columns) {
+    this(databaseName, tableName, columns, null);
+  }
+
+  public Table(String databaseName, String tableName, Column[] columns, IndexMeta primaryIndexMeta) {
+    this(Global.DBMS_DIR, databaseName, tableName, columns, primaryIndexMeta);
+  }
+
+  // 表的文件放在数据目录 dbmsDir 下
+  public Table(String dbmsDir, String databaseName, String tableName, Column[] columns, IndexMeta primaryIndexMeta) {
+    this(dbmsDir, databaseName, tableName, columns, primaryIndexMeta, true);
+  }
+
+  // recover 为 false 时不从磁盘读回数据，用于 getColumnFullNameTable 这种随后换上原表索引的表
+  private Table(String dbmsDir, String databaseName, String tableName, Column[] columns, IndexMeta primaryIndexMeta, boolean recover) {
     this.lock = new ReentrantReadWriteLock();
+    this.dbmsDir = dbmsDir;
     this.databaseName = databaseName;
     this.tableName = tableName;
     this.columns = new ArrayList<>(Arrays.asList(columns));
-    this.index = new BPlusTree<>();
     this.primaryIndex = -1;
+    this.secondaryIndexes = new ArrayList<>();
 
     for (int i=0;i<this.columns.size();i++)
     {
@@ -92,67 +176,578 @@ public class Table implements Iterable<Row> {
     if(this.primaryIndex < 0)
       throw new MultiPrimaryKeyException(this.tableName);
 
-    recover();
+    // 主键索引的实现、fanout 和填充因子可以按表配置
+    String primaryColumnName = this.columns.get(this.primaryIndex).getColumnName();
+    if (primaryIndexMeta == null)
+      primaryIndexMeta = IndexMeta.primary(primaryColumnName);
+    primaryIndexMeta.setColumnName(primaryColumnName);
+    if(primaryIndexMeta.isPrefix() && this.columns.get(this.primaryIndex).getColumnType() != STRING)
+      throw new InvalidIndexOptionException("type", "prefix");
+    this.primaryIndexMeta = primaryIndexMeta;
+    this.index = primaryIndexMeta.createIndex();
+
+    if (recover)
+      recover();
   }
 
   public void recover() {
     // read from disk for recovering
     ArrayList<Row> rowsOnDisk = deserialize();
-    for(Row row: rowsOnDisk)
-      this.index.put(row.getEntries().get(this.primaryIndex), row);
+    // 按主键并行排序后自底向上重建主键索引
+    IndexBuilder.build(this.index,
+            rowsOnDisk.parallelStream().map(row -> new Pair<>(row.getEntries().get(this.primaryIndex), row)),
+            null, "primary index of " + this.tableName, logger::info);
+    commit();
   }
 
   public int getPrimaryIndex(){
     return this.primaryIndex;
   }
 
+  public IndexMeta getPrimaryIndexMeta(){
+    return this.primaryIndexMeta;
+  }
+
+  // 主键索引节点数组占用内存的估计，以及与预分配 ArrayList 节点相比节省的比例
+  public IndexFootprint getIndexFootprint(){
+    return this.index.footprint();
+  }
+
+  public boolean isVersioned(){
+    return this.index instanceof CopyOnWriteBPlusTree;
+  }
+
+  // 主键索引可以被多个写者同时修改，写者不加表的写锁(见 LockManager.getSharedWriteLock)
+  public boolean isConcurrent(){
+    return this.index instanceof ConcurrentBPlusTree;
+  }
+
+  private CopyOnWriteBPlusTree<Cell, Row> versionedIndex(){
+    return (CopyOnWriteBPlusTree<Cell, Row>) this.index;
+  }
+
+  /**
+   * 提交时发布写者的版本，之后开始的读者可以看到本事务的修改
+   * 只对写时复制索引有意义，其他索引的修改是就地生效的
+   */
+  public void commit(){
+    if(isVersioned())
+      versionedIndex().commit();
+  }
+
+  // 持有写锁的事务读自己的修改，其他读者读已提交的快照
+  private boolean readsSnapshot(){
+    return isVersioned() && !this.lock.isWriteLockedByCurrentThread();
+  }
+
+  public ArrayList<SecondaryIndex> getSecondaryIndexes(){
+    return this.secondaryIndexes;
+  }
+
+  // 在某一列上建立二级索引，并用表中现有的行(包括未提交的)填充
+  public void createIndex(IndexMeta indexMeta){
+    if(indexMeta.isPrimary())
+      throw new DuplicateIndexException(IndexMeta.PRIMARY);
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex.getMeta().getIndexName().equals(indexMeta.getIndexName()))
+        throw new DuplicateIndexException(indexMeta.getIndexName());
+    int columnIndex = this.Column2Index(indexMeta.getColumnName());
+    if(columnIndex < 0)
+      throw new ColumnNotExistException(indexMeta.getColumnName());
+    // 主键列已经由主键索引覆盖
+    if(columnIndex == this.primaryIndex)
+      throw new DuplicateIndexException(IndexMeta.PRIMARY);
+    SecondaryIndex secondaryIndex;
+    if(indexMeta.isTrigram() && this.columns.get(columnIndex).getColumnType() != STRING)
+      throw new InvalidIndexOptionException("type", "trigram");
+    if(indexMeta.isPrefix() && this.columns.get(columnIndex).getColumnType() != STRING)
+      throw new InvalidIndexOptionException("type", "prefix");
+    if(indexMeta.usesRowOrdinals() && this.rowOrdinals == null){
+      this.rowOrdinals = new RowOrdinals();
+      for(Pair<Cell, Row> pair : this.index)
+        this.rowOrdinals.assign(pair.left);
+    }
+    if(indexMeta.isBitmap())
+      secondaryIndex = new BitmapIndex(indexMeta, columnIndex, this.rowOrdinals);
+    else if(indexMeta.isTrigram())
+      secondaryIndex = new TrigramIndex(indexMeta, columnIndex, this.rowOrdinals);
+    else
+      secondaryIndex = new SecondaryIndex(indexMeta, columnIndex, this.includedColumns(indexMeta, columnIndex));
+    // 主键索引按内部结点的边界切分，各段并行取出键
+    secondaryIndex.build(StreamSupport.stream(this.index.spliterator(), true).map(pair -> pair.right),
+            this.primaryIndex, logger::info);
+    this.secondaryIndexes.add(secondaryIndex);
+  }
+
+  // 包含列在表中的下标；键列和主键本来就在索引里，不重复存放
+  private int[] includedColumns(IndexMeta indexMeta, int columnIndex){
+    ArrayList<Integer> includedColumns = new ArrayList<>();
+    for(String columnName : indexMeta.getIncludedColumns()){
+      int includedColumn = this.Column2Index(columnName);
+      if(includedColumn < 0)
+        throw new ColumnNotExistException(columnName);
+      if(includedColumn != columnIndex && includedColumn != this.primaryIndex && !includedColumns.contains(includedColumn))
+        includedColumns.add(includedColumn);
+    }
+    return includedColumns.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  public void dropIndex(String indexName){
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex.getMeta().getIndexName().equals(indexName)){
+        this.secondaryIndexes.remove(secondaryIndex);
+        boolean usesRowOrdinals = false;
+        for(SecondaryIndex remaining : this.secondaryIndexes)
+          usesRowOrdinals |= remaining.getMeta().usesRowOrdinals();
+        if(!usesRowOrdinals)
+          this.rowOrdinals = null;
+        return;
+      }
+    throw new IndexNotExistException(indexName);
+  }
+
+  /**
+   * 通过索引取出第 columnIndex 列等于 value 的行
+   * 主键列直接查主键索引；其他列优先用哈希索引。没有可用的索引时返回 null，由调用者扫描全表
+   */
+  public List<Row> indexLookup(int columnIndex, Cell value){
+    ArrayList<Row> rows = new ArrayList<>();
+    if(columnIndex == this.primaryIndex){
+      try {
+        rows.add(this.get(value));
+      } catch (KeyNotExistException ignored) {
+      }
+      return rows;
+    }
+    SecondaryIndex chosen = equalityIndex(columnIndex);
+    if(chosen == null)
+      return null;
+    long stamp = this.lockSecondaryIndexes();
+    try {
+      for(Cell primaryCell : chosen.lookup(value))
+        rows.add(this.index.get(primaryCell));
+    } finally {
+      this.unlockSecondaryIndexes(stamp);
+    }
+    return rows;
+  }
+
+  /**
+   * 取出主键在 keys 中的行，按主键从小到大
+   * 都是单个主键时逐个点查；否则在 B+ 树主键索引上按各个区间扫描，只读区间内的叶子
+   * 主键索引不能按范围扫描(哈希索引、自适应基数树、写时复制索引)时返回 null，由调用者扫描全表
+   */
+  public Iterable<Row> primaryKeyLookup(KeyRanges<Cell> keys){
+    if(!this.supportsPrimaryKeyLookup(keys))
+      return null;
+    List<Cell> points = keys.points();
+    if(points != null){
+      ArrayList<Row> rows = new ArrayList<>(points.size());
+      for(Cell point : points){
+        try {
+          rows.add(this.get(point));
+        } catch (KeyNotExistException ignored) {
+        }
+      }
+      return rows;
+    }
+    if(this.index instanceof BPlusTree){
+      BPlusTree<Cell, Row> tree = (BPlusTree<Cell, Row>) this.index;
+      return () -> new TableIterator(keys.scan(from -> tree.range(from, null)));
+    }
+    ConcurrentBPlusTree<Cell, Row> tree = (ConcurrentBPlusTree<Cell, Row>) this.index;
+    return () -> new TableIterator(keys.scan(from -> tree.range(from, null)));
+  }
+
+  // primaryKeyLookup 能否取出主键在 keys 中的行，不取行；查询计划用它判断能否按主键取行
+  public boolean supportsPrimaryKeyLookup(KeyRanges<Cell> keys){
+    return keys.points() != null || this.index instanceof BPlusTree || this.index instanceof ConcurrentBPlusTree;
+  }
+
+  // indexLookup 在第 columnIndex 列上用的二级索引，优先用哈希索引
+  private SecondaryIndex equalityIndex(int columnIndex){
+    // 二级索引只反映写者的版本，读快照的读者不能用
+    if(readsSnapshot())
+      return null;
+    SecondaryIndex chosen = null;
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex.getColumnIndex() == columnIndex && secondaryIndex.supportsEquality()
+              && (chosen == null || secondaryIndex.getMeta().isHash()))
+        chosen = secondaryIndex;
+    return chosen;
+  }
+
+  // indexLookup 能否通过索引取出第 columnIndex 列等于某个值的行
+  public boolean hasEqualityIndex(int columnIndex){
+    return columnIndex == this.primaryIndex || equalityIndex(columnIndex) != null;
+  }
+
+  // 第 columnIndex 列不同值的个数：主键为行数，有二级索引时取索引中的键数，否则用 ANALYZE 的估计值，都没有时返回 -1
+  public long distinctValues(int columnIndex){
+    if(columnIndex == this.primaryIndex)
+      return this.index.size();
+    long distinct = -1;
+    long stamp = this.lockSecondaryIndexes();
+    try {
+      for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+        if(secondaryIndex.getColumnIndex() == columnIndex)
+          distinct = Math.max(distinct, secondaryIndex.distinctValues());
+    } finally {
+      this.unlockSecondaryIndexes(stamp);
+    }
+    TableStatistics.ColumnStatistics statistics = this.getColumnStatistics(columnIndex);
+    if(distinct < 0 && statistics != null)
+      distinct = Math.max(1, statistics.getDistinctValues());
+    return distinct;
+  }
+
+  // 全表扫描是否按主键从小到大输出行：B+ 树是，哈希索引和自适应基数树(按键的二进制编码排序)不保证
+  public boolean scansInKeyOrder(){
+    IndexType type = this.primaryIndexMeta.getType();
+    return type != IndexType.HASH && type != IndexType.ART;
+  }
+
+  /**
+   * 只用覆盖索引回答第 columnIndex 列等于 value 的查询，不回表
+   * 返回的行中只有 columns 里的列一定有值；没有覆盖这些列的索引，或读者读的是快照时返回 null
+   */
+  public List<Row> coveringLookup(int columnIndex, Cell value, Collection<Integer> columns){
+    SecondaryIndex secondaryIndex = coveringIndex(columnIndex, columns);
+    if(secondaryIndex == null)
+      return null;
+    long stamp = this.lockSecondaryIndexes();
+    try {
+      return secondaryIndex.coveringLookup(value, this.columns.size(), this.primaryIndex);
+    } finally {
+      this.unlockSecondaryIndexes(stamp);
+    }
+  }
+
+  // coveringLookup 会用的第 columnIndex 列上包含 columns 的二级索引，没有时返回 null；EXPLAIN 用它判断而不取行
+  public SecondaryIndex coveringIndex(int columnIndex, Collection<Integer> columns){
+    if(readsSnapshot() || columnIndex == this.primaryIndex)
+      return null;
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex.getColumnIndex() == columnIndex && !secondaryIndex.getMeta().usesRowOrdinals()
+              && secondaryIndex.covers(columns, this.primaryIndex))
+        return secondaryIndex;
+    return null;
+  }
+
+  /**
+   * 第 columnIndex 列等于 value 的行的序号；该列没有位图索引，或读者读的是快照时返回 null
+   * 返回的位图不能修改
+   */
+  public RoaringBitmap bitmapLookup(int columnIndex, Cell value){
+    if(readsSnapshot())
+      return null;
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex instanceof BitmapIndex && secondaryIndex.getColumnIndex() == columnIndex)
+        return this.stableBitmap(() -> ((BitmapIndex) secondaryIndex).bitmap(value));
+    return null;
+  }
+
+  // 第 columnIndex 列等于 value 的行数，不取位图；bitmapLookup 会返回 null 时返回 -1
+  public int bitmapCount(int columnIndex, Cell value){
+    if(readsSnapshot())
+      return -1;
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex instanceof BitmapIndex && secondaryIndex.getColumnIndex() == columnIndex){
+        long stamp = this.lockSecondaryIndexes();
+        try {
+          return ((BitmapIndex) secondaryIndex).count(value);
+        } finally {
+          this.unlockSecondaryIndexes(stamp);
+        }
+      }
+    return -1;
+  }
+
+  /**
+   * 第 columnIndex 列 LIKE pattern(不带引号)的候选行的序号，满足的行一定在其中
+   * 该列没有三元组索引、模式中没有可用的三元组，或读者读的是快照时返回 null
+   */
+  public RoaringBitmap trigramLookup(int columnIndex, String pattern){
+    if(readsSnapshot())
+      return null;
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex instanceof TrigramIndex && secondaryIndex.getColumnIndex() == columnIndex)
+        return this.stableBitmap(() -> ((TrigramIndex) secondaryIndex).candidates(pattern));
+    return null;
+  }
+
+  // trigramLookup 返回的候选行数的上界，不求倒排表的交；trigramLookup 会返回 null 时返回 -1
+  public int trigramEstimate(int columnIndex, String pattern){
+    if(readsSnapshot())
+      return -1;
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      if(secondaryIndex instanceof TrigramIndex && secondaryIndex.getColumnIndex() == columnIndex){
+        long stamp = this.lockSecondaryIndexes();
+        try {
+          return ((TrigramIndex) secondaryIndex).estimate(pattern);
+        } finally {
+          this.unlockSecondaryIndexes(stamp);
+        }
+      }
+    return -1;
+  }
+
+  // 表中所有行的序号，没有位图索引或三元组索引时返回 null；返回的位图不能修改
+  public RoaringBitmap liveRowBitmap(){
+    return this.rowOrdinals == null || readsSnapshot() ? null : this.stableBitmap(this.rowOrdinals::getLiveRows);
+  }
+
+  // 并发表的写者会同时修改位图，读者拿到的是加锁复制的一份
+  private RoaringBitmap stableBitmap(Supplier<RoaringBitmap> bitmap){
+    if(!this.isConcurrent())
+      return bitmap.get();
+    long stamp = this.lockSecondaryIndexes();
+    try {
+      RoaringBitmap result = bitmap.get();
+      return result == null ? null : result.copy();
+    } finally {
+      this.unlockSecondaryIndexes(stamp);
+    }
+  }
+
+  // 按位图中的序号取行；并发表上取位图之后被删掉的行不再返回
+  public List<Row> rowsOf(RoaringBitmap ordinals){
+    ArrayList<Row> rows = new ArrayList<>();
+    long stamp = this.lockSecondaryIndexes();
+    try {
+      ordinals.forEach(ordinal -> {
+        Cell primaryCell = this.rowOrdinals.primaryCell(ordinal);
+        if(primaryCell != null)
+          rows.add(this.index.get(primaryCell));
+      });
+    } finally {
+      this.unlockSecondaryIndexes(stamp);
+    }
+    return rows;
+  }
+
+  // 写时复制索引已发布的版本号，以及还有多少扫描停留在更旧的版本上
+  public String getVersionInfo(){
+    if(!isVersioned())
+      return "";
+    return "Published version: epoch " + versionedIndex().getPublishedEpoch() + ", "
+            + versionedIndex().getPinnedOldVersions() + " snapshot(s) pinned on older versions\n";
+  }
+
   // Operations: get, insert, delete, update, dropTable, you can add other operations.
 
   public Row get(Cell primaryCell){
+    if(readsSnapshot()) {
+      try (CopyOnWriteBPlusTree<Cell, Row>.Snapshot snapshot = versionedIndex().snapshot()) {
+        return snapshot.get(primaryCell);
+      }
+    }
     return this.index.get(primaryCell);
   }
+
+  /**
+   * 不加表锁的主键点查：在 seqlock 的乐观读中查主键索引，读完后确认期间没有写者修改过索引，否则重试
+   * 别的事务持有表的写锁(可能有未提交的修改)，或重试多次仍被写者打断时返回 null，由调用者走加锁的路径
+   * 写时复制表直接读已提交的快照
+   * @return 含有该行的列表，主键不存在时为空列表
+   */
+  public List<Row> lockFreeGet(Cell primaryCell){
+    ArrayList<Row> rows = new ArrayList<>(1);
+    if(readsSnapshot()) {
+      try {
+        rows.add(this.get(primaryCell));
+      } catch (KeyNotExistException ignored) {
+      }
+      return rows;
+    }
+    // 自己持有写锁时不会有别的写者，直接读(包括自己未提交的修改)；并发 B+ 树的点查本来就不加锁
+    if(this.lock.isWriteLockedByCurrentThread() || this.isConcurrent()) {
+      try {
+        rows.add(this.index.get(primaryCell));
+      } catch (KeyNotExistException ignored) {
+      }
+      return rows;
+    }
+    for(int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) {
+      long stamp = this.seqlock.tryOptimisticRead();
+      if(stamp == 0 || this.lock.isWriteLocked())
+        return null;
+      Row row;
+      try {
+        row = this.index.get(primaryCell);
+      } catch (KeyNotExistException e) {
+        row = null;
+      } catch (RuntimeException e) {
+        // 和写者交错时可能读到改到一半的节点，确认被打断后重试
+        if(this.seqlock.validate(stamp))
+          throw e;
+        continue;
+      }
+      if(this.seqlock.validate(stamp)) {
+        if(row != null)
+          rows.add(row);
+        return rows;
+      }
+    }
+    return null;
+  }
+
+  // 主键等值查询的延迟，lockFree 区分无锁的路径和加表锁的路径
+  public void recordPointRead(boolean lockFree, long nanos){
+    (lockFree ? this.lockFreePointReads : this.lockedPointReads).record(nanos);
+  }
+
+  public String getPointReadInfo(){
+    if(this.lockFreePointReads.count() == 0 && this.lockedPointReads.count() == 0)
+      return "";
+    return "Point reads: lock-free " + this.lockFreePointReads + "; locked " + this.lockedPointReads + "\n";
+  }
+
   public void insert(Row row) {
-    this.checkRowValidInTable(row);
-    if(this.containsRow(row))
+    if(this.putIfAbsent(row) != null)
       throw new DuplicateKeyException();
-    this.index.put(row.getEntries().get(this.primaryIndex), row);
+  }
+
+  /**
+   * 主键不存在时插入该行，只从根下降一次
+   * @return 已有的同主键的行，插入成功时返回 null
+   */
+  public Row putIfAbsent(Row row) {
+    this.checkRowValidInTable(row);
+    long stamp = this.lockRowChange();
+    try {
+      Row existingRow = this.index.putIfAbsent(row.getEntries().get(this.primaryIndex), row);
+      if(existingRow == null) {
+        this.addToSecondaryIndexes(row);
+        this.recordChange();
+      }
+      return existingRow;
+    } finally {
+      this.unlockRowChange(stamp);
+    }
+  }
+
+  /**
+   * 插入该行，主键已存在时替换原来的行，只从根下降一次
+   * @return 被替换的行，新插入时返回 null
+   */
+  public Row upsert(Row row) {
+    this.checkRowValidInTable(row);
+    long stamp = this.lockRowChange();
+    try {
+      Row oldRow = this.index.upsert(row.getEntries().get(this.primaryIndex), row);
+      if(oldRow != null)
+        this.removeFromSecondaryIndexes(oldRow);
+      this.addToSecondaryIndexes(row);
+      this.recordChange();
+      return oldRow;
+    } finally {
+      this.unlockRowChange(stamp);
+    }
   }
 
   public void delete(Row row) {
     this.checkRowValidInTable(row);
     if(!this.containsRow(row))
       throw new KeyNotExistException();
-    this.index.remove(row.getEntries().get(this.primaryIndex));
+    Cell primaryCell = row.getEntries().get(this.primaryIndex);
+    long stamp = this.lockRowChange();
+    try {
+      // 并发表上别的写者可能在选出这一行之后修改过它，从二级索引中删掉的是索引中现在的行
+      Row oldRow = this.isConcurrent() ? this.index.get(primaryCell) : row;
+      this.index.remove(primaryCell);
+      this.removeFromSecondaryIndexes(oldRow);
+      this.recordChange();
+    } finally {
+      this.unlockRowChange(stamp);
+    }
   }
 
   public void update(Cell primaryCell, Row newRow) {
     this.checkRowValidInTable(newRow);
-    Row oldRow = this.get(primaryCell);
-    /* 感觉这里有问题，按这个就只能修改主键了，所以我给他注释了
-     if(this.containsRow(newRow))
-     throw new DuplicateKeyException();   // 要么删并插入，要么抛出异常
-     */
-    this.index.remove(primaryCell);
-    this.index.put(newRow.getEntries().get(this.primaryIndex), newRow);
+    Cell newPrimaryCell = newRow.getEntries().get(this.primaryIndex);
+    Row oldRow;
+    long stamp = this.lockRowChange();
+    try {
+      if(newPrimaryCell.equals(primaryCell)) {
+        // 主键没变：原地替换，不会引起节点的合并和分裂
+        oldRow = this.index.replaceValue(primaryCell, newRow);
+      }
+      else {
+        // 主键变了：先插入新主键，重复时原来的行保持不动
+        oldRow = this.get(primaryCell);
+        if(this.index.putIfAbsent(newPrimaryCell, newRow) != null)
+          throw new DuplicateKeyException();
+        this.index.remove(primaryCell);
+      }
+      this.removeFromSecondaryIndexes(oldRow);
+      this.addToSecondaryIndexes(newRow);
+      this.recordChange();
+    } finally {
+      this.unlockRowChange(stamp);
+    }
   }
 
+  // 修改一行之前取得 seqlock 的写锁；并发表没有二级索引时不需要，返回 0
+  private long lockRowChange(){
+    if(this.isConcurrent() && this.secondaryIndexes.isEmpty())
+      return 0;
+    return this.seqlock.writeLock();
+  }
 
-  /**
-   * 将表的列名换为tableName_columnName的形式
-   * 这里似乎不应该加锁
-   * @return 一个新表
-   */
-  public Table getColumnFullNameTable(){
+  private void unlockRowChange(long stamp){
+    if(stamp != 0)
+      this.seqlock.unlockWrite(stamp);
+  }
+
+  // 并发表的读者读二级索引期间挡住正在修改它们的写者；其他表的写者持有表的写锁，不需要，返回 0
+  private long lockSecondaryIndexes(){
+    return this.isConcurrent() ? this.seqlock.readLock() : 0;
+  }
+
+  private void unlockSecondaryIndexes(long stamp){
+    if(stamp != 0)
+      this.seqlock.unlockRead(stamp);
+  }
+
+  // 新行先分配序号再进入位图索引；删除的行先离开位图索引再释放序号
+  private void addToSecondaryIndexes(Row row){
+    if(this.rowOrdinals != null)
+      this.rowOrdinals.assign(row.getEntries().get(this.primaryIndex));
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      secondaryIndex.add(row, this.primaryIndex);
+  }
+
+  private void removeFromSecondaryIndexes(Row row){
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes)
+      secondaryIndex.remove(row, this.primaryIndex);
+    if(this.rowOrdinals != null)
+      this.rowOrdinals.release(row.getEntries().get(this.primaryIndex));
+  }
+
+
+  // 列名改为 tableName_columnName 形式的各列，多表查询用它区分不同表的同名列
+  public ArrayList<Column> getColumnFullNames(){
     ArrayList<Column> newColumns = new ArrayList<>();
     for (Column column: columns) {
       String newColumnName = this.tableName+"_"+column.getColumnName();
       Column newColumn = new Column(newColumnName,column.getColumnType(),column.getPrimary(),column.cantBeNull(),column.getMaxLength());
       newColumns.add(newColumn);
     }
-    Column[] newColumn = newColumns.toArray(new Column[0]);
-    Table newTable = new Table(this.databaseName,this.tableName,newColumn);
+    return newColumns;
+  }
+
+  /**
+   * 将表的列名换为tableName_columnName的形式
+   * 这里似乎不应该加锁
+   * @return 一个新表
+   */
+  public Table getColumnFullNameTable(){
+    Column[] newColumn = this.getColumnFullNames().toArray(new Column[0]);
+    Table newTable = new Table(this.dbmsDir,this.databaseName,this.tableName,newColumn,null,false);
     newTable.index = this.index;
-    //newTable.lock = this.lock;?
+    // 共用锁，这样写时复制索引上持有写锁的事务仍能读到自己的修改
+    newTable.lock = this.lock;
     return newTable;
   }
 
@@ -206,6 +801,7 @@ public class Table implements Iterable<Row> {
   }
 
   public void dropTable(){ // remove table data file
+    this.dropped = true;
     File tableFolder = new File(this.getTableFolderPath());
     if (!tableFolder.exists() ? !tableFolder.mkdirs() : !tableFolder.isDirectory())
       throw new FileIOException(this.getTableFolderPath() + " when dropTable");
@@ -228,22 +824,44 @@ public class Table implements Iterable<Row> {
 
   // Operations
 
-  private class TableIterator implements Iterator<Row> {
+  private class TableIterator implements Iterator<Row>, AutoCloseable {
     private Iterator<Pair<Cell, Row>> iterator;
+    private CopyOnWriteBPlusTree<Cell, Row>.Snapshot snapshot;
 
     TableIterator(Table table) {
-      this.iterator = table.index.iterator();
+      if (table.readsSnapshot()) {
+        // 扫描开始时捕获已提交的根，扫描期间不持有锁，扫描结束时释放快照
+        this.snapshot = table.versionedIndex().snapshot();
+        this.iterator = snapshot.iterator();
+      }
+      else
+        this.iterator = table.index.iterator();
+    }
+
+    // 遍历索引中的一部分，如主键范围扫描
+    TableIterator(Iterator<Pair<Cell, Row>> iterator) {
+      this.iterator = iterator;
     }
 
     @Override
     public boolean hasNext() {
-      return iterator.hasNext();
+      boolean hasNext = iterator.hasNext();
+      if (!hasNext)
+        close();
+      return hasNext;
     }
 
     @Override
     public Row next() {
       return iterator.next().right;
     }
+
+    // 没有扫描到底就停下时释放快照
+    @Override
+    public void close() {
+      if (snapshot != null)
+        snapshot.close();
+    }
   }
 
   @Override
@@ -251,6 +869,198 @@ public class Table implements Iterable<Row> {
     return new TableIterator(this);
   }
 
+  // 把索引的 Spliterator 映射为行；B+树索引按内部结点的边界切分
+  private static class TableSpliterator implements Spliterator<Row> {
+    private final Spliterator<Pair<Cell, Row>> spliterator;
+
+    TableSpliterator(Spliterator<Pair<Cell, Row>> spliterator) {
+      this.spliterator = spliterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Row> action) {
+      return spliterator.tryAdvance(pair -> action.accept(pair.right));
+    }
+
+    @Override
+    public Spliterator<Row> trySplit() {
+      Spliterator<Pair<Cell, Row>> prefix = spliterator.trySplit();
+      return prefix == null ? null : new TableSpliterator(prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+      return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return spliterator.characteristics() & ~Spliterator.SORTED;
+    }
+  }
+
+  /**
+   * 可切分的全表扫描，供 parallelStream() 在 fork-join 线程池上并行过滤、聚合
+   * 工作线程不持有表锁，由发起扫描的线程在整个扫描期间持有；读快照的读者按已提交的快照扫描
+   */
+  @Override
+  public Spliterator<Row> spliterator() {
+    if(readsSnapshot())
+      return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    return new TableSpliterator(this.index.spliterator());
+  }
+
+  public Stream<Row> stream() {
+    return StreamSupport.stream(this.spliterator(), false);
+  }
+
+  public Stream<Row> parallelStream() {
+    return StreamSupport.stream(this.spliterator(), true);
+  }
+
+  /**
+   * 并行扫描全表，B+树主键索引的叶子若由区域映射可知不含满足所有条件的行则整个跳过
+   * 条件只用来跳过叶子，返回的行仍需用完整的 where 条件过滤
+   */
+  public Stream<Row> parallelStream(List<ZoneMap.Condition> conditions) {
+    Spliterator<Row> spliterator = this.zoneMapSpliterator(conditions);
+    return spliterator == null ? this.parallelStream() : StreamSupport.stream(spliterator, true);
+  }
+
+  /**
+   * 与 parallelStream(conditions) 相同地跳过叶子，但在调用线程上按主键顺序逐行扫描，供执行器边扫描边过滤
+   * 读快照时返回的迭代器实现 AutoCloseable，没有扫描到底就停下的调用者要关闭它
+   */
+  public Iterator<Row> iterator(List<ZoneMap.Condition> conditions) {
+    Spliterator<Row> spliterator = this.zoneMapSpliterator(conditions);
+    return spliterator == null ? this.iterator() : Spliterators.iterator(spliterator);
+  }
+
+  // 用不上区域映射时返回 null
+  private Spliterator<Row> zoneMapSpliterator(List<ZoneMap.Condition> conditions) {
+    if(conditions.isEmpty() || readsSnapshot() || !(this.index instanceof BPlusTree))
+      return null;
+    BPlusTree<Cell, Row> tree = (BPlusTree<Cell, Row>) this.index;
+    return new TableSpliterator(tree.spliterator(ZoneMap.SUMMARIZER, zoneMap -> zoneMap.mayMatch(conditions), this.scanStatistics));
+  }
+
+  public PredicateStatistics getPredicateStatistics(){
+    return this.predicateStatistics;
+  }
+
+  private void recordChange(){
+    TableStatistics statistics = this.statistics;
+    if(statistics != null)
+      statistics.recordChange();
+  }
+
+  /**
+   * ANALYZE：扫描全表收集统计信息并写到 _stats 文件
+   * 需要持有表的读锁或写锁
+   */
+  public TableStatistics analyze(){
+    this.statistics = TableStatistics.collect(this.columns, this, Global.statisticsSampleRows, new Random());
+    this.persistStatistics();
+    return this.statistics;
+  }
+
+  /**
+   * 收集过统计信息且之后改动的行足够多时，在后台线程上重新收集，由写语句在结束时调用
+   * 后台线程要等写者的事务提交、释放写锁后才能加上读锁扫描全表，写语句不等待收集，收集的也是已提交的数据
+   */
+  public void refreshStatistics(){
+    TableStatistics statistics = this.statistics;
+    if(statistics == null || !statistics.isStale() || !this.refreshScheduled.compareAndSet(false, true))
+      return;
+    STATISTICS_REFRESHER.execute(() -> {
+      ReentrantReadWriteLock lock = this.lock;
+      lock.readLock().lock();
+      try {
+        // 期间表被删除，或者已经有人 ANALYZE 过时不再收集
+        if(!this.dropped && this.statistics == statistics)
+          this.analyze();
+      } catch (RuntimeException ignored) {
+        // 写 _stats 文件失败时保留原来的统计信息，下一次写语句结束时再试
+      } finally {
+        this.refreshScheduled.set(false);
+        lock.readLock().unlock();
+      }
+    });
+  }
+
+  public TableStatistics getStatistics(){
+    return this.statistics;
+  }
+
+  // 第 columnIndex 列的统计信息，没有时返回 null
+  public TableStatistics.ColumnStatistics getColumnStatistics(int columnIndex){
+    TableStatistics statistics = this.statistics;
+    if(statistics == null || columnIndex < 0)
+      return null;
+    return statistics.getColumn(columnIndex, this.columns.get(columnIndex).getColumnName());
+  }
+
+  // 统计信息(连同之后改动的行数)写到 _stats 文件，没有统计信息时不写
+  public void persistStatistics(){
+    TableStatistics statistics = this.statistics;
+    if(statistics == null)
+      return;
+    try (ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(this.getTableStatisticsPath()))) {
+      outputStream.writeObject(statistics);
+    } catch (IOException e) {
+      throw new FileIOException(this.getTableStatisticsPath() + " on persisting statistics");
+    }
+  }
+
+  // 从 _stats 文件读回统计信息，文件不存在或读不出时当作没有收集过
+  public void recoverStatistics(){
+    File file = new File(this.getTableStatisticsPath());
+    if(!file.isFile())
+      return;
+    try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
+      this.statistics = (TableStatistics) inputStream.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      this.statistics = null;
+    }
+  }
+
+  /**
+   * 按观察到的条件给出的建索引建议，每个列和索引类型一条
+   * 主键列、已有能用于该条件的索引的列，以及从未让查询扫描全表的条件不给建议
+   */
+  public List<IndexAdvice> getIndexAdvice(){
+    Map<String, IndexAdvice> advice = new LinkedHashMap<>();
+    for(PredicateStatistics.Usage usage : this.predicateStatistics.getUsages()){
+      int columnIndex = this.Column2Index(usage.getColumnName());
+      IndexType type = IndexAdvice.typeFor(usage);
+      if(columnIndex < 0 || columnIndex == this.primaryIndex || type == null || usage.getSavedRows() <= 0
+              || this.hasIndexFor(columnIndex, usage.getOperator()))
+        continue;
+      advice.computeIfAbsent(usage.getColumnName() + " " + type,
+              key -> new IndexAdvice(this.tableName, usage.getColumnName(), type)).add(usage);
+    }
+    return new ArrayList<>(advice.values());
+  }
+
+  // 该列上是否已有能为 operator 条件取行的二级索引
+  private boolean hasIndexFor(int columnIndex, String operator){
+    for(SecondaryIndex secondaryIndex : this.secondaryIndexes){
+      if(secondaryIndex.getColumnIndex() != columnIndex)
+        continue;
+      IndexMeta meta = secondaryIndex.getMeta();
+      if(operator.equals("=") ? secondaryIndex.supportsEquality() : operator.equals("<>") ? meta.isBitmap() : meta.isTrigram())
+        return true;
+    }
+    return false;
+  }
+
+  // 带条件的全表扫描跳过了多少叶子
+  public String getScanInfo(){
+    if(!(this.index instanceof BPlusTree))
+      return "";
+    return "Zone maps: " + this.scanStatistics.toString() + " in filtered scans\n";
+  }
+
   private void checkRowValidInTable(Row row){
     if(row.getEntries().size()!=this.columns.size())
       throw new SchemaLengthMismatchException(this.columns.size(), row.getEntries().size(), "when check Row Valid In table");
@@ -275,7 +1085,7 @@ public class Table implements Iterable<Row> {
   }
 
   public String getTableFolderPath(){
-    return Global.DBMS_DIR + File.separator + "data" + File.separator + databaseName + File.separator + "tables";
+    return this.dbmsDir + File.separator + "data" + File.separator + databaseName + File.separator + "tables";
   }
   public String getTablePath(){
     return this.getTableFolderPath() + File.separator + this.tableName;
@@ -283,6 +1093,12 @@ public class Table implements Iterable<Row> {
   public String getTableMetaPath(){
     return this.getTablePath() + Global.META_SUFFIX;
   }
+  public String getTableIndexMetaPath(){
+    return this.getTablePath() + Global.INDEX_SUFFIX;
+  }
+  public String getTableStatisticsPath(){
+    return this.getTablePath() + Global.STATISTICS_SUFFIX;
+  }
 
   public String toString(){
     StringBuilder s = new StringBuilder("Table " + this.tableName + ": ");
@@ -0,0 +1,238 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+
+import java.io.Serializable;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ANALYZE 收集的表和各列的统计信息，供优化器估计条件的选择率
+ * 扫描全表一遍：每列用 HyperLogLog 估计不同值的个数，精确统计 null 的个数和最小、最大值；
+ * 同时用蓄水池抽样取出至多 Global.statisticsSampleRows 行，由样本中的非 null 值建等深直方图
+ * 数值列的值按 double 比较，STRING 列按带引号的字符串比较，与区域映射(ZoneMap)一致
+ */
+public class TableStatistics implements Serializable {
+  private static final long serialVersionUID = -2086343213416329176L;
+  // 等深直方图的桶数，每个桶中的样本值个数相同
+  public static final int HISTOGRAM_BUCKETS = 32;
+
+  public static class ColumnStatistics implements Serializable {
+    private static final long serialVersionUID = 6420135770646306414L;
+    private final String columnName;
+    private final long rows;
+    private final long nullCount;
+    private final long distinctValues;
+    // 全是 null 时都为 null
+    private final Comparable min;
+    private final Comparable max;
+    // 直方图各桶的边界：bounds[0] 为样本中的最小值，bounds[i + 1] 为第 i 个桶中的最大值
+    private final Comparable[] bounds;
+
+    ColumnStatistics(String columnName, long rows, long nullCount, long distinctValues, Comparable min,
+                     Comparable max, Comparable[] bounds) {
+      this.columnName = columnName;
+      this.rows = rows;
+      this.nullCount = nullCount;
+      // 草图的估计值不超过非 null 的行数
+      this.distinctValues = Math.min(distinctValues, rows - nullCount);
+      this.min = min;
+      this.max = max;
+      this.bounds = bounds;
+    }
+
+    public String getColumnName() {
+      return this.columnName;
+    }
+
+    public long getDistinctValues() {
+      return this.distinctValues;
+    }
+
+    public double nullFraction() {
+      return this.rows == 0 ? 0 : (double) this.nullCount / this.rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Comparable a, Comparable b) {
+      return a.compareTo(b);
+    }
+
+    // value 是否在最小值和最大值之间
+    public boolean inRange(Comparable value) {
+      return this.min != null && compare(value, this.min) >= 0 && compare(value, this.max) <= 0;
+    }
+
+    /**
+     * 由直方图估计非 null 值中小于 value(inclusive 时小于等于)的比例
+     * 完全在 value 以下的桶计满，包含 value 的桶中数值列按值在桶内的位置线性插值，STRING 列计一半
+     */
+    public double fractionBelow(Comparable value, boolean inclusive) {
+      if (this.bounds.length == 0)
+        return 0;
+      if (this.bounds.length == 1) {
+        int c = compare(value, this.bounds[0]);
+        return c > 0 || (inclusive && c == 0) ? 1 : 0;
+      }
+      double below = 0;
+      for (int i = 0; i + 1 < this.bounds.length; i++) {
+        Comparable low = this.bounds[i], high = this.bounds[i + 1];
+        int toHigh = compare(value, high), toLow = compare(value, low);
+        if (toHigh > 0 || (inclusive && toHigh == 0))
+          below += 1;
+        else if (toLow > 0 || (inclusive && toLow == 0)) {
+          if (value instanceof Double) {
+            double l = (Double) low, h = (Double) high;
+            below += h > l ? ((Double) value - l) / (h - l) : 0.5;
+          } else
+            below += 0.5;
+        }
+      }
+      return below / (this.bounds.length - 1);
+    }
+
+    /**
+     * 列 comparator value 的选择率(占全部行的比例)，comparator 为 <、<=、>、>=，其他比较符返回 -1
+     * null 与 value 比较不成立
+     */
+    public double rangeSelectivity(String comparator, Comparable value) {
+      double nonNull = 1 - this.nullFraction();
+      switch (comparator) {
+        case "<": return nonNull * this.fractionBelow(value, false);
+        case "<=": return nonNull * this.fractionBelow(value, true);
+        case ">": return nonNull * (1 - this.fractionBelow(value, true));
+        case ">=": return nonNull * (1 - this.fractionBelow(value, false));
+        default: return -1;
+      }
+    }
+
+    public String toString() {
+      StringBuilder s = new StringBuilder(String.format("%s: %d distinct, %.2f%% null", this.columnName,
+          this.distinctValues, 100 * this.nullFraction()));
+      if (this.min != null)
+        s.append(", min ").append(format(this.min)).append(", max ").append(format(this.max));
+      if (this.bounds.length > 1) {
+        s.append("\n    histogram:");
+        for (Comparable bound : this.bounds)
+          s.append(' ').append(format(bound));
+      }
+      return s.toString();
+    }
+
+    private static String format(Comparable value) {
+      if (value instanceof Double && (Double) value == Math.rint((Double) value) && Math.abs((Double) value) < 1e15)
+        return String.valueOf(((Double) value).longValue());
+      return value.toString();
+    }
+  }
+
+  private final long rows;
+  private final int sampledRows;
+  private final long analyzedAt;
+  private final ColumnStatistics[] columns;
+  // 收集之后插入、删除和更新的行数
+  private final AtomicLong changedRows = new AtomicLong();
+
+  private TableStatistics(long rows, int sampledRows, ColumnStatistics[] columns) {
+    this.rows = rows;
+    this.sampledRows = sampledRows;
+    this.analyzedAt = System.currentTimeMillis();
+    this.columns = columns;
+  }
+
+  // 统计中比较用的值：数值为 double，字符串为带引号的字符串
+  static Comparable normalize(Object value) {
+    return value instanceof Number ? (Comparable) ((Number) value).doubleValue() : value.toString();
+  }
+
+  /**
+   * 扫描 rows 中的每一行收集统计信息，调用者保证期间行不被修改
+   * @param sampleRows 建直方图的样本行数上限
+   */
+  public static TableStatistics collect(List<Column> columns, Iterable<Row> rows, int sampleRows, Random random) {
+    int width = columns.size();
+    HyperLogLog[] sketches = new HyperLogLog[width];
+    long[] nullCounts = new long[width];
+    Comparable[] min = new Comparable[width], max = new Comparable[width];
+    for (int i = 0; i < width; i++)
+      sketches[i] = new HyperLogLog();
+    List<Row> sample = new ArrayList<>();
+    long count = 0;
+    for (Row row : rows) {
+      count++;
+      ArrayList<Cell> entries = row.getEntries();
+      for (int i = 0; i < width; i++) {
+        Object value = entries.get(i).value;
+        if (value == null) {
+          nullCounts[i]++;
+          continue;
+        }
+        sketches[i].add(value);
+        Comparable v = normalize(value);
+        if (min[i] == null || ColumnStatistics.compare(v, min[i]) < 0)
+          min[i] = v;
+        if (max[i] == null || ColumnStatistics.compare(v, max[i]) > 0)
+          max[i] = v;
+      }
+      // 蓄水池抽样：第 count 行以 sampleRows / count 的概率替换样本中随机的一行
+      if (sample.size() < sampleRows)
+        sample.add(row);
+      else {
+        long slot = (long) (random.nextDouble() * count);
+        if (slot < sampleRows)
+          sample.set((int) slot, row);
+      }
+    }
+    ColumnStatistics[] statistics = new ColumnStatistics[width];
+    for (int i = 0; i < width; i++) {
+      List<Comparable> values = new ArrayList<>();
+      for (Row row : sample) {
+        Object value = row.getEntries().get(i).value;
+        if (value != null)
+          values.add(normalize(value));
+      }
+      values.sort(ColumnStatistics::compare);
+      int buckets = Math.min(HISTOGRAM_BUCKETS, Math.max(values.size() - 1, 0));
+      Comparable[] bounds = new Comparable[values.isEmpty() ? 0 : buckets + 1];
+      for (int b = 0; b < bounds.length; b++)
+        bounds[b] = values.get(buckets == 0 ? 0 : (int) ((long) b * (values.size() - 1) / buckets));
+      statistics[i] = new ColumnStatistics(columns.get(i).getColumnName(), count, nullCounts[i],
+          sketches[i].estimate(), min[i], max[i], bounds);
+    }
+    return new TableStatistics(count, sample.size(), statistics);
+  }
+
+  public long getRows() {
+    return this.rows;
+  }
+
+  // 第 columnIndex 列的统计，列名对不上(表结构变了)时返回 null
+  public ColumnStatistics getColumn(int columnIndex, String columnName) {
+    if (columnIndex < 0 || columnIndex >= this.columns.length)
+      return null;
+    ColumnStatistics column = this.columns[columnIndex];
+    return column.getColumnName().equals(columnName) ? column : null;
+  }
+
+  public void recordChange() {
+    this.changedRows.incrementAndGet();
+  }
+
+  // 收集之后改动的行数超过当时行数的 Global.statisticsRefreshFraction 时需要重新收集
+  public boolean isStale() {
+    return this.changedRows.get() > Global.statisticsRefreshFraction * Math.max(this.rows, 1);
+  }
+
+  public String toString() {
+    StringBuilder s = new StringBuilder(String.format("%d rows analyzed at %s, %d rows sampled, %d rows changed since\n",
+        this.rows, new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(this.analyzedAt)), this.sampledRows,
+        this.changedRows.get()));
+    for (ColumnStatistics column : this.columns)
+      s.append("  ").append(column.toString()).append("\n");
+    return s.toString();
+  }
+}
@@ -0,0 +1,138 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.index.HashIndex;
+import cn.edu.thssdb.index.IndexFootprint;
+import cn.edu.thssdb.index.RoaringBitmap;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 三元组(trigram)倒排索引：把 STRING 列的值拆成所有长度为 3 的子串，每个子串对应含有它的行的序号(倒排表)
+ * LIKE '%abc%' 先对模式中不含通配符的片段取三元组，把它们的倒排表求交得到候选行，再逐行匹配
+ * 倒排表用位图保存，行序号由表中共用的 {@link RowOrdinals} 分配
+ */
+public class TrigramIndex extends SecondaryIndex {
+  private final RowOrdinals ordinals;
+  private final HashIndex<String, RoaringBitmap> postings = new HashIndex<>();
+  private int indexedRows;
+
+  public TrigramIndex(IndexMeta meta, int columnIndex, RowOrdinals ordinals) {
+    super(meta, columnIndex);
+    this.ordinals = ordinals;
+  }
+
+  static Set<String> trigrams(String text) {
+    Set<String> trigrams = new HashSet<>();
+    for (int i = 0; i + 3 <= text.length(); i++)
+      trigrams.add(text.substring(i, i + 3));
+    return trigrams;
+  }
+
+  // 模式中被 % 和 _ 分开的各个片段里的三元组，匹配的值一定含有它们
+  static Set<String> patternTrigrams(String pattern) {
+    Set<String> trigrams = new HashSet<>();
+    for (String segment : pattern.split("[%_]"))
+      trigrams.addAll(trigrams(segment));
+    return trigrams;
+  }
+
+  @Override
+  public void add(Row row, int primaryIndex) {
+    Cell value = row.getEntries().get(this.getColumnIndex());
+    if (value.value == null)
+      return;
+    int ordinal = this.ordinals.ordinal(row.getEntries().get(primaryIndex));
+    for (String trigram : trigrams(Cell.unquote(value.value.toString()))) {
+      if (!this.postings.contains(trigram))
+        this.postings.put(trigram, new RoaringBitmap());
+      this.postings.get(trigram).add(ordinal);
+    }
+    this.indexedRows++;
+  }
+
+  @Override
+  public void remove(Row row, int primaryIndex) {
+    Cell value = row.getEntries().get(this.getColumnIndex());
+    if (value.value == null)
+      return;
+    int ordinal = this.ordinals.ordinal(row.getEntries().get(primaryIndex));
+    for (String trigram : trigrams(Cell.unquote(value.value.toString()))) {
+      RoaringBitmap posting = this.postings.get(trigram);
+      posting.remove(ordinal);
+      if (posting.isEmpty())
+        this.postings.remove(trigram);
+    }
+    this.indexedRows--;
+  }
+
+  /**
+   * LIKE pattern 的候选行的序号(满足的行一定在其中)；pattern 不带引号
+   * 模式中没有长度不小于 3 的片段时索引帮不上忙，返回 null；返回的位图不能修改
+   */
+  public RoaringBitmap candidates(String pattern) {
+    Set<String> trigrams = patternTrigrams(pattern);
+    if (trigrams.isEmpty())
+      return null;
+    RoaringBitmap result = null;
+    for (String trigram : trigrams) {
+      if (!this.postings.contains(trigram))
+        return new RoaringBitmap();
+      RoaringBitmap posting = this.postings.get(trigram);
+      result = result == null ? posting : result.and(posting);
+    }
+    return result;
+  }
+
+  /**
+   * candidates(pattern) 的行数的上界：各个三元组的倒排表中最短的一个的长度，不求交
+   * 模式中没有可用的三元组时返回 -1
+   */
+  public int estimate(String pattern) {
+    Set<String> trigrams = patternTrigrams(pattern);
+    if (trigrams.isEmpty())
+      return -1;
+    int estimate = Integer.MAX_VALUE;
+    for (String trigram : trigrams)
+      estimate = Math.min(estimate, this.postings.contains(trigram) ? this.postings.get(trigram).cardinality() : 0);
+    return estimate;
+  }
+
+  // 三元组索引不支持等值查找
+  @Override
+  public boolean supportsEquality() {
+    return false;
+  }
+
+  @Override
+  public List<Cell> lookup(Cell value) {
+    throw new UnsupportedOperationException("trigram index " + this.getMeta().getIndexName() + " only serves LIKE");
+  }
+
+  @Override
+  public int distinctValues() {
+    return -1;
+  }
+
+  // 三元组字典(哈希表)的占用
+  @Override
+  public IndexFootprint footprint() {
+    return this.postings.footprint();
+  }
+
+  public long getPostingBytes() {
+    long bytes = 0;
+    for (Pair<String, RoaringBitmap> pair : this.postings)
+      bytes += pair.right.sizeInBytes();
+    return bytes;
+  }
+
+  @Override
+  public String toString() {
+    return this.getMeta().getIndexName() + " on " + this.getMeta().getColumnName() + " (" + this.getMeta().getType() + "): "
+            + this.postings.size() + " trigrams over " + this.indexedRows + " rows, posting lists ~"
+            + getPostingBytes() + " bytes";
+  }
+}
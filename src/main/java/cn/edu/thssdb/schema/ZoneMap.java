@@ -0,0 +1,98 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.index.LeafSummarizer;
+
+import java.util.List;
+
+/**
+ * 区域映射(zone map)：一个 B+树叶子中各列的最小值、最大值和 null 的个数
+ * 扫描时叶子的区域映射与 where 中的某个范围条件不相交，就可以跳过整个叶子
+ * 叶子的内容变化(插入、删除、更新)时缓存的区域映射作废，下次扫描时重新计算
+ */
+public class ZoneMap {
+  // 同一个实例才能命中叶子里缓存的区域映射
+  public static final LeafSummarizer<Row, ZoneMap> SUMMARIZER = ZoneMap::new;
+
+  private final Comparable[] min;
+  private final Comparable[] max;
+  private final int[] nullCount;
+  private final int rowCount;
+
+  @SuppressWarnings("unchecked")
+  public ZoneMap(List<Row> rows) {
+    int columnCount = rows.isEmpty() ? 0 : rows.get(0).getEntries().size();
+    this.min = new Comparable[columnCount];
+    this.max = new Comparable[columnCount];
+    this.nullCount = new int[columnCount];
+    this.rowCount = rows.size();
+    for(Row row : rows){
+      for(int i = 0; i < columnCount; i++){
+        Comparable value = row.getEntries().get(i).value;
+        if(value == null){
+          this.nullCount[i]++;
+          continue;
+        }
+        if(this.min[i] == null || value.compareTo(this.min[i]) < 0)
+          this.min[i] = value;
+        if(this.max[i] == null || value.compareTo(this.max[i]) > 0)
+          this.max[i] = value;
+      }
+    }
+  }
+
+  public int getRowCount() {
+    return this.rowCount;
+  }
+
+  public int getNullCount(int columnIndex) {
+    return this.nullCount[columnIndex];
+  }
+
+  // 叶子中可能有满足所有条件的行时返回 true
+  public boolean mayMatch(List<Condition> conditions) {
+    for(Condition condition : conditions)
+      if(!condition.mayMatch(this))
+        return false;
+    return true;
+  }
+
+  /**
+   * 形如 列 比较符 常量 的条件，比较方式与 {@link cn.edu.thssdb.parser.item.ConditionItem#evaluate} 一致：
+   * 数值列的值写成十进制后按 double 比较(value 为 Double)，字符串列按字符串比较(value 为 String)
+   * 常量不为 null，所以该列为 null 的行一定不满足条件
+   */
+  public static class Condition {
+    private final int columnIndex;
+    private final String comparator;
+    private final Comparable value;
+
+    public Condition(int columnIndex, String comparator, Comparable value) {
+      this.columnIndex = columnIndex;
+      this.comparator = comparator;
+      this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Comparable columnValue) {
+      if(this.value instanceof Double)
+        return Double.compare(Double.parseDouble(columnValue.toString()), (Double) this.value);
+      return columnValue.toString().compareTo(this.value.toString());
+    }
+
+    public boolean mayMatch(ZoneMap zoneMap) {
+      if(zoneMap.rowCount == 0 || zoneMap.rowCount == zoneMap.nullCount[this.columnIndex])
+        return false;
+      int low = compare(zoneMap.min[this.columnIndex]);
+      int high = compare(zoneMap.max[this.columnIndex]);
+      switch (this.comparator){
+        case "=": return low <= 0 && high >= 0;
+        case "<": return low < 0;
+        case "<=": return low <= 0;
+        case ">": return high > 0;
+        case ">=": return high >= 0;
+        case "<>": return low != 0 || high != 0;
+        default: return true;
+      }
+    }
+  }
+}
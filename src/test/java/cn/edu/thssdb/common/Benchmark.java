@@ -0,0 +1,58 @@
+package cn.edu.thssdb.common;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Timing shared by the benchmarks in the test sources. They are not unit tests; each has a
+ * {@code main} and is run with {@code java -cp <test and main classes> <class> [arguments]}.
+ */
+public final class Benchmark {
+
+  private Benchmark() {
+  }
+
+  /**
+   * Runs {@code workload} {@code warmups} times for the JIT, then once more under the clock, and
+   * prints the time per operation next to what the measured run returned, a row count or a
+   * checksum, which also keeps the JIT from dropping the work.
+   */
+  public static long measure(String name, int warmups, long operations, LongSupplier workload) {
+    for (int i = 0; i < warmups; i++) workload.getAsLong();
+    long start = System.nanoTime();
+    long result = workload.getAsLong();
+    long nanos = System.nanoTime() - start;
+    System.out.printf("  %-40s %9.1f ms %9.1f ns/op   (%d)%n", name, nanos / 1e6, (double) nanos / operations, result);
+    return result;
+  }
+
+  /** Calls every loop body over and over, each on its own thread, until {@code seconds} have passed. */
+  public static void repeat(int seconds, List<Runnable> bodies) throws InterruptedException {
+    AtomicBoolean stop = new AtomicBoolean();
+    List<Thread> threads = new ArrayList<>();
+    for (Runnable body : bodies) {
+      threads.add(new Thread(() -> {
+        while (!stop.get()) body.run();
+      }));
+    }
+    for (Thread thread : threads) thread.start();
+    Thread.sleep(seconds * 1000L);
+    stop.set(true);
+    for (Thread thread : threads) thread.join();
+  }
+
+  /** Drops everything printed to stdout, such as the statement log of the SQL layer; returns the old stream. */
+  public static PrintStream silenceStdout() {
+    PrintStream out = System.out;
+    System.setOut(new PrintStream(new OutputStream() {
+      @Override
+      public void write(int b) {
+      }
+    }));
+    return out;
+  }
+}
@@ -0,0 +1,128 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AdaptiveRadixTreeTest {
+
+  private static <K> List<K> keys(Iterator<Pair<K, Integer>> iterator) {
+    List<K> keys = new ArrayList<>();
+    while (iterator.hasNext()) keys.add(iterator.next().left);
+    return keys;
+  }
+
+  /** Random upserts and removes, checked against a TreeMap after every step that matters. */
+  private static <K extends Comparable<K>> void checkAgainstTreeMap(AdaptiveRadixTree<K, Integer> tree,
+                                                                    Supplier<K> keys, int operations, Random random) {
+    TreeMap<K, Integer> expected = new TreeMap<>();
+    for (int i = 0; i < operations; i++) {
+      K key = keys.get();
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.containsKey(key), tree.contains(key));
+        if (expected.remove(key) != null) tree.remove(key);
+      } else {
+        assertEquals(expected.put(key, i), tree.upsert(key, i));
+      }
+    }
+    assertEquals(expected.size(), tree.size());
+    for (Map.Entry<K, Integer> entry : expected.entrySet()) assertEquals(entry.getValue(), tree.get(entry.getKey()));
+    assertEquals(new ArrayList<>(expected.keySet()), keys(tree.iterator()));
+    for (int i = 0; i < 50; i++) {
+      K from = keys.get();
+      K to = keys.get();
+      if (from.compareTo(to) > 0) {
+        K swap = from;
+        from = to;
+        to = swap;
+      }
+      assertEquals(new ArrayList<>(expected.subMap(from, to).keySet()), keys(tree.range(from, to)));
+      assertEquals(new ArrayList<>(expected.tailMap(from).keySet()), keys(tree.range(from, null)));
+    }
+  }
+
+  @Test
+  public void testIntegerKeys() {
+    Random random = new Random(11);
+    // dense low bytes grow nodes up to node256, removals shrink them again
+    checkAgainstTreeMap(new AdaptiveRadixTree<Integer, Integer>(BinaryKeyEncoder::encodeInt),
+        () -> random.nextInt(20000) - 10000, 60000, random);
+    checkAgainstTreeMap(new AdaptiveRadixTree<Integer, Integer>(BinaryKeyEncoder::encodeInt),
+        () -> random.nextInt(), 20000, random);
+  }
+
+  @Test
+  public void testDoubleKeys() {
+    Random random = new Random(12);
+    checkAgainstTreeMap(new AdaptiveRadixTree<Double, Integer>(BinaryKeyEncoder::encodeDouble),
+        () -> (random.nextInt(2000) - 1000) / 8.0, 20000, random);
+  }
+
+  @Test
+  public void testStringKeys() {
+    Random random = new Random(13);
+    // keys that are prefixes of each other end in terminal slots
+    checkAgainstTreeMap(new AdaptiveRadixTree<String, Integer>(BinaryKeyEncoder::encodeString), () -> {
+      StringBuilder key = new StringBuilder("k");
+      for (int length = random.nextInt(6); length > 0; length--) key.append((char) ('a' + random.nextInt(3)));
+      return key.toString();
+    }, 20000, random);
+  }
+
+  @Test
+  public void testIndexContract() {
+    AdaptiveRadixTree<Integer, Integer> tree = new AdaptiveRadixTree<>(BinaryKeyEncoder::encodeInt);
+    tree.put(1, 10);
+    try {
+      tree.put(1, 11);
+      fail();
+    } catch (DuplicateKeyException ignored) {
+    }
+    assertEquals(Integer.valueOf(10), tree.putIfAbsent(1, 12));
+    assertNull(tree.putIfAbsent(2, 20));
+    assertEquals(Integer.valueOf(20), tree.replaceValue(2, 21));
+    try {
+      tree.remove(3);
+      fail();
+    } catch (KeyNotExistException ignored) {
+    }
+    try {
+      tree.get(3);
+      fail();
+    } catch (KeyNotExistException ignored) {
+    }
+    tree.remove(1);
+    tree.remove(2);
+    assertEquals(0, tree.size());
+    assertFalse(tree.iterator().hasNext());
+  }
+
+  @Test
+  public void testRangeMatchesBPlusTree() {
+    AdaptiveRadixTree<Integer, Integer> radix = new AdaptiveRadixTree<>(BinaryKeyEncoder::encodeInt);
+    BPlusTree<Integer, Integer> tree = new BPlusTree<>(8, 0.5);
+    for (int i = -500; i < 500; i += 3) {
+      radix.put(i, i);
+      tree.put(i, i);
+    }
+    assertEquals(keys(tree.range(-100, 100)), keys(radix.range(-100, 100)));
+    assertEquals(keys(tree.range(null, -400)), keys(radix.range(null, -400)));
+    assertEquals(keys(tree.range(497, null)), keys(radix.range(497, null)));
+    assertTrue(radix.footprint().toString().startsWith("adaptive radix tree, 334 entries"));
+  }
+}
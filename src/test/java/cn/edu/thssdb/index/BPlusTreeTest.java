@@ -1,14 +1,26 @@
 package cn.edu.thssdb.index;
 
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.stream.StreamSupport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class BPlusTreeTest {
   private BPlusTree<Integer, Integer> tree;
@@ -69,4 +81,270 @@ public class BPlusTreeTest {
     }
     assertEquals(values.size(), c);
   }
+
+  @Test
+  public void testConfiguredFanout() {
+    BPlusTree<Integer, Integer> small = new BPlusTree<>(4, 1.0);
+    for (Integer key : keys) small.put(key, map.get(key));
+    int size = keys.size();
+    for (int i = 0; i < size; i += 2) small.remove(keys.get(i));
+    assertEquals(size - (size + 1) / 2, small.size());
+    for (int i = 1; i < size; i += 2) assertEquals(map.get(keys.get(i)), small.get(keys.get(i)));
+  }
+
+  @Test
+  public void testFootprint() {
+    BPlusTree<Integer, Integer> sequential = new BPlusTree<>(64, 1.0);
+    for (int i = 0; i < 10000; i++) sequential.put(i, i);
+    IndexFootprint footprint = sequential.footprint();
+    // appends fill the leaves completely, so there are fewer slots than twice the entries
+    assertTrue(footprint.getSlots() < 2 * 10000);
+    assertTrue(footprint.getBytes() < footprint.getLegacyBytes());
+    assertTrue(tree.footprint().getBytes() < tree.footprint().getLegacyBytes());
+  }
+
+  @Test
+  public void testPutIfAbsentAndUpsert() {
+    List<Index<Integer, Integer>> indexes = Arrays.asList(new BPlusTree<>(4, 1.0),
+        new ConcurrentBPlusTree<>(4), new CopyOnWriteBPlusTree<>(4), new HashIndex<>());
+    for (Index<Integer, Integer> index : indexes) {
+      for (Integer key : keys) assertNull(index.putIfAbsent(key, map.get(key)));
+      assertEquals(keys.size(), index.size());
+      for (Integer key : keys) assertEquals(map.get(key), index.putIfAbsent(key, -1));
+      for (Integer key : keys) assertEquals(map.get(key), index.replaceValue(key, key + 1));
+      for (Integer key : keys) assertEquals(Integer.valueOf(key + 1), index.upsert(key, key + 2));
+      assertNull(index.upsert(-5, 0));
+      assertEquals(keys.size() + 1, index.size());
+      for (Integer key : keys) assertEquals(Integer.valueOf(key + 2), index.get(key));
+      try {
+        index.replaceValue(-6, 0);
+        fail("missing key replaced in " + index.getClass().getSimpleName());
+      } catch (KeyNotExistException ignored) {
+      }
+      assertFalse(index.contains(-6));
+    }
+  }
+
+  private static void collectParts(Spliterator<Pair<Integer, Integer>> part, List<Spliterator<Pair<Integer, Integer>>> parts) {
+    Spliterator<Pair<Integer, Integer>> prefix = part.trySplit();
+    if (prefix == null) {
+      parts.add(part);
+      return;
+    }
+    collectParts(prefix, parts);
+    collectParts(part, parts);
+  }
+
+  @Test
+  public void testSpliterator() {
+    BPlusTree<Integer, Integer> small = new BPlusTree<>(4, 0.5);
+    for (int i = 0; i < 1000; i++) small.put(i, i);
+    List<Spliterator<Pair<Integer, Integer>>> parts = new ArrayList<>();
+    collectParts(small.spliterator(), parts);
+    // splitting goes all the way down to single leaves, and the parts cover the keys in order
+    assertTrue(parts.size() >= 1000 / 4);
+    List<Integer> scanned = new ArrayList<>();
+    for (Spliterator<Pair<Integer, Integer>> part : parts) part.forEachRemaining(pair -> scanned.add(pair.left));
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) expected.add(i);
+    assertEquals(expected, scanned);
+
+    long sum = 0;
+    for (Integer value : values) sum += value;
+    assertEquals(sum, StreamSupport.stream(tree.spliterator(), true).mapToLong(pair -> pair.right).sum());
+    assertEquals(keys.size(), StreamSupport.stream(tree.spliterator(), true).count());
+    assertFalse(StreamSupport.stream(new BPlusTree<Integer, Integer>().spliterator(), true).findAny().isPresent());
+  }
+
+  @Test
+  public void testLeafSummaries() {
+    BPlusTree<Integer, Integer> small = new BPlusTree<>(8, 0.5);
+    // values follow the keys, so a range on values only touches a few leaves
+    for (int i = 0; i < 1000; i++) small.put(i, i * 10);
+    LeafSummarizer<Integer, int[]> minMax = leafValues -> {
+      int[] range = {Integer.MAX_VALUE, Integer.MIN_VALUE};
+      for (int value : leafValues) {
+        range[0] = Math.min(range[0], value);
+        range[1] = Math.max(range[1], value);
+      }
+      return range;
+    };
+    ScanStatistics statistics = new ScanStatistics();
+    List<Integer> found = new ArrayList<>();
+    StreamSupport.stream(small.spliterator(minMax, range -> range[1] >= 5000 && range[0] <= 5100, statistics), false)
+        .filter(pair -> pair.right >= 5000 && pair.right <= 5100)
+        .forEach(pair -> found.add(pair.left));
+    assertEquals(11, found.size());
+    assertTrue(statistics.getScannedLeaves() <= 3);
+    assertTrue(statistics.getSkippedLeaves() > 100);
+
+    // a changed leaf drops its cached summary
+    small.replaceValue(0, 5050);
+    small.remove(1);
+    found.clear();
+    StreamSupport.stream(small.spliterator(minMax, range -> range[1] >= 5000 && range[0] <= 5100, statistics), true)
+        .filter(pair -> pair.right >= 5000 && pair.right <= 5100)
+        .forEach(pair -> {
+          synchronized (found) {
+            found.add(pair.left);
+          }
+        });
+    assertEquals(12, found.size());
+    assertTrue(found.contains(0));
+  }
+
+  @Test
+  public void testPrefixCompressedKeys() {
+    KeyCodec<String> identity = new KeyCodec<String>() {
+      @Override
+      public String encode(String key) {
+        return key;
+      }
+
+      @Override
+      public String decode(String encoded) {
+        return encoded;
+      }
+    };
+    BPlusTree<String, Integer> prefixed = new BPlusTree<>(8, 0.5, identity);
+    TreeMap<String, Integer> expected = new TreeMap<>();
+    Random random = new Random(7);
+    for (int i = 0; i < 20000; i++) {
+      // mostly one long shared prefix, plus keys that cut it short or are prefixes of each other
+      int kind = random.nextInt(10);
+      String key = kind == 0 ? "t" + random.nextInt(50)
+          : kind == 1 ? "tenant-" + random.nextInt(10)
+          : String.format("tenant-%04d-user-%06d", random.nextInt(3), random.nextInt(2000));
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.remove(key) != null, prefixed.contains(key));
+        if (prefixed.contains(key)) prefixed.remove(key);
+      } else {
+        assertEquals(expected.put(key, i), prefixed.upsert(key, i));
+      }
+    }
+    assertEquals(expected.size(), prefixed.size());
+    for (String key : expected.keySet()) assertEquals(expected.get(key), prefixed.get(key));
+    assertFalse(prefixed.contains("tenant-"));
+    assertFalse(prefixed.contains("zzz"));
+    List<String> scanned = new ArrayList<>();
+    for (Pair<String, Integer> pair : prefixed) scanned.add(pair.left);
+    assertEquals(new ArrayList<>(expected.keySet()), scanned);
+
+    BPlusTree<String, Integer> users = new BPlusTree<>(64, 0.5, identity);
+    for (int i = 0; i < 5000; i++) users.put(String.format("tenant-0001-user-%08d", i), i);
+    IndexFootprint footprint = users.footprint();
+    assertTrue(footprint.getKeyBytes() * 2 < footprint.getUncompressedKeyBytes());
+  }
+
+  /** Every node but the root holds between the minimum and maximum number of keys. */
+  private static void checkNodeSizes(BPlusTreeNode<Integer, Integer> node, boolean root) {
+    assertFalse(node.isOverFlow());
+    if (!root) assertFalse(node.isUnderFlow());
+    if (node instanceof BPlusTreeInternalNode)
+      for (int i = 0; i <= node.size(); i++)
+        checkNodeSizes(((BPlusTreeInternalNode<Integer, Integer>) node).children[i], false);
+  }
+
+  @Test
+  public void testBulkLoad() {
+    for (int fanout : new int[] {4, 5, 8, 129})
+      for (int count : new int[] {1, 2, 3, 7, 64, 65, 129, 1000, 20000}) {
+        List<Pair<Integer, Integer>> sorted = new ArrayList<>();
+        for (int i = 0; i < count; i++) sorted.add(new Pair<>(i * 2, i));
+        BPlusTree<Integer, Integer> loaded = new BPlusTree<>(fanout, fanout == 5 ? 1 : 0.5);
+        loaded.bulkLoad(sorted);
+        checkNodeSizes(loaded.root, true);
+        assertEquals(count, loaded.size());
+        List<Pair<Integer, Integer>> scanned = new ArrayList<>();
+        for (Pair<Integer, Integer> pair : loaded) scanned.add(pair);
+        assertEquals(sorted, scanned);
+        for (int i = 0; i < count; i++) assertEquals(Integer.valueOf(i), loaded.get(i * 2));
+        assertFalse(loaded.contains(1));
+
+        // the loaded tree keeps working as an ordinary one
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (Pair<Integer, Integer> pair : sorted) expected.put(pair.left, pair.right);
+        Random random = new Random(count);
+        for (int i = 0; i < 2000; i++) {
+          int key = random.nextInt(count * 2 + 10);
+          if (random.nextBoolean()) {
+            assertEquals(expected.put(key, i), loaded.upsert(key, i));
+          } else if (expected.remove(key) != null) {
+            loaded.remove(key);
+          }
+        }
+        List<Integer> keys = new ArrayList<>();
+        for (Pair<Integer, Integer> pair : loaded) keys.add(pair.left);
+        assertEquals(new ArrayList<>(expected.keySet()), keys);
+      }
+  }
+
+  @Test
+  public void testBulkLoadRejectsBadInput() {
+    BPlusTree<Integer, Integer> loaded = new BPlusTree<>(8, 0.5);
+    try {
+      loaded.bulkLoad(Arrays.asList(new Pair<>(1, 1), new Pair<>(1, 2)));
+      fail();
+    } catch (DuplicateKeyException ignored) {
+    }
+    try {
+      loaded.bulkLoad(Arrays.asList(new Pair<>(2, 1), new Pair<>(1, 2)));
+      fail();
+    } catch (IllegalArgumentException ignored) {
+    }
+    // a tree with entries takes the pairs one by one
+    loaded.put(5, 5);
+    loaded.bulkLoad(Arrays.asList(new Pair<>(1, 1), new Pair<>(9, 9)));
+    assertEquals(3, loaded.size());
+    try {
+      loaded.bulkLoad(Arrays.asList(new Pair<>(5, 1)));
+      fail();
+    } catch (DuplicateKeyException ignored) {
+    }
+  }
+
+  @Test
+  public void testIndexBuilder() {
+    Random random = new Random(5);
+    List<Pair<Integer, List<Integer>>> pairs = new ArrayList<>();
+    TreeMap<Integer, List<Integer>> expected = new TreeMap<>();
+    for (int i = 0; i < IndexBuilder.REPORT_ABOVE; i++) {
+      int key = random.nextInt(5000);
+      pairs.add(new Pair<>(key, new ArrayList<>(Arrays.asList(i))));
+      expected.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+    }
+    BPlusTree<Integer, List<Integer>> built = new BPlusTree<>();
+    List<String> progress = new ArrayList<>();
+    IndexBuilder.build(built, pairs.parallelStream(), (left, right) -> {
+      left.addAll(right);
+      return left;
+    }, "test", progress::add);
+    assertEquals(expected.size(), built.size());
+    // equal keys keep their values in stream order
+    for (Integer key : expected.keySet()) assertEquals(expected.get(key), built.get(key));
+    assertEquals(3, progress.size());
+    assertTrue(progress.get(2).startsWith("building test: loaded " + expected.size() + " entries"));
+  }
+
+  @Test
+  public void testBulkLoadPrefixCompressedKeys() {
+    KeyCodec<String> identity = new KeyCodec<String>() {
+      @Override
+      public String encode(String key) {
+        return key;
+      }
+
+      @Override
+      public String decode(String encoded) {
+        return encoded;
+      }
+    };
+    List<Pair<String, Integer>> sorted = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) sorted.add(new Pair<>(String.format("tenant-%04d-user-%06d", i / 1000, i), i));
+    BPlusTree<String, Integer> prefixed = new BPlusTree<>(16, 0.5, identity);
+    prefixed.bulkLoad(sorted);
+    for (Pair<String, Integer> pair : sorted) assertEquals(pair.right, prefixed.get(pair.left));
+    assertFalse(prefixed.contains("tenant-0001-user-"));
+    assertTrue(prefixed.footprint().getKeyBytes() * 2 < prefixed.footprint().getUncompressedKeyBytes());
+  }
 }
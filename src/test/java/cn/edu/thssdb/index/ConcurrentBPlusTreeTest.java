@@ -0,0 +1,312 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConcurrentBPlusTreeTest {
+  private static final int THREADS = 8;
+
+  private interface Worker {
+    void run(int thread) throws Exception;
+  }
+
+  private static void runThreads(int threads, Worker worker) throws Throwable {
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> list = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      final int thread = t;
+      Thread th = new Thread(() -> {
+        try {
+          start.await();
+          worker.run(thread);
+        } catch (Throwable e) {
+          failure.compareAndSet(null, e);
+        }
+      });
+      th.start();
+      list.add(th);
+    }
+    start.countDown();
+    for (Thread th : list) th.join();
+    if (failure.get() != null) throw failure.get();
+  }
+
+  @Test
+  public void testSingleThread() {
+    ConcurrentBPlusTree<Integer, Integer> tree = new ConcurrentBPlusTree<>(4);
+    TreeMap<Integer, Integer> map = new TreeMap<>();
+    Random random = new Random(42);
+    for (int i = 0; i < 50000; i++) {
+      int key = random.nextInt(2000);
+      if (random.nextInt(3) < 2) {
+        if (map.containsKey(key)) continue;
+        map.put(key, i);
+        tree.put(key, i);
+      } else if (map.remove(key) != null) {
+        tree.remove(key);
+      }
+    }
+    assertEquals(map.size(), tree.size());
+    List<Integer> iterated = new ArrayList<>();
+    for (Pair<Integer, Integer> pair : tree) {
+      assertEquals(map.get(pair.left), pair.right);
+      iterated.add(pair.left);
+    }
+    assertEquals(new ArrayList<>(map.keySet()), iterated);
+    for (int key = 0; key < 2000; key++) assertEquals(map.containsKey(key), tree.contains(key));
+    for (int i = 0; i < 200; i++) {
+      int from = random.nextInt(2100) - 50, to = from + random.nextInt(300);
+      List<Integer> ranged = new ArrayList<>();
+      tree.range(from, to).forEachRemaining(pair -> ranged.add(pair.left));
+      assertEquals(new ArrayList<>(map.subMap(from, to).keySet()), ranged);
+    }
+  }
+
+  /**
+   * Every thread owns the keys congruent to its id, so each key sees a sequential history and the
+   * tree must agree with the thread's own map at all times, while other threads split and shrink
+   * the same nodes. Readers meanwhile check that any value they see belongs to the key.
+   */
+  @Test
+  public void testStress() throws Throwable {
+    ConcurrentBPlusTree<Integer, Integer> tree = new ConcurrentBPlusTree<>(8);
+    List<Map<Integer, Integer>> owned = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) owned.add(new HashMap<>());
+    int keySpace = 20000;
+    runThreads(THREADS + 2, thread -> {
+      Random random = new Random(thread);
+      if (thread >= THREADS) {
+        for (int i = 0; i < 200000; i++) {
+          int key = random.nextInt(keySpace);
+          try {
+            int value = tree.get(key);
+            if (value % keySpace != key) fail("value " + value + " read for key " + key);
+          } catch (KeyNotExistException ignored) {
+          }
+        }
+        return;
+      }
+      Map<Integer, Integer> mine = owned.get(thread);
+      for (int i = 0; i < 60000; i++) {
+        int key = random.nextInt(keySpace / THREADS) * THREADS + thread;
+        if (random.nextInt(4) < 3) {
+          int value = i * keySpace + key;
+          if (mine.containsKey(key)) {
+            try {
+              tree.put(key, value);
+              fail("duplicate key " + key + " accepted");
+            } catch (DuplicateKeyException ignored) {
+            }
+          } else {
+            tree.put(key, value);
+            mine.put(key, value);
+          }
+        } else if (mine.remove(key) != null) {
+          tree.remove(key);
+        } else {
+          assertFalse(tree.contains(key));
+        }
+        if (mine.containsKey(key)) assertEquals(mine.get(key), tree.get(key));
+      }
+    });
+    Map<Integer, Integer> all = new TreeMap<>();
+    for (Map<Integer, Integer> mine : owned) all.putAll(mine);
+    assertEquals(all.size(), tree.size());
+    Integer previous = null;
+    int count = 0;
+    for (Pair<Integer, Integer> pair : tree) {
+      if (previous != null) assertTrue(previous < pair.left);
+      assertEquals(all.get(pair.left), pair.right);
+      previous = pair.left;
+      count++;
+    }
+    assertEquals(all.size(), count);
+  }
+
+  /** Threads race to claim the same keys; exactly one putIfAbsent per key may win. */
+  @Test
+  public void testPutIfAbsentRace() throws Throwable {
+    ConcurrentBPlusTree<Integer, Integer> tree = new ConcurrentBPlusTree<>(8);
+    int keySpace = 5000;
+    int[] wins = new int[THREADS];
+    runThreads(THREADS, thread -> {
+      for (int key = 0; key < keySpace; key++) {
+        Integer existing = tree.putIfAbsent(key, thread);
+        if (existing == null) wins[thread]++;
+        else assertTrue(existing >= 0 && existing < THREADS);
+      }
+    });
+    int total = 0;
+    for (int win : wins) total += win;
+    assertEquals(keySpace, total);
+    assertEquals(keySpace, tree.size());
+  }
+
+  /** Compares like its value; comparing a key without a value throws NullPointerException. */
+  private static final class Key implements Comparable<Key> {
+    final Integer value;
+
+    Key(Integer value) {
+      this.value = value;
+    }
+
+    @Override
+    public int compareTo(Key other) {
+      return value.compareTo(other.value);
+    }
+  }
+
+  private static void assertThrowsNullPointer(Runnable operation) {
+    try {
+      operation.run();
+      fail();
+    } catch (NullPointerException expected) {
+    }
+  }
+
+  /**
+   * An exception that is not a torn read is thrown to the caller instead of restarting forever, both
+   * on the way down without latches and under a leaf's write latch, which is released.
+   */
+  @Test(timeout = 10000)
+  public void testRealExceptionsAreRethrown() {
+    Key broken = new Key(null);
+    // a single leaf, so every operation compares keys under the leaf's write latch
+    ConcurrentBPlusTree<Key, Integer> leaf = new ConcurrentBPlusTree<>(4);
+    leaf.put(new Key(1), 1);
+    leaf.put(new Key(2), 2);
+    assertThrowsNullPointer(() -> leaf.put(broken, 0));
+    assertThrowsNullPointer(() -> leaf.replaceValue(broken, 0));
+    assertThrowsNullPointer(() -> leaf.remove(broken));
+    leaf.put(new Key(0), 0);
+    leaf.remove(new Key(1));
+    assertEquals(2, leaf.size());
+    // inner nodes, so every operation fails while descending
+    ConcurrentBPlusTree<Key, Integer> tree = new ConcurrentBPlusTree<>(4);
+    for (int i = 0; i < 100; i++) tree.put(new Key(i), i);
+    assertThrowsNullPointer(() -> tree.get(broken));
+    assertThrowsNullPointer(() -> tree.put(broken, 0));
+    assertThrowsNullPointer(() -> tree.replaceValue(broken, 0));
+    assertThrowsNullPointer(() -> tree.remove(broken));
+    assertThrowsNullPointer(() -> tree.range(broken, null));
+    tree.put(new Key(100), 100);
+    tree.remove(new Key(0));
+    assertEquals(100, tree.size());
+  }
+
+  private static final class Operation {
+    final int type; // 0 put, 1 remove, 2 get
+    final int value;
+    final long invoke;
+    long response;
+    boolean success;
+    int result;
+
+    Operation(int type, int value, long invoke) {
+      this.type = type;
+      this.value = value;
+      this.invoke = invoke;
+    }
+  }
+
+  /**
+   * Threads race on a handful of keys. Operations on different keys commute, so the history is
+   * linearizable iff the history of each key is; that is checked by searching for an order of the
+   * operations that respects real time and the sequential semantics of a map entry.
+   */
+  @Test
+  public void testLinearizability() throws Throwable {
+    int keys = 6;
+    int operations = 60;
+    for (int round = 0; round < 20; round++) {
+      ConcurrentBPlusTree<Integer, Integer> tree = new ConcurrentBPlusTree<>(4);
+      for (int key = 100; key < 300; key += 3) tree.put(key, key);
+      List<List<List<Operation>>> histories = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        List<List<Operation>> perKey = new ArrayList<>();
+        for (int k = 0; k < keys; k++) perKey.add(new ArrayList<>());
+        histories.add(perKey);
+      }
+      final int seed = round;
+      runThreads(4, thread -> {
+        Random random = new Random(seed * 31 + thread);
+        for (int i = 0; i < operations; i++) {
+          int key = random.nextInt(keys);
+          int type = random.nextInt(3);
+          int value = thread * 1000 + i;
+          Operation operation = new Operation(type, value, System.nanoTime());
+          try {
+            if (type == 0) tree.put(key, value);
+            else if (type == 1) tree.remove(key);
+            else operation.result = tree.get(key);
+            operation.success = true;
+          } catch (DuplicateKeyException | KeyNotExistException e) {
+            operation.success = false;
+          }
+          operation.response = System.nanoTime();
+          histories.get(thread).get(key).add(operation);
+        }
+      });
+      for (int k = 0; k < keys; k++) {
+        List<Operation> history = new ArrayList<>();
+        for (List<List<Operation>> perKey : histories) history.addAll(perKey.get(k));
+        assertTrue("history of key " + k + " is not linearizable", linearizable(history));
+      }
+    }
+  }
+
+  private static boolean linearizable(List<Operation> history) {
+    return search(history, new boolean[history.size()], 0, null, new HashSet<>());
+  }
+
+  private static boolean search(List<Operation> history, boolean[] done, int doneCount,
+                                Integer state, Set<String> visited) {
+    if (doneCount == history.size()) return true;
+    StringBuilder signature = new StringBuilder(String.valueOf(state)).append(':');
+    for (boolean d : done) signature.append(d ? '1' : '0');
+    if (!visited.add(signature.toString())) return false;
+    long firstResponse = Long.MAX_VALUE;
+    for (int i = 0; i < history.size(); i++)
+      if (!done[i]) firstResponse = Math.min(firstResponse, history.get(i).response);
+    for (int i = 0; i < history.size(); i++) {
+      Operation operation = history.get(i);
+      // only operations invoked before every pending operation returned may go next
+      if (done[i] || operation.invoke > firstResponse) continue;
+      Integer next;
+      if (operation.type == 0) {
+        if (operation.success != (state == null)) continue;
+        next = operation.success ? Integer.valueOf(operation.value) : state;
+      } else if (operation.type == 1) {
+        if (operation.success != (state != null)) continue;
+        next = null;
+      } else {
+        if (operation.success != (state != null)) continue;
+        if (operation.success && operation.result != state) continue;
+        next = state;
+      }
+      done[i] = true;
+      if (search(history, done, doneCount + 1, next, visited)) return true;
+      done[i] = false;
+    }
+    return false;
+  }
+}
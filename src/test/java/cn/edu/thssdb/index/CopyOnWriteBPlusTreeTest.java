@@ -0,0 +1,139 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CopyOnWriteBPlusTreeTest {
+
+  private static List<Integer> keys(Iterable<Pair<Integer, Integer>> pairs) {
+    List<Integer> keys = new ArrayList<>();
+    for (Pair<Integer, Integer> pair : pairs) keys.add(pair.left);
+    return keys;
+  }
+
+  @Test
+  public void testAgainstTreeMap() {
+    for (int fanout : new int[] {4, 5, 16}) {
+      CopyOnWriteBPlusTree<Integer, Integer> tree = new CopyOnWriteBPlusTree<>(fanout);
+      TreeMap<Integer, Integer> map = new TreeMap<>();
+      Random random = new Random(fanout);
+      for (int i = 0; i < 30000; i++) {
+        int key = random.nextInt(1500);
+        if (random.nextInt(5) < 3) {
+          if (map.containsKey(key)) {
+            try {
+              tree.put(key, i);
+              fail("duplicate key " + key + " accepted");
+            } catch (DuplicateKeyException ignored) {
+            }
+          } else {
+            map.put(key, i);
+            tree.put(key, i);
+          }
+        } else if (map.remove(key) != null) {
+          tree.remove(key);
+        } else {
+          try {
+            tree.remove(key);
+            fail("missing key " + key + " removed");
+          } catch (KeyNotExistException ignored) {
+          }
+        }
+        if (i % 1000 == 0) tree.commit();
+      }
+      assertEquals(map.size(), tree.size());
+      assertEquals(new ArrayList<>(map.keySet()), keys(tree));
+      for (int key = 0; key < 1500; key++) {
+        assertEquals(map.containsKey(key), tree.contains(key));
+        if (map.containsKey(key)) assertEquals(map.get(key), tree.get(key));
+      }
+    }
+  }
+
+  @Test
+  public void testSnapshotIsolation() {
+    CopyOnWriteBPlusTree<Integer, Integer> tree = new CopyOnWriteBPlusTree<>(4);
+    for (int i = 0; i < 100; i++) tree.put(i, i);
+    try (CopyOnWriteBPlusTree<Integer, Integer>.Snapshot empty = tree.snapshot()) {
+      assertEquals(0, empty.size());
+      assertFalse(empty.iterator().hasNext());
+    }
+    tree.commit();
+    CopyOnWriteBPlusTree<Integer, Integer>.Snapshot before = tree.snapshot();
+    for (int i = 0; i < 100; i += 2) tree.remove(i);
+    for (int i = 100; i < 200; i++) tree.put(i, i);
+    // uncommitted writes are invisible to new snapshots as well
+    try (CopyOnWriteBPlusTree<Integer, Integer>.Snapshot uncommitted = tree.snapshot()) {
+      assertEquals(before.getEpoch(), uncommitted.getEpoch());
+      assertEquals(100, uncommitted.size());
+    }
+    tree.commit();
+    assertEquals(1, tree.getPinnedOldVersions());
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) expected.add(i);
+    assertEquals(expected, keys(before));
+    assertEquals(Integer.valueOf(42), before.get(42));
+    before.close();
+    assertEquals(0, tree.getPinnedOldVersions());
+    try (CopyOnWriteBPlusTree<Integer, Integer>.Snapshot after = tree.snapshot()) {
+      assertEquals(150, after.size());
+      assertEquals(150, keys(after).size());
+    }
+  }
+
+  /**
+   * The writer moves blocks of keys up by one at every commit, so each committed version holds a
+   * contiguous run of exactly {@code width} keys; readers must always see one complete run.
+   */
+  @Test
+  public void testReadersDuringWrites() throws Throwable {
+    CopyOnWriteBPlusTree<Integer, Integer> tree = new CopyOnWriteBPlusTree<>(8);
+    int width = 500;
+    for (int i = 0; i < width; i++) tree.put(i, i);
+    tree.commit();
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    List<Thread> readers = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread reader = new Thread(() -> {
+        try {
+          while (!done.get()) {
+            try (CopyOnWriteBPlusTree<Integer, Integer>.Snapshot snapshot = tree.snapshot()) {
+              List<Integer> keys = keys(snapshot);
+              assertEquals(width, keys.size());
+              for (int i = 1; i < keys.size(); i++) assertEquals(keys.get(0) + i, (int) keys.get(i));
+            }
+          }
+        } catch (Throwable e) {
+          failure.compareAndSet(null, e);
+        }
+      });
+      reader.start();
+      readers.add(reader);
+    }
+    for (int low = 0; low < 2000; low++) {
+      tree.remove(low);
+      tree.put(low + width, low + width);
+      tree.commit();
+    }
+    done.set(true);
+    for (Thread reader : readers) reader.join();
+    if (failure.get() != null) throw failure.get();
+    assertTrue(tree.getPublishedEpoch() >= 2000);
+    assertEquals(0, tree.getPinnedOldVersions());
+  }
+}
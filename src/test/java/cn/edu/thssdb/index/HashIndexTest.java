@@ -0,0 +1,87 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import cn.edu.thssdb.exception.DuplicateKeyException;
+import cn.edu.thssdb.exception.KeyNotExistException;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HashIndexTest {
+
+  private static void assertSameContent(Map<Integer, Integer> map, HashIndex<Integer, Integer> index) {
+    assertEquals(map.size(), index.size());
+    Map<Integer, Integer> iterated = new HashMap<>();
+    for (Pair<Integer, Integer> pair : index) assertEquals(null, iterated.put(pair.left, pair.right));
+    assertEquals(map, iterated);
+  }
+
+  @Test
+  public void testAgainstHashMap() {
+    HashIndex<Integer, Integer> index = new HashIndex<>();
+    Map<Integer, Integer> map = new HashMap<>();
+    Random random = new Random(7);
+    boolean sawResize = false;
+    for (int i = 0; i < 100000; i++) {
+      int key = random.nextInt(5000);
+      if (random.nextInt(5) < 3) {
+        if (map.containsKey(key)) {
+          try {
+            index.put(key, i);
+            fail("duplicate key " + key + " accepted");
+          } catch (DuplicateKeyException ignored) {
+          }
+        } else {
+          map.put(key, i);
+          index.put(key, i);
+        }
+      } else if (map.remove(key) != null) {
+        index.remove(key);
+      } else {
+        try {
+          index.remove(key);
+          fail("missing key " + key + " removed");
+        } catch (KeyNotExistException ignored) {
+        }
+      }
+      if (index.isResizing()) {
+        sawResize = true;
+        assertEquals(map.containsKey(key), index.contains(key));
+      }
+      if (i % 10000 == 0) assertSameContent(map, index);
+    }
+    assertTrue(sawResize);
+    assertSameContent(map, index);
+    for (int key = 0; key < 5000; key++) {
+      assertEquals(map.containsKey(key), index.contains(key));
+      if (map.containsKey(key)) assertEquals(map.get(key), index.get(key));
+    }
+  }
+
+  @Test
+  public void testIncrementalGrowth() {
+    HashIndex<Integer, Integer> index = new HashIndex<>();
+    int capacity = index.getCapacity();
+    int key = 0;
+    while (!index.isResizing()) index.put(key, key++);
+    assertEquals(capacity * 2, index.getCapacity());
+    // the old table is drained a few slots per write, never all at once
+    int writes = 0;
+    while (index.isResizing()) {
+      index.put(key, key++);
+      writes++;
+    }
+    assertEquals(capacity / HashIndex.MIGRATE_STEP, writes);
+    for (int i = 0; i < key; i++) assertEquals(Integer.valueOf(i), index.get(i));
+    for (int i = 0; i < key; i++) index.remove(i);
+    assertEquals(0, index.size());
+    assertFalse(index.iterator().hasNext());
+  }
+}
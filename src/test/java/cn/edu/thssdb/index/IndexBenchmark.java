@@ -0,0 +1,91 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static cn.edu.thssdb.common.Benchmark.measure;
+
+/**
+ * Compares {@link AdaptiveRadixTree} with {@link BPlusTree} on inserts, point lookups and short
+ * range scans, for int keys and short string keys. Not a unit test; run it with
+ * {@code java -cp <test and main classes> cn.edu.thssdb.index.IndexBenchmark [keys]}. Each
+ * workload runs a few warm-up rounds before the measured one, and a checksum of every result is
+ * printed so the JIT cannot drop the work.
+ */
+public class IndexBenchmark {
+  private static final int ROUNDS = 3;
+  private static final int RANGE = 100;
+
+  private interface RangeIndex<K extends Comparable<K>> extends Index<K, Integer> {
+    Iterator<Pair<K, Integer>> range(K from, K to);
+  }
+
+  private static <K extends Comparable<K>> void compare(String keyType, K[] keys, K[] sortedKeys,
+                                                        Supplier<Index<K, Integer>> radix) {
+    System.out.println(keys.length + " " + keyType + " keys");
+    run("B+ tree", keys, sortedKeys, BPlusTree::new, (index, from, to) -> ((BPlusTree<K, Integer>) index).range(from, to));
+    run("adaptive radix tree", keys, sortedKeys, radix,
+        (index, from, to) -> ((AdaptiveRadixTree<K, Integer>) index).range(from, to));
+  }
+
+  private interface Ranger<K extends Comparable<K>> {
+    Iterator<Pair<K, Integer>> range(Index<K, Integer> index, K from, K to);
+  }
+
+  private static <K extends Comparable<K>> void run(String name, K[] keys, K[] sortedKeys,
+                                                    Supplier<Index<K, Integer>> factory, Ranger<K> ranger) {
+    Function<K[], Index<K, Integer>> build = order -> {
+      Index<K, Integer> index = factory.get();
+      for (int i = 0; i < order.length; i++) index.put(order[i], i);
+      return index;
+    };
+    measure(name + " random insert", ROUNDS, keys.length, () -> build.apply(keys).size());
+    measure(name + " sequential insert", ROUNDS, keys.length, () -> build.apply(sortedKeys).size());
+    Index<K, Integer> index = build.apply(keys);
+    measure(name + " point lookup", ROUNDS, keys.length, () -> {
+      long sum = 0;
+      for (K key : keys) sum += index.get(key);
+      return sum;
+    });
+    int scans = keys.length / RANGE;
+    Random random = new Random(1);
+    measure(name + " scan of " + RANGE, ROUNDS, scans, () -> {
+      long sum = 0;
+      for (int i = 0; i < scans; i++) {
+        int start = random.nextInt(sortedKeys.length - RANGE);
+        Iterator<Pair<K, Integer>> iterator = ranger.range(index, sortedKeys[start], sortedKeys[start + RANGE]);
+        while (iterator.hasNext()) sum += iterator.next().right;
+      }
+      return sum;
+    });
+  }
+
+  public static void main(String[] args) {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    Random random = new Random(42);
+    Integer[] ints = random.ints().distinct().limit(count).boxed().toArray(Integer[]::new);
+    Integer[] sortedInts = ints.clone();
+    Arrays.sort(sortedInts);
+    compare("random int", ints, sortedInts, () -> new AdaptiveRadixTree<>(BinaryKeyEncoder::encodeInt));
+
+    // ids handed out in order, inserted shuffled: every radix node is full
+    Integer[] dense = sortedInts.clone();
+    for (int i = 0; i < count; i++) dense[i] = i;
+    Integer[] shuffled = dense.clone();
+    Collections.shuffle(Arrays.asList(shuffled), random);
+    compare("dense int", shuffled, dense, () -> new AdaptiveRadixTree<>(BinaryKeyEncoder::encodeInt));
+
+    String[] strings = new String[count];
+    for (int i = 0; i < count; i++) strings[i] = "user" + Integer.toString(ints[i] & Integer.MAX_VALUE, 36);
+    strings = Arrays.stream(strings).distinct().toArray(String[]::new);
+    String[] sortedStrings = strings.clone();
+    Arrays.sort(sortedStrings);
+    compare("string", strings, sortedStrings, () -> new AdaptiveRadixTree<>(BinaryKeyEncoder::encodeString));
+  }
+}
@@ -0,0 +1,81 @@
+package cn.edu.thssdb.index;
+
+import cn.edu.thssdb.common.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class KeyRangesTest {
+  private static final int KEYS = 40;
+
+  private static KeyRanges<Integer> randomRanges(Random random, int depth) {
+    int kind = random.nextInt(depth > 0 ? 7 : 5);
+    switch (kind) {
+      case 0: return KeyRanges.point(random.nextInt(KEYS));
+      case 1: return KeyRanges.range(random.nextInt(KEYS), random.nextBoolean(), null, false);
+      case 2: return KeyRanges.range(null, false, random.nextInt(KEYS), random.nextBoolean());
+      case 3: return KeyRanges.range(random.nextInt(KEYS), random.nextBoolean(), random.nextInt(KEYS), random.nextBoolean());
+      case 4: return random.nextBoolean() ? KeyRanges.all() : KeyRanges.none();
+      case 5: return randomRanges(random, depth - 1).intersect(randomRanges(random, depth - 1));
+      default: return randomRanges(random, depth - 1).union(randomRanges(random, depth - 1));
+    }
+  }
+
+  // the keys 0..KEYS-1 in the set, tested one by one
+  private static List<Integer> members(KeyRanges<Integer> ranges) {
+    List<Integer> keys = new ArrayList<>();
+    for (int key = 0; key < KEYS; key++)
+      if (ranges.contains(key)) keys.add(key);
+    return keys;
+  }
+
+  @Test
+  public void testIntersectAndUnion() {
+    Random random = new Random(3);
+    BPlusTree<Integer, Integer> tree = new BPlusTree<>(4, 1.0);
+    for (int key = 0; key < KEYS; key++) tree.put(key, key * 10);
+    for (int i = 0; i < 5000; i++) {
+      KeyRanges<Integer> a = randomRanges(random, 2), b = randomRanges(random, 2);
+      List<Integer> both = new ArrayList<>(members(a));
+      both.retainAll(members(b));
+      assertEquals(both, members(a.intersect(b)));
+      List<Integer> either = new ArrayList<>(members(a));
+      for (int key : members(b))
+        if (!either.contains(key)) either.add(key);
+      Collections.sort(either);
+      KeyRanges<Integer> union = a.union(b);
+      assertEquals(either, members(union));
+      // intervals stay sorted and disjoint, so a scan returns each key once in order
+      List<Integer> scanned = new ArrayList<>();
+      union.scan(from -> tree.range(from, null)).forEachRemaining(pair -> {
+        assertEquals(pair.left * 10, (int) pair.right);
+        scanned.add(pair.left);
+      });
+      assertEquals(either, scanned);
+    }
+  }
+
+  @Test
+  public void testPoints() {
+    KeyRanges<Integer> points = KeyRanges.point(7).union(KeyRanges.point(3)).union(KeyRanges.point(7));
+    assertEquals(Arrays.asList(3, 7), points.points());
+    assertEquals(Collections.singletonList(5), KeyRanges.range(5, true, null, false)
+        .intersect(KeyRanges.range(null, false, 5, true)).points());
+    assertNull(KeyRanges.range(5, true, 6, true).points());
+    assertTrue(KeyRanges.range(5, true, 5, false).isEmpty());
+    assertTrue(KeyRanges.<Integer>range(null, false, 5, false).union(KeyRanges.range(5, true, null, false)).isAll());
+    assertEquals(2, KeyRanges.<Integer>range(null, false, 5, false).union(KeyRanges.range(5, false, null, false))
+        .ranges().size());
+    List<Pair<Integer, Integer>> none = new ArrayList<>();
+    KeyRanges.<Integer>none().scan(from -> Collections.<Pair<Integer, Integer>>emptyIterator()).forEachRemaining(none::add);
+    assertTrue(none.isEmpty());
+  }
+}
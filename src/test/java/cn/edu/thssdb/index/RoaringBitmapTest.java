@@ -0,0 +1,80 @@
+package cn.edu.thssdb.index;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RoaringBitmapTest {
+
+  private static int[] toArray(TreeSet<Integer> set) {
+    return set.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /** Values spread over a few 65536-wide groups, some dense enough to need bitmap containers. */
+  private static void fill(RoaringBitmap bitmap, TreeSet<Integer> set, Random random, int count) {
+    for (int i = 0; i < count; i++) {
+      int group = random.nextInt(4);
+      int value = group * 65536 + random.nextInt(group == 0 ? 8000 : 65536);
+      bitmap.add(value);
+      set.add(value);
+    }
+  }
+
+  @Test
+  public void testAgainstTreeSet() {
+    Random random = new Random(3);
+    RoaringBitmap a = new RoaringBitmap();
+    RoaringBitmap b = new RoaringBitmap();
+    TreeSet<Integer> setA = new TreeSet<>();
+    TreeSet<Integer> setB = new TreeSet<>();
+    fill(a, setA, random, 20000);
+    fill(b, setB, random, 3000);
+    for (int i = 0; i < 5000; i++) {
+      int value = random.nextInt(4 * 65536);
+      a.remove(value);
+      setA.remove(value);
+    }
+    assertEquals(setA.size(), a.cardinality());
+    assertArrayEquals(toArray(setA), a.toArray());
+    for (int i = 0; i < 1000; i++) {
+      int value = random.nextInt(4 * 65536);
+      assertEquals(setA.contains(value), a.contains(value));
+    }
+
+    TreeSet<Integer> and = new TreeSet<>(setA);
+    and.retainAll(setB);
+    assertArrayEquals(toArray(and), a.and(b).toArray());
+    TreeSet<Integer> or = new TreeSet<>(setA);
+    or.addAll(setB);
+    assertArrayEquals(toArray(or), a.or(b).toArray());
+    assertArrayEquals(toArray(or), b.or(a).toArray());
+    TreeSet<Integer> andNot = new TreeSet<>(setA);
+    andNot.removeAll(setB);
+    assertArrayEquals(toArray(andNot), a.andNot(b).toArray());
+    andNot = new TreeSet<>(setB);
+    andNot.removeAll(setA);
+    assertArrayEquals(toArray(andNot), b.andNot(a).toArray());
+    // the operands are left untouched
+    assertArrayEquals(toArray(setA), a.toArray());
+    assertArrayEquals(toArray(setB), b.toArray());
+  }
+
+  @Test
+  public void testContainerConversion() {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    for (int i = 0; i < 60000; i += 2) bitmap.add(i);
+    // 30000 values in one group: a bitmap container is far smaller than 2 bytes per value
+    assertTrue(bitmap.sizeInBytes() < 10000);
+    for (int i = 0; i < 60000; i += 2) bitmap.remove(i);
+    assertTrue(bitmap.isEmpty());
+    assertFalse(bitmap.contains(0));
+    bitmap.add(70000);
+    assertEquals(1, bitmap.and(bitmap.or(new RoaringBitmap())).cardinality());
+  }
+}
@@ -0,0 +1,132 @@
+package cn.edu.thssdb.parser;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.query.QueryResult;
+import cn.edu.thssdb.schema.DataDirectory;
+import cn.edu.thssdb.schema.Row;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Single-table SELECTs answered from a secondary index with INCLUDE columns. Table t has the
+ * covering index and table u holds the same rows without any secondary index, so every query is
+ * checked against the table path.
+ */
+public class CoveringIndexTest {
+  private static final long SESSION = 1;
+
+  @Rule
+  public final DataDirectory data = new DataDirectory();
+  private SQLHandler handler;
+
+  @Before
+  public void setUp() {
+    handler = new SQLHandler(data.manager());
+  }
+
+  // the rows of a SELECT, or the message of any other statement
+  private List<String> sql(String statement) {
+    QueryResult result = handler.evaluate(statement, SESSION).get(0);
+    if (result.errorMessage != null)
+      return Collections.singletonList(result.errorMessage);
+    List<String> rows = new ArrayList<>();
+    for (Row row : result.results) rows.add(row.toString());
+    return rows;
+  }
+
+  // runs statement on both tables in one transaction
+  private void write(String statement) {
+    sql(Global.LOG_BEGIN_TRANSACTION);
+    sql(String.format(statement, "t"));
+    sql(String.format(statement, "u"));
+    sql(Global.LOG_COMMIT);
+  }
+
+  private boolean covered(String query) {
+    return String.join("\n", sql("explain " + String.format(query, "t"))).contains("Covering index lookup");
+  }
+
+  // the rows of query on t, which must equal the rows on u in some order
+  private List<String> compare(String query) {
+    List<String> expected = sql(String.format(query, "u"));
+    List<String> actual = sql(String.format(query, "t"));
+    Collections.sort(expected);
+    Collections.sort(actual);
+    assertEquals(query, expected, actual);
+    return actual;
+  }
+
+  private void createTables() {
+    sql("create database covering");
+    sql("use covering");
+    for (String table : new String[]{"t", "u"})
+      sql("create table " + table + " (id int, k int, a int, b string(8), primary key(id))");
+    sql("create index t_k on t(k) include (a)");
+    sql(Global.LOG_BEGIN_TRANSACTION);
+    for (int id = 0; id < 200; id++)
+      for (String table : new String[]{"t", "u"})
+        sql("insert into " + table + " values (" + id + ", " + id % 10 + ", " + id * 3 + ", 's" + id % 7 + "')");
+    sql(Global.LOG_COMMIT);
+  }
+
+  @Test
+  public void testCoveredProjectionMatchesTablePath() {
+    createTables();
+    String[] queries = {"select id, a from %s where k = 3", "select a from %s where k = 3 and a > 300",
+        "select k, id from %s where k = 7 and id > 100", "select id from %s where k = 11",
+        "select id, a from %s where k = 4 order by a desc"};
+    for (String query : queries) {
+      assertTrue(query, covered(query));
+      compare(query);
+    }
+    assertEquals(20, compare("select id, a from %s where k = 3").size());
+    assertEquals(Collections.emptyList(), compare("select id from %s where k = 11"));
+  }
+
+  @Test
+  public void testFallsBackToTablePath() {
+    createTables();
+    // b is neither the key, the primary key nor an INCLUDE column
+    String missingColumn = "select id, b from %s where k = 3";
+    assertFalse(covered(missingColumn));
+    assertEquals(20, compare(missingColumn).size());
+    assertFalse(covered("select id, a from %s where k = 3 and b = 's1'"));
+    compare("select id, a from %s where k = 3 and b = 's1'");
+    assertFalse(covered("select * from %s where k = 3"));
+    // an equality on the primary key is cheaper through the primary index
+    String primaryKey = "select id, a from %s where k = 3 and id = 13";
+    assertFalse(covered(primaryKey));
+    assertEquals(Collections.singletonList("13, 39"), compare(primaryKey));
+    assertFalse(covered("select id, a from %s where id = 13 and k = 3"));
+    // no equality on the indexed column
+    assertFalse(covered("select id, a from %s where k > 3"));
+  }
+
+  @Test
+  public void testSeesUpdatesOfIncludedAndKeyColumns() {
+    createTables();
+    String query = "select id, a from %s where k = 3";
+    write("update %s set a = 1000 where id = 13");
+    assertTrue(compare(query).contains("13, 1000"));
+    write("update %s set a = 2000 where k = 3");
+    List<String> rows = compare(query);
+    assertEquals(20, rows.size());
+    for (String row : rows)
+      assertTrue(row, row.endsWith(", 2000"));
+    // moving a row to another key and deleting one
+    write("update %s set k = 4 where id = 23");
+    write("delete from %s where id = 33");
+    assertEquals(18, compare(query).size());
+    assertTrue(compare("select id, a from %s where k = 4").contains("23, 2000"));
+    assertTrue(covered(query));
+  }
+}
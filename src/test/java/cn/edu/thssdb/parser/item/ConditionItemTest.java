@@ -0,0 +1,61 @@
+package cn.edu.thssdb.parser.item;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConditionItemTest {
+
+  @Test
+  public void testPercentMatchesAnyRun() {
+    assertTrue(ConditionItem.like("", "%"));
+    assertTrue(ConditionItem.like("abc", "%"));
+    assertTrue(ConditionItem.like("abc", "%%"));
+    assertTrue(ConditionItem.like("abc", "a%"));
+    assertTrue(ConditionItem.like("abc", "%c"));
+    assertTrue(ConditionItem.like("abc", "%b%"));
+    assertTrue(ConditionItem.like("abc", "a%%c"));
+    assertTrue(ConditionItem.like("abc", "abc%"));
+    assertFalse(ConditionItem.like("abc", "%d%"));
+    assertFalse(ConditionItem.like("abc", "b%"));
+    assertFalse(ConditionItem.like("abc", "%b"));
+  }
+
+  @Test
+  public void testPercentBacktracks() {
+    // the first candidate for the run after % is not the one that matches
+    assertTrue(ConditionItem.like("aaab", "%ab"));
+    assertTrue(ConditionItem.like("abcabd", "%abd"));
+    assertTrue(ConditionItem.like("mississippi", "%iss%pi"));
+    assertTrue(ConditionItem.like("mississippi", "m%s%s%i"));
+    assertFalse(ConditionItem.like("mississippi", "%iss%pix"));
+    assertFalse(ConditionItem.like("abcab", "%abd%"));
+  }
+
+  @Test
+  public void testUnderscoreMatchesOneCharacter() {
+    assertTrue(ConditionItem.like("abc", "a_c"));
+    assertTrue(ConditionItem.like("abc", "___"));
+    assertTrue(ConditionItem.like("a_c", "a_c"));
+    assertTrue(ConditionItem.like("abcd", "_b%"));
+    assertFalse(ConditionItem.like("ac", "a_c"));
+    assertFalse(ConditionItem.like("abbc", "a_c"));
+    assertFalse(ConditionItem.like("abc", "__"));
+    assertFalse(ConditionItem.like("", "_"));
+    assertFalse(ConditionItem.like("", "%_"));
+  }
+
+  @Test
+  public void testEmptyPattern() {
+    assertTrue(ConditionItem.like("", ""));
+    assertFalse(ConditionItem.like("a", ""));
+    assertTrue(ConditionItem.like("", "%%"));
+  }
+
+  @Test
+  public void testIsCaseSensitive() {
+    assertFalse(ConditionItem.like("ABC", "abc"));
+    assertFalse(ConditionItem.like("abc", "%B%"));
+  }
+}
@@ -0,0 +1,100 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.exception.InvalidAggregateException;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static cn.edu.thssdb.query.OperatorTestUtil.drain;
+import static cn.edu.thssdb.query.OperatorTestUtil.row;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AggregateOperatorTest {
+  private static final List<Column> COLUMNS = Arrays.asList(
+      new Column("g", ColumnType.INT, 0, false, 0),
+      new Column("v", ColumnType.DOUBLE, 0, false, 0),
+      new Column("n", ColumnType.INT, 0, false, 0),
+      new Column("s", ColumnType.STRING, 0, false, 8));
+
+  private static AggregateOperator.Aggregate aggregate(String function, int column) {
+    String name = function + "(" + (column < 0 ? "*" : COLUMNS.get(column).getColumnName()) + ")";
+    return new AggregateOperator.Aggregate(AggregateOperator.Function.of(function), column, name, COLUMNS);
+  }
+
+  private static AggregateOperator plan(List<Row> rows, int[] groupColumns, long memoryGroups) {
+    return new AggregateOperator(new IndexScanOperator(() -> rows, COLUMNS), groupColumns, Arrays.asList(
+        aggregate("count", -1), aggregate("count", 1), aggregate("sum", 2), aggregate("avg", 1),
+        aggregate("min", 3), aggregate("max", 1)), memoryGroups);
+  }
+
+  @Test
+  public void testFunctionsSkipNulls() {
+    List<Row> rows = Arrays.asList(row(1, 2.0, 3, "'b'"), row(1, null, null, null), row(2, 4.5, 7, "'a'"),
+        row(1, 6.0, 5, "'c'"));
+    AggregateOperator all = plan(rows, new int[0], 100);
+    assertEquals(Collections.singletonList("4, 3, 15, 4.166666666666667, 'a', 6.0"), drain(all));
+    assertEquals(Arrays.asList(ColumnType.LONG, ColumnType.LONG, ColumnType.LONG, ColumnType.DOUBLE, ColumnType.STRING,
+        ColumnType.DOUBLE), all.getColumns().stream().map(Column::getColumnType).collect(Collectors.toList()));
+    assertEquals(Arrays.asList("1, 3, 2, 8, 4.0, 'b', 6.0", "2, 1, 1, 7, 4.5, 'a', 4.5"),
+        drain(plan(rows, new int[]{0}, 100)));
+  }
+
+  @Test
+  public void testNullKeysFormOneGroup() {
+    List<Row> rows = Arrays.asList(row(null, 1.0, 1, "'x'"), row(2, 2.0, 2, "'y'"), row(null, 3.0, null, "'z'"));
+    assertEquals(Arrays.asList("null, 2, 2, 1, 2.0, 'x', 3.0", "2, 1, 1, 2, 2.0, 'y', 2.0"),
+        drain(plan(rows, new int[]{0}, 100)));
+  }
+
+  @Test
+  public void testEmptyInput() {
+    // a global aggregate returns one row even without input, a grouped one returns none
+    assertEquals(Collections.singletonList("0, 0, null, null, null, null"),
+        drain(plan(Collections.emptyList(), new int[0], 100)));
+    assertEquals(Collections.emptyList(), drain(plan(Collections.emptyList(), new int[]{0}, 100)));
+  }
+
+  @Test(expected = InvalidAggregateException.class)
+  public void testSumOfStringsIsRejected() {
+    aggregate("sum", 3);
+  }
+
+  @Test
+  public void testSpilledRunsMatchInMemory() {
+    // quarters add up exactly, so partial sums merged in another order give the same averages
+    Random random = new Random(5);
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++)
+      rows.add(row(random.nextInt(10) == 0 ? null : random.nextInt(3000), random.nextInt(5) == 0 ? null : random.nextInt(1000) / 4.0,
+          random.nextInt(100), "'" + (char) ('a' + random.nextInt(26)) + "'"));
+    File tmp = new File(System.getProperty("java.io.tmpdir"));
+    FilenameFilter spillFiles = (dir, name) -> name.startsWith("thssdb-aggregate-");
+    int filesBefore = tmp.list(spillFiles).length;
+    AggregateOperator inMemory = plan(rows, new int[]{0, 3}, 1_000_000);
+    List<String> expected = drain(inMemory);
+    assertEquals(0, inMemory.getSpilledRuns());
+    AggregateOperator spilled = plan(rows, new int[]{0, 3}, 500);
+    List<String> actual = drain(spilled);
+    assertTrue(spilled.getSpilledRuns() > 1);
+    assertEquals(filesBefore, tmp.list(spillFiles).length);
+    // without spilling groups come out in first-seen order, merged runs come out sorted by key
+    Map<String, Integer> count = new HashMap<>();
+    for (String row : expected) count.merge(row, 1, Integer::sum);
+    for (String row : actual) count.merge(row, -1, Integer::sum);
+    assertTrue(count.values().stream().allMatch(c -> c == 0));
+    assertEquals(expected.size(), actual.size());
+  }
+}
@@ -0,0 +1,65 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.ComparerType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/** Conditions, rows and plan draining shared by the query benchmarks. */
+final class BenchmarkUtil {
+
+  private BenchmarkUtil() {
+  }
+
+  static ComparerItem column(String tableName, String name) {
+    return new ComparerItem(ComparerType.COLUMN, tableName, name);
+  }
+
+  static ComparerItem number(String literal) {
+    return new ComparerItem(ComparerType.NUMBER, literal);
+  }
+
+  static MultipleConditionItem condition(ComparerItem left, String comparator, ComparerItem right) {
+    return new MultipleConditionItem(new ConditionItem(left, right, comparator));
+  }
+
+  // the columns of table t as the filters above a join see them, t_id, t_a, t_b, t_d and t_s
+  static List<Column> joinedColumns() {
+    List<Column> columns = new ArrayList<>();
+    columns.add(new Column("t_id", ColumnType.INT, 1, true, 0));
+    columns.add(new Column("t_a", ColumnType.INT, 0, false, 0));
+    columns.add(new Column("t_b", ColumnType.LONG, 0, false, 0));
+    columns.add(new Column("t_d", ColumnType.DOUBLE, 0, false, 0));
+    columns.add(new Column("t_s", ColumnType.STRING, 0, false, 16));
+    return columns;
+  }
+
+  static List<Row> randomRows(int count) {
+    Random random = new Random(42);
+    List<Row> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(new Row(new Cell[]{new Cell(i), new Cell(random.nextInt(1000)), new Cell((long) random.nextInt(100)),
+          new Cell(random.nextDouble()), new Cell(random.nextInt(10) == 0 ? null : "'s" + random.nextInt(100) + "'")}));
+    }
+    return rows;
+  }
+
+  // opens a fresh plan and counts its rows
+  static long drain(Supplier<Operator> plan) {
+    long count = 0;
+    try (Operator operator = plan.get()) {
+      operator.open();
+      while (operator.next() != null) count++;
+    }
+    return count;
+  }
+}
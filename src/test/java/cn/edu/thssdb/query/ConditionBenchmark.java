@@ -0,0 +1,69 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ComparerType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static cn.edu.thssdb.common.Benchmark.measure;
+import static cn.edu.thssdb.query.BenchmarkUtil.column;
+import static cn.edu.thssdb.query.BenchmarkUtil.condition;
+import static cn.edu.thssdb.query.BenchmarkUtil.joinedColumns;
+import static cn.edu.thssdb.query.BenchmarkUtil.number;
+import static cn.edu.thssdb.query.BenchmarkUtil.randomRows;
+
+/**
+ * Per-row cost of a WHERE condition, interpreted by {@link MultipleConditionItem#evaluate} (column
+ * lookup by name, literals parsed and numbers compared through strings on every row) and compiled
+ * into a {@link RowCondition}. The rows are joined-style, with {@code table_column} names, as the
+ * ON and WHERE filters above a join see them. Not a unit test; run it with {@code java -cp <test
+ * and main classes> cn.edu.thssdb.query.ConditionBenchmark [rows]}. Each condition runs a few
+ * warm-up rounds before the measured one, and both evaluators must select the same rows.
+ */
+public class ConditionBenchmark {
+  private static final int ROUNDS = 5;
+
+  private static long count(List<Row> rows, Predicate<Row> predicate) {
+    long count = 0;
+    for (Row row : rows)
+      if (predicate.test(row)) count++;
+    return count;
+  }
+
+  private static void compare(List<Row> rows, List<Column> columns, String sql, MultipleConditionItem where) {
+    ArrayList<String> columnNames = new ArrayList<>();
+    for (Column column : columns) columnNames.add(column.getColumnName());
+    RowCondition compiled = where.compile(columns);
+    System.out.println(sql);
+    long expected = measure("interpreted", ROUNDS, rows.size(),
+        () -> count(rows, row -> Boolean.TRUE.equals(where.evaluate(row, columnNames))));
+    long actual = measure("compiled", ROUNDS, rows.size(), () -> count(rows, row -> Boolean.TRUE.equals(compiled.evaluate(row))));
+    if (actual != expected)
+      throw new AssertionError("compiled condition selected " + actual + " rows, expected " + expected);
+  }
+
+  public static void main(String[] args) {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    List<Column> columns = joinedColumns();
+    List<Row> rows = randomRows(count);
+    System.out.println(count + " rows");
+
+    compare(rows, columns, "where t.a < 100", condition(column("t", "a"), "<", number("100")));
+    compare(rows, columns, "where t.d >= 0.5 and t.b <> 3 and t.s <> null",
+        new MultipleConditionItem(new MultipleConditionItem(condition(column("t", "d"), ">=", number("0.5")),
+            condition(column("t", "b"), "<>", number("3")), "and"),
+            condition(column("t", "s"), "<>", new ComparerItem()), "and"));
+    compare(rows, columns, "where t.a = t.id or t.s like 's1%'",
+        new MultipleConditionItem(condition(column("t", "a"), "=", column("t", "id")),
+            condition(column("t", "s"), "like", new ComparerItem(ComparerType.STRING, "'s1%'")), "or"));
+    compare(rows, columns, "where t.a + t.b * 2 > 1000 or t.d / 2 < 0.125",
+        new MultipleConditionItem(condition(new ComparerItem(column("t", "a"),
+            new ComparerItem(column("t", "b"), number("2"), "*"), "+"), ">", number("1000")),
+            condition(new ComparerItem(column("t", "d"), number("2"), "/"), "<", number("0.125")), "or"));
+  }
+}
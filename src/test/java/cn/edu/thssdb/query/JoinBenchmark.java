@@ -0,0 +1,83 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.index.BPlusTree;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static cn.edu.thssdb.common.Benchmark.measure;
+import static cn.edu.thssdb.query.BenchmarkUtil.drain;
+
+/**
+ * Equi-join of two in-memory inputs, as a nested loop with a filter, as an in-memory hash join, and
+ * as a hash join whose memory budget forces it to spill partitions to temporary files; then a join
+ * on the primary keys as a hash join, a merge join and an index nested-loop join. Not a unit
+ * test; run it with {@code java -cp <test and main classes> cn.edu.thssdb.query.JoinBenchmark
+ * [left rows] [right rows]}. Times are per input row; each plan runs warm-up rounds before the
+ * measured one, and every plan must produce the same number of rows.
+ */
+public class JoinBenchmark {
+
+  private static List<Row> rows(int count, int keys, Random random) {
+    List<Row> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+      rows.add(new Row(new Cell[]{new Cell(i), new Cell(random.nextInt(keys)), new Cell("'v" + i + "'")}));
+    return rows;
+  }
+
+  private static List<Column> columns(String table) {
+    List<Column> columns = new ArrayList<>();
+    columns.add(new Column(table + "_id", ColumnType.INT, 1, true, 0));
+    columns.add(new Column(table + "_k", ColumnType.INT, 0, false, 0));
+    columns.add(new Column(table + "_v", ColumnType.STRING, 0, false, 16));
+    return columns;
+  }
+
+  public static void main(String[] args) {
+    int leftCount = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+    int rightCount = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+    Random random = new Random(42);
+    List<Row> left = rows(leftCount, leftCount, random);
+    List<Row> right = rows(rightCount, leftCount, random);
+    Supplier<Operator> leftScan = () -> new IndexScanOperator(() -> left, columns("l"));
+    Supplier<Operator> rightScan = () -> new IndexScanOperator(() -> right, columns("r"));
+    System.out.println(leftCount + " x " + rightCount + " rows");
+    int inputRows = leftCount + rightCount;
+    long hash = measure("hash join", 1, inputRows, () -> drain(() -> new HashJoinOperator(leftScan.get(),
+        rightScan.get(), new int[]{1}, new int[]{1}, false, Long.MAX_VALUE)));
+    long spilled = measure("hash join, spilled", 1, inputRows, () -> drain(() -> new HashJoinOperator(leftScan.get(),
+        rightScan.get(), new int[]{1}, new int[]{1}, false, rightCount / 16)));
+    long nested = measure("nested loop + filter", 1, inputRows, () -> drain(() -> new FilterOperator(
+        new NestedLoopJoinOperator(leftScan.get(), rightScan.get()),
+        row -> row.getEntries().get(1).equals(row.getEntries().get(4)))));
+    if (hash != nested || spilled != nested)
+      throw new AssertionError("joins disagree: " + hash + ", " + spilled + ", " + nested);
+
+    // joining on the primary keys, 20 times as many rows: both inputs come in key order, and the
+    // right one has an index
+    List<Row> keyedLeft = rows(leftCount * 20, leftCount, random);
+    List<Row> keyedRight = rows(rightCount * 20, leftCount, random);
+    Supplier<Operator> keyedLeftScan = () -> new IndexScanOperator(() -> keyedLeft, columns("l"));
+    Supplier<Operator> keyedRightScan = () -> new IndexScanOperator(() -> keyedRight, columns("r"));
+    BPlusTree<Cell, Row> index = new BPlusTree<>();
+    for (Row row : keyedRight) index.put(row.getEntries().get(0), row);
+    System.out.println(keyedLeft.size() + " x " + keyedRight.size() + " rows on the primary keys");
+    int keyedRows = keyedLeft.size() + keyedRight.size();
+    long keyedHash = measure("hash join", 3, keyedRows, () -> drain(() -> new HashJoinOperator(keyedLeftScan.get(),
+        keyedRightScan.get(), new int[]{0}, new int[]{0}, false, Long.MAX_VALUE)));
+    long merge = measure("merge join", 3, keyedRows,
+        () -> drain(() -> new MergeJoinOperator(keyedLeftScan.get(), keyedRightScan.get(), 0, 0)));
+    long lookup = measure("index nested loop join", 3, keyedRows, () -> drain(() -> new IndexNestedLoopJoinOperator(
+        keyedLeftScan.get(), 0, columns("r"),
+        key -> index.contains(key) ? Collections.singletonList(index.get(key)) : Collections.emptyList())));
+    if (merge != keyedHash || lookup != keyedHash)
+      throw new AssertionError("joins disagree: " + keyedHash + ", " + merge + ", " + lookup);
+  }
+}
@@ -0,0 +1,176 @@
+package cn.edu.thssdb.query;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JoinPlannerTest {
+  private static final long MEMORY_ROWS = 1_000_000;
+
+  private static JoinPlanner.Relation relation(String name, double rows) {
+    return new JoinPlanner.Relation(name, "Full scan " + name, null, rows, rows, rows, true);
+  }
+
+  private static JoinPlanner.Condition equality(int left, int right, boolean rightIndexed, double selectivity) {
+    return JoinPlanner.Condition.equality(left + "=" + right, left, 0, false, right, 0, rightIndexed, false, selectivity);
+  }
+
+  private static List<JoinPlanner.Method> methods(JoinPlanner.Plan plan) {
+    List<JoinPlanner.Method> methods = new ArrayList<>();
+    for (JoinPlanner.Step step : plan.steps.subList(1, plan.steps.size()))
+      methods.add(step.method);
+    return methods;
+  }
+
+  @Test
+  public void testAvoidsCrossProduct() {
+    // a and b are only connected through c, so the written order a, b, c starts with a cross product
+    List<JoinPlanner.Relation> relations = Arrays.asList(relation("a", 10_000), relation("b", 10_000), relation("c", 100));
+    List<JoinPlanner.Condition> conditions = Arrays.asList(equality(0, 2, false, 0.01), equality(1, 2, false, 0.01));
+    JoinPlanner.Plan written = JoinPlanner.plan(relations, conditions, 1, MEMORY_ROWS);
+    assertEquals(JoinPlanner.Method.NESTED_LOOP, written.steps.get(1).method);
+    JoinPlanner.Plan plan = JoinPlanner.plan(relations, conditions, 8, MEMORY_ROWS);
+    assertFalse(methods(plan).contains(JoinPlanner.Method.NESTED_LOOP));
+    assertTrue(plan.getCost() < written.getCost() / 100);
+    assertEquals(written.getRows(), plan.getRows(), 1e-6 * written.getRows());
+  }
+
+  @Test
+  public void testChoosesJoinMethod() {
+    // a few outer rows probe the index of a large table
+    JoinPlanner.Plan index = JoinPlanner.plan(Arrays.asList(relation("a", 5), relation("b", 1_000_000)),
+        Arrays.asList(equality(0, 1, true, 1e-6)), 8, MEMORY_ROWS);
+    assertEquals(Arrays.asList(JoinPlanner.Method.INDEX), methods(index));
+    // without the index the smaller side is hashed
+    JoinPlanner.Plan hash = JoinPlanner.plan(Arrays.asList(relation("a", 5_000), relation("b", 1_000_000)),
+        Arrays.asList(equality(0, 1, false, 1e-6)), 8, MEMORY_ROWS);
+    assertEquals(Arrays.asList(JoinPlanner.Method.HASH), methods(hash));
+    JoinPlanner.Step step = hash.steps.get(1);
+    assertEquals(step.buildLeft, hash.steps.get(0).relation == 0);
+    // two inputs ordered by their primary keys are merged
+    JoinPlanner.Plan merge = JoinPlanner.plan(Arrays.asList(relation("a", 100_000), relation("b", 100_000)),
+        Arrays.asList(JoinPlanner.Condition.equality("a.id = b.id", 0, 0, false, 1, 0, false, true, 1e-5)), 8, MEMORY_ROWS);
+    assertEquals(Arrays.asList(JoinPlanner.Method.MERGE), methods(merge));
+    // no equality between the tables leaves only the nested loop
+    JoinPlanner.Plan nested = JoinPlanner.plan(Arrays.asList(relation("a", 10), relation("b", 10)),
+        Arrays.asList(JoinPlanner.Condition.filter("a.x < b.y", 3, 1.0 / 3)), 8, MEMORY_ROWS);
+    assertEquals(Arrays.asList(JoinPlanner.Method.NESTED_LOOP), methods(nested));
+  }
+
+  @Test
+  public void testChecksEachConditionOnce() {
+    List<JoinPlanner.Relation> relations = Arrays.asList(relation("a", 100), relation("b", 10), relation("c", 1000),
+        relation("d", 50));
+    List<JoinPlanner.Condition> conditions = Arrays.asList(equality(0, 1, false, 0.1), equality(1, 2, true, 0.001),
+        JoinPlanner.Condition.filter("a.x < c.y", 5, 0.3), equality(2, 3, false, 0.02),
+        JoinPlanner.Condition.filter("missing = 1", 15, 0.005));
+    for (int limit : new int[]{1, 8}) {
+      JoinPlanner.Plan plan = JoinPlanner.plan(relations, conditions, limit, MEMORY_ROWS);
+      int[] checked = new int[conditions.size()];
+      long joined = 0;
+      for (JoinPlanner.Step step : plan.steps) {
+        joined |= 1L << step.relation;
+        for (int condition : step.conditions) {
+          checked[condition]++;
+          assertEquals(conditions.get(condition).tables, conditions.get(condition).tables & joined);
+        }
+      }
+      assertTrue(Arrays.stream(checked).allMatch(count -> count == 1));
+      // a condition on every table waits for the last one
+      int[] last = plan.steps.get(plan.steps.size() - 1).conditions;
+      assertTrue(Arrays.stream(last).anyMatch(condition -> condition == 4));
+    }
+    assertTrue(Arrays.equals(new int[]{0, 1, 2, 3}, JoinPlanner.plan(relations, conditions, 3, MEMORY_ROWS).order()));
+  }
+
+  // cost of joining the relations in the given order, without reordering
+  private static double writtenCost(List<JoinPlanner.Relation> relations, List<JoinPlanner.Condition> conditions,
+                                    int[] order, long memoryRows) {
+    int[] position = new int[order.length];
+    List<JoinPlanner.Relation> permuted = new ArrayList<>();
+    for (int i = 0; i < order.length; i++) {
+      position[order[i]] = i;
+      permuted.add(relations.get(order[i]));
+    }
+    List<JoinPlanner.Condition> renumbered = new ArrayList<>();
+    for (JoinPlanner.Condition condition : conditions) {
+      if (condition.isEquality()) {
+        renumbered.add(JoinPlanner.Condition.equality(condition.description, position[condition.left], condition.leftColumn,
+            condition.leftIndexed, position[condition.right], condition.rightColumn, condition.rightIndexed,
+            condition.primaryKeys, condition.selectivity));
+      } else {
+        long tables = 0;
+        for (int i = 0; i < order.length; i++)
+          if ((condition.tables & 1L << i) != 0)
+            tables |= 1L << position[i];
+        renumbered.add(JoinPlanner.Condition.filter(condition.description, tables, condition.selectivity));
+      }
+    }
+    return JoinPlanner.plan(permuted, renumbered, 1, memoryRows).getCost();
+  }
+
+  private static void permutations(int[] order, int k, List<int[]> result) {
+    if (k == order.length) {
+      result.add(order.clone());
+      return;
+    }
+    for (int i = k; i < order.length; i++) {
+      int t = order[k]; order[k] = order[i]; order[i] = t;
+      permutations(order, k + 1, result);
+      t = order[k]; order[k] = order[i]; order[i] = t;
+    }
+  }
+
+  @Test
+  public void testFindsCheapestLeftDeepOrder() {
+    Random random = new Random(3);
+    for (int round = 0; round < 200; round++) {
+      int n = 2 + random.nextInt(4);
+      List<JoinPlanner.Relation> relations = new ArrayList<>();
+      for (int i = 0; i < n; i++) {
+        double tableRows = Math.pow(10, 1 + random.nextInt(6));
+        double rows = tableRows * (random.nextBoolean() ? 1 : random.nextDouble());
+        relations.add(new JoinPlanner.Relation("t" + i, "Full scan t" + i, rows < tableRows ? "filter" : null, tableRows,
+            rows, rows < tableRows ? tableRows * 1.2 : tableRows, random.nextBoolean()));
+      }
+      List<JoinPlanner.Condition> conditions = new ArrayList<>();
+      for (int i = 1; i < n; i++) {
+        int other = random.nextInt(i);
+        conditions.add(JoinPlanner.Condition.equality("c" + i, other, 0, random.nextBoolean(), i, 0, random.nextBoolean(),
+            random.nextInt(4) == 0, 1 / Math.pow(10, 1 + random.nextInt(5))));
+      }
+      if (n > 2 && random.nextBoolean())
+        conditions.add(JoinPlanner.Condition.filter("f", 1 | 1L << (n - 1), 0.3));
+      long memoryRows = random.nextBoolean() ? MEMORY_ROWS : 1000;
+      JoinPlanner.Plan plan = JoinPlanner.plan(relations, conditions, 8, memoryRows);
+      List<int[]> orders = new ArrayList<>();
+      int[] identity = new int[n];
+      for (int i = 0; i < n; i++)
+        identity[i] = i;
+      permutations(identity, 0, orders);
+      double best = Double.MAX_VALUE;
+      for (int[] order : orders)
+        best = Math.min(best, writtenCost(relations, conditions, order, memoryRows));
+      assertEquals(best, plan.getCost(), 1e-9 * best);
+    }
+  }
+
+  @Test
+  public void testExplainShowsTree() {
+    JoinPlanner.Plan plan = JoinPlanner.plan(Arrays.asList(relation("a", 5), relation("b", 1_000_000)),
+        Arrays.asList(equality(0, 1, true, 1e-6)), 8, MEMORY_ROWS);
+    List<String> lines = plan.explain();
+    assertEquals(4, lines.size());
+    assertTrue(lines.get(0).startsWith("Filter 0=1"));
+    assertTrue(lines.get(1).startsWith("  Index nested loop join on 0=1"));
+    assertTrue(lines.get(2).startsWith("    Full scan a"));
+    assertEquals("    Index lookup b for each row", lines.get(3));
+  }
+}
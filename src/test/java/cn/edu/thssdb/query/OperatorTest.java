@@ -0,0 +1,193 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.ComparerType;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static cn.edu.thssdb.query.OperatorTestUtil.drain;
+import static cn.edu.thssdb.query.OperatorTestUtil.row;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OperatorTest {
+
+  private static List<Column> columns(String... names) {
+    List<Column> columns = new ArrayList<>();
+    for (String name : names) columns.add(new Column(name, ColumnType.INT, 0, false, 0));
+    return columns;
+  }
+
+  @Test
+  public void testLimitStopsPullingRows() {
+    List<Row> rows = IntStream.range(0, 1000).mapToObj(i -> row(i, i % 7)).collect(Collectors.toList());
+    AtomicInteger tested = new AtomicInteger();
+    Operator plan = new LimitOperator(new ProjectOperator(new FilterOperator(
+        new IndexScanOperator(() -> rows, columns("id", "v")), row -> {
+          tested.incrementAndGet();
+          return row.getEntries().get(1).value.equals(0);
+        }), new int[]{0}), 3);
+    assertEquals(Arrays.asList("0", "7", "14"), drain(plan));
+    assertEquals(15, tested.get());
+    assertEquals(Collections.singletonList("id"), plan.getColumns().stream().map(Column::getColumnName).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testProjectFollowsSelectOrder() {
+    Operator plan = new ProjectOperator(new IndexScanOperator(() -> Collections.singletonList(row(1, 2, 3)),
+        columns("a", "b", "c")), new int[]{2, 0, 0});
+    assertEquals(Collections.singletonList("3, 1, 1"), drain(plan));
+  }
+
+  @Test
+  public void testNestedLoopJoin() {
+    Operator outer = new IndexScanOperator(() -> Arrays.asList(row(1), row(2), row(3)), columns("a"));
+    Operator inner = new IndexScanOperator(() -> Arrays.asList(row(2, 20), row(1, 10), row(2, 21)), columns("b", "c"));
+    Operator join = new FilterOperator(new NestedLoopJoinOperator(outer, inner),
+        row -> row.getEntries().get(0).equals(row.getEntries().get(1)));
+    assertEquals(3, join.getColumns().size());
+    assertEquals(Arrays.asList("1, 1, 10", "2, 2, 20", "2, 2, 21"), drain(join));
+    // a closed plan can be opened again
+    assertEquals(Arrays.asList("1, 1, 10", "2, 2, 20", "2, 2, 21"), drain(join));
+
+    Operator empty = new NestedLoopJoinOperator(outer, new IndexScanOperator(Collections::emptyList, columns("b")));
+    assertEquals(Collections.emptyList(), drain(empty));
+  }
+
+  @Test
+  public void testHashJoinMatchesNestedLoop() {
+    Random random = new Random(3);
+    List<Row> leftRows = new ArrayList<>();
+    for (int i = 0; i < 300; i++)
+      leftRows.add(row(i, random.nextInt(8) == 0 ? null : random.nextInt(20), "'" + random.nextInt(3) + "'"));
+    List<Row> rightRows = new ArrayList<>();
+    for (int i = 0; i < 200; i++)
+      rightRows.add(row(random.nextInt(8) == 0 ? null : random.nextInt(40) / 2.0, "'" + random.nextInt(3) + "'"));
+    List<Column> leftColumns = columns("l_id", "l_k", "l_s");
+    List<Column> rightColumns = columns("r_k", "r_s");
+    // evaluate's = treats 1 and 1.0 as equal, and null as equal to null
+    MultipleConditionItem on = new MultipleConditionItem(new MultipleConditionItem(new ConditionItem(
+        new ComparerItem(ComparerType.COLUMN, "l", "k"), new ComparerItem(ComparerType.COLUMN, "r", "k"), "=")),
+        new MultipleConditionItem(new ConditionItem(new ComparerItem(ComparerType.COLUMN, "r", "s"),
+            new ComparerItem(ComparerType.COLUMN, "l", "s"), "=")), "and");
+    ArrayList<String> columnNames = new ArrayList<>(Arrays.asList("l_id", "l_k", "l_s", "r_k", "r_s"));
+    List<String> expected = drain(new FilterOperator(new NestedLoopJoinOperator(
+        new IndexScanOperator(() -> leftRows, leftColumns), new IndexScanOperator(() -> rightRows, rightColumns)),
+        row -> on.evaluate(row, columnNames)));
+    Collections.sort(expected);
+    assertFalse(expected.isEmpty());
+
+    File tmp = new File(System.getProperty("java.io.tmpdir"));
+    FilenameFilter spillFiles = (dir, name) -> name.startsWith("thssdb-join-");
+    int filesBefore = tmp.list(spillFiles).length;
+    for (boolean buildLeft : new boolean[]{false, true}) {
+      for (long memoryRows : new long[]{1000, 10}) {
+        HashJoinOperator join = new HashJoinOperator(new IndexScanOperator(() -> leftRows, leftColumns),
+            new IndexScanOperator(() -> rightRows, rightColumns), new int[]{1, 2}, new int[]{0, 1}, buildLeft, memoryRows);
+        List<String> actual = drain(join);
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+        if (memoryRows < 100) assertTrue(join.getSpilledPartitions() >= HashJoinOperator.PARTITIONS);
+        else assertEquals(0, join.getSpilledPartitions());
+        assertEquals(filesBefore, tmp.list(spillFiles).length);
+      }
+    }
+  }
+
+  @Test
+  public void testSpilledHashJoinWithSkewedKeys() {
+    // a third of the keys are null and a third are 7: neither fits in memory nor can be split by hashing
+    Random random = new Random(4);
+    List<Row> leftRows = new ArrayList<>();
+    for (int i = 0; i < 1500; i++) {
+      int kind = random.nextInt(3);
+      leftRows.add(row(i, kind == 0 ? null : kind == 1 ? 7 : random.nextInt(1000)));
+    }
+    List<Row> rightRows = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      int kind = random.nextInt(3);
+      rightRows.add(row(kind == 0 ? null : kind == 1 ? 7 : random.nextInt(1000), i));
+    }
+    List<Column> leftColumns = columns("l_id", "l_k");
+    List<Column> rightColumns = columns("r_k", "r_v");
+    // null joins null, as in the hash join
+    List<String> expected = drain(new FilterOperator(new NestedLoopJoinOperator(
+        new IndexScanOperator(() -> leftRows, leftColumns), new IndexScanOperator(() -> rightRows, rightColumns)),
+        row -> Objects.equals(row.getEntries().get(1).value, row.getEntries().get(2).value)));
+    Collections.sort(expected);
+    assertTrue(expected.size() > 50_000);
+
+    HashJoinOperator join = new HashJoinOperator(new IndexScanOperator(() -> leftRows, leftColumns),
+        new IndexScanOperator(() -> rightRows, rightColumns), new int[]{1}, new int[]{0}, true, 20);
+    List<String> actual = drain(join);
+    Collections.sort(actual);
+    assertEquals(expected, actual);
+    // the 500 other keys are spread over 64 partitions of about 8 rows, so some of them are split again
+    assertTrue(join.getSpilledPartitions() > HashJoinOperator.PARTITIONS);
+  }
+
+  @Test
+  public void testMergeJoinWithDuplicateKeys() {
+    Operator left = new IndexScanOperator(() -> Arrays.asList(row(1, "'a'"), row(2, "'b'"), row(2, "'c'"), row(4, "'d'"),
+        row(5, "'e'")), columns("k", "v"));
+    Operator right = new IndexScanOperator(() -> Arrays.asList(row(0), row(2), row(2), row(3), row(4)), columns("k"));
+    MergeJoinOperator join = new MergeJoinOperator(left, right, 0, 0);
+    List<String> expected = Arrays.asList("2, 'b', 2", "2, 'b', 2", "2, 'c', 2", "2, 'c', 2", "4, 'd', 4");
+    assertEquals(expected, drain(join));
+    assertEquals(expected, drain(join));
+    assertEquals(Collections.emptyList(), drain(new MergeJoinOperator(left,
+        new IndexScanOperator(Collections::emptyList, columns("k")), 0, 0)));
+  }
+
+  @Test
+  public void testIndexNestedLoopJoin() {
+    List<Row> inner = Arrays.asList(row(10, 1), row(11, 2), row(12, 2));
+    Operator outer = new IndexScanOperator(() -> Arrays.asList(row(2), row((Comparable) null), row(3), row(1)), columns("a"));
+    List<Cell> probes = new ArrayList<>();
+    Operator join = new IndexNestedLoopJoinOperator(outer, 0, columns("id", "b"), value -> {
+      probes.add(value);
+      return inner.stream().filter(row -> row.getEntries().get(1).equals(value)).collect(Collectors.toList());
+    });
+    assertEquals(Arrays.asList("2, 11, 2", "2, 12, 2", "1, 10, 1"), drain(join));
+    // a null key matches nothing and is never looked up
+    assertEquals(3, probes.size());
+  }
+
+  @Test
+  public void testSortWithNullsAndDescending() {
+    List<Row> rows = Arrays.asList(row(1, "'b'"), row(2, null), row(3, "'a'"), row(4, "'b'"));
+    Operator source = new IndexScanOperator(() -> rows, columns("id", "name"));
+    assertEquals(Arrays.asList("2, null", "3, 'a'", "1, 'b'", "4, 'b'"),
+        drain(new SortOperator(source, SortOperator.byColumns(new int[]{1}, new boolean[]{false}))));
+    assertEquals(Arrays.asList("4, 'b'", "1, 'b'", "3, 'a'", "2, null"),
+        drain(new SortOperator(source, SortOperator.byColumns(new int[]{1, 0}, new boolean[]{true, true}))));
+  }
+
+  @Test
+  public void testQueryTableIterator() {
+    QueryTable table = new QueryTable(Arrays.asList(row(1), row(2)), columns("a"));
+    assertEquals(0, table.Column2Index("a"));
+    assertEquals("1", table.next().toString());
+    assertEquals("2", table.next().toString());
+    assertFalse(table.hasNext());
+    table.close();
+  }
+}
@@ -0,0 +1,29 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Rows and result collection shared by the operator tests. */
+final class OperatorTestUtil {
+
+  private OperatorTestUtil() {
+  }
+
+  static Row row(Comparable... values) {
+    Cell[] cells = new Cell[values.length];
+    for (int i = 0; i < values.length; i++) cells[i] = new Cell(values[i]);
+    return new Row(cells);
+  }
+
+  // opens the plan, returns its rows as strings and closes it
+  static List<String> drain(Operator operator) {
+    List<String> rows = new ArrayList<>();
+    QueryTable table = new QueryTable(operator);
+    while (table.hasNext()) rows.add(table.next().toString());
+    table.close();
+    return rows;
+  }
+}
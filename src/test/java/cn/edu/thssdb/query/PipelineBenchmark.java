@@ -0,0 +1,66 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ComparerType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static cn.edu.thssdb.common.Benchmark.measure;
+import static cn.edu.thssdb.query.BenchmarkUtil.column;
+import static cn.edu.thssdb.query.BenchmarkUtil.condition;
+import static cn.edu.thssdb.query.BenchmarkUtil.drain;
+import static cn.edu.thssdb.query.BenchmarkUtil.joinedColumns;
+import static cn.edu.thssdb.query.BenchmarkUtil.number;
+import static cn.edu.thssdb.query.BenchmarkUtil.randomRows;
+
+/**
+ * Per-row cost of a filter and projection over in-memory rows: a {@link FilterOperator} that
+ * interprets the {@link MultipleConditionItem} under a {@link ProjectOperator}, the same operators
+ * with the condition compiled into a {@link RowCondition}, and one {@link PipelineOperator} whose
+ * class {@link PipelineGenerator} generates at runtime. Not a unit test; run it with {@code java
+ * -cp <test and main classes> cn.edu.thssdb.query.PipelineBenchmark [rows]}. Each plan runs a few
+ * warm-up rounds before the measured one, and all three must return the same number of rows.
+ */
+public class PipelineBenchmark {
+  private static final int ROUNDS = 20;
+
+  private static void compare(List<Row> rows, List<Column> columns, String sql, MultipleConditionItem where,
+                              int[] columnIndexes) {
+    ArrayList<String> columnNames = new ArrayList<>();
+    for (Column column : columns) columnNames.add(column.getColumnName());
+    RowCondition compiled = where.compile(columns);
+    Supplier<Operator> scan = () -> new IndexScanOperator(() -> rows, columns);
+    System.out.println(sql);
+    long expected = measure("interpreted", ROUNDS, rows.size(), () -> drain(() -> new ProjectOperator(
+        new FilterOperator(scan.get(), row -> Boolean.TRUE.equals(where.evaluate(row, columnNames))), columnIndexes)));
+    long tree = measure("compiled", ROUNDS, rows.size(), () -> drain(() -> new ProjectOperator(
+        new FilterOperator(scan.get(), row -> Boolean.TRUE.equals(compiled.evaluate(row))), columnIndexes)));
+    long generated = measure("generated", ROUNDS, rows.size(),
+        () -> drain(() -> PipelineOperator.filter(scan.get(), compiled).project(columnIndexes)));
+    if (tree != expected || generated != expected)
+      throw new AssertionError("plans disagree: " + expected + ", " + tree + ", " + generated);
+  }
+
+  public static void main(String[] args) {
+    int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    List<Column> columns = joinedColumns();
+    List<Row> rows = randomRows(count);
+    System.out.println(count + " rows");
+
+    compare(rows, columns, "select t.id, t.s where t.a < 100", condition(column("t", "a"), "<", number("100")),
+        new int[]{0, 4});
+    compare(rows, columns, "select t.b where t.d >= 0.5 and t.b <> 3 and t.s <> null",
+        new MultipleConditionItem(new MultipleConditionItem(condition(column("t", "d"), ">=", number("0.5")),
+            condition(column("t", "b"), "<>", number("3")), "and"),
+            condition(column("t", "s"), "<>", new ComparerItem()), "and"), new int[]{2});
+    compare(rows, columns, "select t.id, t.a, t.d where t.a = t.id or not t.s like 's1%'",
+        new MultipleConditionItem(condition(column("t", "a"), "=", column("t", "id")),
+            new MultipleConditionItem(condition(column("t", "s"), "like", new ComparerItem(ComparerType.STRING, "'s1%'")),
+                null, "not"), "or"), new int[]{0, 1, 3});
+  }
+}
@@ -0,0 +1,137 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ComparerType;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static cn.edu.thssdb.query.OperatorTestUtil.drain;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PipelineTest {
+
+  private static int[] randomProjection(Random random) {
+    if (random.nextInt(4) == 0) return null;
+    int[] columnIndexes = new int[1 + random.nextInt(4)];
+    for (int i = 0; i < columnIndexes.length; i++) columnIndexes[i] = random.nextInt(RowConditionTest.NAMES.length);
+    return columnIndexes;
+  }
+
+  @Test
+  public void testMatchesFilterAndProject() {
+    PrintStream out = System.out;
+    // compile reports type errors on stdout
+    System.setOut(new PrintStream(new OutputStream() {
+      @Override
+      public void write(int b) {
+      }
+    }));
+    int threshold = Global.pipelineGenerateThreshold;
+    // generate a class for every shape, not only the ones seen often enough
+    Global.pipelineGenerateThreshold = 0;
+    try {
+      Random random = new Random(17);
+      List<Row> rows = new ArrayList<>();
+      for (int i = 0; i < 300; i++) rows.add(RowConditionTest.randomRow(random));
+      int generated = 0;
+      for (int i = 0; i < 3000; i++) {
+        MultipleConditionItem condition = RowConditionTest.randomCondition(random, 3);
+        RowCondition compiled = condition.compile(RowConditionTest.columns());
+        if (compiled == null) continue;
+        int[] columnIndexes = randomProjection(random);
+        RowPipeline pipeline = PipelineGenerator.generate(compiled, columnIndexes);
+        if (pipeline == null) continue;
+        generated++;
+        Operator scan = new IndexScanOperator(() -> rows, RowConditionTest.columns());
+        Operator expected = new FilterOperator(scan, row -> Boolean.TRUE.equals(compiled.evaluate(row)));
+        if (columnIndexes != null) expected = new ProjectOperator(expected, columnIndexes);
+        Operator actual = PipelineOperator.filter(new IndexScanOperator(() -> rows, RowConditionTest.columns()), compiled);
+        assertNotNull(actual);
+        if (columnIndexes != null) actual = ((PipelineOperator) actual).project(columnIndexes);
+        assertEquals(condition.toString(), drain(expected), drain(actual));
+      }
+      assertTrue(generated > 300);
+      assertTrue(PipelineGenerator.cachedClasses() <= 256);
+    } finally {
+      Global.pipelineGenerateThreshold = threshold;
+      System.setOut(out);
+    }
+  }
+
+  private static RowCondition compile(String column, String comparator, ComparerItem right) {
+    return new MultipleConditionItem(new ConditionItem(new ComparerItem(ComparerType.COLUMN, null, column), right,
+        comparator)).compile(RowConditionTest.columns());
+  }
+
+  @Test
+  public void testSameShapeSharesClass() {
+    int threshold = Global.pipelineGenerateThreshold;
+    Global.pipelineGenerateThreshold = 0;
+    try {
+      assertSameShapeSharesClass();
+    } finally {
+      Global.pipelineGenerateThreshold = threshold;
+    }
+  }
+
+  private static void assertSameShapeSharesClass() {
+    RowPipeline first = PipelineGenerator.generate(compile("a", "<", new ComparerItem(ComparerType.NUMBER, "3")), new int[]{5, 0});
+    RowPipeline second = PipelineGenerator.generate(compile("a", "<", new ComparerItem(ComparerType.NUMBER, "-1")), new int[]{5, 0});
+    RowPipeline other = PipelineGenerator.generate(compile("a", "<", new ComparerItem(ComparerType.NUMBER, "3")), new int[]{0});
+    assertEquals(first.getClass(), second.getClass());
+    assertTrue(first.getClass() != other.getClass());
+    assertTrue(first.getClass().getClassLoader() != PipelineGenerator.class.getClassLoader());
+  }
+
+  @Test
+  public void testInterpretsShapeUntilThreshold() {
+    Random random = new Random(5);
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 100; i++) rows.add(RowConditionTest.randomRow(random));
+    RowCondition condition = compile("a", ">=", new ComparerItem(ComparerType.NUMBER, "0"));
+    // five projected columns: a shape no other test generates
+    int[] columnIndexes = {4, 3, 2, 1, 0};
+    List<String> expected = drain(new ProjectOperator(new FilterOperator(new IndexScanOperator(() -> rows,
+        RowConditionTest.columns()), row -> Boolean.TRUE.equals(condition.evaluate(row))), columnIndexes));
+    assertTrue(!expected.isEmpty());
+    for (int use = 1; use <= Global.pipelineGenerateThreshold + 2; use++) {
+      RowPipeline pipeline = PipelineGenerator.generate(condition, columnIndexes);
+      assertEquals(use > Global.pipelineGenerateThreshold,
+          pipeline.getClass().getClassLoader() != PipelineGenerator.class.getClassLoader());
+      Operator scan = new IndexScanOperator(() -> rows, RowConditionTest.columns());
+      scan.open();
+      List<String> actual = new ArrayList<>();
+      for (Row row = pipeline.next(scan); row != null; row = pipeline.next(scan)) actual.add(row.toString());
+      scan.close();
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void testMergesFiltersAndFallsBack() {
+    Operator scan = new IndexScanOperator(() -> new ArrayList<>(), RowConditionTest.columns());
+    PipelineOperator first = PipelineOperator.filter(scan, compile("a", ">", new ComparerItem(ComparerType.NUMBER, "0")));
+    PipelineOperator second = PipelineOperator.filter(first, compile("s", "like", new ComparerItem(ComparerType.STRING, "'x%'")));
+    assertNotNull(second);
+    assertEquals(RowConditionTest.columns().size(), second.getColumns().size());
+    assertEquals(1, second.project(new int[]{1}).getColumns().size());
+    // comparing arithmetic can fail, so it stays with the tree of RowConditions
+    RowCondition arithmetic = compile("a", "<", new ComparerItem(new ComparerItem(ComparerType.COLUMN, null, "d"),
+        new ComparerItem(ComparerType.NUMBER, "1"), "+"));
+    assertNotNull(arithmetic);
+    assertNull(PipelineGenerator.generate(arithmetic, null));
+    assertNull(PipelineOperator.filter(scan, arithmetic));
+  }
+}
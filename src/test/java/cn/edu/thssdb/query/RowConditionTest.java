@@ -0,0 +1,164 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.ComparerType;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RowConditionTest {
+  static final String[] NAMES = {"a", "a2", "b", "c", "d", "s"};
+  private static final ColumnType[] TYPES = {ColumnType.INT, ColumnType.INT, ColumnType.LONG, ColumnType.FLOAT,
+      ColumnType.DOUBLE, ColumnType.STRING};
+  private static final String[] NUMBERS = {"0", "1", "3", "2.5", "0.1", "0.30", "2147483647", "2147483648",
+      "99999999999.5", "4.0", "1.0e999"};
+  private static final String[] STRINGS = {"'x'", "'xy'", "'y'", "''", "'x%'", "'_y'"};
+  private static final String[] COMPARATORS = {"=", "<>", "<", ">", "<=", ">=", "like"};
+
+  static List<Column> columns() {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < NAMES.length; i++) columns.add(new Column(NAMES[i], TYPES[i], 0, false, 8));
+    return columns;
+  }
+
+  static Row randomRow(Random random) {
+    Cell[] cells = new Cell[NAMES.length];
+    for (int i = 0; i < cells.length; i++) {
+      Comparable value = null;
+      if (random.nextInt(6) != 0) {
+        switch (TYPES[i]) {
+          case INT: value = random.nextInt(7) - 2; break;
+          case LONG: value = random.nextInt(3) == 0 ? Long.MAX_VALUE - random.nextInt(3) : (long) random.nextInt(7); break;
+          case FLOAT: value = random.nextInt(4) == 0 ? 0.1f : random.nextInt(9) / 2.0f - 1; break;
+          case DOUBLE:
+            value = random.nextInt(8) == 0 ? Double.POSITIVE_INFINITY : random.nextInt(4) == 0 ? -0.0 : random.nextInt(9) / 4.0;
+            break;
+          default: value = STRINGS[random.nextInt(STRINGS.length)];
+        }
+      }
+      cells[i] = new Cell(value);
+    }
+    return new Row(cells);
+  }
+
+  private static ComparerItem randomOperand(Random random, int depth) {
+    int kind = random.nextInt(depth > 0 ? 7 : 6);
+    switch (kind) {
+      case 0: case 1: case 2:
+        return new ComparerItem(ComparerType.COLUMN, random.nextInt(5) == 0 ? "t" : null,
+            random.nextInt(30) == 0 ? "missing" : NAMES[random.nextInt(NAMES.length)]);
+      case 3: return new ComparerItem(ComparerType.NUMBER, NUMBERS[random.nextInt(NUMBERS.length)]);
+      case 4: return new ComparerItem(ComparerType.STRING, STRINGS[random.nextInt(STRINGS.length)]);
+      case 5: return random.nextInt(3) == 0 ? new ComparerItem() : new ComparerItem(ComparerType.NUMBER, "2");
+      default:
+        return new ComparerItem(randomOperand(random, depth - 1), randomOperand(random, depth - 1),
+            "+-*/".substring(random.nextInt(4)).substring(0, 1));
+    }
+  }
+
+  static MultipleConditionItem randomCondition(Random random, int depth) {
+    int kind = random.nextInt(depth > 0 ? 6 : 1);
+    if (kind == 0 || kind > 3)
+      return new MultipleConditionItem(new ConditionItem(randomOperand(random, 2), randomOperand(random, 2),
+          COMPARATORS[random.nextInt(COMPARATORS.length)]));
+    MultipleConditionItem left = randomCondition(random, depth - 1);
+    if (kind == 1)
+      return new MultipleConditionItem(left, null, "not");
+    return new MultipleConditionItem(left, randomCondition(random, depth - 1), kind == 2 ? "and" : "or");
+  }
+
+  // evaluate 的结果，and、or 的一侧出错时抛出的异常记为 "exception"
+  private static Object outcome(Row row, MultipleConditionItem condition, ArrayList<String> columnNames) {
+    try {
+      return condition.evaluate(row, columnNames);
+    } catch (NullPointerException e) {
+      return "exception";
+    }
+  }
+
+  private static Object outcome(Row row, RowCondition condition) {
+    try {
+      return condition.evaluate(row);
+    } catch (NullPointerException e) {
+      return "exception";
+    }
+  }
+
+  @Test
+  public void testMatchesInterpreter() {
+    PrintStream out = System.out;
+    // evaluate reports type errors on stdout
+    System.setOut(new PrintStream(new OutputStream() {
+      @Override
+      public void write(int b) {
+      }
+    }));
+    try {
+      Random random = new Random(11);
+      List<Row> rows = new ArrayList<>();
+      for (int i = 0; i < 500; i++) rows.add(randomRow(random));
+      ArrayList<String> columnNames = new ArrayList<>(Arrays.asList(NAMES));
+      int compiled = 0, failing = 0;
+      for (int i = 0; i < 5000; i++) {
+        MultipleConditionItem condition = randomCondition(random, 2);
+        RowCondition rowCondition = condition.compile(columns());
+        if (rowCondition == null)
+          continue;
+        compiled++;
+        for (Row row : rows) {
+          Object expected = outcome(row, condition, columnNames);
+          if (!(expected instanceof Boolean))
+            failing++;
+          assertEquals(condition + " on " + row, expected, outcome(row, rowCondition));
+        }
+      }
+      assertTrue(compiled > 2000);
+      assertTrue(failing > 0);
+    } finally {
+      System.setOut(out);
+    }
+  }
+
+  private static RowCondition compile(String left, String comparator, ComparerItem right) {
+    return new MultipleConditionItem(new ConditionItem(new ComparerItem(ComparerType.COLUMN, null, left), right,
+        comparator)).compile(columns());
+  }
+
+  @Test
+  public void testTypedComparisons() {
+    Row row = new Row(new Cell[]{new Cell(2), new Cell(3), new Cell(Long.MAX_VALUE), new Cell(0.1f),
+        new Cell(Double.POSITIVE_INFINITY), new Cell("'xy'")});
+    assertTrue(compile("a", "<", new ComparerItem(ComparerType.NUMBER, "2.5")).evaluate(row));
+    assertTrue(compile("a", "<", new ComparerItem(ComparerType.COLUMN, null, "a2")).evaluate(row));
+    // both longs round to the same double
+    assertTrue(compile("b", "=", new ComparerItem(ComparerType.NUMBER, "9223372036854775807.0")).evaluate(row));
+    // a FLOAT is compared through its decimal form, so 0.1f equals 0.1
+    assertTrue(compile("c", "=", new ComparerItem(ComparerType.NUMBER, "0.1")).evaluate(row));
+    assertTrue(compile("d", ">", new ComparerItem(ComparerType.NUMBER, "99999999999.5")).evaluate(row));
+    assertTrue(compile("s", "like", new ComparerItem(ComparerType.STRING, "'x_'")).evaluate(row));
+    assertFalse(compile("s", "=", new ComparerItem()).evaluate(row));
+    // Infinity cannot be written back as a literal, so the comparison fails
+    assertNull(compile("a", "<", new ComparerItem(new ComparerItem(ComparerType.COLUMN, null, "d"),
+        new ComparerItem(ComparerType.NUMBER, "1"), "+")).evaluate(row));
+    assertNull(compile("a", "=", new ComparerItem(new ComparerItem(ComparerType.COLUMN, null, "a"),
+        new ComparerItem(ComparerType.NUMBER, "0"), "/")).evaluate(row));
+    assertNull(compile("a", "=", new ComparerItem(ComparerType.STRING, "'x'")));
+    assertNull(compile("missing", "=", new ComparerItem(ComparerType.NUMBER, "1")));
+  }
+}
@@ -0,0 +1,74 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.schema.Table;
+import cn.edu.thssdb.type.ColumnType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+import static cn.edu.thssdb.common.Benchmark.measure;
+import static cn.edu.thssdb.query.BenchmarkUtil.column;
+import static cn.edu.thssdb.query.BenchmarkUtil.condition;
+import static cn.edu.thssdb.query.BenchmarkUtil.drain;
+import static cn.edu.thssdb.query.BenchmarkUtil.number;
+
+/**
+ * Full-table scans with a WHERE filter, evaluated row by row and in {@link RowBatch}es of
+ * vectorized predicates, on one thread. Not a unit test; run it from an empty directory, since the
+ * table is created under {@code ./thssdb}: {@code java -cp <test and main classes>
+ * cn.edu.thssdb.query.VectorBenchmark [rows]}. Each plan runs a few warm-up rounds before the
+ * measured one, and both engines must return the same number of rows.
+ */
+public class VectorBenchmark {
+  private static final int ROUNDS = 3;
+
+  private static void compare(Table table, int rows, String sql, MultipleConditionItem where) {
+    ArrayList<String> columnNames = new ArrayList<>();
+    for (Column column : table.columns) columnNames.add(column.getColumnName());
+    VectorPredicate vector = where.vectorize(table.columns);
+    System.out.println(sql);
+    long expected = measure("row", ROUNDS, rows, () -> drain(() -> new FilterOperator(new ScanOperator(table),
+        row -> Boolean.TRUE.equals(where.evaluate(row, columnNames)))));
+    long actual = measure("vectorized", ROUNDS, rows, () -> drain(() -> new BatchRowOperator(new BatchFilterOperator(
+        new BatchScanOperator(table, Collections.emptyList(), batch -> {
+        }), vector))));
+    if (actual != expected)
+      throw new AssertionError("vectorized scan selected " + actual + " rows, expected " + expected);
+  }
+
+  public static void main(String[] args) {
+    int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    Column[] columns = {
+        new Column("id", ColumnType.INT, 1, true, 0),
+        new Column("a", ColumnType.INT, 0, false, 0),
+        new Column("b", ColumnType.LONG, 0, false, 0),
+        new Column("c", ColumnType.FLOAT, 0, false, 0),
+        new Column("d", ColumnType.DOUBLE, 0, false, 0),
+        new Column("s", ColumnType.STRING, 0, false, 16)
+    };
+    Table table = new Table("vector_benchmark", "t", columns);
+    Random random = new Random(42);
+    for (int i = 0; i < rows; i++) {
+      table.insert(new Row(new Cell[]{new Cell(i), new Cell(random.nextInt(1000)), new Cell((long) random.nextInt(100)),
+          new Cell(random.nextFloat()), new Cell(random.nextDouble()),
+          new Cell(random.nextInt(10) == 0 ? null : "'s" + random.nextInt(100) + "'")}));
+    }
+    System.out.println(rows + " rows");
+
+    compare(table, rows, "where a < 100", condition(column(null, "a"), "<", number("100")));
+    compare(table, rows, "where d >= 0.5 and b <> 3 and s <> null",
+        new MultipleConditionItem(new MultipleConditionItem(condition(column(null, "d"), ">=", number("0.5")),
+            condition(column(null, "b"), "<>", number("3")), "and"),
+            condition(column(null, "s"), "<>", new ComparerItem()), "and"));
+    compare(table, rows, "where a + b * 2 > 1000 or c < 0.25",
+        new MultipleConditionItem(condition(new ComparerItem(column(null, "a"),
+            new ComparerItem(column(null, "b"), number("2"), "*"), "+"), ">", number("1000")),
+            condition(column(null, "c"), "<", number("0.25")), "or"));
+  }
+}
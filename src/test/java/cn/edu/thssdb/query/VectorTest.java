@@ -0,0 +1,169 @@
+package cn.edu.thssdb.query;
+
+import cn.edu.thssdb.parser.item.ComparerItem;
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.parser.item.MultipleConditionItem;
+import cn.edu.thssdb.schema.Cell;
+import cn.edu.thssdb.schema.Column;
+import cn.edu.thssdb.schema.Row;
+import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.ComparerType;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class VectorTest {
+  private static final String[] NAMES = {"a", "b", "c", "d", "s"};
+  private static final ColumnType[] TYPES = {ColumnType.INT, ColumnType.LONG, ColumnType.FLOAT, ColumnType.DOUBLE,
+      ColumnType.STRING};
+  private static final String[] NUMBERS = {"0", "1", "3", "2.5", "0.1", "0.30", "2147483647", "2147483648",
+      "99999999999.5", "4.0"};
+  private static final String[] STRINGS = {"'x'", "'xy'", "'y'", "''", "'x%'", "'_y'", "'%'"};
+  private static final String[] COMPARATORS = {"=", "<>", "<", ">", "<=", ">=", "like"};
+
+  private static List<Column> columns() {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < NAMES.length; i++) columns.add(new Column(NAMES[i], TYPES[i], 0, false, 8));
+    return columns;
+  }
+
+  private static ArrayList<String> columnNames() {
+    return new ArrayList<>(Arrays.asList(NAMES));
+  }
+
+  private static Row randomRow(Random random) {
+    Cell[] cells = new Cell[NAMES.length];
+    for (int i = 0; i < cells.length; i++) {
+      Comparable value = null;
+      if (random.nextInt(6) != 0) {
+        switch (TYPES[i]) {
+          case INT: value = random.nextInt(7) - 2; break;
+          case LONG: value = random.nextInt(3) == 0 ? Long.MAX_VALUE - random.nextInt(3) : (long) random.nextInt(7); break;
+          case FLOAT: value = random.nextInt(4) == 0 ? 0.1f : random.nextInt(9) / 2.0f - 1; break;
+          case DOUBLE: value = random.nextInt(4) == 0 ? -0.0 : random.nextInt(9) / 4.0; break;
+          default: value = STRINGS[random.nextInt(STRINGS.length)];
+        }
+      }
+      cells[i] = new Cell(value);
+    }
+    return new Row(cells);
+  }
+
+  private static ComparerItem randomOperand(Random random, int depth) {
+    int kind = random.nextInt(depth > 0 ? 7 : 6);
+    switch (kind) {
+      case 0: case 1: case 2:
+        return new ComparerItem(ComparerType.COLUMN, random.nextInt(5) == 0 ? "t" : null,
+            random.nextInt(30) == 0 ? "missing" : NAMES[random.nextInt(NAMES.length)]);
+      case 3: return new ComparerItem(ComparerType.NUMBER, NUMBERS[random.nextInt(NUMBERS.length)]);
+      case 4: return new ComparerItem(ComparerType.STRING, STRINGS[random.nextInt(STRINGS.length)]);
+      case 5: return random.nextInt(3) == 0 ? new ComparerItem() : new ComparerItem(ComparerType.NUMBER, "2");
+      default:
+        return new ComparerItem(randomOperand(random, depth - 1), randomOperand(random, depth - 1),
+            "+-*/".substring(random.nextInt(4)).substring(0, 1));
+    }
+  }
+
+  private static MultipleConditionItem randomCondition(Random random, int depth) {
+    int kind = random.nextInt(depth > 0 ? 6 : 1);
+    if (kind == 0 || kind > 3)
+      return new MultipleConditionItem(new ConditionItem(randomOperand(random, 2), randomOperand(random, 2),
+          COMPARATORS[random.nextInt(COMPARATORS.length)]));
+    MultipleConditionItem left = randomCondition(random, depth - 1);
+    if (kind == 1)
+      return new MultipleConditionItem(left, null, "not");
+    return new MultipleConditionItem(left, randomCondition(random, depth - 1), kind == 2 ? "and" : "or");
+  }
+
+  // rows the vectorized predicate keeps, in batches of RowBatch.SIZE
+  private static List<Row> vectorized(List<Row> rows, VectorPredicate predicate) {
+    List<Row> selected = new ArrayList<>();
+    RowBatch batch = new RowBatch(columns());
+    Iterator<Row> iterator = rows.iterator();
+    while (batch.fill(iterator)) {
+      batch.filter(predicate);
+      selected.addAll(batch.selectedRows());
+    }
+    return selected;
+  }
+
+  @Test
+  public void testMatchesRowEvaluation() {
+    PrintStream out = System.out;
+    // evaluate reports type errors on stdout
+    System.setOut(new PrintStream(new OutputStream() {
+      @Override
+      public void write(int b) {
+      }
+    }));
+    try {
+      Random random = new Random(7);
+      List<Row> rows = new ArrayList<>();
+      for (int i = 0; i < 2500; i++) rows.add(randomRow(random));
+      int compiled = 0;
+      for (int i = 0; i < 3000; i++) {
+        MultipleConditionItem condition = randomCondition(random, 2);
+        VectorPredicate predicate = condition.vectorize(columns());
+        if (predicate == null)
+          continue;
+        compiled++;
+        List<Row> expected = new ArrayList<>();
+        for (Row row : rows) {
+          Boolean result = condition.evaluate(row, columnNames());
+          assertNotNull(result);
+          if (result)
+            expected.add(row);
+        }
+        assertEquals(expected, vectorized(rows, predicate));
+      }
+      assertTrue(compiled > 1000);
+    } finally {
+      System.setOut(out);
+    }
+  }
+
+  private static MultipleConditionItem condition(String column, String comparator, ComparerItem literal) {
+    return new MultipleConditionItem(new ConditionItem(new ComparerItem(ComparerType.COLUMN, null, column), literal,
+        comparator));
+  }
+
+  private static int count(List<Row> rows, MultipleConditionItem condition) {
+    return vectorized(rows, condition.vectorize(columns())).size();
+  }
+
+  @Test
+  public void testTypedComparisons() {
+    List<Row> rows = new ArrayList<>();
+    rows.add(new Row(new Cell[]{new Cell(Integer.MAX_VALUE), new Cell(Long.MAX_VALUE), new Cell(0.1f),
+        new Cell(-0.0), new Cell("'x'")}));
+    rows.add(new Row(new Cell[]{new Cell(2), new Cell(Long.MAX_VALUE - 1), new Cell(0.3f), new Cell(0.0),
+        new Cell((Comparable) null)}));
+    rows.add(new Row(new Cell[]{new Cell((Comparable) null), new Cell((Comparable) null), new Cell((Comparable) null),
+        new Cell((Comparable) null), new Cell("'xy'")}));
+    ComparerItem nullLiteral = new ComparerItem();
+    assertEquals(1, count(rows, condition("a", "<", new ComparerItem(ComparerType.NUMBER, "2.5"))));
+    assertEquals(1, count(rows, condition("a", ">=", new ComparerItem(ComparerType.NUMBER, "2147483646.5"))));
+    assertEquals(2, count(rows, condition("a", "<>", new ComparerItem(ComparerType.NUMBER, "2"))));
+    // both longs round to the same double
+    assertEquals(2, count(rows, condition("b", "=", new ComparerItem(ComparerType.NUMBER, "9223372036854775807.0"))));
+    // a FLOAT is compared through its decimal form, so 0.1f equals 0.1
+    assertEquals(1, count(rows, condition("c", "=", new ComparerItem(ComparerType.NUMBER, "0.1"))));
+    assertEquals(1, count(rows, condition("d", "<", new ComparerItem(ComparerType.NUMBER, "0"))));
+    assertEquals(1, count(rows, condition("s", "=", nullLiteral)));
+    assertEquals(1, count(rows, condition("s", "like", new ComparerItem(ComparerType.STRING, "'x_'"))));
+    // an INT literal too large to parse is null
+    assertEquals(0, count(rows, condition("a", "<", new ComparerItem(ComparerType.NUMBER, "2147483648"))));
+    assertNull(condition("a", "=", new ComparerItem(ComparerType.STRING, "'x'")).vectorize(columns()));
+  }
+}
@@ -0,0 +1,98 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.parser.SQLHandler;
+import cn.edu.thssdb.query.QueryResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Two sessions on a copy-on-write table through the SQL layer. Table locks belong to threads,
+ * so each session runs on its own thread.
+ */
+public class CopyOnWriteTableTest {
+  @Rule
+  public final DataDirectory data = new DataDirectory();
+  private SQLHandler handler;
+  private ExecutorService first;
+  private ExecutorService second;
+
+  @Before
+  public void setUp() {
+    handler = new SQLHandler(data.manager());
+    first = Executors.newSingleThreadExecutor();
+    second = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void tearDown() {
+    first.shutdownNow();
+    second.shutdownNow();
+  }
+
+  // the rows of a SELECT, or the message of any other statement
+  private List<String> sql(long session, String statement) {
+    QueryResult result = handler.evaluate(statement, session).get(0);
+    if (result.errorMessage != null)
+      return Collections.singletonList(result.errorMessage);
+    List<String> rows = new ArrayList<>();
+    for (Row row : result.results) rows.add(row.toString());
+    return rows;
+  }
+
+  private List<String> sql(ExecutorService thread, long session, String statement) throws Exception {
+    return thread.submit(() -> sql(session, statement)).get(10, TimeUnit.SECONDS);
+  }
+
+  // runs statement in its own transaction of session 2 while session 1 has an uncommitted write, then commits session 1
+  private List<String> afterCommit(String statement) throws Exception {
+    Future<List<String>> writer = second.submit(() -> {
+      sql(2, Global.LOG_BEGIN_TRANSACTION);
+      List<String> message = sql(2, statement);
+      sql(2, Global.LOG_COMMIT);
+      return message;
+    });
+    Thread.sleep(200);
+    assertFalse(writer.isDone());
+    sql(first, 1, Global.LOG_COMMIT);
+    return writer.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testWritersSelectRowsAfterOtherWritersCommit() throws Exception {
+    sql(first, 1, "create database cow");
+    sql(first, 1, "use cow");
+    sql(first, 1, "create table t (id int not null, v int, s string(8), primary key(id)) with (type = 'cow')");
+    sql(first, 1, Global.LOG_BEGIN_TRANSACTION);
+    sql(first, 1, "insert into t values (1, 0, 'a'), (2, 0, 'b'), (3, 0, 'c')");
+    sql(first, 1, Global.LOG_COMMIT);
+
+    sql(first, 1, Global.LOG_BEGIN_TRANSACTION);
+    sql(first, 1, "update t set v = 10 where id = 1");
+    // readers still see the committed snapshot without waiting
+    assertEquals(Arrays.asList("1, 0, 'a'", "2, 0, 'b'", "3, 0, 'c'"), sql(second, 2, "select id, v, s from t"));
+    // the second writer updates the row the first one committed, not the one in the old snapshot
+    assertEquals(Collections.singletonList("Update 1 rows"), afterCommit("update t set s = 'x' where id = 1"));
+    assertEquals(Arrays.asList("1, 10, 'x'", "2, 0, 'b'", "3, 0, 'c'"), sql(first, 1, "select id, v, s from t"));
+
+    sql(first, 1, Global.LOG_BEGIN_TRANSACTION);
+    sql(first, 1, "delete from t where id = 2");
+    // the row is gone once the second writer gets to it
+    assertEquals(Collections.singletonList("Delete from t successfully"), afterCommit("delete from t where id = 2"));
+    assertEquals(Arrays.asList("1, 10, 'x'", "3, 0, 'c'"), sql(first, 1, "select id, v, s from t"));
+  }
+}
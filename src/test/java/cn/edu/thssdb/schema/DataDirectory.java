@@ -0,0 +1,28 @@
+package cn.edu.thssdb.schema;
+
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+/**
+ * A data directory inside a JUnit temporary folder, removed after each test. Managers, databases
+ * and tables made through it keep their files there instead of under the working directory.
+ */
+public class DataDirectory extends TemporaryFolder {
+
+  public String path() {
+    return new File(getRoot(), "thssdb").getPath();
+  }
+
+  public Manager manager() {
+    return new Manager(path());
+  }
+
+  public Database database(String databaseName) {
+    return new Database(path(), databaseName);
+  }
+
+  public Table table(String databaseName, String tableName, Column[] columns, IndexMeta primaryIndexMeta) {
+    return new Table(path(), databaseName, tableName, columns, primaryIndexMeta);
+  }
+}
@@ -0,0 +1,96 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Optimistic primary-key reads of {@link Table#lockFreeGet} racing a writer that takes the table
+ * write lock for short transactions, like an updating session does.
+ */
+public class LockFreeGetTest {
+  private static final int ROWS = 4000;
+
+  @Rule
+  public final DataDirectory data = new DataDirectory();
+
+  // every row of the table has w = -v
+  private static Row row(int id, int v) {
+    return new Row(new Cell[]{new Cell(id), new Cell(v), new Cell(-v)});
+  }
+
+  @Test
+  public void testReadersNeverSeeTornOrMissingRows() throws Throwable {
+    // a small fanout, so that the writer splits and merges leaves all the time
+    IndexMeta primary = IndexMeta.primary("id");
+    primary.setOption("fanout", "4");
+    Table table = data.table("seqlock", "t", new Column[]{new Column("id", ColumnType.INT, 1, true, 0),
+        new Column("v", ColumnType.INT, 0, false, 0), new Column("w", ColumnType.INT, 0, false, 0)}, primary);
+    // readers look up the multiples of 4, which are always present; the writer inserts and deletes keys between them
+    for (int id = 0; id < ROWS; id += 4) table.insert(row(id, id));
+
+    AtomicBoolean stop = new AtomicBoolean();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    AtomicLong hits = new AtomicLong();
+    List<Thread> readers = new ArrayList<>();
+    for (int r = 0; r < 4; r++) {
+      long seed = r;
+      readers.add(new Thread(() -> {
+        Random random = new Random(seed);
+        try {
+          while (!stop.get()) {
+            int id = 4 * random.nextInt(ROWS / 4);
+            List<Row> rows = table.lockFreeGet(new Cell(id));
+            // null sends the caller to the locked path, which is not under test here
+            if (rows == null)
+              continue;
+            hits.incrementAndGet();
+            assertEquals(1, rows.size());
+            ArrayList<Cell> entries = rows.get(0).getEntries();
+            assertEquals(id, entries.get(0).value);
+            assertEquals(-(Integer) entries.get(1).value, entries.get(2).value);
+          }
+        } catch (Throwable e) {
+          failure.compareAndSet(null, e);
+        }
+      }));
+    }
+    for (Thread reader : readers) reader.start();
+
+    // short transactions that update present rows and insert or delete the keys between them
+    Random random = new Random(7);
+    long deadline = System.currentTimeMillis() + 2000;
+    for (int round = 0; System.currentTimeMillis() < deadline && failure.get() == null; round++) {
+      table.lock.writeLock().lock();
+      try {
+        for (int i = 0; i < 20; i++) {
+          int id = 4 * random.nextInt(ROWS / 4);
+          table.update(new Cell(id), row(id, random.nextInt()));
+        }
+        for (int id = 2; id < ROWS; id += 4) {
+          if (round % 2 == 0) table.insert(row(id, id));
+          else table.delete(table.get(new Cell(id)));
+        }
+      } finally {
+        table.lock.writeLock().unlock();
+      }
+      // waits for its client between transactions; waking up, the writer interrupts readers in the middle of a lookup
+      LockSupport.parkNanos(200_000);
+    }
+    stop.set(true);
+    for (Thread reader : readers) reader.join();
+    if (failure.get() != null) throw failure.get();
+    assertTrue(hits.get() > 0);
+  }
+}
@@ -0,0 +1,70 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.common.Benchmark;
+import cn.edu.thssdb.common.Global;
+import cn.edu.thssdb.parser.SQLHandler;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Point selects on the primary key through the SQL layer, first with the table and database locks
+ * and then on the lock-free path, while one session keeps updating rows in short transactions.
+ * Not a unit test; run it from an empty directory, since it creates a database under
+ * {@code ./thssdb}: {@code java -cp <test and main classes> cn.edu.thssdb.schema.PointReadBenchmark
+ * [rows] [readers] [seconds]}. The latencies are the ones SHOW TABLE publishes.
+ * <p>The lock-free latencies only cover reads that found the table without a writer: whenever any
+ * session holds the table write lock, here the updating one inside its transaction, point reads wait
+ * on the locked path and are counted there. Tables with a {@code 'cow'} primary index read the
+ * committed snapshot instead and never fall back.
+ */
+public class PointReadBenchmark {
+
+  private static void run(SQLHandler handler, int rows, int readers, int seconds) throws InterruptedException {
+    List<Runnable> bodies = new ArrayList<>();
+    for (int i = 0; i < readers; i++) {
+      long session = 100 + i;
+      Random random = new Random(session);
+      bodies.add(() -> handler.evaluate("select id, v from t where id = " + random.nextInt(rows), session));
+    }
+    Random random = new Random(1);
+    bodies.add(() -> {
+      handler.evaluate(Global.LOG_BEGIN_TRANSACTION, 1);
+      handler.evaluate("update t set v = " + random.nextInt() + " where id = " + random.nextInt(rows), 1);
+      handler.evaluate(Global.LOG_COMMIT, 1);
+    });
+    Benchmark.repeat(seconds, bodies);
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+    int readers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+    int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+    // the SQL layer logs every statement to stdout
+    PrintStream out = Benchmark.silenceStdout();
+    Manager manager = Manager.getInstance();
+    SQLHandler handler = new SQLHandler(manager);
+    handler.evaluate("create database point_read_benchmark", 0);
+    handler.evaluate("use point_read_benchmark", 0);
+    handler.evaluate("create table t (id int not null, v int, primary key(id))", 0);
+    // writes keep the table lock until commit, so load inside a transaction
+    handler.evaluate(Global.LOG_BEGIN_TRANSACTION, 2);
+    for (int i = 0; i < rows; i++)
+      handler.evaluate("insert into t values (" + i + ", " + i + ")", 2);
+    handler.evaluate(Global.LOG_COMMIT, 2);
+
+    Global.lockFreePointReads = false;
+    run(handler, rows, readers, seconds);
+    Global.lockFreePointReads = true;
+    run(handler, rows, readers, seconds);
+
+    try (Database.DatabaseHandler db = manager.getCurrentDatabase(true, false);
+         Table.TableHandler tb = db.getDatabase().get("t")) {
+      out.print(tb.getTable().getPointReadInfo());
+    }
+    handler.evaluate("drop database point_read_benchmark", 0);
+    System.setOut(out);
+  }
+}
@@ -0,0 +1,111 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.type.ColumnType;
+import cn.edu.thssdb.type.IndexType;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PredicateStatisticsTest {
+  @Rule
+  public final DataDirectory data = new DataDirectory();
+
+  private static PredicateStatistics.Usage usage(PredicateStatistics statistics, String columnName, String operator) {
+    for (PredicateStatistics.Usage usage : statistics.getUsages())
+      if (usage.getColumnName().equals(columnName) && usage.getOperator().equals(operator))
+        return usage;
+    return null;
+  }
+
+  @Test
+  public void testRecordAccumulatesFullScans() {
+    PredicateStatistics statistics = new PredicateStatistics();
+    // index lookups only count as executions
+    statistics.record("x", "=", false, 0, 0, 0);
+    PredicateStatistics.Usage x = usage(statistics, "x", "=");
+    assertEquals(0, x.getSavedRows(), 0);
+    assertEquals(-1, x.getSelectivity(), 0);
+    assertEquals("x =: 1 executions, 0 full scans over 0 rows, selectivity unknown", x.toString());
+
+    // 10 of 100 sampled rows match, so about 100 of the 1000 scanned rows do
+    statistics.record("x", "=", true, 1000, 100, 10);
+    assertEquals(900, x.getSavedRows(), 1e-9);
+    assertEquals(0.1, x.getSelectivity(), 1e-9);
+    // each scan is extrapolated from its own sample: 250 of 500 rows match
+    statistics.record("x", "=", true, 500, 50, 25);
+    assertEquals(1500 - 100 - 250, x.getSavedRows(), 1e-9);
+    assertEquals(35.0 / 150, x.getSelectivity(), 1e-9);
+    assertEquals(35.0 / 150, statistics.selectivity("x", "="), 1e-9);
+    assertEquals("x =: 3 executions, 2 full scans over 1500 rows, selectivity 23.33%", x.toString());
+
+    // without a sample every scanned row is assumed to match, so an index saves nothing
+    statistics.record("y", "<", true, 800, 0, 0);
+    assertEquals(0, usage(statistics, "y", "<").getSavedRows(), 0);
+    assertEquals(-1, statistics.selectivity("y", "<"), 0);
+    assertEquals(-1, statistics.selectivity("x", "<"), 0);
+    assertEquals(-1, statistics.selectivity("z", "="), 0);
+    assertNull(usage(statistics, "x", "<"));
+    assertEquals(Arrays.asList("x =", "y <"), statistics.getUsages().stream()
+        .map(usage -> usage.getColumnName() + " " + usage.getOperator()).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testAdviceTypes() {
+    PredicateStatistics statistics = new PredicateStatistics();
+    statistics.record("a", "=", true, 1000, 100, 1);
+    statistics.record("b", "=", true, 1000, 100, 5);
+    statistics.record("c", "<>", true, 1000, 100, 90);
+    statistics.record("d", "like", true, 1000, 100, 1);
+    statistics.record("e", "<", true, 1000, 100, 1);
+    assertEquals(IndexType.BTREE, IndexAdvice.typeFor(usage(statistics, "a", "=")));
+    assertEquals(IndexType.BITMAP, IndexAdvice.typeFor(usage(statistics, "b", "=")));
+    assertEquals(IndexType.BITMAP, IndexAdvice.typeFor(usage(statistics, "c", "<>")));
+    assertEquals(IndexType.TRIGRAM, IndexAdvice.typeFor(usage(statistics, "d", "like")));
+    assertNull(IndexAdvice.typeFor(usage(statistics, "e", "<")));
+  }
+
+  // the CREATE INDEX statements of SHOW INDEX ADVICE, in the order they are listed
+  private static List<String> advice(Database database) {
+    List<String> statements = new ArrayList<>();
+    for (String line : database.getIndexAdvice().split("\n"))
+      if (line.matches("  \\d+\\. .*"))
+        statements.add(line.substring(line.indexOf(". ") + 2, line.indexOf(':')));
+    return statements;
+  }
+
+  @Test
+  public void testAdviceIsOrderedBySavedRows() {
+    Database database = data.database("advice");
+    Column[] columns = {new Column("id", ColumnType.INT, 1, true, 0), new Column("x", ColumnType.INT, 0, false, 0),
+        new Column("y", ColumnType.INT, 0, false, 0), new Column("s", ColumnType.STRING, 0, false, 16)};
+    database.create("big", columns);
+    database.create("small", columns);
+    PredicateStatistics big = database.peek("big").getPredicateStatistics();
+    PredicateStatistics small = database.peek("small").getPredicateStatistics();
+    assertEquals(Arrays.asList(), advice(database));
+
+    big.record("x", "=", true, 10_000, 1000, 1);      // saves ~9990
+    big.record("s", "like", true, 10_000, 1000, 500); // saves 5000
+    big.record("id", "=", true, 10_000, 1000, 1);     // primary key, never advised
+    big.record("y", ">", true, 10_000, 1000, 1);      // no index type serves ranges
+    small.record("x", "=", true, 1000, 100, 1);       // saves 990
+    small.record("y", "<>", true, 8000, 100, 50);     // saves 4000, and another 4000
+    small.record("y", "=", true, 8000, 100, 50);      // from this one on the same bitmap index
+    small.record("s", "like", false, 0, 0, 0);        // never scanned the table
+    assertEquals(Arrays.asList("CREATE INDEX big_x ON big(x)", "CREATE INDEX small_y ON small(y) USING BITMAP",
+        "CREATE INDEX big_s ON big(s) USING TRIGRAM", "CREATE INDEX small_x ON small(x)"), advice(database));
+
+    // more scans of small.x move it up; an index on big.x removes its advice
+    small.record("x", "=", true, 9000, 100, 1);
+    database.createIndex("big", IndexMeta.secondary("big_x", "x"));
+    assertEquals(Arrays.asList("CREATE INDEX small_x ON small(x)", "CREATE INDEX small_y ON small(y) USING BITMAP",
+        "CREATE INDEX big_s ON big(s) USING TRIGRAM"), advice(database));
+  }
+}
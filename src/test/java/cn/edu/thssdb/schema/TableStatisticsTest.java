@@ -0,0 +1,133 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TableStatisticsTest {
+  private static final List<Column> COLUMNS = Arrays.asList(
+      new Column("id", ColumnType.INT, 1, true, 0),
+      new Column("g", ColumnType.INT, 0, false, 0),
+      new Column("v", ColumnType.DOUBLE, 0, false, 0),
+      new Column("s", ColumnType.STRING, 0, false, 8));
+
+  @Rule
+  public final DataDirectory data = new DataDirectory();
+
+  // id is unique, g has 100 values and every fifth row null, v is uniform in [0, 1000), s has 26 values
+  private static List<Row> rows(int count) {
+    Random random = new Random(11);
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++)
+      rows.add(new Row(new Cell[]{new Cell(i), i % 5 == 0 ? new Cell() : new Cell(random.nextInt(100)),
+          new Cell(random.nextDouble() * 1000), new Cell("'" + (char) ('a' + random.nextInt(26)) + "'")}));
+    return rows;
+  }
+
+  @Test
+  public void testSketchEstimatesDistinctValues() {
+    for (int distinct : new int[]{1, 10, 1000, 100_000, 1_000_000}) {
+      HyperLogLog sketch = new HyperLogLog();
+      for (int round = 0; round < 3; round++)
+        for (int i = 0; i < distinct; i++)
+          sketch.add(round == 0 ? (Object) (long) i : (Object) (double) i);
+      assertEquals(distinct, sketch.estimate(), Math.max(1, 0.05 * distinct));
+    }
+    HyperLogLog strings = new HyperLogLog();
+    for (int i = 0; i < 50_000; i++)
+      strings.add("'s" + i % 20_000 + "'");
+    assertEquals(20_000, strings.estimate(), 1000);
+  }
+
+  @Test
+  public void testCollectsColumnStatistics() {
+    TableStatistics statistics = TableStatistics.collect(COLUMNS, rows(100_000), 10_000, new Random(1));
+    assertEquals(100_000, statistics.getRows());
+    TableStatistics.ColumnStatistics id = statistics.getColumn(0, "id");
+    assertEquals(100_000, id.getDistinctValues(), 5000);
+    assertEquals(0, id.nullFraction(), 0);
+    assertTrue(id.inRange(0.0) && id.inRange(99_999.0));
+    assertFalse(id.inRange(100_000.0));
+    TableStatistics.ColumnStatistics g = statistics.getColumn(1, "g");
+    assertEquals(100, g.getDistinctValues(), 5);
+    assertEquals(0.2, g.nullFraction(), 1e-9);
+    TableStatistics.ColumnStatistics s = statistics.getColumn(3, "s");
+    assertEquals(26, s.getDistinctValues());
+    assertTrue(s.inRange("'a'") && s.inRange("'z'"));
+    assertFalse(s.inRange("'za'"));
+    // a column whose name no longer matches is not used
+    assertNull(statistics.getColumn(1, "h"));
+    assertNull(statistics.getColumn(4, "x"));
+  }
+
+  @Test
+  public void testHistogramEstimatesRanges() {
+    List<Row> rows = rows(100_000);
+    TableStatistics statistics = TableStatistics.collect(COLUMNS, rows, 10_000, new Random(2));
+    TableStatistics.ColumnStatistics v = statistics.getColumn(2, "v");
+    TableStatistics.ColumnStatistics g = statistics.getColumn(1, "g");
+    for (double bound : new double[]{-1, 0, 37.5, 250, 500, 999, 2000}) {
+      long below = rows.stream().filter(row -> (Double) row.getEntries().get(2).value < bound).count();
+      assertEquals((double) below / rows.size(), v.rangeSelectivity("<", bound), 0.02);
+      assertEquals(1 - (double) below / rows.size(), v.rangeSelectivity(">=", bound), 0.02);
+    }
+    // nulls match neither side of a range
+    for (double bound : new double[]{0, 25, 50, 99}) {
+      long atMost = rows.stream().filter(row -> row.getEntries().get(1).value != null
+          && (Integer) row.getEntries().get(1).value <= bound).count();
+      assertEquals((double) atMost / rows.size(), g.rangeSelectivity("<=", bound), 0.03);
+      assertEquals(0.8 - (double) atMost / rows.size(), g.rangeSelectivity(">", bound), 0.03);
+    }
+    assertEquals(-1, v.rangeSelectivity("like", 1.0), 0);
+  }
+
+  @Test
+  public void testSmallAndEmptyTables() {
+    TableStatistics empty = TableStatistics.collect(COLUMNS, new ArrayList<>(), 100, new Random(3));
+    assertEquals(0, empty.getColumn(0, "id").getDistinctValues());
+    assertFalse(empty.getColumn(0, "id").inRange(1.0));
+    assertEquals(0, empty.getColumn(2, "v").rangeSelectivity("<", 5.0), 0);
+    TableStatistics one = TableStatistics.collect(COLUMNS, rows(1), 100, new Random(4));
+    assertEquals(1, one.getColumn(0, "id").getDistinctValues());
+    assertEquals(1, one.getColumn(0, "id").rangeSelectivity("<=", 0.0), 0);
+    assertEquals(0, one.getColumn(0, "id").rangeSelectivity("<", 0.0), 0);
+    // the only row of g is null
+    assertEquals(1, one.getColumn(1, "g").nullFraction(), 0);
+    assertEquals(0, one.getColumn(1, "g").rangeSelectivity(">", 0.0), 0);
+  }
+
+  @Test
+  public void testRefreshWaitsForTheWriterToCommit() throws Exception {
+    Table table = data.table("refresh", "t", COLUMNS.toArray(new Column[0]), IndexMeta.primary("id"));
+    List<Row> rows = rows(1300);
+    for (Row row : rows.subList(0, 1000)) table.insert(row);
+    TableStatistics analyzed = table.analyze();
+    // the writer changes more than statisticsRefreshFraction of the rows and asks for a refresh
+    table.lock.writeLock().lock();
+    try {
+      for (Row row : rows.subList(1000, 1300)) table.insert(row);
+      assertTrue(analyzed.isStale());
+      table.refreshStatistics();
+      Thread.sleep(200);
+      assertSame(analyzed, table.getStatistics());
+    } finally {
+      table.lock.writeLock().unlock();
+    }
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (table.getStatistics() == analyzed && System.currentTimeMillis() < deadline)
+      Thread.sleep(10);
+    assertEquals(1300, table.getStatistics().getRows());
+    assertFalse(table.getStatistics().isStale());
+  }
+}
@@ -0,0 +1,148 @@
+package cn.edu.thssdb.schema;
+
+import cn.edu.thssdb.index.RoaringBitmap;
+import cn.edu.thssdb.parser.item.ConditionItem;
+import cn.edu.thssdb.type.ColumnType;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TrigramIndexTest {
+  private static final String[] PATTERNS = {"%abc%", "abc%", "%cab", "%ab_ca%", "b%bca%c", "aaa", "%ccc%aaa%",
+      "%abcabc%", "%dab%", "a_c", "%ab%", "ab%c", "%", "", "_b_"};
+
+  @Rule
+  public final DataDirectory data = new DataDirectory();
+
+  // short strings over three letters, so that the values share trigrams; every tenth value is null
+  private static Row row(int id, Random random) {
+    if (random.nextInt(10) == 0)
+      return new Row(new Cell[]{new Cell(id), new Cell()});
+    StringBuilder text = new StringBuilder();
+    for (int i = random.nextInt(9); i > 0; i--)
+      text.append((char) ('a' + random.nextInt(3)));
+    return new Row(new Cell[]{new Cell(id), new Cell("'" + text + "'")});
+  }
+
+  private Table table() {
+    return data.table("trigram", "t", new Column[]{new Column("id", ColumnType.INT, 1, true, 0),
+        new Column("s", ColumnType.STRING, 0, false, 16)}, IndexMeta.primary("id"));
+  }
+
+  private static IndexMeta trigramMeta() {
+    IndexMeta meta = IndexMeta.secondary("s_trigram", "s");
+    meta.setOption("type", "trigram");
+    return meta;
+  }
+
+  private static Set<Integer> ids(Iterable<Row> rows) {
+    Set<Integer> ids = new TreeSet<>();
+    for (Row row : rows)
+      ids.add((Integer) row.getEntries().get(0).value);
+    return ids;
+  }
+
+  /**
+   * The candidates of every pattern are exactly the rows whose value contains all of the pattern's
+   * trigrams, found by scanning the table, and so include every row that matches the pattern.
+   */
+  private static void assertCandidatesMatchScan(Table table, Map<Integer, String> values) {
+    for (String pattern : PATTERNS) {
+      Set<String> trigrams = TrigramIndex.patternTrigrams(pattern);
+      RoaringBitmap candidates = table.trigramLookup(1, pattern);
+      if (trigrams.isEmpty()) {
+        assertNull(pattern, candidates);
+        continue;
+      }
+      Set<Integer> expected = new TreeSet<>();
+      for (Row row : table) {
+        Object value = row.getEntries().get(1).value;
+        if (value != null && TrigramIndex.trigrams(Cell.unquote(value.toString())).containsAll(trigrams))
+          expected.add((Integer) row.getEntries().get(0).value);
+      }
+      Set<Integer> actual = ids(table.rowsOf(candidates));
+      assertEquals(pattern, expected, actual);
+      for (Map.Entry<Integer, String> entry : values.entrySet())
+        if (entry.getValue() != null && ConditionItem.like(entry.getValue(), pattern))
+          assertTrue(pattern + " " + entry.getValue(), actual.contains(entry.getKey()));
+    }
+  }
+
+  private static void put(Map<Integer, String> values, Row row) {
+    Object value = row.getEntries().get(1).value;
+    values.put((Integer) row.getEntries().get(0).value, value == null ? null : Cell.unquote(value.toString()));
+  }
+
+  @Test
+  public void testPatternTrigrams() {
+    assertEquals(new TreeSet<>(Arrays.asList("abc", "bcd", "xyz")),
+        new TreeSet<>(TrigramIndex.patternTrigrams("%abcd_xyz%")));
+    // no segment between the wildcards is 3 characters long
+    assertTrue(TrigramIndex.patternTrigrams("ab%cd_ef").isEmpty());
+    assertTrue(TrigramIndex.patternTrigrams("%").isEmpty());
+    assertTrue(TrigramIndex.patternTrigrams("").isEmpty());
+  }
+
+  @Test
+  public void testCandidatesMatchScanAfterWrites() {
+    Table table = table();
+    Random random = new Random(3);
+    Map<Integer, String> values = new HashMap<>();
+    for (int id = 0; id < 500; id++) {
+      Row row = row(id, random);
+      table.insert(row);
+      put(values, row);
+    }
+    table.createIndex(trigramMeta());
+    assertCandidatesMatchScan(table, values);
+
+    // updates change the indexed value (to and from null), deletes free row ordinals that inserts reuse
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 100; i++) {
+        int id = random.nextInt(500);
+        if (!values.containsKey(id))
+          continue;
+        Row row = row(id, random);
+        table.update(new Cell(id), row);
+        put(values, row);
+      }
+      for (int i = 0; i < 50; i++) {
+        int id = random.nextInt(500);
+        if (!values.containsKey(id))
+          continue;
+        table.delete(table.get(new Cell(id)));
+        values.remove(id);
+      }
+      for (int i = 0; i < 40; i++) {
+        int id = 500 + round * 40 + i;
+        Row row = row(id, random);
+        table.insert(row);
+        put(values, row);
+      }
+      assertCandidatesMatchScan(table, values);
+    }
+  }
+
+  @Test
+  public void testTrigramIndexIsNotUsedForEquality() {
+    Table table = table();
+    table.insert(new Row(new Cell[]{new Cell(1), new Cell("'abcd'")}));
+    table.createIndex(trigramMeta());
+    assertFalse(table.hasEqualityIndex(1));
+    assertNull(table.indexLookup(1, new Cell("'abcd'")));
+    table.createIndex(IndexMeta.secondary("s_btree", "s"));
+    assertTrue(table.hasEqualityIndex(1));
+    assertEquals(1, table.indexLookup(1, new Cell("'abcd'")).size());
+  }
+}